@@ -3,6 +3,7 @@ plugins {
     war
     id("org.springframework.boot") version "4.0.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.frame24"
@@ -68,6 +69,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("io.lettuce:lettuce-core")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
 
     // JWT - jjwt
@@ -135,6 +137,14 @@ tasks.withType<org.springframework.boot.gradle.tasks.run.BootRun> {
     )
 }
 
+// Benchmarks JMH (src/jmh/java) - executar com ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
     jvmArgs = listOf(
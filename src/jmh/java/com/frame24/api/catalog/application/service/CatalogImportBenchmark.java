@@ -0,0 +1,109 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.Frame24Application;
+import com.frame24.api.catalog.application.dto.ImportJobResponse;
+import com.frame24.api.catalog.domain.imports.ImportJobStatus;
+import com.frame24.api.common.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação de um feed CSV de 50 mil filmes, do upload até o job concluído, contra o
+ * PostgreSQL e o MinIO do {@code compose.yaml}.
+ *
+ * <p>
+ * Cada iteração gera um feed com IDs TMDB e títulos novos, então mede a inserção de
+ * filmes novos (o caso da primeira carga de uma distribuidora) e não a atualização. O
+ * tempo inclui o upload para o storage, a espera do worker ({@code poll-interval-ms}
+ * reduzido para 100 ms) e a gravação em lotes de {@code catalog-import.batch-size}.
+ * </p>
+ *
+ * <pre>
+ * docker compose up -d postgres redis minio minio-setup
+ * ./gradlew jmh -PjmhIncludes=CatalogImportBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CatalogImportBenchmark {
+
+    private static final long COMPANY_ID = 1L;
+    private static final long DISTRIBUTOR_ID = 1L;
+    private static final int TITLES = 50_000;
+
+    private ConfigurableApplicationContext context;
+    private CatalogImportService importService;
+    private UserPrincipal principal;
+    private long runId;
+    private int iteration;
+    private byte[] feed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Frame24Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.cache.type=simple",
+                        "snowflake.lease.enabled=false",
+                        "catalog-import.poll-interval-ms=100",
+                        "jwt.secret=YmVuY2htYXJrLXNlY3JldC1rZXktd2l0aC0zMi1ieXRlcyE=",
+                        "logging.level.root=WARN")
+                .run();
+
+        importService = context.getBean(CatalogImportService.class);
+        principal = UserPrincipal.builder()
+                .userId(1L)
+                .companyId(COMPANY_ID)
+                .email("bench@frame24.com")
+                .userType("EMPLOYEE")
+                .authorities(List.of())
+                .build();
+        // IDs e slugs únicos: o banco do compose guarda as execuções anteriores
+        runId = System.currentTimeMillis();
+    }
+
+    @Setup(Level.Iteration)
+    public void newFeed() {
+        StringBuilder csv = new StringBuilder(TITLES * 80);
+        csv.append("tmdbId,originalTitle,brazilTitle,durationMinutes,productionYear,originalLanguage\n");
+        iteration++;
+        for (int i = 0; i < TITLES; i++) {
+            String id = runId + "-" + iteration + "-" + i;
+            csv.append(id).append(",Benchmark ").append(id).append(",Filme ").append(id)
+                    .append(',').append(90 + i % 60)
+                    .append(',').append(1980 + i % 45)
+                    .append(",en\n");
+        }
+        feed = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int import50k() throws InterruptedException {
+        ImportJobResponse job = importService.create("text/csv", DISTRIBUTOR_ID,
+                new ByteArrayInputStream(feed), principal);
+        while (job.status() == ImportJobStatus.PENDING || job.status() == ImportJobStatus.RUNNING) {
+            Thread.sleep(50);
+            job = importService.get(job.id(), principal);
+        }
+        if (job.status() != ImportJobStatus.COMPLETED || job.insertedRows() != TITLES) {
+            throw new IllegalStateException("Importação " + job.id() + " terminou como " + job.status()
+                    + " com " + job.insertedRows() + " filmes inseridos: " + job.errorMessage());
+        }
+        return job.insertedRows();
+    }
+}
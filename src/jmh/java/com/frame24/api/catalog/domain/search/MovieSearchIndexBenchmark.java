@@ -0,0 +1,51 @@
+package com.frame24.api.catalog.domain.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de {@link MovieSearchIndex#autocomplete} em um catálogo de 100 mil filmes.
+ *
+ * <p>
+ * Em modo {@code SampleTime} o relatório traz os percentis (p99 inclusive) por consulta.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=MovieSearchIndexBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MovieSearchIndexBenchmark {
+
+    private static final int MOVIES = 100_000;
+    private static final String[] WORDS = {"noite", "amor", "guerra", "cidade", "sombra", "tempo", "rio", "mar",
+            "sol", "lua", "fogo", "vento", "caminho", "segredo", "destino", "heroi", "lenda", "sonho", "medo", "luz"};
+
+    @Param({"no", "amor gu", "cidade somb", "sonho de", "lenda luz ca", "vento mar"})
+    public String query;
+
+    private MovieSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<MovieDocument> docs = new ArrayList<>(MOVIES);
+        for (int i = 0; i < MOVIES; i++) {
+            String title = WORDS[i % 20] + " " + WORDS[(i / 20) % 20] + " " + WORDS[(i / 400) % 20] + " " + i;
+            docs.add(new MovieDocument(i, title, null, null, List.of("Ator " + (i % 5_000)),
+                    List.of(WORDS[i % 7]), null, true));
+        }
+        index = MovieSearchIndex.of(docs);
+    }
+
+    @Benchmark
+    public List<SearchHit> autocomplete() {
+        return index.autocomplete(query, 10);
+    }
+}
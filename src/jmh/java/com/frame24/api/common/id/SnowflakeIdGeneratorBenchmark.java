@@ -0,0 +1,119 @@
+package com.frame24.api.common.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o gerador lock-free com a implementação {@code synchronized} anterior.
+ *
+ * <p>
+ * Executar com:
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=SnowflakeIdGeneratorBenchmark
+ * </pre>
+ *
+ * <p>
+ * Observação: o teto teórico é 4096 IDs/ms por worker, então com muitas threads
+ * todas as variantes acabam limitadas pela sequência; a diferença aparece na
+ * latência por chamada e no custo de contenção abaixo desse teto.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private SynchronizedSnowflakeIdGenerator synchronizedGenerator;
+    private SnowflakeIdGenerator casGenerator;
+    private SnowflakeIdGenerator threadBlockGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        synchronizedGenerator = new SynchronizedSnowflakeIdGenerator(1, 1);
+        casGenerator = new SnowflakeIdGenerator(1, 1);
+        threadBlockGenerator = new SnowflakeIdGenerator(1, 1, 64);
+    }
+
+    // ========== 1 thread ==========
+
+    @Benchmark
+    @Threads(1)
+    public long synchronized_1t() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long cas_1t() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threadBlock_1t() {
+        return threadBlockGenerator.nextId();
+    }
+
+    // ========== 8 threads ==========
+
+    @Benchmark
+    @Threads(8)
+    public long synchronized_8t() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long cas_8t() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long threadBlock_8t() {
+        return threadBlockGenerator.nextId();
+    }
+
+    // ========== 64 threads ==========
+
+    @Benchmark
+    @Threads(64)
+    public long synchronized_64t() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long cas_64t() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long threadBlock_64t() {
+        return threadBlockGenerator.nextId();
+    }
+
+    // ========== Lote (ex: 600 assentos de uma sala IMAX) ==========
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(600)
+    public long[] bulk600_8t() {
+        return casGenerator.nextIds(600);
+    }
+
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(600)
+    public long[] loop600_synchronized_8t() {
+        long[] ids = new long[600];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = synchronizedGenerator.nextId();
+        }
+        return ids;
+    }
+}
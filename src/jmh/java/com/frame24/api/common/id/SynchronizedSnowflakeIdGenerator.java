@@ -0,0 +1,59 @@
+package com.frame24.api.common.id;
+
+/**
+ * Cópia da implementação anterior (monitor {@code synchronized}) usada apenas
+ * como baseline nos benchmarks.
+ */
+class SynchronizedSnowflakeIdGenerator {
+
+    private static final long CUSTOM_EPOCH = 1704067200000L;
+    private static final long SEQUENCE_BITS = 12L;
+    private static final long MAX_SEQUENCE = ~(-1L << SEQUENCE_BITS);
+    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + 5L;
+    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + 10L;
+
+    private final long workerId;
+    private final long datacenterId;
+
+    private long sequence = 0L;
+    private long lastTimestamp = -1L;
+
+    SynchronizedSnowflakeIdGenerator(long workerId, long datacenterId) {
+        this.workerId = workerId;
+        this.datacenterId = datacenterId;
+    }
+
+    synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            timestamp = waitNextMillis(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
+                | (datacenterId << DATACENTER_ID_SHIFT)
+                | (workerId << WORKER_ID_SHIFT)
+                | sequence;
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,105 @@
+package com.frame24.api.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição do processamento do token no {@link JwtAuthenticationFilter}
+ * (cache de sessão vazio, ou seja, o caminho que monta o {@link UserPrincipal}).
+ *
+ * <ul>
+ * <li>{@code legacy}: sequência anterior, 7 parses com chave e parser recriados a cada chamada</li>
+ * <li>{@code singleParse}: um único {@link JwtService#verify(String)} com o cache desligado</li>
+ * <li>{@code cachedVerify}: {@link JwtService#verify(String)} com o token já no cache</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktd2l0aC0zMi1ieXRlcyE=";
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedService = new JwtService(SECRET, 3_600_000L, 604_800_000L, 10_000, Duration.ofMinutes(5));
+        uncachedService = new JwtService(SECRET, 3_600_000L, 604_800_000L, 0, Duration.ofMinutes(5));
+        token = cachedService.generateAccessToken(UserPrincipal.builder()
+                .userId(1234567890123456789L)
+                .email("bench@frame24.com")
+                .userType("EMPLOYEE")
+                .companyId(987654321987654321L)
+                .roleId(111111111111111111L)
+                .roleName("Gerente")
+                .build());
+        cachedService.verify(token);
+    }
+
+    @Benchmark
+    public UserPrincipal legacy() {
+        if (!legacyParse(token).isEmpty()) {
+            Long userId = ((Number) legacyParse(token).get("userId")).longValue();
+            Claims claims = legacyParse(token);
+            String roleName = (String) claims.get("roleName");
+            return UserPrincipal.builder()
+                    .userId(userId)
+                    .email(legacyParse(token).getSubject())
+                    .companyId(((Number) legacyParse(token).get("companyId")).longValue())
+                    .userType((String) legacyParse(token).get("userType"))
+                    .customerId(legacyParse(token).get("customerId", Long.class))
+                    .roleId(claims.get("roleId", Long.class))
+                    .roleName(roleName)
+                    .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + roleName)))
+                    .build();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public UserPrincipal singleParse() {
+        return toPrincipal(uncachedService.verify(token).orElseThrow());
+    }
+
+    @Benchmark
+    public UserPrincipal cachedVerify() {
+        return toPrincipal(cachedService.verify(token).orElseThrow());
+    }
+
+    private static UserPrincipal toPrincipal(VerifiedToken verified) {
+        return UserPrincipal.builder()
+                .userId(verified.userId())
+                .email(verified.email())
+                .companyId(verified.companyId())
+                .userType(verified.userType())
+                .customerId(verified.customerId())
+                .roleId(verified.roleId())
+                .roleName(verified.roleName())
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + verified.roleName())))
+                .build();
+    }
+
+    /**
+     * Réplica do caminho anterior: decodifica o secret e recria chave e parser a cada chamada.
+     */
+    private static Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,170 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.Frame24Application;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.BatchCreateSeatsRequest;
+import com.frame24.api.operations.domain.CinemaComplex;
+import com.frame24.api.operations.domain.Room;
+import com.frame24.api.operations.domain.Seat;
+import com.frame24.api.operations.infrastructure.repository.CinemaComplexRepository;
+import com.frame24.api.operations.infrastructure.repository.RoomRepository;
+import com.frame24.api.operations.infrastructure.repository.SeatRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Geração de uma sala inteira de assentos no PostgreSQL do {@code compose.yaml}, com o
+ * schema criado pelas migrações Flyway.
+ *
+ * <ul>
+ * <li>{@code setBased}: {@link SeatService#createBatch}, que grava os assentos com
+ * {@code INSERT ... ON CONFLICT DO NOTHING} em um único {@code batchUpdate} e recalcula
+ * a sala com {@code UPDATE ... RETURNING} ({@code SeatLayoutJdbcRepository})</li>
+ * <li>{@code perSeat}: caminho anterior, com uma consulta de existência por assento,
+ * {@code saveAll} pelo JPA e recontagem da capacidade</li>
+ * </ul>
+ *
+ * <p>
+ * Roda contra o banco real porque os dois comandos do caminho em lote são específicos do
+ * PostgreSQL. Cada invocação cria uma sala nova; os dados ficam no banco ao final.
+ * </p>
+ *
+ * <pre>
+ * docker compose up -d postgres redis
+ * ./gradlew jmh -PjmhIncludes=SeatBatchInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SeatBatchInsertBenchmark {
+
+    private static final long COMPANY_ID = 1L;
+    private static final int COLUMNS = 40;
+
+    @Param({"600", "1000"})
+    public int seats;
+
+    private ConfigurableApplicationContext context;
+    private SeatService seatService;
+    private RoomRepository roomRepository;
+    private SeatRepository seatRepository;
+    private TransactionTemplate transactionTemplate;
+    private CinemaComplex complex;
+    private UserPrincipal principal;
+    private int rows;
+    private int roomCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Frame24Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.cache.type=simple",
+                        "snowflake.lease.enabled=false",
+                        "jwt.secret=YmVuY2htYXJrLXNlY3JldC1rZXktd2l0aC0zMi1ieXRlcyE=",
+                        "logging.level.root=WARN")
+                .run();
+
+        seatService = context.getBean(SeatService.class);
+        roomRepository = context.getBean(RoomRepository.class);
+        seatRepository = context.getBean(SeatRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        rows = seats / COLUMNS;
+
+        CinemaComplex newComplex = new CinemaComplex();
+        newComplex.setCompanyId(COMPANY_ID);
+        newComplex.setName("Benchmark");
+        // Código único: o banco do compose guarda as execuções anteriores
+        newComplex.setCode("BENCH-" + System.currentTimeMillis());
+        newComplex.setIbgeMunicipalityCode("3550308");
+        newComplex.setActive(true);
+        newComplex.setCreatedAt(Instant.now());
+        complex = asCompany(() -> context.getBean(CinemaComplexRepository.class).save(newComplex));
+
+        principal = UserPrincipal.builder()
+                .userId(1L)
+                .companyId(COMPANY_ID)
+                .email("bench@frame24.com")
+                .userType("EMPLOYEE")
+                .authorities(List.of())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int setBased() {
+        return asCompany(() -> {
+            Room room = newRoom();
+            return seatService.createBatch(
+                    new BatchCreateSeatsRequest(room.getId(), rows, COLUMNS, null, null, null), principal).size();
+        });
+    }
+
+    @Benchmark
+    public int perSeat() {
+        return asCompany(() -> transactionTemplate.execute(status -> {
+            Room room = newRoom();
+            List<Seat> newSeats = new ArrayList<>(seats);
+            for (int r = 0; r < rows; r++) {
+                String rowCode = String.valueOf((char) ('A' + r));
+                for (int c = 0; c < COLUMNS; c++) {
+                    String seatCode = rowCode + (c + 1);
+                    if (seatRepository.existsByRoom_IdAndSeatCode(room.getId(), seatCode)) {
+                        continue;
+                    }
+                    Seat seat = new Seat();
+                    seat.setRoom(room);
+                    seat.setSeatCode(seatCode);
+                    seat.setRowCode(rowCode);
+                    seat.setColumnNumber(c + 1);
+                    seat.setPositionX(c * 50);
+                    seat.setPositionY(r * 50);
+                    seat.setAccessible(false);
+                    seat.setActive(true);
+                    seat.setCreatedAt(Instant.now());
+                    newSeats.add(seat);
+                }
+            }
+            seatRepository.saveAll(newSeats);
+
+            room.setCapacity(seatRepository.countActiveSeatsByRoomId(room.getId()));
+            room.setTotalRows(rows);
+            room.setTotalColumns(COLUMNS);
+            roomRepository.save(room);
+            return newSeats.size();
+        }));
+    }
+
+    private Room newRoom() {
+        Room room = new Room();
+        room.setCinemaComplex(complex);
+        room.setRoomNumber(String.valueOf(++roomCounter));
+        room.setCapacity(0);
+        room.setActive(true);
+        room.setCreatedAt(Instant.now());
+        return roomRepository.save(room);
+    }
+
+    private static <T> T asCompany(Supplier<T> action) {
+        return RlsContextHolder.callAs(RlsContext.forCompany(COMPANY_ID), action);
+    }
+}
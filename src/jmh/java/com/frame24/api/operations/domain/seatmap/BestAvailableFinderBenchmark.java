@@ -0,0 +1,66 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de {@link BestAvailableFinder#find} em salas grandes com ocupação aleatória.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=BestAvailableFinderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BestAvailableFinderBenchmark {
+
+    private static final int COLUMNS = 40;
+
+    @Param({"500", "1000", "2000"})
+    public int seats;
+
+    @Param({"0.5", "0.9"})
+    public double occupancy;
+
+    private RoomLayout layout;
+    private ShowtimeInventory inventory;
+    private PartyRequest party;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<LayoutSeat> layoutSeats = new ArrayList<>(seats);
+        long[] seatIds = new long[seats];
+        for (int i = 0; i < seats; i++) {
+            String row = "R" + (i / COLUMNS);
+            int column = i % COLUMNS + 1;
+            layoutSeats.add(new LayoutSeat(i + 1L, row + column, row, column, "Standard",
+                    column * 50, i / COLUMNS * 50, column <= 2, true));
+            seatIds[i] = i + 1L;
+        }
+        layout = new RoomLayout(1L, layoutSeats);
+        inventory = new ShowtimeInventory(1L, 1L, 1L, Instant.now().plusSeconds(3_600), seatIds);
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < seats; i++) {
+            if (random.nextDouble() < occupancy) {
+                inventory.restoreSold(i);
+            }
+        }
+        party = new PartyRequest(6, 1, null);
+    }
+
+    @Benchmark
+    public int[] find() {
+        return layout.finder().find(inventory, party);
+    }
+}
@@ -0,0 +1,114 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.Seat;
+import com.frame24.api.operations.domain.SessionSeatStatus;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do mapa de assentos de uma sessão com metade da sala vendida.
+ *
+ * <ul>
+ * <li>{@code legacyMerge}: merge anterior, que percorria a lista de status para cada assento (O(n×m))</li>
+ * <li>{@code layoutMerge}: {@link RoomLayout#statuses} sobre os status indexados por assento (O(n))</li>
+ * <li>{@code compactStatus}: merge + codificação RLE ({@link SeatStatusCodec})</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=SeatMapBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SeatMapBenchmark {
+
+    private static final int COLUMNS = 20;
+
+    @Param({"100", "500", "1000"})
+    public int seats;
+
+    private List<Seat> physicalSeats;
+    private List<SessionSeatStatus> sessionStatuses;
+    private RoomLayout layout;
+    private Map<Long, SeatMapStatus> persisted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        physicalSeats = new ArrayList<>(seats);
+        sessionStatuses = new ArrayList<>();
+        List<LayoutSeat> layoutSeats = new ArrayList<>(seats);
+        persisted = new HashMap<>();
+
+        for (int i = 0; i < seats; i++) {
+            long seatId = 1_000L + i;
+            String rowCode = String.valueOf((char) ('A' + i / COLUMNS % 26));
+            int column = i % COLUMNS + 1;
+
+            Seat seat = new Seat();
+            seat.setId(seatId);
+            seat.setSeatCode(rowCode + column);
+            seat.setRowCode(rowCode);
+            seat.setColumnNumber(column);
+            seat.setPositionX(column * 50);
+            seat.setPositionY(i / COLUMNS * 50);
+            seat.setAccessible(false);
+            seat.setActive(true);
+            physicalSeats.add(seat);
+
+            layoutSeats.add(new LayoutSeat(seatId, seat.getSeatCode(), rowCode, column, "Standard",
+                    seat.getPositionX(), seat.getPositionY(), false, true));
+
+            if (i % 2 == 0) {
+                SessionSeatStatus status = new SessionSeatStatus();
+                status.setSeat(seat);
+                status.setSaleId(seatId);
+                sessionStatuses.add(status);
+                persisted.put(seatId, SeatMapStatus.SOLD);
+            }
+        }
+
+        layout = new RoomLayout(1L, layoutSeats);
+    }
+
+    @Benchmark
+    public void legacyMerge(Blackhole blackhole) {
+        for (Seat seat : physicalSeats) {
+            String status = "AVAILABLE";
+            if (!seat.getActive()) {
+                status = "MAINTENANCE";
+            } else {
+                var sessionStatus = sessionStatuses.stream()
+                        .filter(ss -> ss.getSeat().getId().equals(seat.getId()))
+                        .findFirst();
+                if (sessionStatus.isPresent()) {
+                    if (sessionStatus.get().getSaleId() != null) {
+                        status = "SOLD";
+                    } else if (sessionStatus.get().getReservationUuid() != null) {
+                        status = "BLOCKED";
+                    }
+                }
+            }
+            blackhole.consume(status);
+        }
+    }
+
+    @Benchmark
+    public SeatMapStatus[] layoutMerge() {
+        return layout.statuses(persisted);
+    }
+
+    @Benchmark
+    public String compactStatus() {
+        return SeatStatusCodec.encode(layout.statuses(persisted));
+    }
+}
@@ -0,0 +1,95 @@
+package com.frame24.api.catalog.api;
+
+import com.frame24.api.catalog.application.dto.ImportJobResponse;
+import com.frame24.api.catalog.application.dto.ImportRowErrorResponse;
+import com.frame24.api.catalog.application.service.CatalogImportService;
+import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller para importação em massa do catálogo de filmes de uma distribuidora.
+ *
+ * <p>
+ * O feed (CSV ou JSON, um objeto por filme) é recebido como corpo bruto da requisição e
+ * processado em segundo plano; a resposta é 202 com o job, cujo andamento e erros por
+ * registro são consultados pelos demais endpoints.
+ * </p>
+ */
+@RestController
+@RequestMapping("/movie-imports")
+@RequiredArgsConstructor
+@Tag(name = "Movie Imports", description = "Endpoints para importação em massa de filmes")
+public class CatalogImportController {
+
+    private final CatalogImportService catalogImportService;
+
+    @PostMapping(version = "v1.0+", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    @Operation(summary = "Importar feed", description = "Recebe o feed da distribuidora no corpo da requisição "
+            + "e cria ou atualiza os filmes em segundo plano")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> create(
+            @Parameter(description = "ID da distribuidora", example = "1234567890123456789") @RequestParam Long distributorId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        ImportJobResponse response = catalogImportService.create(contentType, distributorId, body, principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Feed recebido, importação em andamento"));
+    }
+
+    @GetMapping(version = "v1.0+")
+    @Operation(summary = "Listar importações", description = "Importações mais recentes da empresa")
+    public ResponseEntity<ApiResponse<List<ImportJobResponse>>> list(
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        List<ImportJobResponse> response = catalogImportService.list(principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Importações listadas com sucesso"));
+    }
+
+    @GetMapping(value = "/{id}", version = "v1.0+")
+    @Operation(summary = "Andamento da importação", description = "Situação e contadores da importação")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> get(
+            @Parameter(description = "ID da importação", example = "1234567890123456789") @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        ImportJobResponse response = catalogImportService.get(id, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Importação encontrada"));
+    }
+
+    @GetMapping(value = "/{id}/errors", version = "v1.0+")
+    @Operation(summary = "Erros da importação", description = "Registros rejeitados, em ordem; para a página "
+            + "seguinte, informe em afterRow o último registro recebido")
+    public ResponseEntity<ApiResponse<List<ImportRowErrorResponse>>> errors(
+            @Parameter(description = "ID da importação", example = "1234567890123456789") @PathVariable Long id,
+            @Parameter(description = "Último registro já recebido") @RequestParam(defaultValue = "0") int afterRow,
+            @Parameter(description = "Quantidade máxima de erros (até 500)") @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        List<ImportRowErrorResponse> response = catalogImportService.errors(id, afterRow, limit, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Erros listados com sucesso"));
+    }
+
+    @PostMapping(value = "/{id}/resume", version = "v1.0+")
+    @Operation(summary = "Retomar importação", description = "Devolve à fila uma importação que falhou; ela "
+            + "continua do último lote gravado")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> resume(
+            @Parameter(description = "ID da importação", example = "1234567890123456789") @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        ImportJobResponse response = catalogImportService.resume(id, principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Importação retomada"));
+    }
+}
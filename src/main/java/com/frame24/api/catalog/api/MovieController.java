@@ -0,0 +1,96 @@
+package com.frame24.api.catalog.api;
+
+import com.frame24.api.catalog.application.dto.MovieDetailResponse;
+import com.frame24.api.catalog.application.service.MovieDetailService;
+import com.frame24.api.catalog.domain.readmodel.MovieDetailDocument;
+import com.frame24.api.common.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller para consulta de filmes.
+ *
+ * <p>
+ * Os detalhes são servidos a partir do documento pré-serializado
+ * ({@link MovieDetailDocument}): os bytes vão direto para a resposta, compactados com
+ * gzip quando o cliente aceita. Com o ETag, o Spring responde 304 a um
+ * {@code If-None-Match} que ainda confere.
+ * </p>
+ */
+@RestController
+@RequestMapping("/movies")
+@RequiredArgsConstructor
+@Tag(name = "Movies", description = "Endpoints para consulta de filmes")
+public class MovieController {
+
+    private final MovieDetailService movieDetailService;
+
+    @GetMapping(value = "/{id}", version = "v1.0+")
+    @Operation(summary = "Detalhes do filme", description = "Filme com classificação, elenco, mídias e categorias")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MovieDetailResponse.class)))
+    public ResponseEntity<byte[]> getById(
+            @Parameter(description = "ID do filme", example = "1234567890123456789") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        return write(movieDetailService.getById(id, principal), acceptEncoding);
+    }
+
+    @GetMapping(value = "/slug/{slug}", version = "v1.0+")
+    @Operation(summary = "Detalhes do filme por slug", description = "Filme com classificação, elenco, mídias e categorias")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MovieDetailResponse.class)))
+    public ResponseEntity<byte[]> getBySlug(
+            @Parameter(description = "Slug do filme", example = "matrix-1999") @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        return write(movieDetailService.getBySlug(slug, principal), acceptEncoding);
+    }
+
+    private static ResponseEntity<byte[]> write(MovieDetailDocument document, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(document.gzipEtag())
+                    .body(document.gzip());
+        }
+        return response.eTag(document.etag()).body(document.json());
+    }
+
+    /**
+     * Se o {@code Accept-Encoding} lista gzip sem {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].strip().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].strip().replace(" ", "").matches("q=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.frame24.api.catalog.api;
+
+import com.frame24.api.catalog.application.dto.CompleteMediaUploadRequest;
+import com.frame24.api.catalog.application.dto.CreateMediaUploadUrlRequest;
+import com.frame24.api.catalog.application.dto.MediaUploadResponse;
+import com.frame24.api.catalog.application.dto.MediaUploadUrlResponse;
+import com.frame24.api.catalog.application.dto.MovieMediaResponse;
+import com.frame24.api.catalog.application.service.MovieMediaService;
+import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller para envio e consulta de mídias de filmes.
+ *
+ * <p>
+ * O envio pela API recebe o arquivo como corpo bruto da requisição (não multipart), que
+ * é repassado ao storage à medida que chega. Para arquivos grandes, o envio direto
+ * ({@code upload-url} + {@code complete}) não passa pela aplicação. Em ambos a resposta
+ * é 202: as mídias aparecem na listagem quando o processamento termina.
+ * </p>
+ */
+@RestController
+@RequestMapping("/movies/{movieId}/media")
+@RequiredArgsConstructor
+@Tag(name = "Movie Media", description = "Endpoints para envio e consulta de mídias de filmes")
+public class MovieMediaController {
+
+    private final MovieMediaService movieMediaService;
+
+    @PostMapping(version = "v1.0+", consumes = {"image/jpeg", "image/png", "video/mp4", "video/webm",
+            "video/quicktime"})
+    @Operation(summary = "Enviar mídia", description = "Recebe o arquivo no corpo da requisição e o processa "
+            + "em segundo plano (dimensões e variantes de imagens)")
+    public ResponseEntity<ApiResponse<MediaUploadResponse>> upload(
+            @Parameter(description = "ID do filme", example = "1234567890123456789") @PathVariable Long movieId,
+            @Parameter(description = "ID do tipo de mídia", example = "1234567890123456789") @RequestParam Long mediaTypeId,
+            @Parameter(description = "Título da mídia") @RequestParam(required = false) String title,
+            @Parameter(description = "Descrição da mídia") @RequestParam(required = false) String description,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        MediaUploadResponse response = movieMediaService.upload(movieId, mediaTypeId, title, description,
+                contentType, body, principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Mídia recebida, em processamento"));
+    }
+
+    @PostMapping(value = "/upload-url", version = "v1.0+")
+    @Operation(summary = "URL de envio direto", description = "URL pré-assinada para enviar o arquivo direto "
+            + "ao storage com um PUT")
+    public ResponseEntity<ApiResponse<MediaUploadUrlResponse>> createUploadUrl(
+            @Parameter(description = "ID do filme", example = "1234567890123456789") @PathVariable Long movieId,
+            @Valid @RequestBody CreateMediaUploadUrlRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        MediaUploadUrlResponse response = movieMediaService.createUploadUrl(movieId, request, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "URL de envio gerada"));
+    }
+
+    @PostMapping(value = "/complete", version = "v1.0+")
+    @Operation(summary = "Concluir envio direto", description = "Confere o arquivo enviado ao storage e o "
+            + "processa em segundo plano")
+    public ResponseEntity<ApiResponse<MediaUploadResponse>> complete(
+            @Parameter(description = "ID do filme", example = "1234567890123456789") @PathVariable Long movieId,
+            @Valid @RequestBody CompleteMediaUploadRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        MediaUploadResponse response = movieMediaService.complete(movieId, request, principal);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Mídia recebida, em processamento"));
+    }
+
+    @GetMapping(version = "v1.0+")
+    @Operation(summary = "Mídias do filme", description = "Mídias ativas com URLs de download direto do storage")
+    public ResponseEntity<ApiResponse<List<MovieMediaResponse>>> list(
+            @Parameter(description = "ID do filme", example = "1234567890123456789") @PathVariable Long movieId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        List<MovieMediaResponse> response = movieMediaService.list(movieId, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Mídias encontradas"));
+    }
+}
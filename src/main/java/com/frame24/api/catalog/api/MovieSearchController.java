@@ -0,0 +1,53 @@
+package com.frame24.api.catalog.api;
+
+import com.frame24.api.catalog.application.dto.MovieSearchResponse;
+import com.frame24.api.catalog.application.service.MovieSearchService;
+import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller para busca textual de filmes.
+ */
+@RestController
+@RequestMapping("/movies")
+@RequiredArgsConstructor
+@Tag(name = "Movie Search", description = "Endpoints para busca de filmes")
+public class MovieSearchController {
+
+    private final MovieSearchService movieSearchService;
+
+    @GetMapping(value = "/search", version = "v1.0+")
+    @Operation(summary = "Buscar filmes", description = "Busca filmes por título, elenco, categoria, tags e sinopse, "
+            + "sem diferenciar acentos e tolerando erros de digitação")
+    public ResponseEntity<ApiResponse<List<MovieSearchResponse>>> search(
+            @RequestParam @Parameter(description = "Texto da busca", example = "vingadores ultimato") String q,
+            @RequestParam(defaultValue = "20") @Parameter(description = "Quantidade de resultados (máximo 50)") int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        List<MovieSearchResponse> response = movieSearchService.search(q, limit, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Busca realizada com sucesso"));
+    }
+
+    @GetMapping(value = "/autocomplete", version = "v1.0+")
+    @Operation(summary = "Sugerir títulos", description = "Sugere títulos de filmes a partir do texto digitado")
+    public ResponseEntity<ApiResponse<List<MovieSearchResponse>>> autocomplete(
+            @RequestParam @Parameter(description = "Texto digitado", example = "vinga") String q,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Quantidade de sugestões (máximo 50)") int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        List<MovieSearchResponse> response = movieSearchService.autocomplete(q, limit, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Sugestões listadas com sucesso"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.frame24.api.catalog.api;
+
+import com.frame24.api.catalog.application.dto.ResolvePricesRequest;
+import com.frame24.api.catalog.application.dto.ResolvePricesResponse;
+import com.frame24.api.catalog.application.service.PriceTableService;
+import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller para consulta de preços de produtos e combos no PDV.
+ */
+@RestController
+@RequestMapping("/prices")
+@RequiredArgsConstructor
+@Tag(name = "Prices", description = "Endpoints para precificação de produtos e combos")
+public class PriceController {
+
+    private final PriceTableService priceTableService;
+
+    @PostMapping(value = "/resolve", version = "v1.0+")
+    @Operation(summary = "Preços em vigor", description = "Preços em vigor no complexo de produtos e combos, "
+            + "por ID ou por código de barras/código do combo")
+    public ResponseEntity<ApiResponse<ResolvePricesResponse>> resolve(
+            @Valid @RequestBody ResolvePricesRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        ResolvePricesResponse response = priceTableService.resolve(request, principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Preços consultados com sucesso"));
+    }
+}
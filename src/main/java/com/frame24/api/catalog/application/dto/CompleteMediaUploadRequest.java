@@ -0,0 +1,20 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para concluir um envio direto ao storage e cadastrar a mídia.
+ */
+@Schema(description = "Envio direto concluído")
+public record CompleteMediaUploadRequest(
+        @NotBlank(message = "Chave do arquivo é obrigatória") @Schema(description = "Chave recebida junto da URL de envio", example = "movies/1/2/3f2a.../original.mp4") String key,
+
+        @NotNull(message = "Tipo de mídia é obrigatório") @Schema(description = "ID do tipo de mídia", example = "1234567890123456789") Long mediaTypeId,
+
+        @Size(max = 200, message = "Título deve ter no máximo 200 caracteres") @Schema(description = "Título da mídia", example = "Trailer oficial") String title,
+
+        @Schema(description = "Descrição da mídia") String description) {
+}
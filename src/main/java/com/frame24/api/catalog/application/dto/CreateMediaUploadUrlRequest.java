@@ -0,0 +1,18 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO para solicitar uma URL de envio direto de mídia ao storage.
+ */
+@Schema(description = "Arquivo a enviar direto ao storage")
+public record CreateMediaUploadUrlRequest(
+        @NotNull(message = "Tipo de mídia é obrigatório") @Schema(description = "ID do tipo de mídia", example = "1234567890123456789") Long mediaTypeId,
+
+        @NotBlank(message = "Content-Type é obrigatório") @Schema(description = "Content-Type do arquivo", example = "video/mp4") String contentType,
+
+        @NotNull(message = "Tamanho do arquivo é obrigatório") @Positive(message = "Tamanho do arquivo deve ser positivo") @Schema(description = "Tamanho do arquivo em bytes", example = "734003200") Long contentLength) {
+}
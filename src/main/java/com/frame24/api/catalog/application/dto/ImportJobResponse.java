@@ -0,0 +1,34 @@
+package com.frame24.api.catalog.application.dto;
+
+import com.frame24.api.catalog.domain.imports.FeedFormat;
+import com.frame24.api.catalog.domain.imports.ImportJob;
+import com.frame24.api.catalog.domain.imports.ImportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Situação e progresso de uma importação de catálogo.
+ */
+@Schema(description = "Importação de catálogo")
+public record ImportJobResponse(
+        @Schema(description = "ID da importação", example = "1234567890123456789") Long id,
+        @Schema(description = "Situação", example = "RUNNING") ImportJobStatus status,
+        @Schema(description = "Formato do feed", example = "CSV") FeedFormat format,
+        @Schema(description = "ID da distribuidora", example = "1234567890123456789") Long distributorId,
+        @Schema(description = "Fração do feed já processada (0 a 1)", example = "0.42") double progress,
+        @Schema(description = "Registros do feed já processados", example = "21000") int processedRows,
+        @Schema(description = "Filmes inseridos", example = "18000") int insertedRows,
+        @Schema(description = "Filmes atualizados", example = "2950") int updatedRows,
+        @Schema(description = "Registros com erro", example = "50") int failedRows,
+        @Schema(description = "Motivo da interrupção, se a importação falhou") String errorMessage,
+        @Schema(description = "Criação") Instant createdAt,
+        @Schema(description = "Início do processamento") Instant startedAt,
+        @Schema(description = "Fim do processamento") Instant finishedAt) {
+
+    public static ImportJobResponse from(ImportJob job) {
+        return new ImportJobResponse(job.id(), job.status(), job.format(), job.distributorId(), job.progress(),
+                job.processedRows(), job.insertedRows(), job.updatedRows(), job.failedRows(), job.errorMessage(),
+                job.createdAt(), job.startedAt(), job.finishedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.frame24.api.catalog.application.dto;
+
+import com.frame24.api.catalog.domain.imports.ImportRowError;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Registro do feed que não foi importado.
+ */
+@Schema(description = "Erro de um registro do feed")
+public record ImportRowErrorResponse(
+        @Schema(description = "Posição do registro no feed (a partir de 1, sem o cabeçalho)", example = "1532") int rowNumber,
+        @Schema(description = "Chave externa do filme", example = "tmdb:603") String externalId,
+        @Schema(description = "Problemas encontrados", example = "durationMinutes deve ser positivo") String message) {
+
+    public static ImportRowErrorResponse from(ImportRowError error) {
+        return new ImportRowErrorResponse(error.rowNumber(), error.externalId(), error.message());
+    }
+}
@@ -0,0 +1,14 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Mídia recebida e enfileirada para processamento; as {@code MovieMedia} são
+ * cadastradas quando as variantes ficam prontas.
+ */
+@Schema(description = "Mídia recebida, em processamento")
+public record MediaUploadResponse(
+        @Schema(description = "Chave do arquivo original no storage", example = "movies/1/2/3f2a.../original.jpg") String key,
+        @Schema(description = "Tamanho do arquivo em bytes", example = "524288") Long size,
+        @Schema(description = "Content-Type do arquivo", example = "image/jpeg") String contentType) {
+}
@@ -0,0 +1,17 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * URL pré-assinada para o cliente enviar o arquivo direto ao storage com um PUT.
+ */
+@Schema(description = "URL de envio direto ao storage")
+public record MediaUploadUrlResponse(
+        @Schema(description = "Chave do arquivo, a informar ao concluir o envio", example = "movies/1/2/3f2a.../original.mp4") String key,
+        @Schema(description = "URL pré-assinada para o PUT") String uploadUrl,
+        @Schema(description = "Content-Type a enviar no PUT", example = "video/mp4") String contentType,
+        @Schema(description = "Content-Length a enviar no PUT", example = "734003200") Long contentLength,
+        @Schema(description = "Instante em que a URL expira") Instant expiresAt) {
+}
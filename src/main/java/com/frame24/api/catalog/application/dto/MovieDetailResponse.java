@@ -0,0 +1,52 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Página de detalhes de um filme, com classificação, elenco, mídias e categorias.
+ */
+@Schema(description = "Detalhes do filme")
+public record MovieDetailResponse(
+        @Schema(description = "ID do filme", example = "1234567890123456789") Long id,
+        @Schema(description = "Slug do filme", example = "matrix-1999") String slug,
+        @Schema(description = "Título original", example = "The Matrix") String originalTitle,
+        @Schema(description = "Título no Brasil", example = "Matrix") String brazilTitle,
+        @Schema(description = "ID da distribuidora", example = "1234567890123456789") Long distributorId,
+        @Schema(description = "Duração em minutos", example = "136") Integer durationMinutes,
+        @Schema(description = "País de origem", example = "EUA") String countryOfOrigin,
+        @Schema(description = "Ano de produção", example = "1999") Integer productionYear,
+        @Schema(description = "Produção nacional", example = "false") Boolean national,
+        @Schema(description = "Filme ativo", example = "true") Boolean active,
+        @Schema(description = "Sinopse") String synopsis,
+        @Schema(description = "Sinopse curta") String shortSynopsis,
+        @Schema(description = "Site oficial") String website,
+        @Schema(description = "ID no TMDB", example = "603") String tmdbId,
+        @Schema(description = "ID no IMDb", example = "tt0133093") String imdbId,
+        @Schema(description = "Tags (JSON)") String tagsJson,
+        @Schema(description = "Data de lançamento mundial", example = "1999-03-31") LocalDate worldwideReleaseDate,
+        @Schema(description = "Idioma original", example = "Inglês") String originalLanguage,
+        @Schema(description = "Classificação indicativa") AgeRatingInfo ageRating,
+        @Schema(description = "Categorias do filme") List<CategoryInfo> categories,
+        @Schema(description = "Elenco ativo, na ordem dos créditos") List<CastMemberInfo> cast,
+        @Schema(description = "Mídias ativas (pôsteres, trailers etc.)") List<MediaInfo> media) {
+
+    public record AgeRatingInfo(Long id, String code, String name, Integer minimumAge) {
+    }
+
+    public record CategoryInfo(Long id, String name, String slug) {
+    }
+
+    public record CastMemberInfo(Long id, String artistName, String characterName, String castType,
+                                 Integer creditOrder, String photoUrl) {
+    }
+
+    public record MediaInfo(Long id, String mediaType, String mediaUrl, String title, String description,
+                            Integer width, Integer height, List<MediaVariantInfo> variants) {
+    }
+
+    public record MediaVariantInfo(Integer width, String mediaUrl) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Mídia de um filme com a URL para download direto do storage.
+ */
+@Schema(description = "Mídia do filme")
+public record MovieMediaResponse(
+        @Schema(description = "ID da mídia", example = "1234567890123456789") Long id,
+        @Schema(description = "Tipo de mídia", example = "Poster") String mediaType,
+        @Schema(description = "URL para download (pré-assinada para arquivos do storage)") String url,
+        @Schema(description = "Instante em que a URL expira (nulo para URLs externas)") Instant urlExpiresAt,
+        @Schema(description = "Título", example = "Poster oficial") String title,
+        @Schema(description = "Descrição") String description,
+        @Schema(description = "Largura em pixels", example = "780") Integer width,
+        @Schema(description = "Altura em pixels", example = "1170") Integer height,
+        @Schema(description = "Variantes JPEG redimensionadas, por largura crescente") List<Variant> variants) {
+
+    public record Variant(
+            @Schema(description = "Largura em pixels", example = "342") Integer width,
+            @Schema(description = "URL pré-assinada para download") String url,
+            @Schema(description = "Instante em que a URL expira") Instant urlExpiresAt) {
+    }
+}
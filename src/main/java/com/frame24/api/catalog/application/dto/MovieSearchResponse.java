@@ -0,0 +1,21 @@
+package com.frame24.api.catalog.application.dto;
+
+import com.frame24.api.catalog.domain.search.SearchHit;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Filme encontrado na busca ou no autocompletar.
+ */
+@Schema(description = "Filme encontrado na busca")
+public record MovieSearchResponse(
+        @Schema(description = "ID do filme", example = "1234567890123456789") Long id,
+        @Schema(description = "Título original", example = "The Matrix") String originalTitle,
+        @Schema(description = "Título no Brasil", example = "Matrix") String brazilTitle,
+        @Schema(description = "Filme ativo", example = "true") boolean active,
+        @Schema(description = "Relevância para a consulta", example = "4.82") float score) {
+
+    public static MovieSearchResponse from(SearchHit hit) {
+        return new MovieSearchResponse(hit.movieId(), hit.originalTitle(), hit.brazilTitle(), hit.active(),
+                hit.score());
+    }
+}
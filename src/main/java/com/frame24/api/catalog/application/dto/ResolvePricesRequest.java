@@ -0,0 +1,20 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para consulta em lote dos preços em vigor de produtos e combos no PDV.
+ */
+@Schema(description = "Itens a precificar no complexo, por ID e/ou por código lido")
+public record ResolvePricesRequest(
+        @NotNull(message = "ID do complexo é obrigatório") @Schema(description = "ID do complexo", example = "1234567890123456789") Long complexId,
+
+        @Size(max = 500, message = "Máximo 500 IDs por consulta") @Schema(description = "IDs de produtos ou combos", example = "[1234567890123456789]") List<@NotNull Long> ids,
+
+        @Size(max = 500, message = "Máximo 500 códigos por consulta") @Schema(description = "Códigos de barras de produtos ou códigos de combos", example = "[\"7894900011517\"]") List<@NotBlank String> codes) {
+}
@@ -0,0 +1,19 @@
+package com.frame24.api.catalog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado da consulta de preços: itens encontrados na ordem pedida (IDs, depois
+ * códigos) e os que não têm preço em vigor no complexo.
+ */
+@Schema(description = "Preços em vigor no complexo")
+public record ResolvePricesResponse(
+        @Schema(description = "ID do complexo", example = "1234567890123456789") Long complexId,
+        @Schema(description = "Itens encontrados, na ordem da consulta") List<ResolvedPriceResponse> items,
+        @Schema(description = "IDs sem preço em vigor no complexo") List<Long> missingIds,
+        @Schema(description = "Códigos sem preço em vigor no complexo") List<String> missingCodes,
+        @Schema(description = "Próxima mudança de preço agendada na tabela do complexo") Instant nextTransition) {
+}
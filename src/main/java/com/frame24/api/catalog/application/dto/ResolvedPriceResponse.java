@@ -0,0 +1,26 @@
+package com.frame24.api.catalog.application.dto;
+
+import com.frame24.api.catalog.domain.pricing.PriceTable.PricedItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Preço em vigor de um produto ou combo.
+ */
+@Schema(description = "Preço em vigor de um produto ou combo")
+public record ResolvedPriceResponse(
+        @Schema(description = "ID do produto ou combo", example = "1234567890123456789") Long id,
+        @Schema(description = "Tipo do item (PRODUCT, COMBO)", example = "PRODUCT") String type,
+        @Schema(description = "Código de barras do produto ou código do combo", example = "7894900011517") String code,
+        @Schema(description = "Nome do item", example = "Pipoca Grande") String name,
+        @Schema(description = "Preço em vigor", example = "24.90") BigDecimal price,
+        @Schema(description = "Preço promocional de combo", example = "false") boolean promotional,
+        @Schema(description = "Próxima mudança de preço do item, se agendada") Instant validUntil) {
+
+    public static ResolvedPriceResponse from(PricedItem item) {
+        return new ResolvedPriceResponse(item.id(), item.kind().name(), item.code(), item.name(), item.price(),
+                item.promotional(), item.validUntil());
+    }
+}
@@ -0,0 +1,510 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.domain.imports.CatalogFeedReader;
+import com.frame24.api.catalog.domain.imports.FeedRow;
+import com.frame24.api.catalog.domain.imports.ImportJob;
+import com.frame24.api.catalog.domain.imports.ImportJobStatus;
+import com.frame24.api.catalog.domain.imports.ImportRowError;
+import com.frame24.api.catalog.domain.imports.MovieImportRow;
+import com.frame24.api.catalog.domain.imports.MovieImportRow.CastRow;
+import com.frame24.api.catalog.domain.imports.MovieImportRow.MediaRow;
+import com.frame24.api.catalog.domain.imports.MovieKeyIndex;
+import com.frame24.api.catalog.domain.imports.ReferenceData;
+import com.frame24.api.catalog.infrastructure.repository.CatalogImportJdbcRepository;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage;
+import com.frame24.api.common.event.MoviesImportedEvent;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Workers da importação de catálogo.
+ *
+ * <p>
+ * Os jobs ficam em {@code catalog.import_jobs}, que serve de fila entre as instâncias: a
+ * cada {@code catalog-import.poll-interval-ms} (e logo após um job ser criado ou
+ * retomado) cada instância assume jobs pendentes com {@code FOR UPDATE SKIP LOCKED}, até
+ * {@code catalog-import.max-concurrent-jobs}, cada um em uma thread virtual; cada empresa
+ * tem no máximo uma importação em andamento entre todas as instâncias. O worker
+ * lê o feed do storage em streaming e grava lotes de {@code catalog-import.batch-size}
+ * registros; cada lote é uma transação com os filmes, o elenco, as mídias, os erros por
+ * linha e o ponto de retomada, então um job interrompido continua do último lote gravado
+ * sem duplicar nada.
+ * </p>
+ *
+ * <p>
+ * O job é do worker que tem o {@code lease_token} gravado no claim. Um worker que para
+ * de renovar o heartbeat por {@code catalog-import.stale-after} perde o job para outro, e
+ * a gravação seguinte do worker antigo é recusada. No desligamento os jobs em andamento
+ * voltam para a fila ao fim do lote corrente.
+ * </p>
+ *
+ * <p>
+ * Se um lote falha no banco (um registro viola uma restrição não coberta pela
+ * validação), ele é regravado registro a registro para que só os problemáticos entrem
+ * como erro.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CatalogImportRunner {
+
+    private static final int MAX_ERROR_MESSAGE = 1000;
+
+    private final CatalogImportJdbcRepository repository;
+    private final MediaStorage storage;
+    private final SnowflakeIdGenerator idGenerator;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final Semaphore slots;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration staleAfter;
+    private volatile boolean stopping;
+
+    private final Timer batchTimer;
+    private final Counter insertedCounter;
+    private final Counter updatedCounter;
+    private final Counter failedCounter;
+
+    public CatalogImportRunner(
+            CatalogImportJdbcRepository repository,
+            MediaStorage storage,
+            SnowflakeIdGenerator idGenerator,
+            JsonMapper jsonMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${catalog-import.enabled:true}") boolean enabled,
+            @Value("${catalog-import.batch-size:500}") int batchSize,
+            @Value("${catalog-import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${catalog-import.stale-after:2m}") Duration staleAfter) {
+        this.repository = repository;
+        this.storage = storage;
+        this.idGenerator = idGenerator;
+        this.jsonMapper = jsonMapper;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.staleAfter = staleAfter;
+        this.slots = new Semaphore(maxConcurrentJobs);
+
+        // Roda fora de qualquer requisição: cada lote é uma transação própria
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.batchTimer = Timer.builder("catalog.import.batch.duration")
+                .description("Tempo de gravação de um lote da importação de catálogo")
+                .register(meterRegistry);
+        this.insertedCounter = rowsCounter(meterRegistry, "inserted");
+        this.updatedCounter = rowsCounter(meterRegistry, "updated");
+        this.failedCounter = rowsCounter(meterRegistry, "failed");
+        Gauge.builder("catalog.import.running", slots, s -> maxConcurrentJobs - s.availablePermits())
+                .description("Importações de catálogo em andamento nesta instância")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assume jobs disponíveis enquanto houver vaga nesta instância.
+     */
+    @Scheduled(fixedDelayString = "${catalog-import.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled || stopping) {
+            return;
+        }
+        while (slots.tryAcquire()) {
+            long leaseToken = ThreadLocalRandom.current().nextLong();
+            Optional<ImportJob> claimed;
+            try {
+                Instant now = Instant.now();
+                claimed = RlsContextHolder.callAs(RlsContext.system(), () -> writeTransaction.execute(
+                        status -> repository.claimNext(leaseToken, now, now.minus(staleAfter))));
+            } catch (DuplicateKeyException e) {
+                // Outra instância assumiu ao mesmo tempo um job da mesma empresa
+                slots.release();
+                log.debug("Importação disputada com outra instância: {}", e.getMessage());
+                return;
+            } catch (Exception e) {
+                slots.release();
+                log.warn("Falha ao buscar importações pendentes: {}", e.getMessage());
+                return;
+            }
+            if (claimed.isEmpty()) {
+                slots.release();
+                return;
+            }
+            ImportJob job = claimed.get();
+            Thread.ofVirtual().name("catalog-import-" + job.id()).start(() -> {
+                try {
+                    run(job, leaseToken);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Busca jobs agora, sem esperar o próximo ciclo (job criado ou retomado).
+     */
+    public void wakeUp() {
+        Thread.ofVirtual().name("catalog-import-poll").start(this::poll);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+    }
+
+    private void run(ImportJob job, long leaseToken) {
+        long start = System.nanoTime();
+        log.info("Importação {} iniciada: empresa={}, formato={}, a partir do registro {}",
+                job.id(), job.companyId(), job.format(), job.processedRows() + 1);
+        try {
+            ReferenceData references = inCompany(job, () -> repository.loadReferences(job.companyId()));
+            try (CountingInputStream in = new CountingInputStream(storage.open(job.sourceKey()));
+                 CatalogFeedReader reader = job.format().open(in, jsonMapper)) {
+                List<FeedRow> batch = new ArrayList<>(batchSize);
+                FeedRow row;
+                while ((row = reader.next()) != null) {
+                    // Já gravado antes da interrupção
+                    if (row.rowNumber() <= job.processedRows()) {
+                        continue;
+                    }
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        write(job, leaseToken, batch, references, in.count());
+                        batch.clear();
+                        if (stopping) {
+                            release(job, leaseToken);
+                            return;
+                        }
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    write(job, leaseToken, batch, references, in.count());
+                }
+            }
+            finish(job, leaseToken, ImportJobStatus.COMPLETED, null);
+            log.info("Importação {} concluída em {} ms", job.id(), (System.nanoTime() - start) / 1_000_000);
+        } catch (LeaseLostException e) {
+            log.warn("Importação {} assumida por outro worker; interrompida nesta instância", job.id());
+        } catch (Exception e) {
+            log.error("Importação {} interrompida: {}", job.id(), e.getMessage(), e);
+            finish(job, leaseToken, ImportJobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Valida o lote e o grava com o ponto de retomada.
+     */
+    private void write(ImportJob job, long leaseToken, List<FeedRow> rows, ReferenceData references,
+                       long bytesRead) {
+        List<MovieImportRow> valid = new ArrayList<>(rows.size());
+        List<ImportRowError> errors = new ArrayList<>();
+        for (FeedRow row : rows) {
+            if (row.error() != null) {
+                errors.add(new ImportRowError(row.rowNumber(), null, row.error()));
+                continue;
+            }
+            try {
+                valid.add(MovieImportRow.of(row.rowNumber(), row.movie(), references));
+            } catch (IllegalArgumentException e) {
+                errors.add(new ImportRowError(row.rowNumber(), MovieImportRow.externalId(row.movie()),
+                        e.getMessage()));
+            }
+        }
+        int lastRow = rows.getLast().rowNumber();
+
+        batchTimer.record(() -> {
+            try {
+                inCompany(job, () -> {
+                    UpsertResult result = upsert(job, valid);
+                    repository.insertErrors(job.id(), errors);
+                    checkpoint(job, leaseToken, lastRow, bytesRead, result.inserted(), result.updated(),
+                            errors.size());
+                    return result;
+                });
+            } catch (DataAccessException e) {
+                log.warn("Lote até o registro {} da importação {} falhou ({}); regravando registro a registro",
+                        lastRow, job.id(), e.getMostSpecificCause().getMessage());
+                writeOneByOne(job, leaseToken, valid, errors, lastRow, bytesRead);
+            }
+        });
+    }
+
+    private void writeOneByOne(ImportJob job, long leaseToken, List<MovieImportRow> rows,
+                               List<ImportRowError> errors, int lastRow, long bytesRead) {
+        List<ImportRowError> allErrors = new ArrayList<>(errors);
+        int inserted = 0;
+        int updated = 0;
+        for (MovieImportRow row : rows) {
+            try {
+                UpsertResult result = inCompany(job, () -> {
+                    // Cada registro é uma transação: sem a checagem, um worker que perdeu o
+                    // job continuaria gravando até o checkpoint do fim do lote
+                    if (!repository.heartbeat(job.id(), leaseToken, Instant.now())) {
+                        throw new LeaseLostException();
+                    }
+                    return upsert(job, List.of(row));
+                });
+                inserted += result.inserted();
+                updated += result.updated();
+            } catch (DataAccessException e) {
+                allErrors.add(new ImportRowError(row.rowNumber(), externalId(row),
+                        truncate(e.getMostSpecificCause().getMessage())));
+            }
+        }
+        int insertedRows = inserted;
+        int updatedRows = updated;
+        inCompany(job, () -> {
+            repository.insertErrors(job.id(), allErrors);
+            checkpoint(job, leaseToken, lastRow, bytesRead, insertedRows, updatedRows, allErrors.size());
+            return null;
+        });
+    }
+
+    /**
+     * Insere os filmes novos e atualiza os existentes, com elenco e mídias.
+     */
+    private UpsertResult upsert(ImportJob job, List<MovieImportRow> rows) {
+        if (rows.isEmpty()) {
+            return new UpsertResult(0, 0);
+        }
+        Instant now = Instant.now();
+        MovieKeyIndex existing = repository.findExisting(job.companyId(), rows);
+
+        List<MovieImportRow> inserts = new ArrayList<>();
+        List<Long> insertIds = new ArrayList<>();
+        List<MovieImportRow> updates = new ArrayList<>();
+        List<Long> updateIds = new ArrayList<>();
+        List<Long> movieIds = new ArrayList<>(rows.size());
+        for (MovieImportRow row : rows) {
+            Long id = existing.find(row);
+            if (id == null) {
+                id = idGenerator.nextId();
+                // Uma repetição no mesmo lote atualiza o filme que acabou de ser inserido
+                existing.add(id, row.tmdbId(), row.imdbId(), row.ancineNumber());
+                inserts.add(row);
+                insertIds.add(id);
+            } else {
+                updates.add(row);
+                updateIds.add(id);
+            }
+            movieIds.add(id);
+        }
+
+        insertMovies(job, inserts, insertIds, now);
+        if (!updates.isEmpty()) {
+            repository.updateMovies(job.companyId(), job.distributorId(), updates, toArray(updateIds));
+        }
+
+        List<Long> castMovieIds = new ArrayList<>();
+        List<CastRow> cast = new ArrayList<>();
+        List<Long> mediaMovieIds = new ArrayList<>();
+        List<MediaRow> media = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            for (CastRow member : rows.get(i).cast()) {
+                castMovieIds.add(movieIds.get(i));
+                cast.add(member);
+            }
+            for (MediaRow item : rows.get(i).media()) {
+                mediaMovieIds.add(movieIds.get(i));
+                media.add(item);
+            }
+        }
+        if (!cast.isEmpty()) {
+            repository.insertCast(castMovieIds, cast, idGenerator.nextIds(cast.size()), now);
+        }
+        if (!media.isEmpty()) {
+            repository.insertMedia(mediaMovieIds, media, idGenerator.nextIds(media.size()), now);
+        }
+
+        Set<Long> changed = new LinkedHashSet<>(movieIds);
+        eventPublisher.publishEvent(new MoviesImportedEvent(job.companyId(), List.copyOf(changed)));
+        return new UpsertResult(inserts.size(), updates.size());
+    }
+
+    /**
+     * Insere os filmes novos; os que esbarram em um slug já usado (de qualquer empresa)
+     * são inseridos de novo com o ID no slug.
+     */
+    private void insertMovies(ImportJob job, List<MovieImportRow> rows, List<Long> ids, Instant now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] movieIds = toArray(ids);
+        List<String> slugs = rows.stream().map(MovieImportRow::slug).toList();
+        boolean[] inserted = repository.insertMovies(job.companyId(), job.distributorId(), rows, movieIds, slugs, now);
+
+        List<MovieImportRow> retries = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (!inserted[i]) {
+                retries.add(rows.get(i));
+                retryIds.add(movieIds[i]);
+            }
+        }
+        if (retries.isEmpty()) {
+            return;
+        }
+        List<String> retrySlugs = new ArrayList<>(retries.size());
+        for (int i = 0; i < retries.size(); i++) {
+            retrySlugs.add(retries.get(i).slug(retryIds.get(i)));
+        }
+        boolean[] retried = repository.insertMovies(job.companyId(), job.distributorId(), retries,
+                toArray(retryIds), retrySlugs, now);
+        for (int i = 0; i < retried.length; i++) {
+            if (!retried[i]) {
+                throw new DuplicateKeyException("Slug já cadastrado: " + retrySlugs.get(i));
+            }
+        }
+    }
+
+    private void checkpoint(ImportJob job, long leaseToken, int processedRows, long bytesRead, int inserted,
+                            int updated, int failed) {
+        if (!repository.checkpoint(job.id(), leaseToken, processedRows, bytesRead, inserted, updated, failed,
+                Instant.now())) {
+            throw new LeaseLostException();
+        }
+        insertedCounter.increment(inserted);
+        updatedCounter.increment(updated);
+        failedCounter.increment(failed);
+    }
+
+    private void finish(ImportJob job, long leaseToken, ImportJobStatus status, String errorMessage) {
+        try {
+            RlsContextHolder.callAs(RlsContext.system(), () -> writeTransaction.execute(transaction ->
+                    repository.finish(job.id(), leaseToken, status, truncate(errorMessage), Instant.now())));
+        } catch (Exception e) {
+            // O heartbeat vence e outro worker retoma o job
+            log.error("Falha ao registrar o fim da importação {}: {}", job.id(), e.getMessage());
+        }
+    }
+
+    private void release(ImportJob job, long leaseToken) {
+        try {
+            RlsContextHolder.callAs(RlsContext.system(), () -> writeTransaction.execute(status ->
+                    repository.release(job.id(), leaseToken)));
+            log.info("Importação {} devolvida à fila no desligamento", job.id());
+        } catch (Exception e) {
+            log.warn("Falha ao devolver a importação {} à fila: {}", job.id(), e.getMessage());
+        }
+    }
+
+    private <T> T inCompany(ImportJob job, Supplier<T> action) {
+        return RlsContextHolder.callAs(RlsContext.forCompany(job.companyId()),
+                () -> writeTransaction.execute(status -> action.get()));
+    }
+
+    private static String externalId(MovieImportRow row) {
+        if (row.tmdbId() != null) {
+            return "tmdb:" + row.tmdbId();
+        }
+        return row.imdbId() != null ? "imdb:" + row.imdbId() : "ancine:" + row.ancineNumber();
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_ERROR_MESSAGE
+                ? message
+                : message.substring(0, MAX_ERROR_MESSAGE);
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static Counter rowsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.import.rows")
+                .description("Registros de feeds de catálogo processados")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record UpsertResult(int inserted, int updated) {
+    }
+
+    /**
+     * O job passou para outro worker; desfaz o lote corrente.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super("Importação assumida por outro worker");
+        }
+    }
+
+    /**
+     * Conta os bytes lidos do feed, para o progresso.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
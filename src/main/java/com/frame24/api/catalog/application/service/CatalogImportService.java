@@ -0,0 +1,140 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.application.dto.ImportJobResponse;
+import com.frame24.api.catalog.application.dto.ImportRowErrorResponse;
+import com.frame24.api.catalog.domain.imports.FeedFormat;
+import com.frame24.api.catalog.domain.imports.ImportJob;
+import com.frame24.api.catalog.infrastructure.repository.CatalogImportJdbcRepository;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage;
+import com.frame24.api.common.exception.ConflictException;
+import com.frame24.api.common.exception.NotFoundException;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
+import com.frame24.api.common.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Importação em massa de filmes a partir de feeds de distribuidoras (CSV ou JSON).
+ *
+ * <p>
+ * O feed recebido é repassado em partes ao storage ({@code imports/<empresa>/<job>.<ext>})
+ * sem ser carregado em memória, e o job é registrado como pendente; o processamento
+ * ({@link CatalogImportRunner}) lê o feed de lá, então sobrevive a reinícios e pode ser
+ * retomado de onde parou.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_JOBS = 50;
+    private static final int MAX_ERRORS = 500;
+
+    private final CatalogImportJdbcRepository repository;
+    private final MediaStorage storage;
+    private final SnowflakeIdGenerator idGenerator;
+    private final CatalogImportRunner runner;
+    private final long maxFeedBytes;
+
+    public CatalogImportService(
+            CatalogImportJdbcRepository repository,
+            MediaStorage storage,
+            SnowflakeIdGenerator idGenerator,
+            CatalogImportRunner runner,
+            @Value("${catalog-import.max-feed-size:2GB}") DataSize maxFeedSize) {
+        this.repository = repository;
+        this.storage = storage;
+        this.idGenerator = idGenerator;
+        this.runner = runner;
+        this.maxFeedBytes = maxFeedSize.toBytes();
+    }
+
+    /**
+     * Grava o feed no storage e enfileira a importação.
+     */
+    public ImportJobResponse create(String contentType, Long distributorId, InputStream body,
+                                    UserPrincipal principal) {
+        FeedFormat format = format(contentType);
+        if (distributorId == null) {
+            throw new ValidationException("distributorId", "Distribuidora é obrigatória");
+        }
+        Long companyId = principal.getCompanyId();
+        long jobId = idGenerator.nextId();
+        String key = "imports/" + companyId + "/" + jobId + "." + format.extension();
+
+        long size = storage.upload(key, format.contentType(), body, maxFeedBytes);
+        try {
+            repository.insertJob(jobId, companyId, distributorId, format, key, size, principal.getUserId(),
+                    Instant.now());
+        } catch (RuntimeException e) {
+            storage.delete(key);
+            throw e;
+        }
+        log.info("Importação {} criada: empresa={}, formato={}, bytes={}", jobId, companyId, format, size);
+
+        runner.wakeUp();
+        return get(jobId, principal);
+    }
+
+    public ImportJobResponse get(Long jobId, UserPrincipal principal) {
+        return ImportJobResponse.from(find(jobId, principal));
+    }
+
+    /**
+     * Importações mais recentes da empresa.
+     */
+    public List<ImportJobResponse> list(UserPrincipal principal) {
+        return repository.findJobs(principal.getCompanyId(), MAX_JOBS).stream()
+                .map(ImportJobResponse::from)
+                .toList();
+    }
+
+    /**
+     * Erros por registro, em ordem, a partir do registro seguinte a {@code afterRow}.
+     */
+    public List<ImportRowErrorResponse> errors(Long jobId, int afterRow, int limit, UserPrincipal principal) {
+        ImportJob job = find(jobId, principal);
+        int clamped = Math.max(1, Math.min(limit, MAX_ERRORS));
+        return repository.findErrors(job.id(), Math.max(0, afterRow), clamped).stream()
+                .map(ImportRowErrorResponse::from)
+                .toList();
+    }
+
+    /**
+     * Devolve à fila uma importação que falhou; ela continua do último lote gravado.
+     *
+     * @throws ConflictException se a importação não está com falha
+     */
+    public ImportJobResponse resume(Long jobId, UserPrincipal principal) {
+        ImportJob job = find(jobId, principal);
+        if (!repository.resume(job.id(), principal.getCompanyId())) {
+            throw new ConflictException("Só importações com falha podem ser retomadas");
+        }
+        runner.wakeUp();
+        return get(jobId, principal);
+    }
+
+    private ImportJob find(Long jobId, UserPrincipal principal) {
+        return repository.findJob(jobId, principal.getCompanyId())
+                .orElseThrow(() -> new NotFoundException("Importação não encontrada"));
+    }
+
+    private static FeedFormat format(String contentType) {
+        String type = contentType == null ? "" : contentType.split(";", 2)[0].strip().toLowerCase(Locale.ROOT);
+        return switch (type) {
+            case "text/csv" -> FeedFormat.CSV;
+            case "application/json", "application/x-ndjson" -> FeedFormat.JSON;
+            default -> throw new ValidationException("contentType",
+                    "Formato de feed não suportado: " + type + " (aceitos: text/csv, application/json, "
+                            + "application/x-ndjson)");
+        };
+    }
+}
@@ -0,0 +1,287 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.domain.MovieMedia;
+import com.frame24.api.catalog.domain.media.ImageResizer;
+import com.frame24.api.catalog.domain.media.ImageResizer.Decoded;
+import com.frame24.api.catalog.domain.media.ImageResizer.Size;
+import com.frame24.api.catalog.infrastructure.repository.MovieMediaRepository;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage;
+import com.frame24.api.common.event.MovieChangedEvent;
+import com.frame24.api.common.exception.ServiceOverloadedException;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processamento em segundo plano das mídias já gravadas no storage: leitura das
+ * dimensões, geração das variantes redimensionadas de imagens e cadastro da
+ * {@link MovieMedia}.
+ *
+ * <p>
+ * Decodificar e redimensionar imagens é CPU-bound e usa memória proporcional aos pixels,
+ * então roda em um pool de tamanho fixo com fila limitada
+ * ({@code media.derivatives.threads} / {@code media.derivatives.queue-capacity}), fora
+ * das threads do Tomcat; com a fila cheia o envio é recusado com 503 e
+ * {@code Retry-After}. Imagens acima de {@code media.derivatives.max-pixels} são
+ * recusadas pelo cabeçalho, antes da decodificação.
+ * </p>
+ *
+ * <p>
+ * Para imagens são geradas variantes JPEG nas larguras de {@code media.derivatives.widths}
+ * (sem ampliar a original), gravadas ao lado dela como {@code w<largura>.jpg}
+ * ({@link #variantKey}). Cada envio é uma única {@link MovieMedia}, reservada inativa
+ * antes do processamento ({@link MovieMediaRepository#claim}) e completada com as
+ * dimensões da original e as larguras das variantes geradas; vídeos não têm variantes
+ * nem dimensões. A mídia só é ativada depois que todos os arquivos existem, em uma
+ * transação que publica {@link MovieChangedEvent}; se algo falha, os arquivos gravados
+ * e a reserva são removidos.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code media.derivatives.duration}, {@code media.derivatives.queue.depth},
+ * {@code media.derivatives.active}, {@code media.derivatives.rejected} e
+ * {@code media.derivatives.failed}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MediaDerivativeProcessor {
+
+    private static final String OVERLOADED_MESSAGE =
+            "Servidor ocupado processando mídias. Tente novamente em instantes";
+
+    /**
+     * Mídia gravada no storage aguardando processamento.
+     */
+    public record MediaIngestJob(
+            long mediaId,
+            long companyId,
+            long movieId,
+            long mediaTypeId,
+            String key,
+            String contentType,
+            String title,
+            String description) {
+
+        boolean isImage() {
+            return contentType.startsWith("image/");
+        }
+    }
+
+    /**
+     * Dimensões da original e larguras das variantes gravadas.
+     */
+    private record Derived(Integer width, Integer height, List<Integer> variantWidths) {
+    }
+
+    private final MediaStorage storage;
+    private final MovieMediaRepository movieMediaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final float jpegQuality;
+
+    private final Timer durationTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public MediaDerivativeProcessor(
+            MediaStorage storage,
+            MovieMediaRepository movieMediaRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${media.derivatives.threads:2}") int threads,
+            @Value("${media.derivatives.queue-capacity:50}") int queueCapacity,
+            @Value("${media.derivatives.retry-after-seconds:10}") long retryAfterSeconds,
+            @Value("${media.derivatives.widths:185,342,780}") List<Integer> widths,
+            @Value("${media.derivatives.max-pixels:50000000}") long maxPixels,
+            @Value("${media.derivatives.jpeg-quality:0.85}") float jpegQuality) {
+        this.storage = storage;
+        this.movieMediaRepository = movieMediaRepository;
+        this.eventPublisher = eventPublisher;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.widths = widths.stream().distinct().sorted().toList();
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+
+        // Roda fora de qualquer requisição: a gravação precisa de uma transação própria
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new DerivativeThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.durationTimer = Timer.builder("media.derivatives.duration")
+                .description("Tempo de processamento de uma mídia enviada")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("media.derivatives.rejected")
+                .description("Mídias recusadas por sobrecarga do processamento")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("media.derivatives.failed")
+                .description("Mídias cujo processamento falhou")
+                .register(meterRegistry);
+        Gauge.builder("media.derivatives.queue.depth", executor, e -> e.getQueue().size())
+                .description("Mídias aguardando processamento")
+                .register(meterRegistry);
+        Gauge.builder("media.derivatives.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Mídias em processamento")
+                .register(meterRegistry);
+
+        log.info("Pool de processamento de mídias: threads={}, fila={}, larguras={}", threads, queueCapacity,
+                this.widths);
+    }
+
+    /**
+     * Chave da variante com a largura informada, ao lado da original.
+     */
+    public static String variantKey(String originalKey, int width) {
+        return originalKey.substring(0, originalKey.lastIndexOf('/') + 1) + "w" + width + ".jpg";
+    }
+
+    /**
+     * Se há espaço na fila; usado para recusar um envio antes de receber o arquivo.
+     */
+    public void checkCapacity() {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Enfileira o processamento da mídia.
+     *
+     * @throws ServiceOverloadedException se a fila está cheia
+     */
+    public void submit(MediaIngestJob job) {
+        try {
+            executor.execute(() -> process(job));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Fila de processamento de mídias cheia ({} aguardando)", executor.getQueue().size());
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(MediaIngestJob job) {
+        List<String> written = new ArrayList<>(widths.size() + 1);
+        written.add(job.key());
+        try {
+            durationTimer.record(() -> {
+                Derived derived = job.isImage()
+                        ? derive(job, written)
+                        : new Derived(null, null, null);
+                save(job, derived);
+            });
+            log.info("Mídia processada: filme={}, chave={}, arquivos={}", job.movieId(), job.key(), written.size());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("Falha ao processar mídia {} do filme {}: {}", job.key(), job.movieId(), e.getMessage(), e);
+            written.forEach(storage::delete);
+            release(job);
+        }
+    }
+
+    /**
+     * Remove a reserva de uma mídia que não será processada.
+     */
+    public void release(MediaIngestJob job) {
+        try {
+            RlsContextHolder.callAs(RlsContext.forCompany(job.companyId()), () -> writeTransaction.execute(status -> {
+                movieMediaRepository.deleteById(job.mediaId());
+                return null;
+            }));
+        } catch (Exception e) {
+            log.error("Falha ao remover reserva da mídia {}: {}", job.mediaId(), e.getMessage());
+        }
+    }
+
+    private Derived derive(MediaIngestJob job, List<String> written) {
+        Decoded decoded;
+        try (InputStream in = storage.open(job.key())) {
+            decoded = ImageResizer.read(in, maxPixels);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Size original = decoded.size();
+        List<Integer> variantWidths = new ArrayList<>(widths.size());
+        for (int width : widths) {
+            Size size = ImageResizer.fit(original, width);
+            if (size == null) {
+                continue;
+            }
+            try {
+                byte[] jpeg = ImageResizer.resizeToJpeg(decoded.image(), size, jpegQuality);
+                String key = variantKey(job.key(), width);
+                storage.put(key, "image/jpeg", jpeg);
+                written.add(key);
+                variantWidths.add(width);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new Derived(original.width(), original.height(), variantWidths);
+    }
+
+    private void save(MediaIngestJob job, Derived derived) {
+        RlsContextHolder.callAs(RlsContext.forCompany(job.companyId()), () -> writeTransaction.execute(status -> {
+            MovieMedia media = movieMediaRepository.findById(job.mediaId())
+                    .orElseThrow(() -> new IllegalStateException("Reserva da mídia removida durante o processamento"));
+            media.setWidth(derived.width());
+            media.setHeight(derived.height());
+            media.setVariantWidths(derived.variantWidths());
+            media.setActive(true);
+            media.setCreatedAt(Instant.now());
+            eventPublisher.publishEvent(new MovieChangedEvent(job.companyId(), job.movieId()));
+            return media.getId();
+        }));
+    }
+
+    private static final class DerivativeThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "media-derivatives-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.application.dto.MovieDetailResponse;
+import com.frame24.api.catalog.application.dto.MovieDetailResponse.AgeRatingInfo;
+import com.frame24.api.catalog.application.dto.MovieDetailResponse.CastMemberInfo;
+import com.frame24.api.catalog.application.dto.MovieDetailResponse.CategoryInfo;
+import com.frame24.api.catalog.application.dto.MovieDetailResponse.MediaInfo;
+import com.frame24.api.catalog.application.dto.MovieDetailResponse.MediaVariantInfo;
+import com.frame24.api.catalog.domain.AgeRating;
+import com.frame24.api.catalog.domain.Movie;
+import com.frame24.api.catalog.domain.MovieMedia;
+import com.frame24.api.catalog.domain.readmodel.MovieDetailDocument;
+import com.frame24.api.catalog.infrastructure.repository.MovieCastRepository;
+import com.frame24.api.catalog.infrastructure.repository.MovieMediaRepository;
+import com.frame24.api.catalog.infrastructure.repository.MovieRepository;
+import com.frame24.api.catalog.infrastructure.repository.MoviesOnCategoryRepository;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage;
+import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Monta o {@link MovieDetailDocument} de um filme.
+ *
+ * <p>
+ * Quatro consultas com JOIN FETCH (filme com classificação, elenco com tipo, mídias com
+ * tipo e categorias), em vez de percorrer as coleções lazy da entidade, e uma única
+ * serialização com o {@link JsonMapper} da aplicação, de modo que os bytes são idênticos
+ * aos que o conversor HTTP produziria (IDs como string, mesmo envelope
+ * {@link ApiResponse}). O {@code timestamp} do envelope passa a ser o da montagem.
+ * </p>
+ *
+ * <p>
+ * A leitura roda em transação própria no contexto RLS da empresa: o documento é o mesmo
+ * para todos os usuários dela e pode ser montado fora de uma requisição (após o commit
+ * de uma alteração, por exemplo).
+ * </p>
+ */
+@Component
+public class MovieDetailDocumentBuilder {
+
+    private final MovieRepository movieRepository;
+    private final MovieCastRepository movieCastRepository;
+    private final MovieMediaRepository movieMediaRepository;
+    private final MoviesOnCategoryRepository moviesOnCategoryRepository;
+    private final MediaStorage storage;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate loadTransaction;
+
+    public MovieDetailDocumentBuilder(
+            MovieRepository movieRepository,
+            MovieCastRepository movieCastRepository,
+            MovieMediaRepository movieMediaRepository,
+            MoviesOnCategoryRepository moviesOnCategoryRepository,
+            MediaStorage storage,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager) {
+        this.movieRepository = movieRepository;
+        this.movieCastRepository = movieCastRepository;
+        this.movieMediaRepository = movieMediaRepository;
+        this.moviesOnCategoryRepository = moviesOnCategoryRepository;
+        this.storage = storage;
+        this.jsonMapper = jsonMapper;
+
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Documento do filme; vazio se o filme não existe na empresa.
+     */
+    public Optional<MovieDetailDocument> build(long companyId, long movieId) {
+        Optional<MovieDetailResponse> detail = RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                () -> loadTransaction.execute(status -> load(companyId, movieId)));
+        return detail.map(response -> MovieDetailDocument.of(companyId, movieId, response.slug(),
+                jsonMapper.writeValueAsBytes(ApiResponse.success(response, "Filme encontrado"))));
+    }
+
+    /**
+     * ID do filme da empresa com o slug informado.
+     */
+    public Optional<Long> findIdBySlug(long companyId, String slug) {
+        return RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                () -> loadTransaction.execute(status -> movieRepository.findIdBySlug(slug, companyId)));
+    }
+
+    private Optional<MovieDetailResponse> load(long companyId, long movieId) {
+        Optional<Movie> found = movieRepository.findDetailById(movieId, companyId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Movie movie = found.get();
+        AgeRating rating = movie.getAgeRating();
+
+        return Optional.of(new MovieDetailResponse(
+                movie.getId(),
+                movie.getSlug(),
+                movie.getOriginalTitle(),
+                movie.getBrazilTitle(),
+                movie.getDistributorId(),
+                movie.getDurationMinutes(),
+                movie.getCountryOfOrigin(),
+                movie.getProductionYear(),
+                movie.getNational(),
+                movie.getActive(),
+                movie.getSynopsis(),
+                movie.getShortSynopsis(),
+                movie.getWebsite(),
+                movie.getTmdbId(),
+                movie.getImdbId(),
+                movie.getTagsJson(),
+                movie.getWorldwideReleaseDate(),
+                movie.getOriginalLanguage(),
+                rating == null ? null
+                        : new AgeRatingInfo(rating.getId(), rating.getCode(), rating.getName(), rating.getMinimumAge()),
+                moviesOnCategoryRepository.findByMovieIdWithCategory(movieId).stream()
+                        .map(link -> new CategoryInfo(link.getCategory().getId(), link.getCategory().getName(),
+                                link.getCategory().getSlug()))
+                        .toList(),
+                movieCastRepository.findActiveByMovieId(movieId).stream()
+                        .map(cast -> new CastMemberInfo(cast.getId(), cast.getArtistName(), cast.getCharacterName(),
+                                cast.getCastType().getName(), cast.getCreditOrder(), cast.getPhotoUrl()))
+                        .toList(),
+                movieMediaRepository.findActiveByMovieId(movieId).stream()
+                        .map(media -> new MediaInfo(media.getId(), media.getMediaType().getName(), media.getMediaUrl(),
+                                media.getTitle(), media.getDescription(), media.getWidth(), media.getHeight(),
+                                variants(media)))
+                        .toList()));
+    }
+
+    private List<MediaVariantInfo> variants(MovieMedia media) {
+        if (media.getVariantWidths() == null) {
+            return List.of();
+        }
+        return storage.keyOf(media.getMediaUrl())
+                .map(key -> media.getVariantWidths().stream()
+                        .map(width -> new MediaVariantInfo(width,
+                                storage.location(MediaDerivativeProcessor.variantKey(key, width))))
+                        .toList())
+                .orElse(List.of());
+    }
+}
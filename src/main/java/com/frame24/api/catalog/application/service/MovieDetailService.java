@@ -0,0 +1,296 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.domain.readmodel.MovieDetailDocument;
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.MovieChangedEvent;
+import com.frame24.api.common.event.MoviesImportedEvent;
+import com.frame24.api.common.exception.NotFoundException;
+import com.frame24.api.common.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Páginas de detalhes de filmes servidas a partir de documentos pré-serializados.
+ *
+ * <p>
+ * Cache em dois níveis do {@link MovieDetailDocument}: Caffeine em memória, limitado
+ * pelo tamanho em bytes ({@code movie-detail.local.max-bytes}), e Redis compartilhado
+ * entre as instâncias ({@code movie-detail.redis-ttl}). Em regime estável uma página
+ * custa uma consulta ao cache local; uma falta nos dois níveis monta o documento
+ * ({@link MovieDetailDocumentBuilder}) e o grava em ambos.
+ * </p>
+ *
+ * <p>
+ * {@link MovieChangedEvent} remonta o documento após o commit e o grava no Redis antes
+ * de avisar as demais instâncias via {@link CacheInvalidationBus}, que apenas descartam
+ * a cópia local e leem a nova do Redis na próxima requisição. Slugs são resolvidos por
+ * um mapa local {@code empresa:slug -> id}; como o slug pode mudar, o documento
+ * encontrado só vale se o slug dele ainda for o pedido. Filmes de um lote importado
+ * ({@link MoviesImportedEvent}) são apenas descartados, sem remontagem: a próxima
+ * leitura de cada um monta o documento.
+ * </p>
+ *
+ * <p>
+ * Cada filme tem no Redis um contador de geração, incrementado (junto com a remoção do
+ * documento) sempre que o filme muda. Uma leitura que não encontra o documento anota a
+ * geração, monta o documento e só o grava se a geração ainda for a mesma; assim uma
+ * montagem que leu o banco antes de uma alteração não sobrescreve o documento novo.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MovieDetailService {
+
+    private static final String CACHE_NAME = "catalog.movie-detail.local";
+    private static final String KEY_PREFIX = "catalog:movie:detail:";
+    private static final String GENERATION_PREFIX = "catalog:movie:detail-generation:";
+
+    // Executados direto na conexão: o documento é binário e não passa pelo serializador de texto
+    private static final byte[] WRITE_IF_CURRENT_SCRIPT = """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] INVALIDATE_SCRIPT = """
+            local generation = 0
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                generation = redis.call('INCR', KEYS[i + 1])
+                redis.call('PEXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return generation
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final MovieDetailDocumentBuilder documentBuilder;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final Duration redisTtl;
+    private final Cache<Long, MovieDetailDocument> documents;
+    private final Cache<String, Long> slugs;
+    private final Counter redisLoads;
+    private final Counter builds;
+
+    public MovieDetailService(
+            MovieDetailDocumentBuilder documentBuilder,
+            StringRedisTemplate redisTemplate,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${movie-detail.local.max-bytes:67108864}") long localMaxBytes,
+            @Value("${movie-detail.local.ttl:10m}") Duration localTtl,
+            @Value("${movie-detail.redis-ttl:24h}") Duration redisTtl) {
+        this.documentBuilder = documentBuilder;
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.redisTtl = redisTtl;
+
+        this.documents = Caffeine.newBuilder()
+                .maximumWeight(localMaxBytes)
+                .weigher((Long id, MovieDetailDocument document) -> document.weight())
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.slugs = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        this.redisLoads = Counter.builder("catalog.movie.detail.loads")
+                .description("Documentos de filme carregados fora do cache local")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.builds = Counter.builder("catalog.movie.detail.loads")
+                .description("Documentos de filme carregados fora do cache local")
+                .tag("source", "database")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, CACHE_NAME);
+        // A chave é um id ou, para lotes importados, ids separados por vírgula
+        invalidationBus.register(CACHE_NAME, key -> Arrays.stream(key.split(","))
+                .map(Long::valueOf)
+                .forEach(documents::invalidate));
+    }
+
+    /**
+     * Documento do filme, da empresa do usuário.
+     *
+     * @throws NotFoundException se o filme não existe ou é de outra empresa
+     */
+    public MovieDetailDocument getById(Long movieId, UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        MovieDetailDocument document = documents.get(movieId, id -> load(companyId, id));
+        // O cache é compartilhado entre empresas: o RLS não participa de um acerto
+        if (document == null || document.companyId() != companyId) {
+            throw new NotFoundException("Filme não encontrado");
+        }
+        return document;
+    }
+
+    /**
+     * Documento do filme com o slug informado, da empresa do usuário.
+     *
+     * @throws NotFoundException se não há filme com o slug na empresa
+     */
+    public MovieDetailDocument getBySlug(String slug, UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        String slugKey = companyId + ":" + slug;
+
+        Long cachedId = slugs.getIfPresent(slugKey);
+        if (cachedId != null) {
+            MovieDetailDocument document = getById(cachedId, principal);
+            if (slug.equals(document.slug())) {
+                return document;
+            }
+            slugs.invalidate(slugKey);
+        }
+
+        Long movieId = documentBuilder.findIdBySlug(companyId, slug)
+                .orElseThrow(() -> new NotFoundException("Filme não encontrado"));
+        slugs.put(slugKey, movieId);
+        return getById(movieId, principal);
+    }
+
+    /**
+     * Remonta o documento do filme alterado e o publica para as demais instâncias.
+     */
+    @TransactionalEventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        Long movieId = event.movieId();
+        // Antes de montar: leituras em andamento não gravam mais o documento antigo
+        Long generation = invalidateRedis(List.of(movieId));
+        try {
+            Optional<MovieDetailDocument> document = documentBuilder.build(event.companyId(), movieId);
+            builds.increment();
+            if (document.isPresent()) {
+                if (generation != null) {
+                    writeRedis(document.get(), generation);
+                }
+                documents.put(movieId, document.get());
+            } else {
+                documents.invalidate(movieId);
+            }
+        } catch (Exception e) {
+            // Sem documento novo: o antigo já saiu do Redis e a próxima leitura remonta
+            log.warn("Falha ao remontar documento do filme {}: {}", movieId, e.getMessage());
+            documents.invalidate(movieId);
+        }
+        invalidationBus.publish(CACHE_NAME, String.valueOf(movieId));
+    }
+
+    /**
+     * Descarta os documentos dos filmes importados, aqui, no Redis e nas demais instâncias.
+     */
+    @TransactionalEventListener
+    public void onMoviesImported(MoviesImportedEvent event) {
+        List<Long> movieIds = event.movieIds();
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        documents.invalidateAll(movieIds);
+        invalidateRedis(movieIds);
+        invalidationBus.publish(CACHE_NAME, movieIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    private MovieDetailDocument load(Long companyId, Long movieId) {
+        RedisEntry cached = readRedis(movieId);
+        if (cached.document() != null) {
+            redisLoads.increment();
+            return cached.document();
+        }
+
+        Optional<MovieDetailDocument> built = documentBuilder.build(companyId, movieId);
+        builds.increment();
+        if (built.isPresent() && cached.generation() != null) {
+            writeRedis(built.get(), cached.generation());
+        }
+        return built.orElse(null);
+    }
+
+    /**
+     * Documento e geração do filme no Redis; geração {@code null} se o Redis falhou.
+     */
+    private RedisEntry readRedis(Long movieId) {
+        byte[] key = redisKey(movieId);
+        byte[] generationKey = generationKey(movieId);
+        try {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(key, generationKey));
+            byte[] value = values.get(0);
+            byte[] generation = values.get(1);
+            return new RedisEntry(
+                    value == null ? null : MovieDetailDocument.decode(value),
+                    generation == null ? 0L : Long.parseLong(new String(generation, StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.error("Erro ao buscar documento do filme {} no Redis: {}", movieId, e.getMessage());
+            return new RedisEntry(null, null);
+        }
+    }
+
+    /**
+     * Grava o documento se o filme não mudou desde a geração informada.
+     */
+    private void writeRedis(MovieDetailDocument document, long generation) {
+        byte[][] keysAndArgs = {
+                redisKey(document.movieId()),
+                generationKey(document.movieId()),
+                document.encode(),
+                String.valueOf(generation).getBytes(StandardCharsets.UTF_8),
+                String.valueOf(redisTtl.toMillis()).getBytes(StandardCharsets.UTF_8)};
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(WRITE_IF_CURRENT_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs));
+        } catch (Exception e) {
+            log.error("Erro ao gravar documento do filme {} no Redis: {}", document.movieId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Remove os documentos e avança a geração dos filmes; devolve a geração do último
+     * filme, ou {@code null} se o Redis falhou.
+     */
+    private Long invalidateRedis(List<Long> movieIds) {
+        byte[][] keysAndArgs = new byte[movieIds.size() * 2 + 1][];
+        for (int i = 0; i < movieIds.size(); i++) {
+            keysAndArgs[2 * i] = redisKey(movieIds.get(i));
+            keysAndArgs[2 * i + 1] = generationKey(movieIds.get(i));
+        }
+        keysAndArgs[keysAndArgs.length - 1] = String.valueOf(redisTtl.toMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            return redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(INVALIDATE_SCRIPT, ReturnType.INTEGER, movieIds.size() * 2, keysAndArgs));
+        } catch (Exception e) {
+            log.error("Erro ao remover documentos de {} filme(s) do Redis: {}", movieIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] redisKey(Long movieId) {
+        return (KEY_PREFIX + movieId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] generationKey(Long movieId) {
+        return (GENERATION_PREFIX + movieId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record RedisEntry(MovieDetailDocument document, Long generation) {
+    }
+}
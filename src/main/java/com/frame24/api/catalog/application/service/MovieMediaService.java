@@ -0,0 +1,313 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.application.dto.CompleteMediaUploadRequest;
+import com.frame24.api.catalog.application.dto.CreateMediaUploadUrlRequest;
+import com.frame24.api.catalog.application.dto.MediaUploadResponse;
+import com.frame24.api.catalog.application.dto.MediaUploadUrlResponse;
+import com.frame24.api.catalog.application.dto.MovieMediaResponse;
+import com.frame24.api.catalog.application.dto.MovieMediaResponse.Variant;
+import com.frame24.api.catalog.application.service.MediaDerivativeProcessor.MediaIngestJob;
+import com.frame24.api.catalog.infrastructure.repository.MediaTypeRepository;
+import com.frame24.api.catalog.infrastructure.repository.MovieMediaRepository;
+import com.frame24.api.catalog.infrastructure.repository.MovieRepository;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage.PresignedUrl;
+import com.frame24.api.catalog.infrastructure.storage.MediaStorage.StoredObject;
+import com.frame24.api.common.exception.ConflictException;
+import com.frame24.api.common.exception.NotFoundException;
+import com.frame24.api.common.exception.ServiceOverloadedException;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
+import com.frame24.api.common.security.UserPrincipal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Envio e consulta de mídias de filmes (posters, imagens, trailers).
+ *
+ * <p>
+ * Dois caminhos de envio, ambos sem manter o arquivo em memória:
+ * </p>
+ * <ul>
+ * <li>direto ao storage: o cliente pede uma URL pré-assinada, envia o arquivo com um PUT
+ * e conclui o envio. Nenhuma thread da aplicação participa da transferência; é o caminho
+ * para trailers e arquivos grandes ({@code media.upload.max-direct-size});</li>
+ * <li>pela API: o corpo da requisição é repassado ao storage em partes
+ * ({@link MediaStorage#upload}). Ocupa uma thread de requisição durante o envio, então o
+ * número de envios simultâneos é limitado ({@code media.upload.max-concurrent-streams})
+ * e o tamanho também ({@code media.upload.max-stream-size}).</li>
+ * </ul>
+ *
+ * <p>
+ * Nos dois casos o arquivo vai para {@code movies/<empresa>/<filme>/<uuid>/original.<ext>}
+ * e a mídia é reservada (inativa) para o arquivo antes de o processamento (dimensões,
+ * variantes e ativação) seguir em segundo plano no {@link MediaDerivativeProcessor}. A
+ * reserva é única por filme e arquivo, então concluir o mesmo envio duas vezes, mesmo
+ * ao mesmo tempo, resulta em uma única mídia. Downloads usam URLs pré-assinadas válidas por
+ * {@code media.presign.ttl}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MovieMediaService {
+
+    private static final String OVERLOADED_MESSAGE =
+            "Muitos envios de mídia em andamento. Tente novamente em instantes ou use o envio direto";
+
+    /** Tipos aceitos e a extensão gravada no storage. */
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "video/mp4", "mp4",
+            "video/webm", "webm",
+            "video/quicktime", "mov");
+
+    private final MovieRepository movieRepository;
+    private final MediaTypeRepository mediaTypeRepository;
+    private final MovieMediaRepository movieMediaRepository;
+    private final MediaStorage storage;
+    private final MediaDerivativeProcessor processor;
+    private final SnowflakeIdGenerator idGenerator;
+    private final Semaphore streams;
+    private final long maxStreamBytes;
+    private final long maxDirectBytes;
+    private final Duration presignTtl;
+    private final long retryAfterSeconds;
+
+    public MovieMediaService(
+            MovieRepository movieRepository,
+            MediaTypeRepository mediaTypeRepository,
+            MovieMediaRepository movieMediaRepository,
+            MediaStorage storage,
+            MediaDerivativeProcessor processor,
+            SnowflakeIdGenerator idGenerator,
+            MeterRegistry meterRegistry,
+            @Value("${media.upload.max-concurrent-streams:8}") int maxConcurrentStreams,
+            @Value("${media.upload.max-stream-size:200MB}") DataSize maxStreamSize,
+            @Value("${media.upload.max-direct-size:5GB}") DataSize maxDirectSize,
+            @Value("${media.presign.ttl:15m}") Duration presignTtl,
+            @Value("${media.upload.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.movieRepository = movieRepository;
+        this.mediaTypeRepository = mediaTypeRepository;
+        this.movieMediaRepository = movieMediaRepository;
+        this.storage = storage;
+        this.processor = processor;
+        this.idGenerator = idGenerator;
+        this.streams = new Semaphore(maxConcurrentStreams);
+        this.maxStreamBytes = maxStreamSize.toBytes();
+        this.maxDirectBytes = maxDirectSize.toBytes();
+        this.presignTtl = presignTtl;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("media.upload.streams.active", streams, s -> maxConcurrentStreams - s.availablePermits())
+                .description("Envios de mídia pela API em andamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Repassa o corpo da requisição ao storage e enfileira o processamento.
+     *
+     * @throws ServiceOverloadedException se o limite de envios simultâneos ou a fila de
+     *                                    processamento estão cheios
+     */
+    public MediaUploadResponse upload(Long movieId, Long mediaTypeId, String title, String description,
+                                      String contentType, InputStream body, UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        String type = normalize(contentType);
+        String extension = extension(type);
+        validateTarget(companyId, movieId, mediaTypeId);
+        validateTitle(title);
+        processor.checkCapacity();
+
+        if (!streams.tryAcquire()) {
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+        String key = newPrefix(companyId, movieId) + "original." + extension;
+        long size;
+        try {
+            size = storage.upload(key, type, body, maxStreamBytes);
+        } finally {
+            streams.release();
+        }
+
+        MediaIngestJob job;
+        try {
+            job = claim(companyId, movieId, mediaTypeId, key, type, title, description);
+        } catch (RuntimeException e) {
+            storage.delete(key);
+            throw e;
+        }
+        try {
+            processor.submit(job);
+        } catch (ServiceOverloadedException e) {
+            processor.release(job);
+            storage.delete(key);
+            throw e;
+        }
+        log.info("Mídia recebida: filme={}, chave={}, bytes={}", movieId, key, size);
+        return new MediaUploadResponse(key, size, type);
+    }
+
+    /**
+     * URL pré-assinada para envio direto ao storage.
+     */
+    public MediaUploadUrlResponse createUploadUrl(Long movieId, CreateMediaUploadUrlRequest request,
+                                                  UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        String type = normalize(request.contentType());
+        String extension = extension(type);
+        validateTarget(companyId, movieId, request.mediaTypeId());
+        if (request.contentLength() > maxDirectBytes) {
+            throw new ValidationException("contentLength",
+                    "Arquivo maior que o limite de " + maxDirectBytes + " bytes");
+        }
+
+        String key = newPrefix(companyId, movieId) + "original." + extension;
+        PresignedUrl url = storage.presignUpload(key, type, request.contentLength(), presignTtl);
+        return new MediaUploadUrlResponse(key, url.url(), type, request.contentLength(), url.expiresAt());
+    }
+
+    /**
+     * Confere o arquivo enviado direto ao storage e enfileira o processamento.
+     *
+     * @throws NotFoundException se o arquivo não foi enviado
+     * @throws ConflictException  se a mídia do arquivo já foi cadastrada
+     */
+    public MediaUploadResponse complete(Long movieId, CompleteMediaUploadRequest request, UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        validateTarget(companyId, movieId, request.mediaTypeId());
+
+        // A chave vem do cliente: só vale uma gerada para este filme desta empresa
+        String key = request.key();
+        String moviePrefix = moviePrefix(companyId, movieId);
+        int slash = key.lastIndexOf('/');
+        if (!key.startsWith(moviePrefix) || slash <= moviePrefix.length()
+                || key.indexOf('/', moviePrefix.length()) != slash
+                || !key.startsWith("original.", slash + 1)) {
+            throw new ValidationException("key", "Chave de arquivo inválida para o filme");
+        }
+
+        StoredObject stored = storage.head(key)
+                .orElseThrow(() -> new NotFoundException("Arquivo não encontrado no storage"));
+        String type = normalize(stored.contentType());
+        if (!key.endsWith("." + extension(type))) {
+            throw new ValidationException("contentType", "Content-Type do arquivo não confere com o informado");
+        }
+        if (stored.size() > maxDirectBytes) {
+            storage.delete(key);
+            throw new ValidationException("contentLength", "Arquivo maior que o limite de " + maxDirectBytes + " bytes");
+        }
+
+        MediaIngestJob job = claim(companyId, movieId, request.mediaTypeId(), key, type, request.title(),
+                request.description());
+        try {
+            processor.submit(job);
+        } catch (ServiceOverloadedException e) {
+            // O arquivo continua no storage: o cliente pode concluir de novo depois
+            processor.release(job);
+            throw e;
+        }
+        return new MediaUploadResponse(key, stored.size(), type);
+    }
+
+    /**
+     * Mídias ativas do filme, com URLs de download da original e das variantes.
+     */
+    public List<MovieMediaResponse> list(Long movieId, UserPrincipal principal) {
+        if (!movieRepository.existsByIdAndCompanyId(movieId, principal.getCompanyId())) {
+            throw new NotFoundException("Filme não encontrado");
+        }
+        return movieMediaRepository.findActiveByMovieId(movieId).stream()
+                .map(media -> {
+                    Optional<String> key = storage.keyOf(media.getMediaUrl());
+                    PresignedUrl url = key
+                            .map(original -> storage.presignDownload(original, presignTtl))
+                            .orElse(new PresignedUrl(media.getMediaUrl(), null));
+                    List<Variant> variants = key.isEmpty() || media.getVariantWidths() == null
+                            ? List.of()
+                            : media.getVariantWidths().stream()
+                                    .map(width -> {
+                                        PresignedUrl variant = storage.presignDownload(
+                                                MediaDerivativeProcessor.variantKey(key.get(), width), presignTtl);
+                                        return new Variant(width, variant.url(), variant.expiresAt());
+                                    })
+                                    .toList();
+                    return new MovieMediaResponse(media.getId(), media.getMediaType().getName(), url.url(),
+                            url.expiresAt(), media.getTitle(), media.getDescription(), media.getWidth(),
+                            media.getHeight(), variants);
+                })
+                .toList();
+    }
+
+    /**
+     * Reserva o arquivo para uma nova mídia do filme.
+     *
+     * @throws ConflictException se o arquivo já tem mídia no filme
+     */
+    private MediaIngestJob claim(Long companyId, Long movieId, Long mediaTypeId, String key, String contentType,
+                                 String title, String description) {
+        long mediaId = idGenerator.nextId();
+        if (movieMediaRepository.claim(mediaId, movieId, mediaTypeId, storage.location(key), title, description,
+                Instant.now()) == 0) {
+            throw new ConflictException("Envio já concluído");
+        }
+        return new MediaIngestJob(mediaId, companyId, movieId, mediaTypeId, key, contentType, title, description);
+    }
+
+    private void validateTarget(Long companyId, Long movieId, Long mediaTypeId) {
+        if (!movieRepository.existsByIdAndCompanyId(movieId, companyId)) {
+            throw new NotFoundException("Filme não encontrado");
+        }
+        if (mediaTypeId == null || !mediaTypeRepository.existsByIdAndCompanyId(mediaTypeId, companyId)) {
+            throw new ValidationException("mediaTypeId", "Tipo de mídia não encontrado");
+        }
+    }
+
+    private static void validateTitle(String title) {
+        if (title != null && title.length() > 200) {
+            throw new ValidationException("title", "Título deve ter no máximo 200 caracteres");
+        }
+    }
+
+    private static String extension(String contentType) {
+        String extension = EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new ValidationException("contentType", "Tipo de arquivo não suportado: " + contentType
+                    + " (aceitos: " + String.join(", ", EXTENSIONS.keySet().stream().sorted().toList()) + ")");
+        }
+        return extension;
+    }
+
+    /**
+     * Content-Type sem parâmetros ({@code ; charset=...}), em minúsculas.
+     */
+    private static String normalize(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int separator = contentType.indexOf(';');
+        return (separator >= 0 ? contentType.substring(0, separator) : contentType).strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String moviePrefix(Long companyId, Long movieId) {
+        return "movies/" + companyId + "/" + movieId + "/";
+    }
+
+    private static String newPrefix(Long companyId, Long movieId) {
+        return moviePrefix(companyId, movieId) + UUID.randomUUID() + "/";
+    }
+}
@@ -0,0 +1,323 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.application.dto.MovieSearchResponse;
+import com.frame24.api.catalog.domain.search.MovieDocument;
+import com.frame24.api.catalog.domain.search.MovieSearchIndex;
+import com.frame24.api.catalog.domain.search.SearchHit;
+import com.frame24.api.catalog.infrastructure.repository.MovieSearchJdbcRepository;
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.MovieChangedEvent;
+import com.frame24.api.common.event.MoviesImportedEvent;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.UserPrincipal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Busca textual de filmes sobre índices em memória, um por empresa.
+ *
+ * <p>
+ * O índice de uma empresa é montado na primeira consulta (ou na reconstrução feita em
+ * segundo plano após a inicialização, se {@code movie-search.rebuild-on-startup}) e depois
+ * mantido filme a filme: cada {@link MovieChangedEvent} recarrega só o filme alterado,
+ * após o commit, nesta instância e, via {@link CacheInvalidationBus}, nas demais que já
+ * tenham o índice da empresa. Cada lote de uma importação em massa
+ * ({@link MoviesImportedEvent}) recarrega os filmes do lote em uma única leitura.
+ * </p>
+ *
+ * <p>
+ * A montagem roda fora do mapa de índices: a primeira busca registra um
+ * {@link CompletableFuture} para a empresa e monta o índice, e as buscas concorrentes
+ * aguardam o mesmo resultado. Filmes alterados durante a montagem são anotados e
+ * recarregados antes de o índice ser liberado, então nenhuma alteração se perde.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MovieSearchService {
+
+    private static final String CACHE_NAME = "catalog.movie-search.local";
+    private static final int MAX_RESULTS = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final MovieSearchJdbcRepository searchRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate loadTransaction;
+    private final boolean rebuildOnStartup;
+    private final Map<Long, CompanyIndex> indexes = new ConcurrentHashMap<>();
+    private final Timer searchTimer;
+    private final Timer autocompleteTimer;
+
+    public MovieSearchService(
+            MovieSearchJdbcRepository searchRepository,
+            CacheInvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${movie-search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.searchRepository = searchRepository;
+        this.invalidationBus = invalidationBus;
+        this.rebuildOnStartup = rebuildOnStartup;
+
+        // Após o commit a transação do evento já terminou: a releitura precisa de uma própria
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        this.searchTimer = Timer.builder("catalog.search.duration")
+                .description("Tempo de consulta ao índice de busca de filmes")
+                .tag("operation", "search")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        this.autocompleteTimer = Timer.builder("catalog.search.duration")
+                .description("Tempo de consulta ao índice de busca de filmes")
+                .tag("operation", "autocomplete")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        Gauge.builder("catalog.search.indexed.movies", indexes,
+                        map -> map.values().stream()
+                                .map(CompanyIndex::ready)
+                                .filter(Objects::nonNull)
+                                .mapToInt(MovieSearchIndex::size)
+                                .sum())
+                .description("Filmes nos índices de busca em memória")
+                .register(meterRegistry);
+
+        invalidationBus.register(CACHE_NAME, this::onRemoteChange);
+    }
+
+    /**
+     * Busca em títulos, elenco, categorias, tags e sinopse, tolerando erros de digitação.
+     */
+    public List<MovieSearchResponse> search(String query, int limit, UserPrincipal principal) {
+        validateQuery(query);
+        MovieSearchIndex index = index(principal.getCompanyId());
+        List<SearchHit> hits = searchTimer.record(() -> index.search(query, clamp(limit)));
+        return hits.stream().map(MovieSearchResponse::from).toList();
+    }
+
+    /**
+     * Sugestões de títulos para o texto digitado até o momento.
+     */
+    public List<MovieSearchResponse> autocomplete(String query, int limit, UserPrincipal principal) {
+        validateQuery(query);
+        MovieSearchIndex index = index(principal.getCompanyId());
+        List<SearchHit> hits = autocompleteTimer.record(() -> index.autocomplete(query, clamp(limit)));
+        return hits.stream().map(MovieSearchResponse::from).toList();
+    }
+
+    /**
+     * Atualiza o filme no índice local e avisa as demais instâncias.
+     */
+    @TransactionalEventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        moviesChanged(event.companyId(), List.of(event.movieId()));
+    }
+
+    /**
+     * Atualiza os filmes de um lote importado, aqui e nas demais instâncias; o restante do
+     * índice da empresa continua valendo durante a importação.
+     */
+    @TransactionalEventListener
+    public void onMoviesImported(MoviesImportedEvent event) {
+        if (!event.movieIds().isEmpty()) {
+            moviesChanged(event.companyId(), event.movieIds());
+        }
+    }
+
+    private void moviesChanged(Long companyId, List<Long> movieIds) {
+        reindex(companyId, movieIds);
+        invalidationBus.publish(CACHE_NAME, companyId + ":" + movieIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Reconstrói em segundo plano os índices de todas as empresas, para que a primeira
+     * busca de cada uma não pague a carga.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("movie-search-rebuild").start(this::rebuildAll);
+    }
+
+    private void rebuildAll() {
+        List<Long> companyIds;
+        try {
+            companyIds = RlsContextHolder.callAs(RlsContext.system(), searchRepository::findCompanyIds);
+        } catch (Exception e) {
+            log.error("Falha ao listar empresas para o índice de busca: {}", e.getMessage());
+            return;
+        }
+
+        long start = System.nanoTime();
+        int movies = 0;
+        for (Long companyId : companyIds) {
+            try {
+                movies += index(companyId).size();
+            } catch (Exception e) {
+                log.warn("Falha ao montar o índice de busca da empresa {}: {}", companyId, e.getMessage());
+            }
+        }
+        log.info("Índices de busca de filmes montados: empresas={}, filmes={}, tempo={}ms",
+                companyIds.size(), movies, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void validateQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("q", "Informe o texto da busca");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException("q", "Texto da busca deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+
+    /**
+     * Índice da empresa; monta-o nesta thread se ninguém o estiver montando, senão aguarda
+     * a montagem em andamento.
+     */
+    private MovieSearchIndex index(Long companyId) {
+        CompanyIndex entry = indexes.get(companyId);
+        if (entry == null) {
+            CompanyIndex created = new CompanyIndex();
+            entry = indexes.putIfAbsent(companyId, created);
+            if (entry == null) {
+                entry = created;
+                build(companyId, created);
+            }
+        }
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void build(Long companyId, CompanyIndex entry) {
+        MovieSearchIndex index;
+        try {
+            List<MovieDocument> documents = RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                    () -> searchRepository.loadDocuments(companyId));
+            index = MovieSearchIndex.of(documents);
+        } catch (RuntimeException e) {
+            // A próxima busca tenta de novo
+            indexes.remove(companyId, entry);
+            entry.future.completeExceptionally(e);
+            return;
+        }
+        Set<Long> changed;
+        while (!(changed = entry.publishOrDrain(index)).isEmpty()) {
+            apply(companyId, entry, index, changed);
+        }
+    }
+
+    private void onRemoteChange(String key) {
+        int separator = key.indexOf(':');
+        List<Long> movieIds = Arrays.stream(key.substring(separator + 1).split(","))
+                .map(Long::valueOf)
+                .toList();
+        reindex(Long.valueOf(key.substring(0, separator)), movieIds);
+    }
+
+    /**
+     * Recarrega os filmes no índice da empresa, se esta instância já o tiver montado; do
+     * contrário a próxima montagem já lê o estado atual.
+     */
+    private void reindex(Long companyId, Collection<Long> movieIds) {
+        CompanyIndex entry = indexes.get(companyId);
+        if (entry == null) {
+            return;
+        }
+        MovieSearchIndex index = entry.readyOrDefer(movieIds);
+        if (index != null) {
+            apply(companyId, entry, index, movieIds);
+        }
+    }
+
+    private void apply(Long companyId, CompanyIndex entry, MovieSearchIndex index, Collection<Long> movieIds) {
+        try {
+            List<MovieDocument> documents = RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                    () -> loadTransaction.execute(status -> searchRepository.loadDocuments(movieIds)));
+            Set<Long> missing = new HashSet<>(movieIds);
+            for (MovieDocument document : documents) {
+                index.upsert(document);
+                missing.remove(document.movieId());
+            }
+            missing.forEach(index::remove);
+        } catch (Exception e) {
+            // Índice possivelmente desatualizado: descarta e remonta na próxima busca
+            indexes.remove(companyId, entry);
+            log.warn("Falha ao reindexar {} filme(s) da empresa {}: {}", movieIds.size(), companyId, e.getMessage());
+        }
+    }
+
+    /**
+     * Índice de uma empresa, pronto ou em montagem.
+     */
+    private static final class CompanyIndex {
+
+        private final CompletableFuture<MovieSearchIndex> future = new CompletableFuture<>();
+        private final Set<Long> changedDuringBuild = new HashSet<>();
+        private volatile MovieSearchIndex ready;
+
+        MovieSearchIndex ready() {
+            return ready;
+        }
+
+        /**
+         * Índice pronto, ou {@code null} se ainda em montagem; nesse caso os filmes são anotados
+         * para ser recarregado ao fim da montagem.
+         */
+        synchronized MovieSearchIndex readyOrDefer(Collection<Long> movieIds) {
+            if (ready == null) {
+                changedDuringBuild.addAll(movieIds);
+            }
+            return ready;
+        }
+
+        /**
+         * Libera o índice se nenhum filme mudou durante a montagem; senão devolve (e limpa)
+         * os filmes a recarregar antes de tentar de novo.
+         */
+        synchronized Set<Long> publishOrDrain(MovieSearchIndex index) {
+            if (changedDuringBuild.isEmpty()) {
+                ready = index;
+                future.complete(index);
+                return Set.of();
+            }
+            Set<Long> changed = Set.copyOf(changedDuringBuild);
+            changedDuringBuild.clear();
+            return changed;
+        }
+    }
+}
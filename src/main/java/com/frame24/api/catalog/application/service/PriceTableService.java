@@ -0,0 +1,224 @@
+package com.frame24.api.catalog.application.service;
+
+import com.frame24.api.catalog.application.dto.ResolvePricesRequest;
+import com.frame24.api.catalog.application.dto.ResolvePricesResponse;
+import com.frame24.api.catalog.application.dto.ResolvedPriceResponse;
+import com.frame24.api.catalog.domain.pricing.PriceSource;
+import com.frame24.api.catalog.domain.pricing.PriceTable;
+import com.frame24.api.catalog.domain.pricing.PriceTable.PricedItem;
+import com.frame24.api.catalog.infrastructure.repository.PriceTableJdbcRepository;
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.PriceChangedEvent;
+import com.frame24.api.common.exception.NotFoundException;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Preços em vigor de produtos e combos para o PDV, a partir de tabelas compiladas por
+ * complexo ({@link PriceTable}).
+ *
+ * <p>
+ * A tabela de um complexo é lida e compilada na primeira consulta, depois de conferir que
+ * o complexo pertence à empresa; depois, toda precificação de carrinho é resolvida em
+ * memória. No máximo {@code price-table.max-complexes} tabelas ficam carregadas. A cada
+ * {@code price-table.transition-check-ms}:
+ * </p>
+ * <ul>
+ * <li>tabelas cuja próxima virada de vigência já chegou são recompiladas a partir dos
+ * dados já carregados, sem acesso ao banco;</li>
+ * <li>tabelas carregadas há mais de {@code price-table.max-age} são relidas do banco,
+ * limitando o tempo de uma tabela desatualizada caso uma invalidação se perca.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link PriceChangedEvent} relê, após o commit, as tabelas já carregadas da empresa,
+ * nesta instância e, via {@link CacheInvalidationBus}, nas demais. Em todos os casos a
+ * tabela nova substitui a anterior de uma vez: uma consulta vê a tabela antiga ou a
+ * nova, nunca uma mistura.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PriceTableService {
+
+    private static final String CACHE_NAME = "catalog.price-table.local";
+
+    private final PriceTableJdbcRepository priceTableRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate loadTransaction;
+    private final ZoneId zone;
+    private final Duration maxAge;
+    private final Map<TableKey, LoadedTable> tables;
+    private final Timer loadTimer;
+
+    public PriceTableService(
+            PriceTableJdbcRepository priceTableRepository,
+            CacheInvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${price-table.zone:America/Sao_Paulo}") ZoneId zone,
+            @Value("${price-table.max-age:15m}") Duration maxAge,
+            @Value("${price-table.max-complexes:1000}") long maxComplexes) {
+        this.priceTableRepository = priceTableRepository;
+        this.invalidationBus = invalidationBus;
+        this.zone = zone;
+        this.maxAge = maxAge;
+        this.tables = Caffeine.newBuilder()
+                .maximumSize(maxComplexes)
+                .<TableKey, LoadedTable>build()
+                .asMap();
+
+        // Também chamado após o commit de outra transação: a leitura precisa de uma própria
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        this.loadTimer = Timer.builder("price.table.load")
+                .description("Tempo de leitura e compilação da tabela de preços de um complexo")
+                .register(meterRegistry);
+        Gauge.builder("price.table.complexes", tables, Map::size)
+                .description("Tabelas de preço de complexos em memória")
+                .register(meterRegistry);
+
+        invalidationBus.register(CACHE_NAME, key -> reloadCompany(Long.valueOf(key)));
+    }
+
+    /**
+     * Preços em centavos dos produtos ou combos, na ordem dos ids;
+     * {@link PriceTable#NOT_FOUND} para itens sem preço em vigor no complexo.
+     *
+     * @throws NotFoundException se o complexo não existe ou é de outra empresa
+     */
+    public long[] resolvePrices(Long companyId, Long complexId, long[] ids) {
+        return table(companyId, complexId).resolvePrices(ids);
+    }
+
+    /**
+     * Preços em vigor dos itens pedidos, por id e por código lido no PDV.
+     *
+     * @throws NotFoundException se o complexo não existe ou é de outra empresa
+     */
+    public ResolvePricesResponse resolve(ResolvePricesRequest request, UserPrincipal principal) {
+        PriceTable table = table(principal.getCompanyId(), request.complexId());
+        List<Long> ids = request.ids() == null ? List.of() : request.ids();
+        List<String> codes = request.codes() == null ? List.of() : request.codes();
+
+        List<ResolvedPriceResponse> items = new ArrayList<>(ids.size() + codes.size());
+        List<Long> missingIds = new ArrayList<>();
+        List<String> missingCodes = new ArrayList<>();
+        for (Long id : ids) {
+            PricedItem item = table.find(id);
+            if (item != null) {
+                items.add(ResolvedPriceResponse.from(item));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        for (String code : codes) {
+            PricedItem item = table.findByCode(code.strip());
+            if (item != null) {
+                items.add(ResolvedPriceResponse.from(item));
+            } else {
+                missingCodes.add(code);
+            }
+        }
+        return new ResolvePricesResponse(request.complexId(), items, missingIds, missingCodes,
+                table.nextTransition());
+    }
+
+    /**
+     * Relê as tabelas já carregadas da empresa nesta e nas demais instâncias.
+     */
+    @TransactionalEventListener
+    public void onPriceChanged(PriceChangedEvent event) {
+        reloadCompany(event.companyId());
+        invalidationBus.publish(CACHE_NAME, String.valueOf(event.companyId()));
+    }
+
+    /**
+     * Aplica viradas de vigência e relê tabelas antigas.
+     */
+    @Scheduled(fixedDelayString = "${price-table.transition-check-ms:1000}")
+    public void advance() {
+        Instant now = Instant.now();
+        tables.forEach((key, loaded) -> {
+            if (loaded.loadedAt().plus(maxAge).isBefore(now)) {
+                reload(key);
+            } else if (loaded.table().isDue(now)) {
+                PriceTable next = loaded.table().recompile(now);
+                tables.replace(key, loaded, new LoadedTable(next, loaded.loadedAt()));
+                log.debug("Tabela de preços recompilada: complexo={}, itens={}, próxima virada={}",
+                        key.complexId(), next.size(), next.nextTransition());
+            }
+        });
+    }
+
+    private PriceTable table(Long companyId, Long complexId) {
+        return tables.computeIfAbsent(new TableKey(companyId, complexId), this::load).table();
+    }
+
+    private void reloadCompany(Long companyId) {
+        for (TableKey key : List.copyOf(tables.keySet())) {
+            if (key.companyId() == companyId) {
+                reload(key);
+            }
+        }
+    }
+
+    private void reload(TableKey key) {
+        try {
+            tables.put(key, load(key));
+        } catch (Exception e) {
+            // Sem tabela nova: descarta a antiga para forçar a leitura na próxima consulta
+            tables.remove(key);
+            log.warn("Falha ao recarregar tabela de preços do complexo {}: {}", key.complexId(), e.getMessage());
+        }
+    }
+
+    private LoadedTable load(TableKey key) {
+        return loadTimer.record(() -> {
+            Instant now = Instant.now();
+            PriceSource source = RlsContextHolder.callAs(RlsContext.forCompany(key.companyId()),
+                    () -> loadTransaction.execute(status ->
+                            priceTableRepository.complexExists(key.companyId(), key.complexId())
+                                    ? priceTableRepository.load(key.companyId(), key.complexId(), now)
+                                    : null));
+            if (source == null) {
+                throw new NotFoundException("Complexo não encontrado");
+            }
+            PriceTable table = PriceTable.compile(source, zone, now);
+            log.debug("Tabela de preços compilada: complexo={}, itens={}, próxima virada={}",
+                    key.complexId(), table.size(), table.nextTransition());
+            return new LoadedTable(table, now);
+        });
+    }
+
+    /**
+     * A empresa faz parte da chave: o id do complexo vem da requisição.
+     */
+    private record TableKey(long companyId, long complexId) {
+    }
+
+    private record LoadedTable(PriceTable table, Instant loadedAt) {
+    }
+}
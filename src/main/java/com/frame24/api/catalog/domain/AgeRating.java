@@ -1,6 +1,6 @@
 package com.frame24.api.catalog.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -15,10 +15,10 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
-@EntityListeners(SnowflakeEntityListener.class)
 @Table(name = "age_ratings", schema = "catalog")
 public class AgeRating {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
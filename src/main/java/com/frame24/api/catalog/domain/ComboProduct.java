@@ -1,6 +1,6 @@
 package com.frame24.api.catalog.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -12,10 +12,10 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @Setter
 @Entity
-@EntityListeners(SnowflakeEntityListener.class)
 @Table(name = "combo_products", schema = "catalog")
 public class ComboProduct {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
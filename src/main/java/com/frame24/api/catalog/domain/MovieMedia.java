@@ -1,24 +1,27 @@
 package com.frame24.api.catalog.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.List;
 
 @Getter
 @Setter
 @Entity
-@EntityListeners(SnowflakeEntityListener.class)
 @Table(name = "movie_media", schema = "catalog")
 public class MovieMedia {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -48,6 +51,14 @@ public class MovieMedia {
     @Column(name = "height")
     private Integer height;
 
+    /**
+     * Larguras das variantes JPEG geradas ao lado da original
+     * ({@code <prefixo>/w<largura>.jpg}); nulo para vídeos e URLs externas.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "variant_widths")
+    private List<Integer> variantWidths;
+
     @ColumnDefault("true")
     @Column(name = "active")
     private Boolean active;
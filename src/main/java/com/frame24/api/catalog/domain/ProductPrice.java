@@ -1,6 +1,6 @@
 package com.frame24.api.catalog.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -15,10 +15,10 @@ import java.time.Instant;
 @Getter
 @Setter
 @Entity
-@EntityListeners(SnowflakeEntityListener.class)
 @Table(name = "product_prices", schema = "catalog")
 public class ProductPrice {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
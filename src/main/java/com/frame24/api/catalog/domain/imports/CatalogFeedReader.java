@@ -0,0 +1,22 @@
+package com.frame24.api.catalog.domain.imports;
+
+import java.io.Closeable;
+
+/**
+ * Leitura sequencial de um feed de catálogo, um registro por vez, sem carregar o feed
+ * inteiro em memória.
+ *
+ * <p>
+ * Erros em um registro (campo com tipo errado, JSON inválido dentro de um elemento) são
+ * devolvidos no próprio {@link FeedRow} e a leitura continua no próximo. Erros que
+ * impedem seguir (cabeçalho sem colunas obrigatórias, aspas não fechadas, estrutura JSON
+ * quebrada) lançam exceção.
+ * </p>
+ */
+public interface CatalogFeedReader extends Closeable {
+
+    /**
+     * Próximo registro; nulo no fim do feed.
+     */
+    FeedRow next();
+}
@@ -0,0 +1,314 @@
+package com.frame24.api.catalog.domain.imports;
+
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedCast;
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedMedia;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Feed CSV (RFC 4180, UTF-8), lido registro a registro.
+ *
+ * <p>
+ * A primeira linha é o cabeçalho, com os nomes dos campos de {@link FeedMovie} em
+ * qualquer ordem; colunas desconhecidas são ignoradas. O separador é vírgula ou, se o
+ * cabeçalho só tiver ponto e vírgula, ponto e vírgula. Campos entre aspas podem conter
+ * separadores, quebras de linha e aspas duplicadas ({@code ""}).
+ * </p>
+ *
+ * <p>
+ * Elenco e mídias vão em uma coluna cada, com itens separados por {@code |}:
+ * {@code cast} como {@code tipo:artista[:personagem]} e {@code media} como
+ * {@code tipo:url}. Datas em {@code aaaa-mm-dd} ou {@code dd/mm/aaaa}; booleanos como
+ * {@code true/false}, {@code sim/não} ou {@code 1/0}.
+ * </p>
+ */
+public final class CsvFeedReader implements CatalogFeedReader {
+
+    /** Limite de um registro: uma aspa sem par não pode consumir o arquivo inteiro. */
+    private static final int MAX_RECORD_CHARS = 1 << 20;
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private final Reader reader;
+    private final char[] buffer = new char[16 * 1024];
+    private final StringBuilder field = new StringBuilder(256);
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int position;
+    private int limit;
+    private int pushback = -2;
+    private char delimiter = ',';
+    private int rowNumber;
+
+    /**
+     * Lê o cabeçalho do feed.
+     *
+     * @throws IllegalArgumentException se o feed está vazio ou faltam colunas obrigatórias
+     */
+    public CsvFeedReader(InputStream in) {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        skipByteOrderMark();
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("Feed CSV vazio");
+        }
+        if (header.size() == 1 && header.getFirst().indexOf(';') >= 0) {
+            delimiter = ';';
+            header = List.of(header.getFirst().split(";", -1));
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).strip(), i);
+        }
+        if (!columns.containsKey("originalTitle") || !columns.containsKey("durationMinutes")) {
+            throw new IllegalArgumentException("Cabeçalho do CSV deve ter as colunas originalTitle e durationMinutes");
+        }
+        if (!columns.containsKey("tmdbId") && !columns.containsKey("imdbId") && !columns.containsKey("ancineNumber")) {
+            throw new IllegalArgumentException("Cabeçalho do CSV deve ter ao menos uma das colunas tmdbId, imdbId "
+                    + "ou ancineNumber");
+        }
+    }
+
+    @Override
+    public FeedRow next() {
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.getFirst().isBlank());
+
+        rowNumber++;
+        List<String> errors = new ArrayList<>(0);
+        Row row = new Row(values, errors);
+        FeedMovie movie = new FeedMovie(
+                row.text("tmdbId"),
+                row.text("imdbId"),
+                row.text("ancineNumber"),
+                row.text("originalTitle"),
+                row.text("brazilTitle"),
+                row.integer("durationMinutes"),
+                row.text("countryOfOrigin"),
+                row.integer("productionYear"),
+                row.bool("national"),
+                row.text("synopsis"),
+                row.text("shortSynopsis"),
+                row.text("website"),
+                row.date("worldwideReleaseDate"),
+                row.text("originalLanguage"),
+                row.text("ageRating"),
+                row.cast(),
+                row.media());
+        return errors.isEmpty() ? FeedRow.of(rowNumber, movie) : FeedRow.invalid(rowNumber, String.join("; ", errors));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Valores de um registro, por nome de coluna; erros de conversão vão para a lista.
+     */
+    private final class Row {
+        private final List<String> values;
+        private final List<String> errors;
+
+        Row(List<String> values, List<String> errors) {
+            this.values = values;
+            this.errors = errors;
+        }
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).strip();
+            return value.isEmpty() ? null : value;
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                errors.add(column + ": número inválido '" + value + "'");
+                return null;
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "sim", "s", "1" -> Boolean.TRUE;
+                case "false", "não", "nao", "n", "0" -> Boolean.FALSE;
+                default -> {
+                    errors.add(column + ": booleano inválido '" + value + "'");
+                    yield null;
+                }
+            };
+        }
+
+        LocalDate date(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return value.indexOf('/') >= 0 ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add(column + ": data inválida '" + value + "'");
+                return null;
+            }
+        }
+
+        List<FeedCast> cast() {
+            String value = text("cast");
+            if (value == null) {
+                return List.of();
+            }
+            List<FeedCast> cast = new ArrayList<>();
+            for (String item : value.split("\\|")) {
+                if (item.isBlank()) {
+                    continue;
+                }
+                String[] parts = item.split(":", 3);
+                if (parts.length < 2) {
+                    errors.add("cast: item inválido '" + item.strip() + "' (esperado tipo:artista[:personagem])");
+                    continue;
+                }
+                cast.add(new FeedCast(parts[0].strip(), parts[1].strip(),
+                        parts.length > 2 ? parts[2].strip() : null, cast.size() + 1, null));
+            }
+            return cast;
+        }
+
+        List<FeedMedia> media() {
+            String value = text("media");
+            if (value == null) {
+                return List.of();
+            }
+            List<FeedMedia> media = new ArrayList<>();
+            for (String item : value.split("\\|")) {
+                if (item.isBlank()) {
+                    continue;
+                }
+                String[] parts = item.split(":", 2);
+                if (parts.length < 2) {
+                    errors.add("media: item inválido '" + item.strip() + "' (esperado tipo:url)");
+                    continue;
+                }
+                media.add(new FeedMedia(parts[0].strip(), parts[1].strip(), null, null, null, null));
+            }
+            return media;
+        }
+    }
+
+    /**
+     * Próximo registro (campos sem tratamento); nulo no fim do arquivo.
+     */
+    private List<String> readRecord() {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(Math.max(columns.size(), 8));
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int chars = 0;
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    throw new IllegalArgumentException("Aspas não fechadas no registro " + (rowNumber + 1));
+                }
+                values.add(field.toString());
+                return values;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == delimiter) {
+                values.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushback = next;
+                    }
+                }
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) c);
+            }
+            if (++chars > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("Registro " + (rowNumber + 1) + " maior que o limite de "
+                        + MAX_RECORD_CHARS + " caracteres");
+            }
+            c = read();
+        }
+    }
+
+    private void skipByteOrderMark() {
+        int first = read();
+        if (first != '\uFEFF') {
+            pushback = first;
+        }
+    }
+
+    private int read() {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        if (position == limit) {
+            try {
+                limit = reader.read(buffer, 0, buffer.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o feed", e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
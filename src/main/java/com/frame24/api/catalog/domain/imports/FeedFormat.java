@@ -0,0 +1,37 @@
+package com.frame24.api.catalog.domain.imports;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Formatos de feed aceitos na importação de catálogo.
+ */
+public enum FeedFormat {
+
+    CSV("csv", "text/csv"),
+    JSON("json", "application/json");
+
+    private final String extension;
+    private final String contentType;
+
+    FeedFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public CatalogFeedReader open(InputStream in, JsonMapper jsonMapper) {
+        return switch (this) {
+            case CSV -> new CsvFeedReader(in);
+            case JSON -> new JsonFeedReader(in, jsonMapper);
+        };
+    }
+}
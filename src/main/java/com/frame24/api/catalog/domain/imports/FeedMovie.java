@@ -0,0 +1,54 @@
+package com.frame24.api.catalog.domain.imports;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filme como vem no feed da distribuidora, antes de validação e resolução de
+ * referências. No JSON, cada elemento tem estes campos; no CSV, as colunas têm os mesmos
+ * nomes ({@link CsvFeedReader}).
+ *
+ * @param ageRating código da classificação indicativa (ex.: "L", "14")
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FeedMovie(
+        String tmdbId,
+        String imdbId,
+        String ancineNumber,
+        String originalTitle,
+        String brazilTitle,
+        Integer durationMinutes,
+        String countryOfOrigin,
+        Integer productionYear,
+        Boolean national,
+        String synopsis,
+        String shortSynopsis,
+        String website,
+        LocalDate worldwideReleaseDate,
+        String originalLanguage,
+        String ageRating,
+        List<FeedCast> cast,
+        List<FeedMedia> media) {
+
+    /**
+     * Integrante do elenco.
+     *
+     * @param type  nome do tipo de elenco (ex.: "Diretor", "Ator")
+     * @param order ordem nos créditos; se ausente, a posição na lista
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record FeedCast(String type, String artist, String character, Integer order, String photoUrl) {
+    }
+
+    /**
+     * Mídia externa (poster, trailer) referenciada por URL.
+     *
+     * @param type nome do tipo de mídia (ex.: "Poster", "Trailer")
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record FeedMedia(String type, String url, String title, String description, Integer width,
+                            Integer height) {
+    }
+}
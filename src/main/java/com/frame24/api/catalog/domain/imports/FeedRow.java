@@ -0,0 +1,17 @@
+package com.frame24.api.catalog.domain.imports;
+
+/**
+ * Registro lido do feed: o filme ou, se o registro não pôde ser interpretado, o erro.
+ *
+ * @param rowNumber posição do registro no feed, a partir de 1 (sem o cabeçalho do CSV)
+ */
+public record FeedRow(int rowNumber, FeedMovie movie, String error) {
+
+    public static FeedRow of(int rowNumber, FeedMovie movie) {
+        return new FeedRow(rowNumber, movie, null);
+    }
+
+    public static FeedRow invalid(int rowNumber, String error) {
+        return new FeedRow(rowNumber, null, error);
+    }
+}
@@ -0,0 +1,42 @@
+package com.frame24.api.catalog.domain.imports;
+
+import java.time.Instant;
+
+/**
+ * Importação de catálogo ({@code catalog.import_jobs}).
+ *
+ * @param sourceKey     chave do feed no storage
+ * @param processedRows registros do feed já gravados (inclusive os com erro); a retomada
+ *                      continua a partir do seguinte
+ * @param bytesRead     bytes do feed lidos até o último lote gravado
+ */
+public record ImportJob(
+        long id,
+        long companyId,
+        long distributorId,
+        FeedFormat format,
+        String sourceKey,
+        long sourceSize,
+        ImportJobStatus status,
+        int processedRows,
+        int insertedRows,
+        int updatedRows,
+        int failedRows,
+        long bytesRead,
+        String errorMessage,
+        Long createdBy,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        Instant heartbeatAt) {
+
+    /**
+     * Fração do feed já processada, de 0 a 1.
+     */
+    public double progress() {
+        if (status == ImportJobStatus.COMPLETED) {
+            return 1.0;
+        }
+        return sourceSize <= 0 ? 0.0 : Math.min(1.0, (double) bytesRead / sourceSize);
+    }
+}
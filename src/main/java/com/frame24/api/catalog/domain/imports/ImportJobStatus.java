@@ -0,0 +1,18 @@
+package com.frame24.api.catalog.domain.imports;
+
+/**
+ * Situação de uma importação de catálogo.
+ */
+public enum ImportJobStatus {
+
+    /** Aguardando um worker (nova ou retomada). */
+    PENDING,
+
+    /** Em processamento; o worker renova {@code heartbeat_at} a cada lote. */
+    RUNNING,
+
+    COMPLETED,
+
+    /** Interrompida por erro do feed ou da gravação; pode ser retomada do último lote. */
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.frame24.api.catalog.domain.imports;
+
+/**
+ * Registro do feed que não foi importado.
+ *
+ * @param externalId chave externa do filme, quando o registro chegou a ser lido
+ */
+public record ImportRowError(int rowNumber, String externalId, String message) {
+}
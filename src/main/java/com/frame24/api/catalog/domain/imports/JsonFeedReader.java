@@ -0,0 +1,44 @@
+package com.frame24.api.catalog.domain.imports;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Feed JSON: um array de filmes ou uma sequência de objetos (um por linha, NDJSON), lido
+ * elemento a elemento pelo parser de streaming do Jackson.
+ *
+ * <p>
+ * Um elemento com campo de tipo errado vira um registro com erro; o iterador pula até o
+ * fim do elemento e segue no próximo.
+ * </p>
+ */
+public final class JsonFeedReader implements CatalogFeedReader {
+
+    private final MappingIterator<FeedMovie> values;
+    private int rowNumber;
+
+    public JsonFeedReader(InputStream in, JsonMapper jsonMapper) {
+        this.values = jsonMapper.readerFor(FeedMovie.class).readValues(in);
+    }
+
+    @Override
+    public FeedRow next() {
+        if (!values.hasNextValue()) {
+            return null;
+        }
+        rowNumber++;
+        try {
+            return FeedRow.of(rowNumber, values.nextValue());
+        } catch (JacksonException e) {
+            return FeedRow.invalid(rowNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        values.close();
+    }
+}
@@ -0,0 +1,200 @@
+package com.frame24.api.catalog.domain.imports;
+
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedCast;
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedMedia;
+import com.frame24.api.catalog.domain.search.TextNormalizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filme do feed validado e com as referências resolvidas, pronto para gravação.
+ *
+ * <p>
+ * {@link #of} aplica os limites das colunas de {@code catalog.movies},
+ * {@code movie_cast} e {@code movie_media} e exige ao menos uma chave externa
+ * ({@code tmdbId}, {@code imdbId} ou {@code ancineNumber}); todos os problemas do
+ * registro são reunidos em uma única mensagem.
+ * </p>
+ */
+public record MovieImportRow(
+        int rowNumber,
+        String tmdbId,
+        String imdbId,
+        String ancineNumber,
+        String originalTitle,
+        String brazilTitle,
+        int durationMinutes,
+        String countryOfOrigin,
+        Integer productionYear,
+        Boolean national,
+        String synopsis,
+        String shortSynopsis,
+        String website,
+        LocalDate worldwideReleaseDate,
+        String originalLanguage,
+        Long ageRatingId,
+        List<CastRow> cast,
+        List<MediaRow> media) {
+
+    private static final int MAX_SLUG_BASE = 180;
+
+    public record CastRow(long castTypeId, String artistName, String characterName, int creditOrder,
+                          String photoUrl) {
+    }
+
+    public record MediaRow(long mediaTypeId, String url, String title, String description, Integer width,
+                           Integer height) {
+    }
+
+    /**
+     * Valida o filme do feed e resolve as referências.
+     *
+     * @throws IllegalArgumentException com os problemas do registro, separados por "; "
+     */
+    public static MovieImportRow of(int rowNumber, FeedMovie movie, ReferenceData references) {
+        if (movie == null) {
+            throw new IllegalArgumentException("Registro vazio");
+        }
+        List<String> errors = new ArrayList<>(0);
+
+        String tmdbId = text(movie.tmdbId(), "tmdbId", 50, errors);
+        String imdbId = text(movie.imdbId(), "imdbId", 20, errors);
+        String ancineNumber = text(movie.ancineNumber(), "ancineNumber", 50, errors);
+        if (tmdbId == null && imdbId == null && ancineNumber == null) {
+            errors.add("Informe tmdbId, imdbId ou ancineNumber");
+        }
+        String originalTitle = text(movie.originalTitle(), "originalTitle", 300, errors);
+        if (originalTitle == null) {
+            errors.add("originalTitle é obrigatório");
+        }
+        if (movie.durationMinutes() == null || movie.durationMinutes() <= 0) {
+            errors.add("durationMinutes deve ser positivo");
+        }
+        if (movie.productionYear() != null && (movie.productionYear() < 1888 || movie.productionYear() > 2100)) {
+            errors.add("productionYear inválido: " + movie.productionYear());
+        }
+
+        Long ageRatingId = null;
+        if (movie.ageRating() != null && !movie.ageRating().isBlank()) {
+            ageRatingId = references.ageRating(movie.ageRating());
+            if (ageRatingId == null) {
+                errors.add("Classificação indicativa desconhecida: " + movie.ageRating());
+            }
+        }
+
+        List<CastRow> cast = new ArrayList<>(movie.cast() == null ? 0 : movie.cast().size());
+        if (movie.cast() != null) {
+            for (FeedCast member : movie.cast()) {
+                if (member == null) {
+                    continue;
+                }
+                Long castTypeId = references.castType(member.type());
+                String artist = text(member.artist(), "cast.artist", 200, errors);
+                if (castTypeId == null) {
+                    errors.add("Tipo de elenco desconhecido: " + member.type());
+                } else if (artist == null) {
+                    errors.add("cast.artist é obrigatório");
+                } else {
+                    cast.add(new CastRow(castTypeId, artist,
+                            text(member.character(), "cast.character", 200, errors),
+                            member.order() != null ? member.order() : cast.size() + 1,
+                            text(member.photoUrl(), "cast.photoUrl", 500, errors)));
+                }
+            }
+        }
+
+        List<MediaRow> media = new ArrayList<>(movie.media() == null ? 0 : movie.media().size());
+        if (movie.media() != null) {
+            for (FeedMedia item : movie.media()) {
+                if (item == null) {
+                    continue;
+                }
+                Long mediaTypeId = references.mediaType(item.type());
+                String url = text(item.url(), "media.url", 500, errors);
+                if (mediaTypeId == null) {
+                    errors.add("Tipo de mídia desconhecido: " + item.type());
+                } else if (url == null) {
+                    errors.add("media.url é obrigatório");
+                } else {
+                    media.add(new MediaRow(mediaTypeId, url, text(item.title(), "media.title", 200, errors),
+                            blankToNull(item.description()), item.width(), item.height()));
+                }
+            }
+        }
+
+        String brazilTitle = text(movie.brazilTitle(), "brazilTitle", 300, errors);
+        String countryOfOrigin = text(movie.countryOfOrigin(), "countryOfOrigin", 50, errors);
+        String shortSynopsis = text(movie.shortSynopsis(), "shortSynopsis", 500, errors);
+        String website = text(movie.website(), "website", 200, errors);
+        String originalLanguage = text(movie.originalLanguage(), "originalLanguage", 50, errors);
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors));
+        }
+        return new MovieImportRow(rowNumber, tmdbId, imdbId == null ? null : imdbId.toLowerCase(Locale.ROOT),
+                ancineNumber, originalTitle, brazilTitle, movie.durationMinutes(), countryOfOrigin,
+                movie.productionYear(), movie.national(), blankToNull(movie.synopsis()), shortSynopsis, website,
+                movie.worldwideReleaseDate(), originalLanguage, ageRatingId, List.copyOf(cast), List.copyOf(media));
+    }
+
+    /**
+     * Chave externa do feed para relatórios de erro.
+     */
+    public static String externalId(FeedMovie movie) {
+        if (movie == null) {
+            return null;
+        }
+        if (movie.tmdbId() != null && !movie.tmdbId().isBlank()) {
+            return "tmdb:" + movie.tmdbId().strip();
+        }
+        if (movie.imdbId() != null && !movie.imdbId().isBlank()) {
+            return "imdb:" + movie.imdbId().strip();
+        }
+        if (movie.ancineNumber() != null && !movie.ancineNumber().isBlank()) {
+            return "ancine:" + movie.ancineNumber().strip();
+        }
+        return null;
+    }
+
+    /**
+     * Slug de um filme novo: título (em português, se houver) e ano.
+     */
+    public String slug() {
+        String base = TextNormalizer.normalize(brazilTitle != null ? brazilTitle : originalTitle).replace(' ', '-');
+        if (base.length() > MAX_SLUG_BASE) {
+            base = base.substring(0, MAX_SLUG_BASE);
+            base = base.endsWith("-") ? base.substring(0, base.length() - 1) : base;
+        }
+        if (base.isEmpty()) {
+            base = "filme";
+        }
+        return productionYear != null ? base + "-" + productionYear : base;
+    }
+
+    /**
+     * Slug com o ID, para quando {@link #slug()} já está em uso.
+     */
+    public String slug(long id) {
+        return slug() + "-" + Long.toString(id, 36);
+    }
+
+    private static String text(String value, String field, int maxLength, List<String> errors) {
+        String text = blankToNull(value);
+        if (text != null && text.length() > maxLength) {
+            errors.add(field + " deve ter no máximo " + maxLength + " caracteres");
+            return null;
+        }
+        return text;
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String stripped = value.strip();
+        return stripped.isEmpty() ? null : stripped;
+    }
+}
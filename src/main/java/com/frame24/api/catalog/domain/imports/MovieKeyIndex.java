@@ -0,0 +1,48 @@
+package com.frame24.api.catalog.domain.imports;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Filmes já cadastrados por chave externa, para decidir entre inserir e atualizar.
+ *
+ * <p>
+ * Um filme do feed corresponde ao cadastrado com o mesmo {@code tmdbId}; sem ele, ao de
+ * mesmo {@code imdbId}; e por fim ao de mesmo {@code ancineNumber}. Filmes inseridos
+ * durante a importação entram no índice, então uma repetição no feed atualiza o filme
+ * inserido em vez de duplicá-lo.
+ * </p>
+ */
+public final class MovieKeyIndex {
+
+    private final Map<String, Long> byTmdbId = new HashMap<>();
+    private final Map<String, Long> byImdbId = new HashMap<>();
+    private final Map<String, Long> byAncineNumber = new HashMap<>();
+
+    public void add(long movieId, String tmdbId, String imdbId, String ancineNumber) {
+        if (tmdbId != null) {
+            byTmdbId.putIfAbsent(tmdbId.strip(), movieId);
+        }
+        if (imdbId != null) {
+            byImdbId.putIfAbsent(imdbId.strip().toLowerCase(Locale.ROOT), movieId);
+        }
+        if (ancineNumber != null) {
+            byAncineNumber.putIfAbsent(ancineNumber.strip(), movieId);
+        }
+    }
+
+    /**
+     * ID do filme cadastrado correspondente; nulo se é um filme novo.
+     */
+    public Long find(MovieImportRow row) {
+        Long id = row.tmdbId() == null ? null : byTmdbId.get(row.tmdbId());
+        if (id == null && row.imdbId() != null) {
+            id = byImdbId.get(row.imdbId());
+        }
+        if (id == null && row.ancineNumber() != null) {
+            id = byAncineNumber.get(row.ancineNumber());
+        }
+        return id;
+    }
+}
@@ -0,0 +1,35 @@
+package com.frame24.api.catalog.domain.imports;
+
+import com.frame24.api.catalog.domain.search.TextNormalizer;
+
+import java.util.Map;
+
+/**
+ * Cadastros auxiliares da empresa usados pelo feed, por nome normalizado
+ * ({@link #key(String)}): classificações indicativas (pelo código), tipos de elenco e
+ * tipos de mídia. Carregados uma vez por importação; o feed só referencia por nome.
+ */
+public record ReferenceData(
+        Map<String, Long> ageRatings,
+        Map<String, Long> castTypes,
+        Map<String, Long> mediaTypes) {
+
+    /**
+     * Chave de busca: sem acentos nem diferença entre maiúsculas e minúsculas.
+     */
+    public static String key(String name) {
+        return TextNormalizer.normalize(name);
+    }
+
+    public Long ageRating(String code) {
+        return code == null ? null : ageRatings.get(key(code));
+    }
+
+    public Long castType(String name) {
+        return name == null ? null : castTypes.get(key(name));
+    }
+
+    public Long mediaType(String name) {
+        return name == null ? null : mediaTypes.get(key(name));
+    }
+}
@@ -0,0 +1,117 @@
+package com.frame24.api.catalog.domain.media;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Leitura de dimensões e geração de variantes redimensionadas de imagens (JPEG/PNG)
+ * com o ImageIO da JDK.
+ *
+ * <p>
+ * As dimensões são lidas do cabeçalho, antes de decodificar os pixels, para recusar
+ * imagens grandes demais sem alocá-las. As variantes mantêm a proporção, nunca ampliam
+ * a original e são gravadas em JPEG.
+ * </p>
+ */
+public final class ImageResizer {
+
+    /**
+     * Largura e altura em pixels.
+     */
+    public record Size(int width, int height) {
+
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * Imagem decodificada.
+     */
+    public record Decoded(BufferedImage image, Size size) {
+    }
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Decodifica a imagem, recusando as que têm mais de {@code maxPixels}.
+     *
+     * @throws IllegalArgumentException se o formato não é suportado ou a imagem é grande demais
+     */
+    public static Decoded read(InputStream in, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Formato de imagem não suportado");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                Size size = new Size(reader.getWidth(0), reader.getHeight(0));
+                if (size.pixels() > maxPixels) {
+                    throw new IllegalArgumentException("Imagem grande demais: " + size.width() + "x" + size.height());
+                }
+                return new Decoded(reader.read(0), size);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Tamanho da variante com a largura pedida, mantendo a proporção; nulo se a original
+     * não é mais larga que {@code targetWidth}.
+     */
+    public static Size fit(Size original, int targetWidth) {
+        if (targetWidth <= 0 || original.width() <= targetWidth) {
+            return null;
+        }
+        int height = (int) Math.max(1, Math.round((double) original.height() * targetWidth / original.width()));
+        return new Size(targetWidth, height);
+    }
+
+    /**
+     * Redimensiona a imagem para {@code size} e a codifica em JPEG com a qualidade dada (0 a 1).
+     */
+    public static byte[] resizeToJpeg(BufferedImage image, Size size, float quality) throws IOException {
+        BufferedImage target = new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // Fundo branco para imagens com transparência (PNG)
+            graphics.setColor(java.awt.Color.WHITE);
+            graphics.fillRect(0, 0, size.width(), size.height());
+            graphics.drawImage(image, 0, 0, size.width(), size.height(), null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(size.width() * size.height() / 4);
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+}
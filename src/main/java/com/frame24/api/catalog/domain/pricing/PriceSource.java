@@ -0,0 +1,62 @@
+package com.frame24.api.catalog.domain.pricing;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Dados de preço de um complexo lidos do banco: produtos ativos, preços vigentes ou
+ * futuros (do complexo e gerais da empresa) e combos ativos.
+ *
+ * <p>
+ * Fica retido pela {@link PriceTable} para que a virada de uma vigência recompile a
+ * tabela em memória, sem nova leitura.
+ * </p>
+ */
+public record PriceSource(
+        long companyId,
+        long complexId,
+        List<ProductRow> products,
+        List<ProductPriceRow> prices,
+        List<ComboRow> combos) {
+
+    public PriceSource {
+        products = List.copyOf(products);
+        prices = List.copyOf(prices);
+        combos = List.copyOf(combos);
+    }
+
+    public record ProductRow(long id, String name, String barcode) {
+    }
+
+    /**
+     * @param complexId nulo para o preço geral da empresa
+     * @param validTo   nulo para vigência sem fim
+     */
+    public record ProductPriceRow(
+            long productId,
+            Long complexId,
+            BigDecimal salePrice,
+            Instant validFrom,
+            Instant validTo) {
+
+        boolean effectiveAt(Instant instant) {
+            return !validFrom.isAfter(instant) && (validTo == null || instant.isBefore(validTo));
+        }
+    }
+
+    /**
+     * @param promotionStart primeiro dia da promoção (nulo: desde sempre)
+     * @param promotionEnd   último dia da promoção, inclusive (nulo: sem fim)
+     */
+    public record ComboRow(
+            long id,
+            String code,
+            String name,
+            BigDecimal salePrice,
+            BigDecimal promotionalPrice,
+            LocalDate promotionStart,
+            LocalDate promotionEnd) {
+    }
+}
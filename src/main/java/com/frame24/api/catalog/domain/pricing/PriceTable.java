@@ -0,0 +1,229 @@
+package com.frame24.api.catalog.domain.pricing;
+
+import com.frame24.api.catalog.domain.pricing.PriceSource.ComboRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductPriceRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela de preços compilada de um complexo: o preço em vigor de cada produto e combo,
+ * pronto para consulta por id ou por código lido no PDV.
+ *
+ * <p>
+ * Imutável. A compilação resolve uma vez as regras de vigência:
+ * </p>
+ * <ul>
+ * <li>produto: entre os preços ativos vigentes no instante, o do complexo prevalece sobre
+ * o geral da empresa e, no mesmo nível, o de início mais recente. Produto sem preço
+ * vigente fica fora da tabela (não pode ser vendido);</li>
+ * <li>combo: o preço promocional, se houver e a data local estiver entre o início e o fim
+ * da promoção (inclusive); do contrário, o preço de venda.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link #nextTransition()} é o próximo instante em que algum preço muda (início ou fim
+ * de vigência, início ou fim de promoção); a partir dele, {@link #recompile} gera a
+ * tabela seguinte com os mesmos dados de origem. Ids ficam em um array ordenado (busca
+ * binária) e os preços em centavos, então {@link #resolvePrices(long[])} só aloca o array
+ * de resposta.
+ * </p>
+ */
+public final class PriceTable {
+
+    /** Valor de {@link #resolvePrices(long[])} para ids fora da tabela. */
+    public static final long NOT_FOUND = -1L;
+
+    public enum Kind {
+        PRODUCT, COMBO
+    }
+
+    /**
+     * Item com o preço em vigor.
+     *
+     * @param code       código de barras (produto) ou código do combo
+     * @param validUntil instante da próxima mudança de preço do item (nulo se não há)
+     */
+    public record PricedItem(
+            long id,
+            Kind kind,
+            String code,
+            String name,
+            long priceCents,
+            boolean promotional,
+            Instant validUntil) {
+
+        public BigDecimal price() {
+            return BigDecimal.valueOf(priceCents, 2);
+        }
+    }
+
+    /** Preço do complexo antes do geral; no mesmo nível, o de início mais recente. */
+    private static final Comparator<ProductPriceRow> PRECEDENCE = Comparator
+            .comparing((ProductPriceRow price) -> price.complexId() != null)
+            .thenComparing(ProductPriceRow::validFrom);
+
+    private final PriceSource source;
+    private final ZoneId zone;
+    private final Instant compiledAt;
+    private final Instant nextTransition;
+    private final long[] ids;
+    private final PricedItem[] items;
+    private final Map<String, PricedItem> byCode;
+
+    private PriceTable(PriceSource source, ZoneId zone, Instant compiledAt, Instant nextTransition,
+                       long[] ids, PricedItem[] items, Map<String, PricedItem> byCode) {
+        this.source = source;
+        this.zone = zone;
+        this.compiledAt = compiledAt;
+        this.nextTransition = nextTransition;
+        this.ids = ids;
+        this.items = items;
+        this.byCode = byCode;
+    }
+
+    /**
+     * Compila a tabela em vigor no instante {@code now}; datas de promoção de combos são
+     * interpretadas no fuso {@code zone}.
+     */
+    public static PriceTable compile(PriceSource source, ZoneId zone, Instant now) {
+        List<PricedItem> compiled = new ArrayList<>(source.products().size() + source.combos().size());
+        Instant next = null;
+
+        Map<Long, List<ProductPriceRow>> pricesByProduct = new HashMap<>();
+        for (ProductPriceRow price : source.prices()) {
+            pricesByProduct.computeIfAbsent(price.productId(), id -> new ArrayList<>()).add(price);
+        }
+        for (ProductRow product : source.products()) {
+            ProductPriceRow current = null;
+            Instant change = null;
+            for (ProductPriceRow price : pricesByProduct.getOrDefault(product.id(), List.of())) {
+                if (price.effectiveAt(now) && (current == null || PRECEDENCE.compare(price, current) > 0)) {
+                    current = price;
+                }
+                change = earliestAfter(now, change, price.validFrom());
+                change = earliestAfter(now, change, price.validTo());
+            }
+            if (current != null) {
+                compiled.add(new PricedItem(product.id(), Kind.PRODUCT, product.barcode(), product.name(),
+                        cents(current.salePrice()), false, change));
+            }
+            next = earliestAfter(now, next, change);
+        }
+
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        for (ComboRow combo : source.combos()) {
+            boolean promotional = false;
+            Instant change = null;
+            if (combo.promotionalPrice() != null) {
+                promotional = (combo.promotionStart() == null || !today.isBefore(combo.promotionStart()))
+                        && (combo.promotionEnd() == null || !today.isAfter(combo.promotionEnd()));
+                if (combo.promotionStart() != null) {
+                    change = earliestAfter(now, change, combo.promotionStart().atStartOfDay(zone).toInstant());
+                }
+                if (combo.promotionEnd() != null) {
+                    change = earliestAfter(now, change,
+                            combo.promotionEnd().plusDays(1).atStartOfDay(zone).toInstant());
+                }
+            }
+            BigDecimal price = promotional ? combo.promotionalPrice() : combo.salePrice();
+            compiled.add(new PricedItem(combo.id(), Kind.COMBO, combo.code(), combo.name(),
+                    cents(price), promotional, change));
+            next = earliestAfter(now, next, change);
+        }
+
+        compiled.sort(Comparator.comparingLong(PricedItem::id));
+        long[] ids = new long[compiled.size()];
+        PricedItem[] items = compiled.toArray(PricedItem[]::new);
+        Map<String, PricedItem> byCode = HashMap.newHashMap(items.length);
+        for (int i = 0; i < items.length; i++) {
+            ids[i] = items[i].id();
+            if (items[i].code() != null && !items[i].code().isBlank()) {
+                byCode.putIfAbsent(items[i].code(), items[i]);
+            }
+        }
+        return new PriceTable(source, zone, now, next, ids, items, byCode);
+    }
+
+    /**
+     * Tabela em vigor em {@code now}, a partir dos mesmos dados de origem.
+     */
+    public PriceTable recompile(Instant now) {
+        return compile(source, zone, now);
+    }
+
+    /**
+     * Se algum preço já mudou desde a compilação.
+     */
+    public boolean isDue(Instant now) {
+        return nextTransition != null && !now.isBefore(nextTransition);
+    }
+
+    public PricedItem find(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? items[index] : null;
+    }
+
+    /**
+     * Item pelo código de barras do produto ou código do combo.
+     */
+    public PricedItem findByCode(String code) {
+        return byCode.get(code);
+    }
+
+    /**
+     * Preços em centavos, na ordem dos ids; {@link #NOT_FOUND} para ids fora da tabela.
+     */
+    public long[] resolvePrices(long[] productOrComboIds) {
+        long[] prices = new long[productOrComboIds.length];
+        for (int i = 0; i < productOrComboIds.length; i++) {
+            int index = Arrays.binarySearch(ids, productOrComboIds[i]);
+            prices[i] = index >= 0 ? items[index].priceCents() : NOT_FOUND;
+        }
+        return prices;
+    }
+
+    public long companyId() {
+        return source.companyId();
+    }
+
+    public long complexId() {
+        return source.complexId();
+    }
+
+    public Instant compiledAt() {
+        return compiledAt;
+    }
+
+    /**
+     * Próximo instante em que algum preço da tabela muda; nulo se nenhuma mudança está agendada.
+     */
+    public Instant nextTransition() {
+        return nextTransition;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    private static Instant earliestAfter(Instant now, Instant current, Instant candidate) {
+        if (candidate == null || !candidate.isAfter(now)) {
+            return current;
+        }
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static long cents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
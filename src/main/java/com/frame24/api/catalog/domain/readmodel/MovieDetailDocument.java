@@ -0,0 +1,161 @@
+package com.frame24.api.catalog.domain.readmodel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Resposta pronta da página de detalhes de um filme: o JSON em UTF-8, a mesma resposta
+ * compactada com gzip e o ETag derivado do conteúdo.
+ *
+ * <p>
+ * Montado uma vez quando o filme muda e servido byte a byte, sem mapeamento de objetos.
+ * O ETag é o início do SHA-256 do JSON, então é o mesmo em todas as instâncias. O
+ * formato binário de {@link #encode()} é o usado no Redis.
+ * </p>
+ */
+public final class MovieDetailDocument {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int ETAG_BYTES = 16;
+
+    private final long companyId;
+    private final long movieId;
+    private final String slug;
+    private final String etag;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private MovieDetailDocument(long companyId, long movieId, String slug, String etag, byte[] json, byte[] gzip) {
+        this.companyId = companyId;
+        this.movieId = movieId;
+        this.slug = slug;
+        this.etag = etag;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Documento a partir do JSON já serializado; calcula a versão gzip e o ETag.
+     */
+    public static MovieDetailDocument of(long companyId, long movieId, String slug, byte[] json) {
+        return new MovieDetailDocument(companyId, movieId, slug, etagOf(json), json, gzip(json));
+    }
+
+    /**
+     * Lê um documento gravado por {@link #encode()}.
+     *
+     * @throws IllegalArgumentException se os bytes não estiverem no formato esperado
+     */
+    public static MovieDetailDocument decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Versão de documento desconhecida: " + version);
+            }
+            long companyId = in.readLong();
+            long movieId = in.readLong();
+            String slug = in.readBoolean() ? in.readUTF() : null;
+            String etag = in.readUTF();
+            byte[] json = in.readNBytes(in.readInt());
+            byte[] gzip = in.readNBytes(in.readInt());
+            return new MovieDetailDocument(companyId, movieId, slug, etag, json, gzip);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Documento de filme inválido", e);
+        }
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length + gzip.length + 64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(companyId);
+            out.writeLong(movieId);
+            out.writeBoolean(slug != null);
+            if (slug != null) {
+                out.writeUTF(slug);
+            }
+            out.writeUTF(etag);
+            out.writeInt(json.length);
+            out.write(json);
+            out.writeInt(gzip.length);
+            out.write(gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public long companyId() {
+        return companyId;
+    }
+
+    public long movieId() {
+        return movieId;
+    }
+
+    public String slug() {
+        return slug;
+    }
+
+    /**
+     * ETag da resposta sem compressão (sem aspas).
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * ETag da resposta compactada: outra representação, outro ETag.
+     */
+    public String gzipEtag() {
+        return etag + "-gzip";
+    }
+
+    /**
+     * JSON em UTF-8. O array é compartilhado: não deve ser alterado.
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * JSON compactado com gzip. O array é compartilhado: não deve ser alterado.
+     */
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    /**
+     * Tamanho aproximado em memória, usado como peso no cache local.
+     */
+    public int weight() {
+        return json.length + gzip.length + 128;
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(hash, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,123 @@
+package com.frame24.api.catalog.domain.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Índice invertido de termos para documentos (ordinais inteiros), com dicionário
+ * ordenado para busca por prefixo e índice de trigramas dos termos para tolerância a
+ * erros de digitação.
+ *
+ * <p>
+ * Só acrescenta: documentos removidos continuam nas listas e são filtrados por quem
+ * consulta. Não é thread-safe; o {@link MovieSearchIndex} controla o acesso.
+ * </p>
+ */
+final class InvertedIndex {
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, List<String>> trigrams = new HashMap<>();
+
+    /**
+     * Acrescenta o documento com o peso de cada termo.
+     */
+    void add(int doc, Map<String, Float> weights) {
+        weights.forEach((term, weight) -> terms.computeIfAbsent(term, this::newTerm).add(doc, weight));
+    }
+
+    Postings postings(String term) {
+        return terms.get(term);
+    }
+
+    /**
+     * Termos que começam com {@code prefix}, em ordem alfabética.
+     */
+    NavigableMap<String, Postings> withPrefix(String prefix) {
+        return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Termos a até {@code maxEdits} edições de {@code term} (exceto o próprio termo).
+     *
+     * <p>
+     * Cada edição altera no máximo quatro trigramas (uma transposição de vizinhos altera
+     * quatro), então só são comparados os termos que compartilham ao menos
+     * {@code trigramas(term) - 4 * maxEdits} trigramas com a consulta.
+     * </p>
+     */
+    List<FuzzyMatch> fuzzy(String term, int maxEdits) {
+        var grams = TextNormalizer.trigrams(term);
+        int required = Math.max(1, grams.size() - 4 * maxEdits);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            List<String> candidates = trigrams.get(gram);
+            if (candidates != null) {
+                for (String candidate : candidates) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<FuzzyMatch> matches = new ArrayList<>();
+        shared.forEach((candidate, count) -> {
+            if (count >= required && !candidate.equals(term)) {
+                int distance = TextNormalizer.editDistance(term, candidate, maxEdits);
+                if (distance <= maxEdits) {
+                    matches.add(new FuzzyMatch(candidate, distance, terms.get(candidate)));
+                }
+            }
+        });
+        return matches;
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    private Postings newTerm(String term) {
+        for (String gram : TextNormalizer.trigrams(term)) {
+            trigrams.computeIfAbsent(gram, g -> new ArrayList<>()).add(term);
+        }
+        return new Postings();
+    }
+
+    record FuzzyMatch(String term, int distance, Postings postings) {
+    }
+
+    /**
+     * Lista de documentos de um termo, em ordem crescente de ordinal, com o peso em cada um.
+     */
+    static final class Postings {
+
+        private int[] docs = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int doc(int i) {
+            return docs[i];
+        }
+
+        float weight(int i) {
+            return weights[i];
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.frame24.api.catalog.domain.search;
+
+import java.util.List;
+
+/**
+ * Campos de um filme usados pela busca.
+ *
+ * @param tags conteúdo de {@code tags_json}, indexado como texto
+ */
+public record MovieDocument(
+        long movieId,
+        String originalTitle,
+        String brazilTitle,
+        String shortSynopsis,
+        List<String> cast,
+        List<String> categories,
+        String tags,
+        boolean active) {
+
+    public MovieDocument {
+        cast = List.copyOf(cast);
+        categories = List.copyOf(categories);
+    }
+}
@@ -0,0 +1,338 @@
+package com.frame24.api.catalog.domain.search;
+
+import com.frame24.api.catalog.domain.search.InvertedIndex.FuzzyMatch;
+import com.frame24.api.catalog.domain.search.InvertedIndex.Postings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de busca em memória dos filmes de uma empresa.
+ *
+ * <p>
+ * Mantém dois índices invertidos: um só com os títulos (original e nacional), usado
+ * pelo autocompletar, e um com títulos, elenco, categorias, tags e sinopse curta, com
+ * pesos por campo, usado pela busca. Cada palavra da consulta precisa casar com o
+ * filme (E lógico), de uma destas formas:
+ * </p>
+ * <ul>
+ * <li>termo exato (peso 1);</li>
+ * <li>prefixo, apenas para a última palavra (peso proporcional ao quanto do termo foi digitado;
+ * na busca completa, só a partir de três letras);</li>
+ * <li>termo a 1 ou 2 edições de distância, encontrado pelos trigramas (peso 0,6 ou 0,4).</li>
+ * </ul>
+ *
+ * <p>
+ * A relevância soma, por palavra, peso do campo x forma do casamento x IDF do termo.
+ * Atualizações acrescentam uma nova versão do filme e descartam a anterior; quando os
+ * descartes passam do número de filmes vivos, os índices são reconstruídos a partir dos
+ * documentos em memória. Leituras concorrentes compartilham um read lock.
+ * </p>
+ */
+public final class MovieSearchIndex {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float CAST_WEIGHT = 2f;
+    static final float CATEGORY_WEIGHT = 1.5f;
+    static final float TAGS_WEIGHT = 1f;
+    static final float SYNOPSIS_WEIGHT = 0.5f;
+
+    /** Limites da expansão de prefixo, para prefixos curtos como "a" não varrerem o índice. */
+    private static final int MAX_PREFIX_TERMS = 256;
+    private static final int MAX_PREFIX_POSTINGS = 50_000;
+    /** Na busca completa a última palavra só vira prefixo a partir deste tamanho. */
+    private static final int MIN_SEARCH_PREFIX = 3;
+
+    private static final int MIN_DEAD_TO_COMPACT = 1_024;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingDouble(Candidate::score)
+            .thenComparing(Comparator.comparingInt(Candidate::titleLength).reversed())
+            .thenComparing(Comparator.comparingLong(Candidate::movieId).reversed());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private MovieDocument[] docs = new MovieDocument[64];
+    private int[] titleLengths = new int[64];
+    private int size;
+    private int dead;
+    private InvertedIndex titles = new InvertedIndex();
+    private InvertedIndex full = new InvertedIndex();
+
+    public static MovieSearchIndex of(Collection<MovieDocument> documents) {
+        MovieSearchIndex index = new MovieSearchIndex();
+        documents.forEach(index::addLocked);
+        return index;
+    }
+
+    /**
+     * Inclui o filme ou substitui a versão indexada.
+     */
+    public void upsert(MovieDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.movieId());
+            addLocked(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long movieId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(movieId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quantidade de filmes indexados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca em todos os campos, com tolerância a erros em todas as palavras.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        return run(query, limit, false);
+    }
+
+    /**
+     * Sugestões por título enquanto o usuário digita: a última palavra é tratada como
+     * prefixo e a correção de erros só entra para palavras sem casamento exato.
+     */
+    public List<SearchHit> autocomplete(String query, int limit) {
+        return run(query, limit, true);
+    }
+
+    private List<SearchHit> run(String query, int limit, boolean autocomplete) {
+        List<String> words = queryWords(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            InvertedIndex index = autocomplete ? titles : full;
+            Accumulator acc = new Accumulator(size, ordinals.size());
+            for (int t = 0; t < words.size(); t++) {
+                String word = words.get(t);
+                boolean matched = acc.add(index.postings(word), 1f, t);
+                if (t == words.size() - 1 && (autocomplete || word.length() >= MIN_SEARCH_PREFIX)) {
+                    matched |= addPrefixMatches(index, word, acc, t);
+                }
+                int maxEdits = maxEdits(word);
+                if (maxEdits > 0 && (!autocomplete || !matched)) {
+                    for (FuzzyMatch match : index.fuzzy(word, maxEdits)) {
+                        acc.add(match.postings(), match.distance() == 1 ? 0.6f : 0.4f, t);
+                    }
+                }
+            }
+            return acc.top(words.size(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean addPrefixMatches(InvertedIndex index, String prefix, Accumulator acc, int token) {
+        boolean matched = false;
+        int terms = 0;
+        int postings = 0;
+        for (Map.Entry<String, Postings> entry : index.withPrefix(prefix).entrySet()) {
+            if (entry.getKey().length() == prefix.length()) {
+                continue;
+            }
+            if (++terms > MAX_PREFIX_TERMS || postings > MAX_PREFIX_POSTINGS) {
+                break;
+            }
+            postings += entry.getValue().size();
+            float factor = 0.5f + 0.5f * prefix.length() / entry.getKey().length();
+            matched |= acc.add(entry.getValue(), factor, token);
+        }
+        return matched;
+    }
+
+    /**
+     * Palavras da consulta sem stopwords, ou todas se a consulta só tiver stopwords.
+     */
+    private static List<String> queryWords(String query) {
+        List<String> tokens = TextNormalizer.tokens(query);
+        List<String> words = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (!TextNormalizer.isStopword(token)) {
+                words.add(token);
+            }
+        }
+        return words.isEmpty() ? tokens : words;
+    }
+
+    private static int maxEdits(String word) {
+        if (word.length() < 4) {
+            return 0;
+        }
+        return word.length() < 8 ? 1 : 2;
+    }
+
+    private void addLocked(MovieDocument document) {
+        int ordinal = size++;
+        if (ordinal == docs.length) {
+            docs = Arrays.copyOf(docs, ordinal * 2);
+            titleLengths = Arrays.copyOf(titleLengths, ordinal * 2);
+        }
+        docs[ordinal] = document;
+        titleLengths[ordinal] = title(document).length();
+        ordinals.put(document.movieId(), ordinal);
+
+        Map<String, Float> titleTerms = new HashMap<>();
+        Map<String, Float> allTerms = new HashMap<>();
+        Set<String> fromTitles = new LinkedHashSet<>();
+        fromTitles.addAll(TextNormalizer.indexTerms(document.originalTitle()));
+        fromTitles.addAll(TextNormalizer.indexTerms(document.brazilTitle()));
+        fromTitles.forEach(term -> titleTerms.put(term, 1f));
+
+        addField(allTerms, fromTitles, TITLE_WEIGHT);
+        addField(allTerms, terms(document.cast()), CAST_WEIGHT);
+        addField(allTerms, terms(document.categories()), CATEGORY_WEIGHT);
+        addField(allTerms, new LinkedHashSet<>(TextNormalizer.indexTerms(document.tags())), TAGS_WEIGHT);
+        addField(allTerms, new LinkedHashSet<>(TextNormalizer.indexTerms(document.shortSynopsis())), SYNOPSIS_WEIGHT);
+
+        titles.add(ordinal, titleTerms);
+        full.add(ordinal, allTerms);
+    }
+
+    private void removeLocked(long movieId) {
+        Integer ordinal = ordinals.remove(movieId);
+        if (ordinal != null) {
+            docs[ordinal] = null;
+            dead++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (dead < MIN_DEAD_TO_COMPACT || dead < ordinals.size()) {
+            return;
+        }
+        List<MovieDocument> live = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < size; i++) {
+            if (docs[i] != null) {
+                live.add(docs[i]);
+            }
+        }
+        ordinals.clear();
+        docs = new MovieDocument[Math.max(64, live.size() * 2)];
+        titleLengths = new int[docs.length];
+        size = 0;
+        dead = 0;
+        titles = new InvertedIndex();
+        full = new InvertedIndex();
+        live.forEach(this::addLocked);
+    }
+
+    private static Set<String> terms(List<String> values) {
+        Set<String> terms = new LinkedHashSet<>();
+        values.forEach(value -> terms.addAll(TextNormalizer.indexTerms(value)));
+        return terms;
+    }
+
+    private static void addField(Map<String, Float> weights, Set<String> terms, float weight) {
+        terms.forEach(term -> weights.merge(term, weight, Float::sum));
+    }
+
+    private static String title(MovieDocument document) {
+        String title = document.brazilTitle() != null ? document.brazilTitle() : document.originalTitle();
+        return title != null ? title : "";
+    }
+
+    private record Candidate(int ordinal, long movieId, float score, int titleLength) {
+    }
+
+    /**
+     * Pontuação da consulta corrente, por ordinal. {@code matched[doc]} conta as palavras
+     * já casadas; um documento só continua candidato se casou todas as anteriores.
+     */
+    private final class Accumulator {
+
+        private final float[] scores;
+        private final int[] matched;
+        private final int[] stamp;
+        private final int live;
+        private int[] touched = new int[64];
+        private int touchedSize;
+
+        Accumulator(int ordinals, int live) {
+            this.scores = new float[ordinals];
+            this.matched = new int[ordinals];
+            this.stamp = new int[ordinals];
+            this.live = Math.max(1, live);
+        }
+
+        boolean add(Postings postings, float factor, int token) {
+            if (postings == null) {
+                return false;
+            }
+            float idf = (float) Math.log(1 + (double) live / postings.size());
+            boolean any = false;
+            for (int i = 0; i < postings.size(); i++) {
+                int doc = postings.doc(i);
+                if (docs[doc] == null || matched[doc] < token) {
+                    continue;
+                }
+                if (stamp[doc] != token + 1) {
+                    stamp[doc] = token + 1;
+                    if (matched[doc]++ == 0) {
+                        if (touchedSize == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedSize * 2);
+                        }
+                        touched[touchedSize++] = doc;
+                    }
+                }
+                scores[doc] += postings.weight(i) * factor * idf;
+                any = true;
+            }
+            return any;
+        }
+
+        List<SearchHit> top(int words, int limit) {
+            PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, RANKING);
+            for (int i = 0; i < touchedSize; i++) {
+                int doc = touched[i];
+                if (matched[doc] != words) {
+                    continue;
+                }
+                heap.add(new Candidate(doc, docs[doc].movieId(), scores[doc], titleLengths[doc]));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            List<Candidate> ranked = new ArrayList<>(heap);
+            ranked.sort(RANKING.reversed());
+            return ranked.stream()
+                    .map(c -> {
+                        MovieDocument doc = docs[c.ordinal()];
+                        return new SearchHit(doc.movieId(), doc.originalTitle(), doc.brazilTitle(), doc.active(),
+                                c.score());
+                    })
+                    .toList();
+        }
+    }
+}
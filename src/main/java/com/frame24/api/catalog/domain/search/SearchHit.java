@@ -0,0 +1,12 @@
+package com.frame24.api.catalog.domain.search;
+
+/**
+ * Filme encontrado pela busca, com a relevância calculada para a consulta.
+ */
+public record SearchHit(
+        long movieId,
+        String originalTitle,
+        String brazilTitle,
+        boolean active,
+        float score) {
+}
@@ -0,0 +1,137 @@
+package com.frame24.api.catalog.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normalização de texto para busca em português.
+ *
+ * <p>
+ * Remove acentos e cedilha (decomposição NFD sem as marcas combinantes), converte para
+ * minúsculas e troca qualquer caractere que não seja letra ou dígito por espaço:
+ * "Ação", "acao" e "AÇÃO!" viram o mesmo termo. Artigos, preposições e conjunções
+ * comuns são descartados na indexação, exceto quando o texto só tem essas palavras.
+ * </p>
+ */
+public final class TextNormalizer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas",
+            "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "e", "ou", "por", "para", "com", "ao", "aos",
+            "the", "of", "and", "an", "in", "on");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Texto sem acentos, em minúsculas, só com letras, dígitos e espaços simples.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean space = true;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                out.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                out.append(' ');
+                space = true;
+            }
+        }
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Palavras normalizadas do texto, na ordem, incluindo stopwords.
+     */
+    public static List<String> tokens(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalized.split(" "));
+    }
+
+    /**
+     * Termos a indexar: as palavras do texto sem stopwords (ou todas, se só houver stopwords).
+     */
+    public static List<String> indexTerms(String text) {
+        List<String> tokens = tokens(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (!isStopword(token)) {
+                terms.add(token);
+            }
+        }
+        return terms.isEmpty() ? tokens : terms;
+    }
+
+    public static boolean isStopword(String token) {
+        return STOPWORDS.contains(token);
+    }
+
+    /**
+     * Trigramas do termo com um marcador de início e fim: "casa" → $ca, cas, asa, sa$.
+     */
+    public static Set<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Distância de edição (inserção, remoção, troca e transposição de vizinhos) limitada:
+     * devolve {@code max + 1} assim que a distância certamente passa de {@code max}.
+     */
+    public static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] before = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, before[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = before;
+            before = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+}
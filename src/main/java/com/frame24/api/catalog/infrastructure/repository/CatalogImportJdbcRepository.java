@@ -0,0 +1,451 @@
+package com.frame24.api.catalog.infrastructure.repository;
+
+import com.frame24.api.catalog.domain.imports.FeedFormat;
+import com.frame24.api.catalog.domain.imports.ImportJob;
+import com.frame24.api.catalog.domain.imports.ImportJobStatus;
+import com.frame24.api.catalog.domain.imports.ImportRowError;
+import com.frame24.api.catalog.domain.imports.MovieImportRow;
+import com.frame24.api.catalog.domain.imports.MovieImportRow.CastRow;
+import com.frame24.api.catalog.domain.imports.MovieImportRow.MediaRow;
+import com.frame24.api.catalog.domain.imports.MovieKeyIndex;
+import com.frame24.api.catalog.domain.imports.ReferenceData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Acesso JDBC da importação de catálogo: jobs, cadastros auxiliares e a gravação em lote
+ * de filmes, elenco e mídias.
+ *
+ * <p>
+ * Cada lote do feed custa uma consulta de filmes existentes (por chaves externas, com
+ * {@code = ANY(?)}) e um lote JDBC por tabela, sem passar pelo contexto de persistência.
+ * Filmes novos usam {@code ON CONFLICT (slug) DO NOTHING}: o slug é único entre todas as
+ * empresas e o RLS não deixa ver os das demais, então o conflito só aparece na gravação.
+ * Elenco e mídias só são inseridos se ainda não existem (mesmo tipo e artista; mesma
+ * URL), o que torna a reimportação de um feed idempotente.
+ * </p>
+ *
+ * <p>
+ * Os métodos não abrem transação: quem chama agrupa o lote, o ponto de retomada e os
+ * erros em uma única transação.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogImportJdbcRepository {
+
+    private static final String JOB_COLUMNS = """
+            id, company_id, distributor_id, format, source_key, source_size, status, processed_rows,
+            inserted_rows, updated_rows, failed_rows, bytes_read, error_message, created_by, created_at,
+            started_at, finished_at, heartbeat_at
+            """;
+
+    private static final String INSERT_JOB = """
+            INSERT INTO catalog.import_jobs
+                (id, company_id, distributor_id, format, source_key, source_size, status, created_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, 'PENDING', ?, ?)
+            """;
+
+    private static final String SELECT_JOB = "SELECT " + JOB_COLUMNS + """
+            FROM catalog.import_jobs
+            WHERE id = ? AND company_id = ?
+            """;
+
+    private static final String SELECT_JOBS = "SELECT " + JOB_COLUMNS + """
+            FROM catalog.import_jobs
+            WHERE company_id = ?
+            ORDER BY created_at DESC
+            LIMIT ?
+            """;
+
+    /**
+     * Próximo job pendente, ou em andamento com heartbeat vencido (worker caído), de uma
+     * empresa sem outra importação em andamento. Um job de worker caído bloqueia os
+     * pendentes da empresa até ser retomado; o índice parcial
+     * {@code uq_import_jobs_company_running} recusa o claim simultâneo de dois jobs da
+     * mesma empresa, que o {@code SKIP LOCKED} sozinho não impede.
+     */
+    private static final String CLAIM_JOB = """
+            UPDATE catalog.import_jobs j SET
+                status = 'RUNNING',
+                started_at = COALESCE(j.started_at, ?),
+                heartbeat_at = ?,
+                lease_token = ?,
+                error_message = NULL
+            WHERE j.id = (
+                SELECT c.id FROM catalog.import_jobs c
+                WHERE (c.status = 'PENDING' OR (c.status = 'RUNNING' AND c.heartbeat_at < ?))
+                  AND NOT EXISTS (
+                      SELECT 1 FROM catalog.import_jobs r
+                      WHERE r.company_id = c.company_id AND r.id <> c.id AND r.status = 'RUNNING')
+                ORDER BY c.created_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            RETURNING
+            """ + JOB_COLUMNS;
+
+    private static final String CHECKPOINT = """
+            UPDATE catalog.import_jobs SET
+                processed_rows = ?,
+                bytes_read = ?,
+                inserted_rows = inserted_rows + ?,
+                updated_rows = updated_rows + ?,
+                failed_rows = failed_rows + ?,
+                heartbeat_at = ?
+            WHERE id = ? AND status = 'RUNNING' AND lease_token = ?
+            """;
+
+    private static final String HEARTBEAT = """
+            UPDATE catalog.import_jobs SET heartbeat_at = ?
+            WHERE id = ? AND status = 'RUNNING' AND lease_token = ?
+            """;
+
+    private static final String FINISH = """
+            UPDATE catalog.import_jobs SET status = ?, error_message = ?, finished_at = ?, lease_token = NULL
+            WHERE id = ? AND status = 'RUNNING' AND lease_token = ?
+            """;
+
+    private static final String RELEASE = """
+            UPDATE catalog.import_jobs SET status = 'PENDING', lease_token = NULL
+            WHERE id = ? AND status = 'RUNNING' AND lease_token = ?
+            """;
+
+    private static final String RESUME = """
+            UPDATE catalog.import_jobs SET status = 'PENDING', error_message = NULL, finished_at = NULL
+            WHERE id = ? AND company_id = ? AND status = 'FAILED'
+            """;
+
+    private static final String INSERT_ERROR = """
+            INSERT INTO catalog.import_job_errors (job_id, row_number, external_id, message)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (job_id, row_number) DO NOTHING
+            """;
+
+    private static final String SELECT_ERRORS = """
+            SELECT row_number, external_id, message
+            FROM catalog.import_job_errors
+            WHERE job_id = ? AND row_number > ?
+            ORDER BY row_number
+            LIMIT ?
+            """;
+
+    private static final String SELECT_AGE_RATINGS = "SELECT id, code FROM catalog.age_ratings WHERE company_id = ?";
+    private static final String SELECT_CAST_TYPES = "SELECT id, name FROM catalog.cast_types WHERE company_id = ?";
+    private static final String SELECT_MEDIA_TYPES = "SELECT id, name FROM catalog.media_types WHERE company_id = ?";
+
+    private static final String SELECT_EXISTING_MOVIES = """
+            SELECT id, tmdb_id, imdb_id, ancine_number
+            FROM catalog.movies
+            WHERE company_id = ?
+              AND (tmdb_id = ANY(?) OR imdb_id = ANY(?) OR ancine_number = ANY(?))
+            """;
+
+    private static final String INSERT_MOVIE = """
+            INSERT INTO catalog.movies
+                (id, company_id, distributor_id, original_title, brazil_title, ancine_number, duration_minutes,
+                 country_of_origin, production_year, "national", active, created_at, synopsis, short_synopsis,
+                 website, tmdb_id, imdb_id, worldwide_release_date, original_language, slug, age_rating_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (slug) DO NOTHING
+            """;
+
+    /** Campos ausentes no feed mantêm o valor cadastrado. */
+    private static final String UPDATE_MOVIE = """
+            UPDATE catalog.movies SET
+                distributor_id = ?,
+                original_title = ?,
+                duration_minutes = ?,
+                brazil_title = COALESCE(?, brazil_title),
+                tmdb_id = COALESCE(?, tmdb_id),
+                imdb_id = COALESCE(?, imdb_id),
+                ancine_number = COALESCE(?, ancine_number),
+                country_of_origin = COALESCE(?, country_of_origin),
+                production_year = COALESCE(?, production_year),
+                "national" = COALESCE(?, "national"),
+                synopsis = COALESCE(?, synopsis),
+                short_synopsis = COALESCE(?, short_synopsis),
+                website = COALESCE(?, website),
+                worldwide_release_date = COALESCE(?, worldwide_release_date),
+                original_language = COALESCE(?, original_language),
+                age_rating_id = COALESCE(?, age_rating_id)
+            WHERE id = ? AND company_id = ?
+            """;
+
+    private static final String INSERT_CAST = """
+            INSERT INTO catalog.movie_cast
+                (id, movie_id, cast_type, artist_name, character_name, credit_order, photo_url, active, created_at)
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS VARCHAR),
+                   CAST(? AS VARCHAR), CAST(? AS INTEGER), CAST(? AS VARCHAR), true, CAST(? AS TIMESTAMP)
+            WHERE NOT EXISTS (
+                SELECT 1 FROM catalog.movie_cast
+                WHERE movie_id = ? AND cast_type = ? AND artist_name = ?)
+            """;
+
+    private static final String INSERT_MEDIA = """
+            INSERT INTO catalog.movie_media
+                (id, movie_id, media_type, media_url, title, description, width, height, active, created_at)
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS VARCHAR),
+                   CAST(? AS VARCHAR), CAST(? AS TEXT), CAST(? AS INTEGER), CAST(? AS INTEGER), true,
+                   CAST(? AS TIMESTAMP)
+            WHERE NOT EXISTS (
+                SELECT 1 FROM catalog.movie_media WHERE movie_id = ? AND media_url = ?)
+            """;
+
+    private static final int MAX_EXTERNAL_ID = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertJob(long id, long companyId, long distributorId, FeedFormat format, String sourceKey,
+                          long sourceSize, Long createdBy, Instant createdAt) {
+        jdbcTemplate.update(INSERT_JOB, id, companyId, distributorId, format.name(), sourceKey, sourceSize,
+                createdBy, Timestamp.from(createdAt));
+    }
+
+    public Optional<ImportJob> findJob(long id, long companyId) {
+        return jdbcTemplate.query(SELECT_JOB, JOB_MAPPER, id, companyId).stream().findFirst();
+    }
+
+    public List<ImportJob> findJobs(long companyId, int limit) {
+        return jdbcTemplate.query(SELECT_JOBS, JOB_MAPPER, companyId, limit);
+    }
+
+    /**
+     * Assume o próximo job disponível com o token informado.
+     *
+     * @param staleBefore heartbeats anteriores a este instante são de workers caídos
+     * @throws org.springframework.dao.DuplicateKeyException se outra instância assumiu ao
+     *                                                       mesmo tempo um job da mesma empresa
+     */
+    public Optional<ImportJob> claimNext(long leaseToken, Instant now, Instant staleBefore) {
+        Timestamp nowTs = Timestamp.from(now);
+        return jdbcTemplate.query(CLAIM_JOB, JOB_MAPPER, nowTs, nowTs, leaseToken, Timestamp.from(staleBefore))
+                .stream().findFirst();
+    }
+
+    /**
+     * Renova o heartbeat; na transação de quem chama, a linha do job fica travada até o
+     * commit, então o job não troca de dono no meio da gravação.
+     *
+     * @return falso se o job não pertence mais a este worker (token diferente)
+     */
+    public boolean heartbeat(long jobId, long leaseToken, Instant now) {
+        return jdbcTemplate.update(HEARTBEAT, Timestamp.from(now), jobId, leaseToken) == 1;
+    }
+
+    /**
+     * Grava o ponto de retomada e soma os contadores do lote.
+     *
+     * @return falso se o job não pertence mais a este worker (token diferente)
+     */
+    public boolean checkpoint(long jobId, long leaseToken, int processedRows, long bytesRead, int inserted,
+                              int updated, int failed, Instant now) {
+        return jdbcTemplate.update(CHECKPOINT, processedRows, bytesRead, inserted, updated, failed,
+                Timestamp.from(now), jobId, leaseToken) == 1;
+    }
+
+    public boolean finish(long jobId, long leaseToken, ImportJobStatus status, String errorMessage, Instant now) {
+        return jdbcTemplate.update(FINISH, status.name(), errorMessage, Timestamp.from(now), jobId, leaseToken) == 1;
+    }
+
+    /**
+     * Devolve à fila um job deste worker (ex.: no desligamento da instância).
+     */
+    public boolean release(long jobId, long leaseToken) {
+        return jdbcTemplate.update(RELEASE, jobId, leaseToken) == 1;
+    }
+
+    /**
+     * Devolve um job com falha para a fila, mantendo o ponto de retomada.
+     */
+    public boolean resume(long jobId, long companyId) {
+        return jdbcTemplate.update(RESUME, jobId, companyId) == 1;
+    }
+
+    public void insertErrors(long jobId, List<ImportRowError> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(errors.size());
+        for (ImportRowError error : errors) {
+            String externalId = error.externalId();
+            if (externalId != null && externalId.length() > MAX_EXTERNAL_ID) {
+                externalId = externalId.substring(0, MAX_EXTERNAL_ID);
+            }
+            args.add(new Object[]{jobId, error.rowNumber(), externalId, error.message()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ERROR, args);
+    }
+
+    public List<ImportRowError> findErrors(long jobId, int afterRow, int limit) {
+        return jdbcTemplate.query(SELECT_ERRORS, (rs, rowNum) -> new ImportRowError(
+                rs.getInt("row_number"), rs.getString("external_id"), rs.getString("message")),
+                jobId, afterRow, limit);
+    }
+
+    public ReferenceData loadReferences(long companyId) {
+        return new ReferenceData(
+                namesToIds(SELECT_AGE_RATINGS, companyId),
+                namesToIds(SELECT_CAST_TYPES, companyId),
+                namesToIds(SELECT_MEDIA_TYPES, companyId));
+    }
+
+    /**
+     * Filmes da empresa com alguma das chaves externas do lote.
+     */
+    public MovieKeyIndex findExisting(long companyId, List<MovieImportRow> rows) {
+        List<String> tmdbIds = new ArrayList<>(rows.size());
+        List<String> imdbIds = new ArrayList<>(rows.size());
+        List<String> ancineNumbers = new ArrayList<>(rows.size());
+        for (MovieImportRow row : rows) {
+            if (row.tmdbId() != null) {
+                tmdbIds.add(row.tmdbId());
+            }
+            if (row.imdbId() != null) {
+                imdbIds.add(row.imdbId());
+            }
+            if (row.ancineNumber() != null) {
+                ancineNumbers.add(row.ancineNumber());
+            }
+        }
+
+        MovieKeyIndex index = new MovieKeyIndex();
+        jdbcTemplate.query(SELECT_EXISTING_MOVIES, ps -> {
+            ps.setLong(1, companyId);
+            ps.setArray(2, varcharArray(ps.getConnection(), tmdbIds));
+            ps.setArray(3, varcharArray(ps.getConnection(), imdbIds));
+            ps.setArray(4, varcharArray(ps.getConnection(), ancineNumbers));
+        }, rs -> {
+            index.add(rs.getLong("id"), rs.getString("tmdb_id"), rs.getString("imdb_id"),
+                    rs.getString("ancine_number"));
+        });
+        return index;
+    }
+
+    /**
+     * Insere os filmes em lote, com os ids e slugs informados na mesma ordem.
+     *
+     * @return para cada filme, se foi inserido (falso quando o slug já existia)
+     */
+    public boolean[] insertMovies(long companyId, long distributorId, List<MovieImportRow> rows, long[] ids,
+                                  List<String> slugs, Instant createdAt) {
+        Timestamp now = Timestamp.from(createdAt);
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MovieImportRow row = rows.get(i);
+            args.add(new Object[]{
+                    ids[i], companyId, distributorId, row.originalTitle(), row.brazilTitle(), row.ancineNumber(),
+                    row.durationMinutes(), row.countryOfOrigin(), row.productionYear(),
+                    Boolean.TRUE.equals(row.national()), now, row.synopsis(), row.shortSynopsis(), row.website(),
+                    row.tmdbId(), row.imdbId(), row.worldwideReleaseDate(), row.originalLanguage(), slugs.get(i),
+                    row.ageRatingId()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_MOVIE, args);
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return inserted;
+    }
+
+    public void updateMovies(long companyId, long distributorId, List<MovieImportRow> rows, long[] ids) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MovieImportRow row = rows.get(i);
+            args.add(new Object[]{
+                    distributorId, row.originalTitle(), row.durationMinutes(), row.brazilTitle(), row.tmdbId(),
+                    row.imdbId(), row.ancineNumber(), row.countryOfOrigin(), row.productionYear(), row.national(),
+                    row.synopsis(), row.shortSynopsis(), row.website(), row.worldwideReleaseDate(),
+                    row.originalLanguage(), row.ageRatingId(), ids[i], companyId});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_MOVIE, args);
+    }
+
+    /**
+     * Insere o elenco que o filme ainda não tem.
+     *
+     * @param ids ids para os novos registros, um por integrante, na ordem de {@code cast}
+     */
+    public void insertCast(List<Long> movieIds, List<CastRow> cast, long[] ids, Instant createdAt) {
+        Timestamp now = Timestamp.from(createdAt);
+        List<Object[]> args = new ArrayList<>(cast.size());
+        for (int i = 0; i < cast.size(); i++) {
+            CastRow member = cast.get(i);
+            long movieId = movieIds.get(i);
+            args.add(new Object[]{
+                    ids[i], movieId, member.castTypeId(), member.artistName(), member.characterName(),
+                    member.creditOrder(), member.photoUrl(), now, movieId, member.castTypeId(), member.artistName()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CAST, args);
+    }
+
+    /**
+     * Insere as mídias (por URL) que o filme ainda não tem.
+     *
+     * @param ids ids para os novos registros, um por mídia, na ordem de {@code media}
+     */
+    public void insertMedia(List<Long> movieIds, List<MediaRow> media, long[] ids, Instant createdAt) {
+        Timestamp now = Timestamp.from(createdAt);
+        List<Object[]> args = new ArrayList<>(media.size());
+        for (int i = 0; i < media.size(); i++) {
+            MediaRow item = media.get(i);
+            long movieId = movieIds.get(i);
+            args.add(new Object[]{
+                    ids[i], movieId, item.mediaTypeId(), item.url(), item.title(), item.description(), item.width(),
+                    item.height(), now, movieId, item.url()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEDIA, args);
+    }
+
+    private Map<String, Long> namesToIds(String sql, long companyId) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.putIfAbsent(ReferenceData.key(rs.getString(2)), rs.getLong(1));
+        }, companyId);
+        return ids;
+    }
+
+    private static Array varcharArray(Connection connection, List<String> values) throws SQLException {
+        return connection.createArrayOf("VARCHAR", values.toArray());
+    }
+
+    private static final RowMapper<ImportJob> JOB_MAPPER = (rs, rowNum) -> new ImportJob(
+            rs.getLong("id"),
+            rs.getLong("company_id"),
+            rs.getLong("distributor_id"),
+            FeedFormat.valueOf(rs.getString("format")),
+            rs.getString("source_key"),
+            rs.getLong("source_size"),
+            ImportJobStatus.valueOf(rs.getString("status")),
+            rs.getInt("processed_rows"),
+            rs.getInt("inserted_rows"),
+            rs.getInt("updated_rows"),
+            rs.getInt("failed_rows"),
+            rs.getLong("bytes_read"),
+            rs.getString("error_message"),
+            rs.getObject("created_by", Long.class),
+            instant(rs, "created_at"),
+            instant(rs, "started_at"),
+            instant(rs, "finished_at"),
+            instant(rs, "heartbeat_at"));
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : value.toInstant();
+    }
+}
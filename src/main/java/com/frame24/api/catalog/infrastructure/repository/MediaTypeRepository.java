@@ -6,4 +6,6 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MediaTypeRepository extends JpaRepository<MediaType, Long> {
+
+    boolean existsByIdAndCompanyId(Long id, Long companyId);
 }
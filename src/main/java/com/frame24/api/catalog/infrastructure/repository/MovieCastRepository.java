@@ -2,8 +2,16 @@ package com.frame24.api.catalog.infrastructure.repository;
 
 import com.frame24.api.catalog.domain.MovieCast;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MovieCastRepository extends JpaRepository<MovieCast, Long> {
+
+    @Query("SELECT c FROM MovieCast c JOIN FETCH c.castType WHERE c.movie.id = :movieId AND c.active = true "
+            + "ORDER BY c.creditOrder, c.artistName")
+    List<MovieCast> findActiveByMovieId(@Param("movieId") Long movieId);
 }
@@ -2,8 +2,35 @@ package com.frame24.api.catalog.infrastructure.repository;
 
 import com.frame24.api.catalog.domain.MovieMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
 
 @Repository
 public interface MovieMediaRepository extends JpaRepository<MovieMedia, Long> {
+
+    @Query("SELECT mm FROM MovieMedia mm JOIN FETCH mm.mediaType WHERE mm.movie.id = :movieId AND mm.active = true "
+            + "ORDER BY mm.createdAt, mm.id")
+    List<MovieMedia> findActiveByMovieId(@Param("movieId") Long movieId);
+
+    /**
+     * Reserva o arquivo para uma mídia inativa, ativada ao fim do processamento.
+     *
+     * @return 0 se o arquivo já tem mídia no filme
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO catalog.movie_media (id, movie_id, media_type, media_url, title, description, active, created_at)
+            VALUES (:id, :movieId, :mediaTypeId, :mediaUrl, :title, :description, false, :createdAt)
+            ON CONFLICT (movie_id, media_url) DO NOTHING
+            """, nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("movieId") Long movieId, @Param("mediaTypeId") Long mediaTypeId,
+              @Param("mediaUrl") String mediaUrl, @Param("title") String title,
+              @Param("description") String description, @Param("createdAt") Instant createdAt);
 }
@@ -2,8 +2,20 @@ package com.frame24.api.catalog.infrastructure.repository;
 
 import com.frame24.api.catalog.domain.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
+
+    @Query("SELECT m FROM Movie m LEFT JOIN FETCH m.ageRating WHERE m.id = :id AND m.companyId = :companyId")
+    Optional<Movie> findDetailById(@Param("id") Long id, @Param("companyId") Long companyId);
+
+    @Query("SELECT m.id FROM Movie m WHERE m.slug = :slug AND m.companyId = :companyId")
+    Optional<Long> findIdBySlug(@Param("slug") String slug, @Param("companyId") Long companyId);
+
+    boolean existsByIdAndCompanyId(Long id, Long companyId);
 }
@@ -0,0 +1,139 @@
+package com.frame24.api.catalog.infrastructure.repository;
+
+import com.frame24.api.catalog.domain.search.MovieDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura dos campos de filmes usados pelo índice de busca.
+ *
+ * <p>
+ * A carga de uma empresa inteira faz três consultas (filmes, elenco e categorias),
+ * montando os documentos em memória, em vez de percorrer as associações das entidades.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieSearchJdbcRepository {
+
+    private static final String SELECT_COMPANY_IDS = """
+            SELECT id FROM identity.companies
+            """;
+
+    private static final String SELECT_MOVIES = """
+            SELECT id, original_title, brazil_title, short_synopsis, tags_json, active
+            FROM catalog.movies
+            WHERE company_id = ?
+            """;
+
+    private static final String SELECT_CAST = """
+            SELECT mc.movie_id, mc.artist_name
+            FROM catalog.movie_cast mc
+            JOIN catalog.movies m ON m.id = mc.movie_id
+            WHERE m.company_id = ? AND mc.active = true
+            """;
+
+    private static final String SELECT_CATEGORIES = """
+            SELECT moc.movie_id, c.name
+            FROM catalog.movies_on_categories moc
+            JOIN catalog.movies m ON m.id = moc.movie_id
+            JOIN catalog.movie_categories c ON c.id = moc.category_id
+            WHERE m.company_id = ?
+            """;
+
+    private static final String SELECT_MOVIES_BY_ID = """
+            SELECT id, original_title, brazil_title, short_synopsis, tags_json, active
+            FROM catalog.movies
+            WHERE id = ANY(?)
+            """;
+
+    private static final String SELECT_CAST_BY_MOVIE = """
+            SELECT movie_id, artist_name FROM catalog.movie_cast WHERE movie_id = ANY(?) AND active = true
+            """;
+
+    private static final String SELECT_CATEGORIES_BY_MOVIE = """
+            SELECT moc.movie_id, c.name
+            FROM catalog.movies_on_categories moc
+            JOIN catalog.movie_categories c ON c.id = moc.category_id
+            WHERE moc.movie_id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public List<Long> findCompanyIds() {
+        return jdbcTemplate.queryForList(SELECT_COMPANY_IDS, Long.class);
+    }
+
+    /**
+     * Documentos de busca de todos os filmes da empresa, ativos ou não.
+     */
+    @Transactional(readOnly = true)
+    public List<MovieDocument> loadDocuments(long companyId) {
+        Map<Long, List<String>> cast = groupByMovie(SELECT_CAST, companyId);
+        Map<Long, List<String>> categories = groupByMovie(SELECT_CATEGORIES, companyId);
+
+        return jdbcTemplate.query(SELECT_MOVIES, (rs, rowNum) -> {
+            long id = rs.getLong("id");
+            return new MovieDocument(
+                    id,
+                    rs.getString("original_title"),
+                    rs.getString("brazil_title"),
+                    rs.getString("short_synopsis"),
+                    cast.getOrDefault(id, List.of()),
+                    categories.getOrDefault(id, List.of()),
+                    rs.getString("tags_json"),
+                    rs.getBoolean("active"));
+        }, companyId);
+    }
+
+    /**
+     * Documentos de busca de um lote de filmes; filmes inexistentes (ou não visíveis)
+     * ficam de fora.
+     */
+    @Transactional(readOnly = true)
+    public List<MovieDocument> loadDocuments(Collection<Long> movieIds) {
+        Object[] ids = movieIds.toArray();
+        Map<Long, List<String>> cast = groupByMovies(SELECT_CAST_BY_MOVIE, ids);
+        Map<Long, List<String>> categories = groupByMovies(SELECT_CATEGORIES_BY_MOVIE, ids);
+
+        return jdbcTemplate.query(SELECT_MOVIES_BY_ID,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("BIGINT", ids)),
+                (rs, rowNum) -> {
+                    long id = rs.getLong("id");
+                    return new MovieDocument(
+                            id,
+                            rs.getString("original_title"),
+                            rs.getString("brazil_title"),
+                            rs.getString("short_synopsis"),
+                            cast.getOrDefault(id, List.of()),
+                            categories.getOrDefault(id, List.of()),
+                            rs.getString("tags_json"),
+                            rs.getBoolean("active"));
+                });
+    }
+
+    private Map<Long, List<String>> groupByMovies(String sql, Object[] movieIds) {
+        Map<Long, List<String>> values = new HashMap<>();
+        jdbcTemplate.query(sql, ps -> ps.setArray(1, ps.getConnection().createArrayOf("BIGINT", movieIds)), rs -> {
+            values.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+        });
+        return values;
+    }
+
+    private Map<Long, List<String>> groupByMovie(String sql, long companyId) {
+        Map<Long, List<String>> values = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            values.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+        }, companyId);
+        return values;
+    }
+}
@@ -3,8 +3,16 @@ package com.frame24.api.catalog.infrastructure.repository;
 import com.frame24.api.catalog.domain.MoviesOnCategory;
 import com.frame24.api.catalog.domain.MoviesOnCategoryId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MoviesOnCategoryRepository extends JpaRepository<MoviesOnCategory, MoviesOnCategoryId> {
+
+    @Query("SELECT mc FROM MoviesOnCategory mc JOIN FETCH mc.category WHERE mc.movie.id = :movieId "
+            + "ORDER BY mc.category.name")
+    List<MoviesOnCategory> findByMovieIdWithCategory(@Param("movieId") Long movieId);
 }
@@ -0,0 +1,97 @@
+package com.frame24.api.catalog.infrastructure.repository;
+
+import com.frame24.api.catalog.domain.pricing.PriceSource;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ComboRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductPriceRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Leitura dos dados de preço de um complexo para compilação da {@link PriceSource}.
+ *
+ * <p>
+ * Três consultas por complexo, independentemente do número de produtos: preços já
+ * encerrados e registros inativos são descartados no SQL.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceTableJdbcRepository {
+
+    private static final String EXISTS_COMPLEX = """
+            SELECT EXISTS (SELECT 1 FROM operations.cinema_complexes WHERE id = ? AND company_id = ?)
+            """;
+
+    private static final String SELECT_PRODUCTS = """
+            SELECT id, name, barcode
+            FROM catalog.products
+            WHERE company_id = ? AND COALESCE(active, true) = true
+            """;
+
+    private static final String SELECT_PRICES = """
+            SELECT product_id, complex_id, sale_price, valid_from, valid_to
+            FROM catalog.product_prices
+            WHERE company_id = ? AND active = true
+              AND (complex_id = ? OR complex_id IS NULL)
+              AND (valid_to IS NULL OR valid_to > ?)
+            """;
+
+    private static final String SELECT_COMBOS = """
+            SELECT id, combo_code, name, sale_price, promotional_price, promotion_start_date, promotion_end_date
+            FROM catalog.combos
+            WHERE company_id = ? AND COALESCE(active, true) = true
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Se o complexo existe e pertence à empresa.
+     */
+    @Transactional(readOnly = true)
+    public boolean complexExists(long companyId, long complexId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_COMPLEX, Boolean.class, complexId, companyId));
+    }
+
+    @Transactional(readOnly = true)
+    public PriceSource load(long companyId, long complexId, Instant now) {
+        List<ProductRow> products = jdbcTemplate.query(SELECT_PRODUCTS, (rs, rowNum) -> new ProductRow(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("barcode")), companyId);
+
+        List<ProductPriceRow> prices = jdbcTemplate.query(SELECT_PRICES, (rs, rowNum) -> new ProductPriceRow(
+                rs.getLong("product_id"),
+                rs.getObject("complex_id", Long.class),
+                rs.getBigDecimal("sale_price"),
+                rs.getTimestamp("valid_from").toInstant(),
+                toInstant(rs.getTimestamp("valid_to"))), companyId, complexId, Timestamp.from(now));
+
+        List<ComboRow> combos = jdbcTemplate.query(SELECT_COMBOS, (rs, rowNum) -> new ComboRow(
+                rs.getLong("id"),
+                rs.getString("combo_code"),
+                rs.getString("name"),
+                rs.getBigDecimal("sale_price"),
+                rs.getBigDecimal("promotional_price"),
+                toLocalDate(rs.getDate("promotion_start_date")),
+                toLocalDate(rs.getDate("promotion_end_date"))), companyId);
+
+        return new PriceSource(companyId, complexId, products, prices, combos);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,257 @@
+package com.frame24.api.catalog.infrastructure.storage;
+
+import com.frame24.api.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Armazenamento de mídias de filmes no S3 (MinIO em desenvolvimento).
+ *
+ * <p>
+ * {@link #upload} envia um stream sem carregá-lo inteiro: o conteúdo é lido em partes de
+ * {@code media.upload.part-size} em um único buffer reaproveitado e cada parte vai ao S3
+ * em um multipart upload, então a memória por upload é uma parte, não o arquivo.
+ * Arquivos menores que uma parte vão em um único PUT. Falhas abortam o multipart para
+ * não deixar partes órfãs no bucket.
+ * </p>
+ *
+ * <p>
+ * As mídias são gravadas como {@code s3://bucket/chave}; clientes recebem URLs
+ * pré-assinadas e baixam (ou enviam) os arquivos direto do storage.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MediaStorage {
+
+    /** Menor parte aceita pelo S3, exceto a última. */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * Objeto armazenado.
+     */
+    public record StoredObject(String key, long size, String contentType) {
+    }
+
+    /**
+     * URL pré-assinada e o instante em que deixa de valer.
+     */
+    public record PresignedUrl(String url, Instant expiresAt) {
+    }
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final int partSize;
+
+    public MediaStorage(
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            @Value("${media.storage.bucket:frame24}") String bucket,
+            @Value("${media.upload.part-size:8MB}") DataSize partSize) {
+        if (partSize.toBytes() < MIN_PART_SIZE || partSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("media.upload.part-size deve estar entre 5MB e 2GB");
+        }
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.partSize = (int) partSize.toBytes();
+    }
+
+    /**
+     * Envia o conteúdo do stream para a chave, em partes.
+     *
+     * @param maxBytes tamanho máximo aceito
+     * @return tamanho gravado em bytes
+     * @throws ValidationException se o conteúdo é vazio ou passa de {@code maxBytes}
+     */
+    public long upload(String key, String contentType, InputStream in, long maxBytes) {
+        byte[] buffer = new byte[partSize];
+        int filled = fill(in, buffer);
+        if (filled == 0) {
+            throw new ValidationException("file", "Arquivo vazio");
+        }
+        if (filled > maxBytes) {
+            throw new ValidationException("file", "Arquivo maior que o limite de " + maxBytes + " bytes");
+        }
+        if (filled < partSize) {
+            put(key, contentType, buffer, filled);
+            return filled;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long total = 0;
+            while (filled > 0) {
+                total += filled;
+                if (total > maxBytes) {
+                    throw new ValidationException("file", "Arquivo maior que o limite de " + maxBytes + " bytes");
+                }
+                int partNumber = parts.size() + 1;
+                String etag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) filled)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, filled), filled)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+                filled = fill(in, buffer);
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            return total;
+        } catch (RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * Grava um conteúdo já em memória (ex.: variantes geradas de uma imagem).
+     */
+    public void put(String key, String contentType, byte[] content) {
+        put(key, contentType, content, content.length);
+    }
+
+    public Optional<StoredObject> head(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(request -> request.bucket(bucket).key(key));
+            return Optional.of(new StoredObject(key, response.contentLength(), response.contentType()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stream do conteúdo do objeto; deve ser fechado por quem chama.
+     */
+    public ResponseInputStream<GetObjectResponse> open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            log.warn("Falha ao remover objeto {} do storage: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * URL para baixar o objeto direto do storage.
+     */
+    public PresignedUrl presignDownload(String key, Duration ttl) {
+        var presigned = s3Presigner.presignGetObject(request -> request
+                .signatureDuration(ttl)
+                .getObjectRequest(get -> get.bucket(bucket).key(key)));
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    /**
+     * URL para o cliente enviar o arquivo direto ao storage com um PUT, usando o mesmo
+     * {@code Content-Type} e {@code Content-Length} informados aqui (ambos entram na
+     * assinatura).
+     */
+    public PresignedUrl presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        var presigned = s3Presigner.presignPutObject(request -> request
+                .signatureDuration(ttl)
+                .putObjectRequest(put -> put.bucket(bucket).key(key).contentType(contentType)
+                        .contentLength(contentLength)));
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
+    /**
+     * Localização gravada nas mídias: {@code s3://bucket/chave}.
+     */
+    public String location(String key) {
+        return "s3://" + bucket + "/" + key;
+    }
+
+    /**
+     * Chave de uma localização deste bucket; vazio para URLs externas ou outros buckets.
+     */
+    public Optional<String> keyOf(String location) {
+        String prefix = "s3://" + bucket + "/";
+        return location != null && location.startsWith(prefix)
+                ? Optional.of(location.substring(prefix.length()))
+                : Optional.empty();
+    }
+
+    private void put(String key, String contentType, byte[] content, int length) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) length)
+                        .build(),
+                RequestBody.fromInputStream(new ByteArrayInputStream(content, 0, length), length));
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (S3Exception e) {
+            log.warn("Falha ao abortar multipart upload de {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Lê até encher o buffer ou acabar o stream.
+     */
+    private static int fill(InputStream in, byte[] buffer) {
+        try {
+            return in.readNBytes(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo enviado", e);
+        }
+    }
+}
@@ -22,9 +22,11 @@
  * 
  * <h3>Eventos Publicados:</h3>
  * <ul>
- * <li>{@code MovieAddedEvent} - Quando um filme é adicionado</li>
- * <li>{@code MovieUpdatedEvent} - Quando informações de filme são
- * atualizadas</li>
+ * <li>{@code MovieChangedEvent} - Quando um filme é adicionado, atualizado ou
+ * removido</li>
+ * <li>{@code PriceChangedEvent} - Quando preços de produtos ou combos mudam</li>
+ * <li>{@code MoviesImportedEvent} - A cada lote de filmes gravado por uma importação
+ * de catálogo</li>
  * </ul>
  * 
  * <h3>Dependências:</h3>
@@ -0,0 +1,94 @@
+package com.frame24.api.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Barramento de invalidação de caches locais (near-cache) entre instâncias via Redis pub/sub.
+ *
+ * <p>
+ * Cada cache local registra um handler pelo nome; quando uma instância altera ou remove
+ * uma entrada, publica {@code (cache, chave)} no canal e as demais descartam a cópia local
+ * em milissegundos. Mensagens publicadas pela própria instância são ignoradas, pois o
+ * cache local já foi atualizado diretamente.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * invalidationBus.register("user-session", key -> localCache.invalidate(Long.valueOf(key)));
+ * invalidationBus.publish("user-session", String.valueOf(userId));
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("frame24:cache:invalidation");
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    /**
+     * Registra o handler que remove a chave do cache local indicado.
+     *
+     * @param cacheName Nome lógico do cache
+     * @param handler   Recebe a chave invalidada
+     */
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * Publica a invalidação de uma chave para as demais instâncias.
+     *
+     * <p>
+     * Falhas de publicação são apenas registradas: o TTL curto do cache local limita
+     * o tempo em que uma entrada desatualizada pode ser servida.
+     * </p>
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            log.error("Erro ao publicar invalidação de cache {}:{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = body.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            log.warn("Mensagem de invalidação de cache inválida: {}", body);
+            return;
+        }
+        if (first == nodeId.length() && body.startsWith(nodeId)) {
+            return;
+        }
+
+        Consumer<String> handler = handlers.get(body.substring(first + 1, second));
+        if (handler != null) {
+            handler.accept(body.substring(second + 1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.frame24.api.common.config;
+
+import com.frame24.api.common.security.RlsTransactionManager;
+import com.frame24.api.common.security.SecurityContextTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Configuração do contexto de Row Level Security (RLS).
+ *
+ * <p>
+ * Substitui o gerenciador de transações padrão do Spring Boot por um
+ * {@link RlsTransactionManager}, que aplica as variáveis de sessão do PostgreSQL
+ * no início de cada transação. Desative com {@code app.rls.enabled=false}
+ * (ex.: testes com H2, que não possui {@code set_config}).
+ * </p>
+ *
+ * <p>
+ * O {@link SecurityContextTaskDecorator} é aplicado pelo Spring Boot ao executor
+ * da aplicação, levando o usuário autenticado para tarefas assíncronas.
+ * </p>
+ */
+@Configuration
+public class RlsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rls.enabled", havingValue = "true", matchIfMissing = true)
+    public RlsTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+            MeterRegistry meterRegistry) {
+        return new RlsTransactionManager(entityManagerFactory, meterRegistry);
+    }
+
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return new SecurityContextTaskDecorator();
+    }
+}
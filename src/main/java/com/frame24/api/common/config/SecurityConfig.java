@@ -4,6 +4,7 @@ import com.frame24.api.common.security.CustomAccessDeniedHandler;
 import com.frame24.api.common.security.CustomAuthenticationEntryPoint;
 import com.frame24.api.common.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,9 +29,13 @@ public class SecurityConfig {
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
+    /**
+     * Encoder BCrypt com custo configurável. O uso em requisições passa pelo
+     * {@link com.frame24.api.common.security.PasswordHashingService}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -43,6 +48,8 @@ public class SecurityConfig {
                         .permitAll()
                         .requestMatchers("/register").permitAll()
                         .requestMatchers("/auth/**").permitAll()
+                        // Handshake STOMP; o token é validado no CONNECT (StompAuthenticationInterceptor)
+                        .requestMatchers("/ws/**").permitAll()
                         .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session
@@ -0,0 +1,57 @@
+package com.frame24.api.common.config;
+
+import com.frame24.api.common.id.RedisWorkerIdLease;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
+import com.frame24.api.common.id.StaticWorkerIdLease;
+import com.frame24.api.common.id.WorkerIdLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuração do gerador de IDs Snowflake.
+ *
+ * <p>
+ * Com {@code snowflake.lease.enabled=true} (padrão) cada instância reserva um
+ * worker ID livre no Redis e o renova via heartbeat, permitindo escalar
+ * horizontalmente sem configuração manual. Com {@code false}, usa os valores
+ * fixos de {@code snowflake.worker-id} e {@code snowflake.datacenter-id}.
+ * </p>
+ */
+@Configuration
+public class SnowflakeConfig {
+
+    @Bean(destroyMethod = "release")
+    @ConditionalOnProperty(name = "snowflake.lease.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisWorkerIdLease redisWorkerIdLease(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${snowflake.datacenter-id:1}") long datacenterId,
+            @Value("${snowflake.lease.ttl:30s}") Duration ttl,
+            @Value("${snowflake.lease.safety-margin:2s}") Duration safetyMargin) {
+        RedisWorkerIdLease lease = new RedisWorkerIdLease(redisTemplate, datacenterId, ttl, safetyMargin);
+        lease.acquire();
+        lease.bindTo(meterRegistry);
+        return lease;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "snowflake.lease.enabled", havingValue = "false")
+    public StaticWorkerIdLease staticWorkerIdLease(
+            @Value("${snowflake.worker-id:1}") long workerId,
+            @Value("${snowflake.datacenter-id:1}") long datacenterId) {
+        return new StaticWorkerIdLease(workerId, datacenterId);
+    }
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(
+            WorkerIdLease workerIdLease,
+            @Value("${snowflake.thread-block-size:1}") int threadBlockSize) {
+        return new SnowflakeIdGenerator(workerIdLease, threadBlockSize);
+    }
+}
@@ -0,0 +1,92 @@
+package com.frame24.api.common.config;
+
+import com.frame24.api.common.security.StompAuthenticationInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * Canal STOMP sobre WebSocket ({@code /ws}) para notificações em tempo real.
+ *
+ * <p>
+ * Usa o broker em memória ({@code /topic}); os clientes apenas se inscrevem, e a
+ * autenticação/autorização fica no {@link StompAuthenticationInterceptor}. Para suportar
+ * milhares de inscritos por destino, o envio a cada sessão é limitado por tempo e por
+ * buffer ({@code websocket.send-time-limit-ms}, {@code websocket.send-buffer-size-limit}):
+ * clientes lentos que excedem os limites são desconectados em vez de reter memória, e
+ * devem reconectar e recarregar o estado. A ordem de publicação é preservada por sessão.
+ * </p>
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private static final long HEARTBEAT_MS = 10_000;
+
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+    private final TaskScheduler messageBrokerTaskScheduler;
+    private final String[] allowedOriginPatterns;
+    private final int messageSizeLimit;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+    private final int outboundPoolSize;
+
+    public WebSocketConfig(
+            StompAuthenticationInterceptor stompAuthenticationInterceptor,
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+            @Value("${websocket.allowed-origin-patterns:}") String[] allowedOriginPatterns,
+            @Value("${websocket.message-size-limit:16384}") int messageSizeLimit,
+            @Value("${websocket.send-time-limit-ms:10000}") int sendTimeLimitMs,
+            @Value("${websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+            @Value("${websocket.outbound.pool-size:8}") int outboundPoolSize) {
+        this.stompAuthenticationInterceptor = stompAuthenticationInterceptor;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.allowedOriginPatterns = allowedOriginPatterns;
+        this.messageSizeLimit = messageSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.outboundPoolSize = outboundPoolSize;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{HEARTBEAT_MS, HEARTBEAT_MS})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        // Clientes só enviam CONNECT/SUBSCRIBE: mensagens de entrada pequenas bastam
+        registry.setMessageSizeLimit(messageSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize);
+    }
+}
@@ -0,0 +1,10 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando um filme do catálogo é criado, alterado (inclusive elenco e
+ * categorias) ou removido.
+ * <p>
+ * Usado para manter atualizado o índice de busca de filmes da empresa.
+ */
+public record MovieChangedEvent(Long companyId, Long movieId) {
+}
@@ -0,0 +1,12 @@
+package com.frame24.api.common.event;
+
+import java.util.List;
+
+/**
+ * Evento publicado a cada lote gravado por uma importação de catálogo, com os filmes
+ * inseridos ou atualizados no lote (inclusive elenco e mídias).
+ * <p>
+ * Substitui um {@link MovieChangedEvent} por filme: consumidores tratam o lote de uma vez.
+ */
+public record MoviesImportedEvent(Long companyId, List<Long> movieIds) {
+}
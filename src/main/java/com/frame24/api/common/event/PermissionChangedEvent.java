@@ -0,0 +1,11 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando uma role ou suas permissões são criadas, alteradas ou removidas.
+ * <p>
+ * Usado para invalidar os conjuntos de authorities pré-compilados da empresa.
+ */
+public record PermissionChangedEvent(
+        Long companyId,
+        Long roleId) {
+}
@@ -0,0 +1,10 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando preços de produtos ou combos da empresa são criados, alterados
+ * ou removidos (inclusive produtos e combos ativados ou desativados).
+ * <p>
+ * Usado para recompilar as tabelas de preço dos complexos da empresa mantidas em memória.
+ */
+public record PriceChangedEvent(Long companyId) {
+}
@@ -0,0 +1,10 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando um cadastro auxiliar de operações (tipos de áudio, projeção e
+ * assento, idiomas, status de sessão e de assento) é criado, alterado ou removido.
+ * <p>
+ * Usado para descartar a fotografia desses cadastros mantida em memória para a empresa.
+ */
+public record ReferenceDataChangedEvent(Long companyId) {
+}
@@ -0,0 +1,12 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando dados cadastrais de uma sala (nome, capacidade) são alterados
+ * sem mudança nos assentos.
+ * <p>
+ * Usado para manter atualizado o modelo de leitura de ocupação das sessões.
+ */
+public record RoomChangedEvent(
+        Long companyId,
+        Long roomId) {
+}
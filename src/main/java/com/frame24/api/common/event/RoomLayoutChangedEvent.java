@@ -0,0 +1,12 @@
+package com.frame24.api.common.event;
+
+/**
+ * Evento publicado quando assentos de uma sala são criados, alterados ou removidos.
+ * <p>
+ * Usado para descartar layouts de sala e inventários de sessão montados a partir
+ * da configuração anterior.
+ */
+public record RoomLayoutChangedEvent(
+        Long companyId,
+        Long roomId) {
+}
@@ -0,0 +1,22 @@
+package com.frame24.api.common.event;
+
+import java.util.List;
+
+/**
+ * Evento publicado quando uma reserva temporária de assentos é liberada, seja pelo
+ * cliente ou por expiração.
+ * <p>
+ * Os assentos voltam a ficar disponíveis para venda no momento da publicação.
+ */
+public record SeatReleasedEvent(
+        Long companyId,
+        Long showtimeId,
+        String reservationUuid,
+        List<Long> seatIds,
+        Reason reason) {
+
+    public enum Reason {
+        RELEASED,
+        EXPIRED
+    }
+}
@@ -3,6 +3,7 @@ package com.frame24.api.common.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -84,6 +85,28 @@ public class GlobalExceptionHandler {
                 .body(ApiErrorResponse.externalService(ex.getServiceName(), ex.getMessage(), traceId));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex,
+                                                                    HttpServletRequest request) {
+        String traceId = generateTraceId();
+        log.warn("[{}] Serviço sobrecarregado: {}", traceId, ex.getMessage());
+
+        var response = ApiErrorResponse.builder()
+                .error(ApiErrorResponse.ErrorDetails.builder()
+                        .code("SERVICE_OVERLOADED")
+                        .title("Serviço Temporariamente Sobrecarregado")
+                        .detail(ex.getMessage())
+                        .suggestion("Aguarde alguns segundos e tente novamente")
+                        .build())
+                .timestamp(Instant.now())
+                .traceId(traceId)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiErrorResponse> handleBusiness(BusinessException ex, HttpServletRequest request) {
         String traceId = generateTraceId();
@@ -0,0 +1,19 @@
+package com.frame24.api.common.exception;
+
+/**
+ * Exceção para recurso temporariamente saturado (503).
+ * A resposta inclui o header {@code Retry-After}.
+ */
+public class ServiceOverloadedException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,214 @@
+package com.frame24.api.common.id;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Concessão de worker ID coordenada via Redis.
+ *
+ * <p>
+ * Na inicialização a instância reserva um slot livre com {@code SET NX PX}
+ * na chave {@code snowflake:worker:{datacenter}:{slot}} e o renova periodicamente
+ * (heartbeat). Assim réplicas criadas pelo autoscaling recebem worker IDs distintos
+ * sem configuração manual.
+ * </p>
+ *
+ * <p>
+ * A validade é controlada também localmente: cada renovação bem-sucedida estende
+ * o prazo para {@code início da renovação + ttl - margem}. Se o Redis ficar
+ * inacessível ou outro nó assumir o slot, o prazo vence e o gerador passa a
+ * recusar novos IDs em vez de arriscar colisões.
+ * </p>
+ *
+ * <pre>
+ * snowflake.lease.enabled=true
+ * snowflake.lease.ttl=30s
+ * snowflake.lease.heartbeat-interval-ms=10000
+ * snowflake.lease.safety-margin=2s
+ * </pre>
+ */
+@Slf4j
+public class RedisWorkerIdLease implements WorkerIdLease {
+
+    private static final String KEY_PREFIX = "snowflake:worker:";
+    private static final int SLOT_COUNT = 32;
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long datacenterId;
+    private final Duration ttl;
+    private final long safetyMarginMs;
+    private final String nodeId;
+    private final List<String> slotKeys;
+
+    private volatile long workerId = -1L;
+    private volatile long validUntil = 0L;
+    private volatile long epoch = 0L;
+    private volatile int slotsInUse = 0;
+
+    public RedisWorkerIdLease(
+            StringRedisTemplate redisTemplate,
+            long datacenterId,
+            Duration ttl,
+            Duration safetyMargin) {
+        if (safetyMargin.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("snowflake.lease.safety-margin deve ser menor que o TTL");
+        }
+        this.redisTemplate = redisTemplate;
+        this.datacenterId = datacenterId;
+        this.ttl = ttl;
+        this.safetyMarginMs = safetyMargin.toMillis();
+        this.nodeId = UUID.randomUUID().toString();
+
+        List<String> keys = new ArrayList<>(SLOT_COUNT);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            keys.add(KEY_PREFIX + datacenterId + ":" + slot);
+        }
+        this.slotKeys = List.copyOf(keys);
+    }
+
+    /**
+     * Reserva o primeiro slot livre, começando de uma posição aleatória para
+     * reduzir disputa quando várias réplicas sobem ao mesmo tempo.
+     *
+     * @throws IllegalStateException se todos os 32 slots estiverem ocupados
+     */
+    public void acquire() {
+        int offset = ThreadLocalRandom.current().nextInt(SLOT_COUNT);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int slot = (offset + i) % SLOT_COUNT;
+            long start = System.currentTimeMillis();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(slotKeys.get(slot), nodeId, ttl))) {
+                this.workerId = slot;
+                this.validUntil = start + ttl.toMillis() - safetyMarginMs;
+                this.epoch++;
+                refreshSlotsInUse();
+                log.info("Worker ID Snowflake concedido: datacenter={}, worker={}, node={}",
+                        datacenterId, slot, nodeId);
+                return;
+            }
+        }
+        throw new IllegalStateException(String.format(
+                "Nenhum worker ID livre no datacenter %d (%d slots ocupados)", datacenterId, SLOT_COUNT));
+    }
+
+    /**
+     * Renova a concessão (heartbeat).
+     *
+     * <p>
+     * Se a chave expirou mas o slot continua livre, ele é reservado novamente.
+     * Se outro nó assumiu o slot, a concessão é invalidada imediatamente.
+     * Falhas de comunicação com o Redis não invalidam a concessão: o prazo local
+     * simplesmente deixa de ser estendido.
+     * </p>
+     */
+    @Scheduled(
+            initialDelayString = "${snowflake.lease.heartbeat-interval-ms:10000}",
+            fixedDelayString = "${snowflake.lease.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (workerId < 0) {
+            return;
+        }
+        String key = slotKeys.get((int) workerId);
+        long start = System.currentTimeMillis();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), nodeId, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                validUntil = start + ttl.toMillis() - safetyMarginMs;
+            } else if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, nodeId, ttl))) {
+                validUntil = start + ttl.toMillis() - safetyMarginMs;
+                epoch++;
+                log.warn("Concessão do worker ID {} havia expirado e foi reservada novamente", workerId);
+            } else {
+                validUntil = 0L;
+                epoch++;
+                log.error("Worker ID {} assumido por outro nó. Geração de IDs Snowflake suspensa", workerId);
+            }
+            refreshSlotsInUse();
+        } catch (Exception e) {
+            log.warn("Falha ao renovar concessão do worker ID {}: {}", workerId, e.getMessage());
+        }
+    }
+
+    /**
+     * Libera o slot no shutdown para que possa ser reaproveitado imediatamente.
+     */
+    public void release() {
+        if (workerId < 0) {
+            return;
+        }
+        validUntil = 0L;
+        epoch++;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(slotKeys.get((int) workerId)), nodeId);
+            log.info("Worker ID Snowflake {} liberado", workerId);
+        } catch (Exception e) {
+            log.warn("Falha ao liberar worker ID {}: {}", workerId, e.getMessage());
+        }
+    }
+
+    /**
+     * Registra as métricas {@code snowflake.worker.slots.in_use} e
+     * {@code snowflake.worker.lease.valid}.
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("snowflake.worker.slots.in_use", this, lease -> lease.slotsInUse)
+                .description("Worker IDs Snowflake ocupados no datacenter")
+                .tag("datacenter", String.valueOf(datacenterId))
+                .register(registry);
+        Gauge.builder("snowflake.worker.lease.valid", this,
+                        lease -> lease.isValidAt(System.currentTimeMillis()) ? 1 : 0)
+                .description("1 se esta instância possui uma concessão de worker ID válida")
+                .register(registry);
+    }
+
+    private void refreshSlotsInUse() {
+        List<String> holders = redisTemplate.opsForValue().multiGet(slotKeys);
+        if (holders != null) {
+            slotsInUse = (int) holders.stream().filter(Objects::nonNull).count();
+        }
+    }
+
+    @Override
+    public long workerId() {
+        return workerId;
+    }
+
+    @Override
+    public long datacenterId() {
+        return datacenterId;
+    }
+
+    @Override
+    public boolean isValidAt(long epochMillis) {
+        return epochMillis < validUntil;
+    }
+
+    @Override
+    public long epoch() {
+        return epoch;
+    }
+}
@@ -38,7 +38,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * <li>Logging para debug em desenvolvimento</li>
  * <li>Tratamento robusto de erros</li>
  * </ul>
+ *
+ * @deprecated Use {@link SnowflakeId} no campo {@code @Id}. O listener atribui o ID
+ *             via reflexão em {@code @PrePersist} e impede o Hibernate de agrupar os
+ *             INSERTs em lote.
  */
+@Deprecated(since = "0.0.1", forRemoval = true)
 @Component
 public class SnowflakeEntityListener {
 
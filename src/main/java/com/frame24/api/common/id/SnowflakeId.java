@@ -0,0 +1,49 @@
+package com.frame24.api.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o identificador de uma entidade para receber um ID Snowflake.
+ *
+ * <p>
+ * O ID é atribuído pelo próprio Hibernate antes do INSERT (sem reflexão nem
+ * callbacks JPA), o que permite agrupar os INSERTs em lote com
+ * {@code hibernate.jdbc.batch_size} e {@code hibernate.order_inserts}.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * @Entity
+ * public class Seat {
+ *     @Id
+ *     @SnowflakeId
+ *     private Long id;
+ * }
+ * }
+ * </pre>
+ *
+ * <p>
+ * IDs atribuídos manualmente antes do {@code persist} são preservados.
+ * </p>
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+
+    /**
+     * Quantidade de IDs reservados de uma vez por thread.
+     *
+     * <p>
+     * Cada reserva é uma única chamada a {@link SnowflakeIdGenerator#nextIds(int)}. IDs não
+     * usados até o fim do milissegundo da reserva são descartados, então o pool só rende
+     * em rajadas de INSERTs. Use 1 para reservar um ID por INSERT.
+     * </p>
+     */
+    int allocationSize() default 32;
+}
@@ -0,0 +1,49 @@
+package com.frame24.api.common.id;
+
+/**
+ * Sub-faixa de sequências Snowflake reservada por uma única thread.
+ *
+ * <p>
+ * Não é thread-safe: cada instância pertence a uma thread (via {@link ThreadLocal})
+ * e é reabastecida pelo {@link SnowflakeIdGenerator} com um único CAS.
+ * </p>
+ */
+final class SnowflakeIdBlock {
+
+    private long next;
+    private int remaining;
+    private long timestamp = -1L;
+
+    /**
+     * Substitui o bloco atual por uma nova reserva.
+     *
+     * @param start     Palavra de estado da primeira sequência reservada
+     * @param count     Quantidade de sequências reservadas
+     * @param timestamp Milissegundo (relativo ao epoch) da reserva
+     */
+    void reset(long start, int count, long timestamp) {
+        this.next = start;
+        this.remaining = count;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Indica se o bloco ainda tem sequências e não ficou para trás no tempo.
+     *
+     * <p>
+     * Blocos de milissegundos anteriores são descartados para manter os IDs
+     * ordenáveis por tempo entre threads.
+     * </p>
+     */
+    boolean isUsable(long currentTimestamp) {
+        return remaining > 0 && timestamp >= currentTimestamp;
+    }
+
+    /**
+     * Consome a próxima palavra de estado do bloco.
+     */
+    long take() {
+        remaining--;
+        return next++;
+    }
+}
@@ -1,9 +1,8 @@
 package com.frame24.api.common.id;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 
 /**
  * Gerador de IDs Snowflake para o sistema.
@@ -30,12 +29,22 @@ import java.time.Instant;
  *
  * <h3>Otimizações:</h3>
  * <ul>
- * <li>Thread.onSpinWait() para reduzir consumo de CPU</li>
+ * <li>Estado (timestamp + sequência) em uma única palavra atualizada via CAS, sem locks</li>
+ * <li>Reserva de blocos de sequência em um único CAS ({@link #nextIds(int)})</li>
+ * <li>Modo opcional de sub-faixas por thread ({@code snowflake.thread-block-size})</li>
+ * <li>Thread.onSpinWait() quando a sequência do milissegundo se esgota</li>
  * <li>Clock skew tolerance de 50ms (padrão da indústria)</li>
  * <li>Retorno de tipo primitivo long (sem autoboxing)</li>
  * <li>Métodos de extração de componentes para debug</li>
  * </ul>
  *
+ * <p>
+ * O par (datacenter, worker) vem de um {@link WorkerIdLease}. O bean é criado em
+ * {@code SnowflakeConfig}: com {@code snowflake.lease.enabled=true} cada instância
+ * reserva um worker ID livre no Redis; caso contrário usa os valores fixos de
+ * {@code snowflake.worker-id} e {@code snowflake.datacenter-id}.
+ * </p>
+ *
  * <h3>Uso:</h3>
  *
  * <pre>
@@ -44,10 +53,10 @@ import java.time.Instant;
  * private SnowflakeIdGenerator idGenerator;
  *
  * long id = idGenerator.nextId();
+ * long[] seatIds = idGenerator.nextIds(600);
  * }
  * </pre>
  */
-@Component
 public class SnowflakeIdGenerator {
 
     // Epoch customizado (01/01/2024 00:00:00 UTC)
@@ -71,27 +80,36 @@ public class SnowflakeIdGenerator {
     // Clock skew tolerance (50ms é o padrão da indústria)
     private static final long CLOCK_BACKWARD_TOLERANCE_MS = 50L;
 
+    // Limite de sub-faixa por thread (1/4 do milissegundo para não monopolizar a sequência)
+    private static final int MAX_THREAD_BLOCK_SIZE = (int) ((MAX_SEQUENCE + 1) / 4);
+
+    private final WorkerIdLease lease;
     private final long workerId;
     private final long datacenterId;
+    private final long nodeBits;
+    private final int threadBlockSize;
 
-    private long sequence = 0L;
-    private long lastTimestamp = -1L;
+    /**
+     * Palavra de estado: (timestamp - epoch) << SEQUENCE_BITS | última sequência reservada.
+     */
+    private final AtomicLong state = new AtomicLong(0L);
+
+    private final ThreadLocal<SnowflakeIdBlock> threadBlocks;
 
     /**
-     * Construtor com configuração de worker e datacenter.
+     * Construtor a partir de uma concessão de worker ID.
      *
      * <p>
-     * Usa workerId=1 e datacenterId=1 por padrão.
-     * Para produção, configure via properties:
+     * Com {@code threadBlockSize > 1} cada thread reserva uma sub-faixa da sequência
+     * do milissegundo corrente e a consome localmente, sem tocar no estado compartilhado.
      * </p>
-     * <pre>
-     * snowflake.worker-id=1
-     * snowflake.datacenter-id=1
-     * </pre>
+     *
+     * @param lease           Concessão do par (datacenter, worker)
+     * @param threadBlockSize Tamanho da sub-faixa por thread (1 desativa)
      */
-    public SnowflakeIdGenerator(
-            @Value("${snowflake.worker-id:1}") long workerId,
-            @Value("${snowflake.datacenter-id:1}") long datacenterId) {
+    public SnowflakeIdGenerator(WorkerIdLease lease, int threadBlockSize) {
+        long workerId = lease.workerId();
+        long datacenterId = lease.datacenterId();
         if (workerId > MAX_WORKER_ID || workerId < 0) {
             throw new IllegalArgumentException(
                     String.format("Worker ID deve estar entre 0 e %d", MAX_WORKER_ID));
@@ -100,66 +118,172 @@ public class SnowflakeIdGenerator {
             throw new IllegalArgumentException(
                     String.format("Datacenter ID deve estar entre 0 e %d", MAX_DATACENTER_ID));
         }
+        if (threadBlockSize < 1 || threadBlockSize > MAX_THREAD_BLOCK_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Thread block size deve estar entre 1 e %d", MAX_THREAD_BLOCK_SIZE));
+        }
 
+        this.lease = lease;
         this.workerId = workerId;
         this.datacenterId = datacenterId;
+        this.nodeBits = (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
+        this.threadBlockSize = threadBlockSize;
+        this.threadBlocks = threadBlockSize > 1 ? ThreadLocal.withInitial(SnowflakeIdBlock::new) : null;
+    }
+
+    /**
+     * Construtor com worker e datacenter fixos.
+     */
+    public SnowflakeIdGenerator(long workerId, long datacenterId, int threadBlockSize) {
+        this(new StaticWorkerIdLease(workerId, datacenterId), threadBlockSize);
+    }
+
+    /**
+     * Construtor com worker e datacenter fixos, sem sub-faixas por thread (um CAS por ID).
+     */
+    public SnowflakeIdGenerator(long workerId, long datacenterId) {
+        this(workerId, datacenterId, 1);
     }
 
     /**
      * Gera o próximo ID Snowflake.
      *
      * <p>
-     * Thread-safe e garante unicidade mesmo em alta concorrência.
+     * Lock-free: o timestamp e a sequência ficam em uma única palavra atualizada via CAS.
+     * No modo de sub-faixas por thread, o caminho comum não executa nenhuma operação atômica.
      * Retorna primitivo long para evitar autoboxing.
      * </p>
      *
      * @return ID Snowflake como long primitivo
      */
-    public synchronized long nextId() {
-        long timestamp = currentTimestamp();
+    public long nextId() {
+        if (threadBlocks == null) {
+            return toId(reserve(1));
+        }
 
-        // Clock skew handling com tolerance
-        if (timestamp < lastTimestamp) {
-            long offset = lastTimestamp - timestamp;
+        SnowflakeIdBlock block = threadBlocks.get();
+        if (!block.isUsable(currentTimestamp() - CUSTOM_EPOCH)) {
+            long start = reserve(threadBlockSize);
+            block.reset(start, grantedFrom(start, threadBlockSize), start >>> SEQUENCE_BITS);
+        }
+        return toId(block.take());
+    }
 
-            // Se o drift for maior que a tolerância, falha imediatamente
-            if (offset > CLOCK_BACKWARD_TOLERANCE_MS) {
-                throw new IllegalStateException(
-                        String.format("Clock moved backwards by %dms. Refusing to generate ID (tolerance: %dms)",
-                                offset, CLOCK_BACKWARD_TOLERANCE_MS));
-            }
+    /**
+     * Reserva {@code count} IDs de uma vez.
+     *
+     * <p>
+     * Cada CAS reserva toda a sequência restante necessária dentro do milissegundo
+     * corrente, então um lote de até 4096 IDs custa normalmente uma única operação
+     * atômica. Os IDs retornados são estritamente crescentes.
+     * </p>
+     *
+     * @param count Quantidade de IDs (maior ou igual a zero)
+     * @return Array com os IDs em ordem crescente
+     */
+    public long[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Quantidade de IDs não pode ser negativa");
+        }
 
-            // Para drift pequeno (NTP ajustes normais), aguarda recuperação
-            timestamp = waitNextMillis(lastTimestamp);
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long start = reserve(count - filled);
+            int granted = grantedFrom(start, count - filled);
+            for (int i = 0; i < granted; i++) {
+                ids[filled++] = toId(start + i);
+            }
         }
+        return ids;
+    }
 
-        // Mesmo milissegundo - incrementa sequência
-        if (timestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
+    /**
+     * Reserva {@code count} IDs de uma vez e os expõe como {@link LongStream}.
+     *
+     * @param count Quantidade de IDs
+     * @return Stream com os IDs em ordem crescente
+     * @see #nextIds(int)
+     */
+    public LongStream ids(int count) {
+        return LongStream.of(nextIds(count));
+    }
 
-            // Sequência esgotada - aguarda próximo milissegundo
-            if (sequence == 0) {
-                timestamp = waitNextMillis(lastTimestamp);
+    /**
+     * Reserva até {@code count} sequências contíguas no milissegundo corrente.
+     *
+     * <p>
+     * A quantidade efetivamente reservada é {@link #grantedFrom(long, int)}; o restante
+     * deve ser pedido em uma nova chamada (normalmente no milissegundo seguinte).
+     * </p>
+     *
+     * @return Palavra de estado da primeira sequência reservada
+     */
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long lastSequence = current & MAX_SEQUENCE;
+            long now = currentTimestamp();
+            if (!lease.isValidAt(now)) {
+                throw new IllegalStateException(String.format(
+                        "Concessão do worker ID %d expirada. Geração de IDs suspensa", workerId));
+            }
+            long timestamp = now - CUSTOM_EPOCH;
+
+            long firstSequence;
+            if (timestamp > lastTimestamp) {
+                // Novo milissegundo - reseta sequência
+                firstSequence = 0L;
+            } else {
+                // Clock skew handling com tolerance
+                long offset = lastTimestamp - timestamp;
+                if (offset > CLOCK_BACKWARD_TOLERANCE_MS) {
+                    throw new IllegalStateException(
+                            String.format("Clock moved backwards by %dms. Refusing to generate ID (tolerance: %dms)",
+                                    offset, CLOCK_BACKWARD_TOLERANCE_MS));
+                }
+
+                // Sequência esgotada - aguarda próximo milissegundo
+                if (lastSequence == MAX_SEQUENCE) {
+                    waitNextMillis(lastTimestamp + CUSTOM_EPOCH);
+                    continue;
+                }
+
+                // Mesmo milissegundo (ou drift pequeno) - continua a partir do último timestamp
+                timestamp = lastTimestamp;
+                firstSequence = lastSequence + 1;
+            }
+
+            long start = (timestamp << SEQUENCE_BITS) | firstSequence;
+            long next = start + grantedFrom(start, count) - 1;
+            if (state.compareAndSet(current, next)) {
+                return start;
             }
-        } else {
-            // Novo milissegundo - reseta sequência
-            sequence = 0L;
         }
+    }
 
-        lastTimestamp = timestamp;
+    /**
+     * Quantas sequências cabem no milissegundo a partir de {@code start}, limitado a {@code count}.
+     */
+    private static int grantedFrom(long start, int count) {
+        return (int) Math.min(count, MAX_SEQUENCE - (start & MAX_SEQUENCE) + 1);
+    }
 
-        // Gera o ID
-        return ((timestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
-                | (datacenterId << DATACENTER_ID_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
-                | sequence;
+    /**
+     * Monta o ID a partir de uma palavra de estado (timestamp + sequência).
+     */
+    private long toId(long stateWord) {
+        return ((stateWord >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                | nodeBits
+                | (stateWord & MAX_SEQUENCE);
     }
 
     /**
      * Obtém o timestamp atual em milissegundos.
      */
     private long currentTimestamp() {
-        return Instant.now().toEpochMilli();
+        return System.currentTimeMillis();
     }
 
     /**
@@ -179,6 +303,27 @@ public class SnowflakeIdGenerator {
         return timestamp;
     }
 
+    /**
+     * Worker ID concedido a esta instância.
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Datacenter ID concedido a esta instância.
+     */
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    /**
+     * Época atual da concessão do worker ID ({@link WorkerIdLease#epoch()}).
+     */
+    public long leaseEpoch() {
+        return lease.epoch();
+    }
+
     /**
      * Extrai o timestamp de um ID Snowflake.
      *
@@ -0,0 +1,107 @@
+package com.frame24.api.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+import org.hibernate.service.ServiceRegistry;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * Gerador de identificadores do Hibernate para entidades anotadas com {@link SnowflakeId}.
+ *
+ * <p>
+ * O {@link SnowflakeIdGenerator} é obtido do contêiner de beans do Spring (via
+ * {@link ManagedBeanRegistry}) na primeira geração, evitando campos estáticos.
+ * Cada thread mantém um pool de {@code allocationSize} IDs reservados com um único
+ * {@link SnowflakeIdGenerator#nextIds(int)}; o caminho comum é só a leitura de um array.
+ * O pool guarda o milissegundo do último ID e a época da concessão do worker ID, e é
+ * descartado quando o relógio passa desse milissegundo ou a época muda: IDs guardados
+ * por mais tempo quebrariam a ordenação por tempo e poderiam repetir IDs emitidos por
+ * outra instância que recebeu o mesmo worker ID.
+ * </p>
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private final int allocationSize;
+    private final ServiceRegistry serviceRegistry;
+    private final ThreadLocal<IdPool> pools = ThreadLocal.withInitial(IdPool::new);
+
+    private volatile SnowflakeIdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, GeneratorCreationContext context) {
+        if (config.allocationSize() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "@SnowflakeId(allocationSize) deve ser maior que zero em %s.%s",
+                    member.getDeclaringClass().getSimpleName(), member.getName()));
+        }
+        this.allocationSize = config.allocationSize();
+        this.serviceRegistry = context.getServiceRegistry();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        if (currentValue != null) {
+            return currentValue;
+        }
+        if (allocationSize == 1) {
+            return idGenerator().nextId();
+        }
+
+        SnowflakeIdGenerator generator = idGenerator();
+        IdPool pool = pools.get();
+        if (!pool.isUsable(System.currentTimeMillis(), generator.leaseEpoch())) {
+            long epoch = generator.leaseEpoch();
+            long[] ids = generator.nextIds(allocationSize);
+            pool.reset(ids, generator.extractTimestamp(ids[ids.length - 1]), epoch);
+        }
+        return pool.ids[pool.next++];
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private SnowflakeIdGenerator idGenerator() {
+        SnowflakeIdGenerator generator = idGenerator;
+        if (generator == null) {
+            generator = serviceRegistry.requireService(ManagedBeanRegistry.class)
+                    .getBean(SnowflakeIdGenerator.class)
+                    .getBeanInstance();
+            idGenerator = generator;
+        }
+        return generator;
+    }
+
+    /**
+     * IDs já reservados e ainda não usados pela thread.
+     */
+    private static final class IdPool {
+        private long[] ids = new long[0];
+        private int next;
+        private long mintedAt = -1L;
+        private long epoch;
+
+        void reset(long[] ids, long mintedAt, long epoch) {
+            this.ids = ids;
+            this.next = 0;
+            this.mintedAt = mintedAt;
+            this.epoch = epoch;
+        }
+
+        boolean isUsable(long currentMillis, long currentEpoch) {
+            return next < ids.length && mintedAt >= currentMillis && epoch == currentEpoch;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.frame24.api.common.id;
+
+/**
+ * Concessão fixa, definida por configuração ({@code snowflake.worker-id} e
+ * {@code snowflake.datacenter-id}).
+ *
+ * <p>
+ * Usada em testes, desenvolvimento local ou quando
+ * {@code snowflake.lease.enabled=false}. Não há coordenação: cada instância
+ * deve receber um worker ID diferente manualmente.
+ * </p>
+ */
+public record StaticWorkerIdLease(long workerId, long datacenterId) implements WorkerIdLease {
+
+    @Override
+    public boolean isValidAt(long epochMillis) {
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.frame24.api.common.id;
+
+/**
+ * Concessão do par (datacenter, worker) usado pelo {@link SnowflakeIdGenerator}.
+ *
+ * <p>
+ * O gerador só emite IDs enquanto a concessão estiver válida. Implementações
+ * distribuídas (ex.: {@link RedisWorkerIdLease}) garantem que duas instâncias
+ * nunca usem o mesmo worker ID ao mesmo tempo.
+ * </p>
+ */
+public interface WorkerIdLease {
+
+    /**
+     * Worker ID concedido (0-31).
+     */
+    long workerId();
+
+    /**
+     * Datacenter ID concedido (0-31).
+     */
+    long datacenterId();
+
+    /**
+     * Indica se a concessão ainda vale no instante informado.
+     *
+     * @param epochMillis Instante em milissegundos desde 1970 (mesmo relógio usado no ID)
+     * @return true se o gerador pode emitir IDs nesse instante
+     */
+    boolean isValidAt(long epochMillis);
+
+    /**
+     * Época da concessão: muda sempre que o worker ID é perdido ou concedido novamente.
+     *
+     * <p>
+     * IDs reservados antecipadamente (ex.: pools por thread) guardam a época em que foram
+     * emitidos e são descartados quando ela muda, pois o worker ID pode ter passado por
+     * outra instância nesse intervalo. Concessões fixas nunca mudam de época.
+     * </p>
+     */
+    default long epoch() {
+        return 0L;
+    }
+}
@@ -9,8 +9,9 @@
  * <h3>Componentes:</h3>
  * <ul>
  * <li>{@link com.frame24.api.common.id.SnowflakeIdGenerator} - Gerador de IDs Snowflake</li>
- * <li>{@link com.frame24.api.common.id.SnowflakeEntityListener} - Listener JPA para geração
- * automática</li>
+ * <li>{@link com.frame24.api.common.id.SnowflakeId} - Gerador de identificadores do Hibernate
+ * (compatível com INSERTs em lote)</li>
+ * <li>{@link com.frame24.api.common.id.WorkerIdLease} - Concessão do worker ID</li>
  * <li>{@link com.frame24.api.common.id.SnowflakeIdConverter} - Conversor JPA</li>
  * </ul>
  * 
@@ -33,9 +34,9 @@
  * {
  *     &#64;code
  *     &#64;Entity
- *     &#64;EntityListeners(SnowflakeEntityListener.class)
  *     public class MyEntity {
  *         @Id
+ *         @SnowflakeId
  *         private Long id; // Será gerado automaticamente
  *     }
  * }
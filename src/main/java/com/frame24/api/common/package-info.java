@@ -10,6 +10,7 @@
  * <ul>
  * <li>{@code config} - Configurações do Spring (Security, Cache, MVC)</li>
  * <li>{@code security} - Componentes de segurança (RLS, UserPrincipal)</li>
+ * <li>{@code cache} - Invalidação de caches locais entre instâncias</li>
  * <li>{@code events} - Eventos de domínio compartilhados</li>
  * <li>{@code response} - DTOs de resposta (ApiResponse)</li>
  * </ul>
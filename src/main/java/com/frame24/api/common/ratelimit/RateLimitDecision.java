@@ -0,0 +1,19 @@
+package com.frame24.api.common.ratelimit;
+
+/**
+ * Resultado de uma verificação de rate limit.
+ *
+ * @param allowed           true se a requisição pode prosseguir
+ * @param remaining         Permissões restantes (aproximado quando há reserva local)
+ * @param retryAfterSeconds Segundos até haver uma nova permissão (0 quando permitido)
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterSeconds) {
+
+    static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    static RateLimitDecision reject(long retryAfterSeconds) {
+        return new RateLimitDecision(false, 0, Math.max(1, retryAfterSeconds));
+    }
+}
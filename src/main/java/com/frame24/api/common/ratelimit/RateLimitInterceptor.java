@@ -1,106 +1,109 @@
 package com.frame24.api.common.ratelimit;
 
+import com.frame24.api.common.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Interceptor para rate limiting de endpoints.
- * Usa Redis para armazenar contadores por IP/endpoint.
+ * Usa o {@link RateLimiter} (token bucket no Redis) com a política definida por {@link RateLimited}.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter rateLimiter;
+    private final int leaseMinCapacity;
+    private final double leaseFraction;
+    private final Map<Method, RateLimitPolicy> policies = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(
+            RateLimiter rateLimiter,
+            @Value("${ratelimit.local-lease.min-capacity:100}") int leaseMinCapacity,
+            @Value("${ratelimit.local-lease.fraction:0.05}") double leaseFraction) {
+        this.rateLimiter = rateLimiter;
+        this.leaseMinCapacity = leaseMinCapacity;
+        this.leaseFraction = leaseFraction;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
-        if (!(handler instanceof HandlerMethod)) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
             return true;
         }
 
-        HandlerMethod handlerMethod = (HandlerMethod) handler;
         RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
 
         if (rateLimited == null) {
             return true; // Sem rate limit
         }
 
-        String key = buildKey(request, rateLimited.keyType(), handlerMethod);
-        int maxRequests = rateLimited.requests();
-        long windowSeconds = rateLimited.windowMinutes() * 60L;
-
-        // Incrementa contador
-        Long currentCount = redisTemplate.opsForValue().increment(key);
-
-        if (currentCount == null) {
-            currentCount = 0L;
-        }
-
-        // Define TTL na primeira requisição
-        if (currentCount == 1) {
-            redisTemplate.expire(key, Duration.ofSeconds(windowSeconds));
-        }
+        RateLimitPolicy policy = policies.computeIfAbsent(handlerMethod.getMethod(),
+                method -> toPolicy(handlerMethod, rateLimited));
+        RateLimitDecision decision = rateLimiter.tryAcquire(policy, buildSubject(request, policy.keyType()));
 
-        // Verifica se excedeu o limite
-        if (currentCount > maxRequests) {
-            Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-            log.warn("Rate limit excedido: key={}, count={}, max={}", key, currentCount, maxRequests);
+        if (!decision.allowed()) {
+            log.warn("Rate limit excedido: policy={}, max={}", policy.name(), policy.capacity());
 
             response.setStatus(429); // Too Many Requests
             response.setContentType("application/json");
-            response.setHeader("X-RateLimit-Limit", String.valueOf(maxRequests));
+            response.setHeader("X-RateLimit-Limit", String.valueOf(policy.capacity()));
             response.setHeader("X-RateLimit-Remaining", "0");
-            response.setHeader("X-RateLimit-Reset", String.valueOf(ttl != null ? ttl : 0));
+            response.setHeader("X-RateLimit-Reset", String.valueOf(decision.retryAfterSeconds()));
+            response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
 
             response.getWriter().write(String.format(
                     "{\"error\":{\"code\":\"TOO_MANY_REQUESTS\"," +
                             "\"message\":\"Muitas requisições. Tente novamente em %d segundos\"," +
                             "\"retryAfter\":%d}}",
-                    ttl != null ? ttl : 0, ttl != null ? ttl : 0));
+                    decision.retryAfterSeconds(), decision.retryAfterSeconds()));
 
             return false;
         }
 
         // Adiciona headers de rate limit
-        response.setHeader("X-RateLimit-Limit", String.valueOf(maxRequests));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(maxRequests - currentCount));
+        response.setHeader("X-RateLimit-Limit", String.valueOf(policy.capacity()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
 
         return true;
     }
 
-    private String buildKey(HttpServletRequest request, String keyType, HandlerMethod method) {
-        String baseKey = "ratelimit:";
-
-        switch (keyType.toLowerCase()) {
-            case "user":
-                // TODO: Extrair user ID do token JWT
-                String userId = request.getHeader("X-User-Id");
-                if (userId != null) {
-                    return baseKey + "user:" + userId;
-                }
-                // Fallback para IP se não tiver user
-                return baseKey + "ip:" + getClientIP(request);
-
-            case "ip+endpoint":
-                return baseKey + "ip_endpoint:" + getClientIP(request) + ":" +
-                        method.getMethod().getName();
-
-            case "ip":
-            default:
-                return baseKey + "ip:" + getClientIP(request);
+    private RateLimitPolicy toPolicy(HandlerMethod handlerMethod, RateLimited rateLimited) {
+        int capacity = rateLimited.requests();
+        int leaseSize = capacity >= leaseMinCapacity ? Math.max(1, (int) (capacity * leaseFraction)) : 1;
+        return new RateLimitPolicy(
+                handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName(),
+                capacity,
+                Duration.ofMinutes(rateLimited.windowMinutes()),
+                rateLimited.keyType().toLowerCase(),
+                leaseSize);
+    }
+
+    /**
+     * Identifica o cliente. Para {@code user}, usa o {@link UserPrincipal} autenticado
+     * pelo filtro JWT (nunca um header enviado pelo cliente); sem autenticação, cai para o IP.
+     */
+    private String buildSubject(HttpServletRequest request, String keyType) {
+        if ("user".equals(keyType)) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.getPrincipal() instanceof UserPrincipal user && user.getUserId() != null) {
+                return "user:" + user.getUserId();
+            }
         }
+        return "ip:" + getClientIP(request);
     }
 
     private String getClientIP(HttpServletRequest request) {
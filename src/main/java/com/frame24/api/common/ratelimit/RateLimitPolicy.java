@@ -0,0 +1,20 @@
+package com.frame24.api.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Política de rate limiting resolvida a partir de {@link RateLimited}.
+ *
+ * @param name      Nome da política (Controller.metodo), usado nas chaves e métricas
+ * @param capacity  Requisições permitidas por janela (capacidade do token bucket)
+ * @param window    Janela em que a capacidade é totalmente reposta
+ * @param keyType   Tipo de chave: "user", "ip" ou "ip+endpoint"
+ * @param leaseSize Permissões reservadas por chamada ao Redis (1 = sem reserva local)
+ */
+public record RateLimitPolicy(
+        String name,
+        int capacity,
+        Duration window,
+        String keyType,
+        int leaseSize) {
+}
@@ -7,7 +7,7 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation para aplicar rate limiting em endpoints.
- * Usa Redis + Bucket4j para controle distribuído.
+ * Usa um token bucket no Redis ({@link RateLimiter}) para controle distribuído.
  *
  * @example          <pre>
  * @RateLimited(requests = 5, windowMinutes = 1)
@@ -30,7 +30,8 @@ public @interface RateLimited {
 
     /**
      * Chave customizada para rate limit.
-     * Usa IP por padrão. Pode usar: "user", "ip", "ip+endpoint"
+     * Usa IP por padrão. Pode usar: "user" (usuário autenticado, com fallback para IP) ou "ip".
+     * O bucket é sempre por endpoint.
      */
     String keyType() default "ip";
 }
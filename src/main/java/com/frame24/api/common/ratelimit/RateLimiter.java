@@ -0,0 +1,288 @@
+package com.frame24.api.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiter distribuído baseado em token bucket no Redis.
+ *
+ * <p>
+ * Cada verificação é uma única chamada Lua atômica (repõe tokens pelo tempo decorrido,
+ * consome, define o TTL e calcula o retry-after), sem a janela entre INCR e EXPIRE da
+ * versão anterior. O relógio usado é o do Redis ({@code TIME}), comum a todas as instâncias.
+ * </p>
+ *
+ * <p>
+ * Para políticas de alta capacidade ({@code capacity >= ratelimit.local-lease.min-capacity})
+ * a instância reserva um lote de permissões por chamada e as consome localmente, sem rede.
+ * Permissões não usadas são devolvidas ao bucket na reconciliação periódica, quando a
+ * reserva expira.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code ratelimit.requests{policy, outcome=allowed|throttled}}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private static final String ACQUIRE_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local window_ms = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            local rate = capacity / window_ms
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+            local retry_ms = 0
+            if granted == 0 then
+                retry_ms = math.ceil((1 - tokens) / rate)
+            end
+            return {granted, math.floor(tokens), retry_ms}
+            """;
+
+    private static final byte[] ACQUIRE_SCRIPT_BYTES = ACQUIRE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final String ACQUIRE_SCRIPT_SHA = new DefaultRedisScript<>(ACQUIRE_SCRIPT).getSha1();
+
+    private static final RedisScript<Long> REFUND_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+            if tokens == nil then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(math.min(tonumber(ARGV[1]), tokens + tonumber(ARGV[2]))))
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long leaseTtlMillis;
+
+    private final Map<String, LocalLease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Counter> allowedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    public RateLimiter(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ratelimit.local-lease.ttl-ms:1000}") long leaseTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
+
+    /**
+     * Tenta consumir uma permissão da política para a chave informada.
+     *
+     * <p>
+     * Em caso de falha no Redis a requisição é permitida (fail-open) e o erro registrado.
+     * </p>
+     *
+     * @param policy Política do endpoint
+     * @param subject Identificador do cliente (usuário ou IP)
+     */
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String subject) {
+        String key = KEY_PREFIX + policy.name() + ":" + subject;
+        RateLimitDecision decision = policy.leaseSize() > 1
+                ? acquireLeased(policy, key)
+                : acquireRemote(policy, key, 1);
+
+        (decision.allowed() ? allowedCounter(policy) : throttledCounter(policy)).increment();
+        return decision;
+    }
+
+    private RateLimitDecision acquireLeased(RateLimitPolicy policy, String key) {
+        LocalLease lease = leases.get(key);
+        if (lease != null && lease.tryTake(System.currentTimeMillis())) {
+            return RateLimitDecision.allow(lease.remaining());
+        }
+
+        long[] result = execute(policy, key, policy.leaseSize());
+        if (result == null) {
+            return RateLimitDecision.allow(policy.capacity());
+        }
+        long granted = result[0];
+        if (granted == 0) {
+            return RateLimitDecision.reject(toSeconds(result[2]));
+        }
+        if (granted > 1) {
+            LocalLease fresh = new LocalLease(policy, (int) granted - 1, System.currentTimeMillis() + leaseTtlMillis);
+            LocalLease previous = leases.put(key, fresh);
+            if (previous != null) {
+                refund(key, previous);
+            }
+        }
+        return RateLimitDecision.allow(result[1] + granted - 1);
+    }
+
+    private RateLimitDecision acquireRemote(RateLimitPolicy policy, String key, int permits) {
+        long[] result = execute(policy, key, permits);
+        if (result == null) {
+            return RateLimitDecision.allow(policy.capacity());
+        }
+        if (result[0] == 0) {
+            return RateLimitDecision.reject(toSeconds(result[2]));
+        }
+        return RateLimitDecision.allow(result[1]);
+    }
+
+    /**
+     * Executa o script de aquisição e devolve {@code [concedidas, tokens restantes, retry-after em ms]},
+     * ou {@code null} se o Redis falhou. Usa {@code EVALSHA} e reenvia o script com {@code EVAL}
+     * quando o Redis ainda não o conhece.
+     */
+    private long[] execute(RateLimitPolicy policy, String key, int permits) {
+        byte[][] keysAndArgs = {
+                key.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(policy.capacity()).getBytes(StandardCharsets.UTF_8),
+                String.valueOf(policy.window().toMillis()).getBytes(StandardCharsets.UTF_8),
+                String.valueOf(permits).getBytes(StandardCharsets.UTF_8)};
+        try {
+            List<Object> result = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+                try {
+                    return connection.scriptingCommands().evalSha(ACQUIRE_SCRIPT_SHA, ReturnType.MULTI, 1, keysAndArgs);
+                } catch (Exception e) {
+                    if (!isNoScript(e)) {
+                        throw e;
+                    }
+                    return connection.scriptingCommands().eval(ACQUIRE_SCRIPT_BYTES, ReturnType.MULTI, 1, keysAndArgs);
+                }
+            });
+            if (result == null || result.size() != 3) {
+                throw new IllegalStateException("resposta inesperada do script: " + result);
+            }
+            long[] values = new long[3];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ((Number) result.get(i)).longValue();
+            }
+            return values;
+        } catch (Exception e) {
+            log.error("Erro ao verificar rate limit {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devolve ao Redis as permissões de reservas locais expiradas.
+     */
+    @Scheduled(fixedDelayString = "${ratelimit.local-lease.ttl-ms:1000}")
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        leases.forEach((key, lease) -> {
+            if (lease.isExpired(now) && leases.remove(key, lease)) {
+                refund(key, lease);
+            }
+        });
+    }
+
+    private void refund(String key, LocalLease lease) {
+        int unused = lease.drain();
+        if (unused <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(REFUND_SCRIPT, List.of(key),
+                    String.valueOf(lease.policy.capacity()), String.valueOf(unused));
+        } catch (Exception e) {
+            log.warn("Erro ao devolver {} permissões de rate limit {}: {}", unused, key, e.getMessage());
+        }
+    }
+
+    private Counter allowedCounter(RateLimitPolicy policy) {
+        return allowedCounters.computeIfAbsent(policy.name(), name -> counter(name, "allowed"));
+    }
+
+    private Counter throttledCounter(RateLimitPolicy policy) {
+        return throttledCounters.computeIfAbsent(policy.name(), name -> counter(name, "throttled"));
+    }
+
+    private Counter counter(String policy, String outcome) {
+        return Counter.builder("ratelimit.requests")
+                .description("Requisições avaliadas pelo rate limiter")
+                .tag("policy", policy)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    /**
+     * Permissões reservadas no Redis e consumidas localmente até expirar.
+     */
+    private static final class LocalLease {
+        private final RateLimitPolicy policy;
+        private final AtomicInteger remaining;
+        private final long expiresAt;
+
+        LocalLease(RateLimitPolicy policy, int permits, long expiresAt) {
+            this.policy = policy;
+            this.remaining = new AtomicInteger(permits);
+            this.expiresAt = expiresAt;
+        }
+
+        boolean tryTake(long now) {
+            if (now >= expiresAt) {
+                return false;
+            }
+            int current = remaining.get();
+            while (current > 0) {
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = remaining.get();
+            }
+            return false;
+        }
+
+        int remaining() {
+            return remaining.get();
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        int drain() {
+            return remaining.getAndSet(0);
+        }
+    }
+}
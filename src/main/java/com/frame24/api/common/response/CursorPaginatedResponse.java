@@ -0,0 +1,42 @@
+package com.frame24.api.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Envelope para respostas paginadas por cursor (keyset).
+ *
+ * <p>
+ * Diferente de {@link PaginatedResponse}, não há contagem total: a próxima página é
+ * pedida repassando {@code nextCursor}, e o custo de cada página independe da posição.
+ * </p>
+ */
+@Data
+@Builder
+@Schema(description = "Envelope para respostas paginadas por cursor")
+public class CursorPaginatedResponse<T> {
+
+    @Schema(description = "Lista de itens da página atual")
+    private List<T> content;
+
+    @Schema(description = "Tamanho máximo da página", example = "50")
+    private int size;
+
+    @Schema(description = "Cursor da próxima página (null na última)", example = "MjAyNS0wMS0wNlQxNDowMDowMFp8MTIzNA")
+    private String nextCursor;
+
+    @Schema(description = "Indica se há mais itens após esta página", example = "true")
+    private boolean hasMore;
+
+    public static <T> CursorPaginatedResponse<T> of(List<T> content, int size, String nextCursor) {
+        return CursorPaginatedResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
+    }
+}
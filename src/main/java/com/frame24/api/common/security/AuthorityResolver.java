@@ -0,0 +1,27 @@
+package com.frame24.api.common.security;
+
+/**
+ * Resolve as authorities de uma role sem acessar o banco no caminho da requisição.
+ * <p>
+ * Implementado pelo módulo de identidade; usado pelo filtro JWT e pela verificação
+ * de permissões.
+ */
+public interface AuthorityResolver {
+
+    /**
+     * Authorities pré-compiladas da role.
+     *
+     * @param companyId ID da empresa
+     * @param roleId    ID da role
+     * @return Authorities da role, ou {@link RoleAuthorities#none()} se desconhecida
+     */
+    RoleAuthorities resolve(Long companyId, Long roleId);
+
+    /**
+     * Verifica se o usuário possui a permissão (ex.: {@code users:read}) pela role atual.
+     */
+    default boolean hasPermission(UserPrincipal principal, String permissionCode) {
+        return principal != null
+                && resolve(principal.getCompanyId(), principal.getRoleId()).hasPermission(permissionCode);
+    }
+}
@@ -1,6 +1,5 @@
 package com.frame24.api.common.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -23,6 +23,11 @@ import java.util.List;
  * <p>
  * Executa ANTES do controller e extrai o JWT do header Authorization.
  * Usa Redis para cache de sessões e blacklist de tokens.
+ * <p>
+ * O token é verificado uma única vez por requisição ({@link JwtService#verify(String)});
+ * todos os claims vêm do {@link VerifiedToken} resultante. As authorities de funcionários
+ * vêm do {@link AuthorityResolver} (pré-compiladas por role), então alterações de
+ * permissões valem já na próxima requisição.
  */
 @Slf4j
 @Component
@@ -32,6 +37,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserSessionCache sessionCache;
     private final TokenBlacklist tokenBlacklist;
+    private final AuthorityResolver authorityResolver;
 
     @Override
     protected void doFilterInternal(
@@ -47,68 +53,83 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            final String jwt = authHeader.substring(7);
+            UsernamePasswordAuthenticationToken authToken = authenticate(authHeader.substring(7));
+            if (authToken != null) {
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            if (tokenBlacklist.isBlacklisted(jwt)) {
-                log.warn("Token na blacklist (logout realizado)");
-                filterChain.doFilter(request, response);
-                return;
+                // 7. Injeta no SecurityContext
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
+        } catch (Exception e) {
+            log.error("Erro ao processar JWT: {}", e.getMessage());
+        }
 
-            if (!jwtService.validateToken(jwt)) {
-                filterChain.doFilter(request, response);
-                return;
-            }
+        filterChain.doFilter(request, response);
+    }
 
-            Long userId = jwtService.extractUserId(jwt);
+    /**
+     * Valida o token e monta a autenticação do usuário.
+     * <p>
+     * Também usado na conexão STOMP ({@link StompAuthenticationInterceptor}).
+     *
+     * @return Autenticação, ou null se o token é inválido, revogado ou sem usuário
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String jwt) {
+        VerifiedToken token = jwtService.verify(jwt).orElse(null);
+        if (token == null) {
+            return null;
+        }
 
-            if (userId == null) {
-                log.warn("Token sem userId");
-                filterChain.doFilter(request, response);
-                return;
-            }
+        if (tokenBlacklist.isBlacklisted(token)) {
+            log.warn("Token na blacklist (logout realizado)");
+            return null;
+        }
 
-            UserPrincipal userPrincipal = sessionCache.get(userId);
-
-            if (userPrincipal == null) {
-                Claims claims = jwtService.extractClaims(jwt);
-                String roleName = (String) claims.get("roleName");
-
-                userPrincipal = UserPrincipal.builder()
-                        .userId(userId)
-                        .email(jwtService.extractEmail(jwt))
-                        .companyId(jwtService.extractCompanyId(jwt))
-                        .userType(jwtService.extractUserType(jwt))
-                        .customerId(jwtService.extractCustomerId(jwt))
-                        .roleId(claims.get("roleId", Long.class))
-                        .roleName(roleName)
-                        .authorities(
-                                roleName != null ? List.of(new SimpleGrantedAuthority("ROLE_" + roleName)) : List.of())
-                        .build();
-
-                sessionCache.save(userId, userPrincipal);
-                log.debug("UserPrincipal criado do token e salvo no cache");
-            } else {
-                log.debug("UserPrincipal recuperado do cache Redis");
-            }
+        Long userId = token.userId();
 
-            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userPrincipal,
-                    null,
-                    userPrincipal.getAuthorities());
+        if (userId == null) {
+            log.warn("Token sem userId");
+            return null;
+        }
 
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        UserPrincipal userPrincipal = sessionCache.get(userId);
+        RoleAuthorities roleAuthorities = authorityResolver.resolve(token.companyId(), token.roleId());
+
+        if (userPrincipal == null) {
+            String roleName = token.roleName();
+
+            userPrincipal = UserPrincipal.builder()
+                    .userId(userId)
+                    .email(token.email())
+                    .companyId(token.companyId())
+                    .userType(token.userType())
+                    .customerId(token.customerId())
+                    .roleId(token.roleId())
+                    .roleName(roleName)
+                    .authorities(authoritiesFor(roleAuthorities, roleName))
+                    .build();
+
+            sessionCache.save(userId, userPrincipal);
+            log.debug("UserPrincipal criado do token e salvo no cache");
+        } else {
+            log.debug("UserPrincipal recuperado do cache Redis");
+        }
 
-            // 7. Injeta no SecurityContext
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+        log.debug("JWT: Usuário autenticado - email: {}, companyId: {}, userType: {}",
+                userPrincipal.getEmail(), userPrincipal.getCompanyId(), userPrincipal.getUserType());
 
-            log.debug("JWT: Usuário autenticado - email: {}, companyId: {}, userType: {}",
-                    userPrincipal.getEmail(), userPrincipal.getCompanyId(), userPrincipal.getUserType());
+        return new UsernamePasswordAuthenticationToken(
+                userPrincipal,
+                null,
+                roleAuthorities != RoleAuthorities.none()
+                        ? roleAuthorities.authorities()
+                        : userPrincipal.getAuthorities());
+    }
 
-        } catch (Exception e) {
-            log.error("Erro ao processar JWT: {}", e.getMessage());
+    private static List<GrantedAuthority> authoritiesFor(RoleAuthorities roleAuthorities, String roleName) {
+        if (roleAuthorities != RoleAuthorities.none()) {
+            return roleAuthorities.authorities();
         }
-
-        filterChain.doFilter(request, response);
+        return roleName != null ? List.of(new SimpleGrantedAuthority("ROLE_" + roleName)) : List.of();
     }
 }
@@ -1,5 +1,7 @@
 package com.frame24.api.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,27 +10,55 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Serviço para geração e validação de tokens JWT.
  * <p>
  * Usa Spring Security + jjwt para criar tokens assinados com HS256.
+ * <p>
+ * A chave e o parser são construídos uma única vez (ambos thread-safe). Tokens
+ * verificados com sucesso ficam em um cache limitado, indexado pelo SHA-256 do
+ * token, para que requisições repetidas não recalculem o HMAC nem o parse do JSON.
  */
 @Slf4j
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.access-token-expiration}")
-    private Long accessTokenExpiration;
-
-    @Value("${jwt.refresh-token-expiration}")
-    private Long refreshTokenExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Long accessTokenExpiration;
+    private final Long refreshTokenExpiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access-token-expiration}") Long accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration}") Long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.ttl:5m}") Duration verifiedCacheTtl) {
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("jwt.secret não configurado (JWT_SECRET)");
+        }
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfterWrite(verifiedCacheTtl)
+                .build();
+    }
 
     /**
      * Gera um access token JWT para o usuário autenticado.
@@ -74,13 +104,58 @@ public class JwtService {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica o token uma única vez (assinatura + expiração) e devolve todos os claims.
+     *
+     * <p>
+     * Resultados positivos são reaproveitados por até {@code jwt.verified-cache.ttl},
+     * nunca além da expiração do próprio token.
+     * </p>
+     *
+     * @param token Token JWT
+     * @return Token verificado, ou vazio se inválido/expirado
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+
+        try {
+            VerifiedToken verified = VerifiedToken.from(parser.parseSignedClaims(token).getPayload(), digest);
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
+        } catch (MalformedJwtException e) {
+            log.error("Token JWT inválido: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("Token JWT expirado: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Token JWT não suportado: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Token JWT rejeitado: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string vazio: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Extrai o email (subject) do token.
      */
@@ -92,11 +167,7 @@ public class JwtService {
      * Extrai todos os claims do token.
      */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -106,22 +177,7 @@ public class JwtService {
      * @return true se válido, false caso contrário
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (MalformedJwtException e) {
-            log.error("Token JWT inválido: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("Token JWT expirado: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("Token JWT não suportado: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string vazio: {}", e.getMessage());
-        }
-        return false;
+        return verify(token).isPresent();
     }
 
     /**
@@ -132,41 +188,42 @@ public class JwtService {
     }
 
     /**
-     * Cria a chave de assinatura a partir do secret configurado.
+     * SHA-256 do token em Base64, usado como chave do cache (o token em si não é retido).
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
     }
 
     /**
      * Extrai o userId do token.
      */
     public Long extractUserId(String token) {
-        Object userId = extractClaims(token).get("userId");
-        return userId != null ? ((Number) userId).longValue() : null;
+        return verify(token).map(VerifiedToken::userId).orElse(null);
     }
 
     /**
      * Extrai o companyId do token.
      */
     public Long extractCompanyId(String token) {
-        Object companyId = extractClaims(token).get("companyId");
-        return companyId != null ? ((Number) companyId).longValue() : null;
+        return verify(token).map(VerifiedToken::companyId).orElse(null);
     }
 
     /**
      * Extrai o userType do token.
      */
     public String extractUserType(String token) {
-        return (String) extractClaims(token).get("userType");
+        return verify(token).map(VerifiedToken::userType).orElse(null);
     }
 
     /**
      * Extrai o customerId do token.
      */
     public Long extractCustomerId(String token) {
-        Object customerId = extractClaims(token).get("customerId");
-        return customerId != null ? ((Number) customerId).longValue() : null;
+        return verify(token).map(VerifiedToken::customerId).orElse(null);
     }
 }
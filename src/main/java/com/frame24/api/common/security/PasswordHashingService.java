@@ -0,0 +1,199 @@
+package com.frame24.api.common.security;
+
+import com.frame24.api.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashing e verificação de senhas em um pool dedicado.
+ *
+ * <p>
+ * BCrypt é CPU-bound (dezenas de ms por operação). Executá-lo nas threads do Tomcat
+ * durante um pico de logins ocupa todos os workers e deixa os demais endpoints sem
+ * atendimento. Aqui o trabalho roda em um pool de tamanho fixo (padrão: número de
+ * núcleos) com fila limitada; quando a fila enche, ou a espera passa de
+ * {@code password-hashing.timeout}, a requisição recebe 503 com {@code Retry-After}
+ * em vez de acumular.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code password.hash.duration{operation=encode|matches}},
+ * {@code password.hash.queue.depth}, {@code password.hash.active} e
+ * {@code password.hash.rejected}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String OVERLOADED_MESSAGE =
+            "Servidor ocupado processando autenticações. Tente novamente em instantes";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final boolean rehashOnLogin;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${password-hashing.threads:0}") int threads,
+            @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${password-hashing.timeout:5s}") Duration timeout,
+            @Value("${password-hashing.retry-after-seconds:2}") long retryAfterSeconds,
+            @Value("${password-hashing.rehash-on-login:false}") boolean rehashOnLogin) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeout.toMillis();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rehashOnLogin = rehashOnLogin;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("Tempo de execução do hashing de senhas")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .description("Tempo de execução do hashing de senhas")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Operações de hashing recusadas por sobrecarga")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Operações de hashing aguardando na fila")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações de hashing em execução")
+                .register(meterRegistry);
+
+        log.info("Pool de hashing de senhas: threads={}, fila={}, timeout={}", poolSize, queueCapacity, timeout);
+    }
+
+    /**
+     * Gera o hash de uma senha.
+     */
+    public String encode(String rawPassword) {
+        return await(submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+    }
+
+    /**
+     * Verifica uma senha contra um hash.
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return false;
+        }
+        return await(submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, passwordHash))));
+    }
+
+    /**
+     * Verifica uma senha contra vários hashes em paralelo (ex.: histórico de senhas).
+     *
+     * @return true se a senha corresponder a algum dos hashes
+     */
+    public boolean matchesAny(String rawPassword, Collection<String> passwordHashes) {
+        List<Future<Boolean>> futures = new ArrayList<>(passwordHashes.size());
+        try {
+            for (String hash : passwordHashes) {
+                if (hash != null) {
+                    futures.add(submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, hash))));
+                }
+            }
+            for (Future<Boolean> future : futures) {
+                if (Boolean.TRUE.equals(await(future))) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Indica se o hash deve ser regerado com o custo atual do encoder.
+     * Sempre false quando {@code password-hashing.rehash-on-login} está desabilitado.
+     */
+    public boolean needsRehash(String passwordHash) {
+        return rehashOnLogin && passwordHash != null && passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Fila de hashing de senhas cheia ({} aguardando)", executor.getQueue().size());
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("Timeout aguardando hashing de senha ({} ms)", timeoutMillis);
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando hashing de senha", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha no hashing de senha", e.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
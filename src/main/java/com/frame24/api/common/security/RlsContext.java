@@ -0,0 +1,76 @@
+package com.frame24.api.common.security;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Variáveis de sessão do PostgreSQL usadas pelas políticas de Row Level Security (RLS).
+ *
+ * <ul>
+ * <li><b>app.user_type</b>: Tipo de usuário (CUSTOMER, EMPLOYEE, SYSTEM)</li>
+ * <li><b>app.current_company_id</b>: ID da empresa do usuário</li>
+ * <li><b>app.allowed_complexes</b>: Complexos permitidos (funcionários)</li>
+ * <li><b>app.current_customer_id</b>: ID do cliente (apenas para CUSTOMER)</li>
+ * <li><b>app.current_user_id</b>: ID do usuário (para auditoria)</li>
+ * </ul>
+ *
+ * <p>
+ * Valores nulos não são configurados (as funções RLS usam {@code current_setting(..., true)}).
+ * </p>
+ *
+ * @see RlsTransactionManager
+ */
+public record RlsContext(
+        String userType,
+        Long companyId,
+        String allowedComplexes,
+        Long customerId,
+        Long userId) {
+
+    private static final RlsContext SYSTEM = new RlsContext("SYSTEM", null, null, null, null);
+
+    /**
+     * Contexto para requisições não autenticadas, jobs agendados e tarefas internas.
+     */
+    public static RlsContext system() {
+        return SYSTEM;
+    }
+
+    /**
+     * Contexto de funcionário da empresa, para leituras internas feitas em nome do tenant
+     * antes de haver um usuário autenticado (ex.: login, filtro JWT).
+     */
+    public static RlsContext forCompany(Long companyId) {
+        return new RlsContext("EMPLOYEE", companyId, null, null, null);
+    }
+
+    /**
+     * Monta o contexto a partir do usuário autenticado, com as mesmas regras
+     * por tipo de usuário aplicadas até então pelo interceptor MVC.
+     */
+    public static RlsContext from(UserPrincipal user) {
+        Long companyId = null;
+        String allowedComplexes = null;
+        Long customerId = null;
+
+        if ("EMPLOYEE".equals(user.getUserType()) && user.getCompanyId() != null) {
+            companyId = user.getCompanyId();
+            allowedComplexes = joinComplexes(user.getAllowedComplexes());
+        }
+
+        if ("CUSTOMER".equals(user.getUserType()) && user.getCustomerId() != null) {
+            customerId = user.getCustomerId();
+            // Clientes também precisam de company_id para algumas queries
+            companyId = user.getCompanyId();
+        }
+
+        return new RlsContext(user.getUserType(), companyId, allowedComplexes, customerId, user.getUserId());
+    }
+
+    private static String joinComplexes(List<Long> complexes) {
+        if (complexes == null || complexes.isEmpty()) {
+            return null;
+        }
+        return complexes.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
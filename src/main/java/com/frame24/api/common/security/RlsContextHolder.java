@@ -0,0 +1,68 @@
+package com.frame24.api.common.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * Resolve o {@link RlsContext} da thread atual.
+ *
+ * <p>
+ * Por padrão deriva o contexto do {@link UserPrincipal} autenticado no
+ * {@link SecurityContextHolder}; sem autenticação, usa {@link RlsContext#system()}.
+ * Código que precisa agir em nome de um tenant fora de uma requisição (jobs,
+ * consumidores de eventos) pode usar {@link #callAs(RlsContext, Supplier)}.
+ * </p>
+ */
+public final class RlsContextHolder {
+
+    private static final ThreadLocal<RlsContext> OVERRIDE = new ThreadLocal<>();
+
+    private RlsContextHolder() {
+    }
+
+    /**
+     * Contexto a aplicar na próxima transação desta thread.
+     */
+    public static RlsContext current() {
+        RlsContext override = OVERRIDE.get();
+        if (override != null) {
+            return override;
+        }
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof UserPrincipal user) {
+            return RlsContext.from(user);
+        }
+        return RlsContext.system();
+    }
+
+    /**
+     * Executa {@code action} com um contexto RLS explícito (transações abertas dentro dela).
+     */
+    public static <T> T callAs(RlsContext context, Supplier<T> action) {
+        RlsContext previous = OVERRIDE.get();
+        OVERRIDE.set(context);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Contexto explícito da thread atual, sem derivar do SecurityContext (para propagação).
+     */
+    static RlsContext override() {
+        return OVERRIDE.get();
+    }
+
+    static void restore(RlsContext context) {
+        if (context == null) {
+            OVERRIDE.remove();
+        } else {
+            OVERRIDE.set(context);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.frame24.api.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JpaTransactionManager} que aplica o contexto de Row Level Security (RLS) no início
+ * de cada transação.
+ *
+ * <p>
+ * Assim que a transação obtém a conexão, o {@link RlsContext} da thread
+ * ({@link RlsContextHolder#current()}) é gravado com um único comando parametrizado:
+ * </p>
+ *
+ * <pre>
+ * SELECT set_config('app.user_type', ?, true), set_config('app.current_company_id', ?, true), ...
+ * </pre>
+ *
+ * <p>
+ * O terceiro argumento {@code true} equivale a {@code SET LOCAL}: os valores valem apenas
+ * para a transação corrente. Requisições que não abrem transação não acessam o banco.
+ * Como o vínculo é feito na transação (e não na camada web), jobs agendados e tarefas
+ * {@code @Async} também recebem o contexto correto. O tempo de configuração é publicado
+ * na métrica {@code rls.context.setup}.
+ * </p>
+ */
+@Slf4j
+public class RlsTransactionManager extends JpaTransactionManager {
+
+    private static final String[] VARIABLES = {
+            "app.user_type",
+            "app.current_company_id",
+            "app.allowed_complexes",
+            "app.current_customer_id",
+            "app.current_user_id"
+    };
+
+    /**
+     * SQL por combinação de variáveis presentes (bit i = VARIABLES[i]).
+     */
+    private static final String[] STATEMENTS = new String[1 << VARIABLES.length];
+
+    static {
+        for (int mask = 1; mask < STATEMENTS.length; mask++) {
+            StringBuilder sql = new StringBuilder("SELECT ");
+            for (int i = 0; i < VARIABLES.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    if (sql.length() > 7) {
+                        sql.append(", ");
+                    }
+                    sql.append("set_config('").append(VARIABLES[i]).append("', ?, true)");
+                }
+            }
+            STATEMENTS[mask] = sql.toString();
+        }
+    }
+
+    private final Timer setupTimer;
+
+    public RlsTransactionManager(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        super(entityManagerFactory);
+        this.setupTimer = Timer.builder("rls.context.setup")
+                .description("Tempo para aplicar o contexto RLS no início da transação")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+                .getResource(obtainEntityManagerFactory());
+        if (holder == null) {
+            return;
+        }
+
+        RlsContext context = RlsContextHolder.current();
+        long start = System.nanoTime();
+        try {
+            holder.getEntityManager().unwrap(Session.class).doWork(connection -> apply(connection, context));
+        } catch (RuntimeException ex) {
+            EntityTransaction tx = holder.getEntityManager().getTransaction();
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            doCleanupAfterCompletion(transaction);
+            throw new CannotCreateTransactionException("Erro ao configurar contexto RLS", ex);
+        } finally {
+            setupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void apply(Connection connection, RlsContext context) throws SQLException {
+        String[] values = {
+                context.userType(),
+                toText(context.companyId()),
+                context.allowedComplexes(),
+                toText(context.customerId()),
+                toText(context.userId())
+        };
+
+        int mask = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && !values[i].isEmpty()) {
+                mask |= 1 << i;
+            }
+        }
+        if (mask == 0) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(STATEMENTS[mask])) {
+            int index = 1;
+            for (int i = 0; i < values.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    statement.setString(index++, values[i]);
+                }
+            }
+            statement.execute();
+        }
+        log.trace("RLS: contexto aplicado na transação: {}", context);
+    }
+
+    private static String toText(Long value) {
+        return value != null ? value.toString() : null;
+    }
+}
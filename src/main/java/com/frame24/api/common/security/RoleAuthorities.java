@@ -0,0 +1,58 @@
+package com.frame24.api.common.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conjunto imutável de authorities de uma role.
+ * <p>
+ * As permissões também são representadas como bitmask sobre um índice de códigos
+ * compartilhado por todas as roles da empresa, então {@link #hasPermission(String)}
+ * é uma consulta ao mapa seguida de um teste de bit.
+ */
+public final class RoleAuthorities {
+
+    private static final RoleAuthorities NONE = new RoleAuthorities(null, List.of(), Map.of(), new long[0]);
+
+    private final String roleName;
+    private final List<GrantedAuthority> authorities;
+    private final Map<String, Integer> permissionIndex;
+    private final long[] permissionBits;
+
+    /**
+     * @param roleName        Nome da role
+     * @param authorities     {@code ROLE_<nome>} seguido das permissões ativas
+     * @param permissionIndex Código da permissão para posição do bit (compartilhado na empresa)
+     * @param permissionBits  Bitmask das permissões da role
+     */
+    public RoleAuthorities(String roleName, List<GrantedAuthority> authorities,
+                           Map<String, Integer> permissionIndex, long[] permissionBits) {
+        this.roleName = roleName;
+        this.authorities = List.copyOf(authorities);
+        this.permissionIndex = permissionIndex;
+        this.permissionBits = permissionBits.clone();
+    }
+
+    public static RoleAuthorities none() {
+        return NONE;
+    }
+
+    public String roleName() {
+        return roleName;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return authorities;
+    }
+
+    public boolean hasPermission(String permissionCode) {
+        Integer bit = permissionIndex.get(permissionCode);
+        if (bit == null) {
+            return false;
+        }
+        int word = bit >>> 6;
+        return word < permissionBits.length && (permissionBits[word] & (1L << bit)) != 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.frame24.api.common.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Propaga o usuário autenticado (e um eventual {@link RlsContext} explícito) para tarefas
+ * executadas pelo executor da aplicação ({@code @Async}, eventos assíncronos).
+ *
+ * <p>
+ * Sem isso a tarefa rodaria sem autenticação e as transações abertas nela usariam
+ * o contexto RLS {@code SYSTEM}.
+ * </p>
+ */
+public class SecurityContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        RlsContext rlsContext = RlsContextHolder.override();
+
+        return () -> {
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            RlsContext previousRls = RlsContextHolder.override();
+            SecurityContextHolder.setContext(securityContext);
+            RlsContextHolder.restore(rlsContext);
+            try {
+                runnable.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurity);
+                RlsContextHolder.restore(previousRls);
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.frame24.api.common.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Autenticação e autorização das conexões STOMP ({@code /ws}).
+ *
+ * <ul>
+ * <li><b>CONNECT</b>: usa o usuário autenticado no handshake HTTP ou, se ausente, o
+ * header STOMP {@code Authorization: Bearer <jwt>}, validado pelo
+ * {@link JwtAuthenticationFilter}.</li>
+ * <li><b>SUBSCRIBE</b>: exige usuário autenticado e um {@link StompSubscriptionAuthorizer}
+ * que aceite o destino.</li>
+ * <li><b>SEND</b>: recusado; os canais são somente leitura para os clientes.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    // Resolvidos sob demanda: os autorizadores dependem de serviços que publicam no broker
+    private final ObjectProvider<StompSubscriptionAuthorizer> subscriptionAuthorizers;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> subscribe(accessor);
+            case SEND -> throw new AccessDeniedException("Envio de mensagens não permitido");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        if (principalOf(accessor.getUser()) != null) {
+            return;
+        }
+
+        String header = accessor.getFirstNativeHeader("Authorization");
+        Authentication authentication = header != null && header.startsWith(BEARER_PREFIX)
+                ? jwtAuthenticationFilter.authenticate(header.substring(BEARER_PREFIX.length()))
+                : null;
+        if (authentication == null) {
+            throw new BadCredentialsException("Token inválido ou ausente");
+        }
+        accessor.setUser(authentication);
+    }
+
+    private void subscribe(StompHeaderAccessor accessor) {
+        UserPrincipal principal = principalOf(accessor.getUser());
+        if (principal == null) {
+            throw new AccessDeniedException("Usuário não autenticado");
+        }
+
+        String destination = accessor.getDestination();
+        StompSubscriptionAuthorizer authorizer = destination == null ? null : subscriptionAuthorizers.orderedStream()
+                .filter(candidate -> candidate.supports(destination))
+                .findFirst()
+                .orElse(null);
+        if (authorizer == null) {
+            throw new AccessDeniedException("Destino não permitido: " + destination);
+        }
+
+        authorizer.authorize(destination, principal);
+        log.debug("Inscrição STOMP: userId={}, destino={}", principal.getUserId(), destination);
+    }
+
+    private static UserPrincipal principalOf(Principal user) {
+        if (user instanceof Authentication authentication
+                && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+}
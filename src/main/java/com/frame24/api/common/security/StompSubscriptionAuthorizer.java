@@ -0,0 +1,18 @@
+package com.frame24.api.common.security;
+
+/**
+ * Autoriza inscrições STOMP em destinos de um módulo.
+ * <p>
+ * Cada módulo que publica em {@code /topic/...} registra um bean para os seus destinos;
+ * inscrições em destinos sem autorizador são recusadas.
+ */
+public interface StompSubscriptionAuthorizer {
+
+    boolean supports(String destination);
+
+    /**
+     * @throws org.springframework.security.access.AccessDeniedException (ou exceção de
+     *                                                                   negócio) se o usuário não pode se inscrever
+     */
+    void authorize(String destination, UserPrincipal principal);
+}
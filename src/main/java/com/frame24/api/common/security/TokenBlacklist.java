@@ -1,71 +1,193 @@
 package com.frame24.api.common.security;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Blacklist de tokens JWT para implementar logout.
  * <p>
  * Tokens adicionados aqui são considerados inválidos mesmo que não tenham
  * expirado.
+ * <p>
+ * Os tokens são identificados pelo {@link VerifiedToken#tokenId()} (claim {@code jti}
+ * ou SHA-256 do token). Cada instância mantém em memória um filtro de Bloom com os IDs
+ * revogados ainda não expirados, de modo que o caminho comum (token não revogado) não
+ * acessa a rede; só um acerto no filtro é confirmado com a chave exata no Redis.
+ * <p>
+ * Estruturas no Redis:
+ * <ul>
+ * <li>{@code token:revoked:{id}} - chave exata, com TTL até a expiração do token</li>
+ * <li>{@code token:revoked:index} - ZSET (score = expiração) usado para reconstruir o filtro</li>
+ * <li>{@code token:revoked:stream} - stream com as revogações, lido por todas as instâncias</li>
+ * </ul>
+ * O filtro é reconstruído periodicamente a partir do ZSET, descartando tokens expirados,
+ * então a memória fica limitada ao número de tokens revogados ainda válidos.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklist {
 
+    private static final String KEY_PREFIX = "token:revoked:";
+    private static final String INDEX_KEY = "token:revoked:index";
+    private static final String STREAM_KEY = "token:revoked:stream";
+    private static final long MAX_STREAM_LENGTH = 100_000;
+    private static final int MIN_FILTER_CAPACITY = 10_000;
+    private static final int STREAM_BATCH_SIZE = 1_000;
+
     private final StringRedisTemplate redisTemplate;
+    private final Object refreshLock = new Object();
 
-    private static final String KEY_PREFIX = "token:blacklist:";
+    private volatile RevocationBloomFilter filter = new RevocationBloomFilter(MIN_FILTER_CAPACITY);
+    private String lastStreamId = "0-0";
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
 
     /**
-     * Adiciona um token à blacklist.
+     * Revoga um token até a sua expiração.
      *
-     * @param token Token JWT completo
-     * @param ttl   Tempo até expiração original do token
+     * @param token Token verificado
      */
-    public void add(String token, Duration ttl) {
-        String key = KEY_PREFIX + hashToken(token);
+    public void add(VerifiedToken token) {
+        long ttlMillis = token.expiresAt().toEpochMilli() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        String tokenId = token.tokenId();
+        String expiresAt = String.valueOf(token.expiresAt().toEpochMilli());
         try {
-            redisTemplate.opsForValue().set(key, "blacklisted", ttl);
-            log.debug("Token adicionado à blacklist (TTL: {}s)", ttl.getSeconds());
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "revoked", Duration.ofMillis(ttlMillis));
+            redisTemplate.opsForZSet().add(INDEX_KEY, tokenId, token.expiresAt().toEpochMilli());
+            redisTemplate.opsForStream().add(StreamRecords.string(Map.of("id", tokenId, "exp", expiresAt))
+                    .withStreamKey(STREAM_KEY));
+            log.debug("Token revogado até {} (TTL: {}s)", token.expiresAt(), ttlMillis / 1000);
         } catch (Exception e) {
             log.error("Erro ao adicionar token à blacklist: {}", e.getMessage());
         }
+        filter.put(tokenId);
     }
 
     /**
-     * Verifica se um token está na blacklist.
+     * Verifica se um token foi revogado.
      *
-     * @param token Token JWT completo
-     * @return true se estiver na blacklist, false caso contrário
+     * <p>
+     * Consulta o Redis apenas quando o filtro local indica possível revogação.
+     * Em caso de erro nessa consulta o token é tratado como revogado.
+     * </p>
+     *
+     * @param token Token verificado
+     * @return true se revogado, false caso contrário
      */
-    public boolean isBlacklisted(String token) {
-        String key = KEY_PREFIX + hashToken(token);
+    public boolean isBlacklisted(VerifiedToken token) {
+        String tokenId = token.tokenId();
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+
         try {
-            Boolean exists = redisTemplate.hasKey(key);
-            if (Boolean.TRUE.equals(exists)) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId))) {
                 log.debug("Token encontrado na blacklist");
                 return true;
             }
+            return false;
         } catch (Exception e) {
             log.error("Erro ao verificar blacklist: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Aplica as revogações feitas por outras instâncias (leitura incremental do stream).
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.poll-interval-ms:200}")
+    public void pollRevocations() {
+        synchronized (refreshLock) {
+            try {
+                lastStreamId = applyStream(filter, lastStreamId);
+            } catch (Exception e) {
+                log.warn("Falha ao ler revogações de tokens: {}", e.getMessage());
+            }
         }
-        return false;
     }
 
     /**
-     * Gera hash do token para usar como chave no Redis.
-     * Usamos hash para economizar espaço (tokens JW T são grandes).
+     * Reconstrói o filtro a partir dos tokens revogados ainda não expirados.
      *
-     * @param token Token JWT
-     * @return Hash do token
+     * <p>
+     * A posição do stream é lida antes do ZSET; as revogações posteriores são reaplicadas
+     * sobre o novo filtro antes da troca, então nenhuma revogação se perde.
+     * </p>
      */
-    private String hashToken(String token) {
-        return String.valueOf(token.hashCode());
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${token-revocation.rebuild-interval-ms:600000}",
+            fixedDelayString = "${token-revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (refreshLock) {
+            try {
+                long now = System.currentTimeMillis();
+                redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+                redisTemplate.opsForStream().trim(STREAM_KEY, MAX_STREAM_LENGTH, true);
+
+                List<MapRecord<String, Object, Object>> tail = redisTemplate.opsForStream()
+                        .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+                String streamId = tail == null || tail.isEmpty() ? "0-0" : tail.getFirst().getId().getValue();
+
+                Set<String> live = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+                int size = live != null ? live.size() : 0;
+
+                RevocationBloomFilter rebuilt = new RevocationBloomFilter(Math.max(MIN_FILTER_CAPACITY, size * 2));
+                if (live != null) {
+                    live.forEach(rebuilt::put);
+                }
+
+                lastStreamId = applyStream(rebuilt, streamId);
+                filter = rebuilt;
+                log.debug("Filtro de tokens revogados reconstruído: {} tokens ativos", size);
+            } catch (Exception e) {
+                log.warn("Falha ao reconstruir filtro de tokens revogados: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String applyStream(RevocationBloomFilter target, String fromId) {
+        String cursor = fromId;
+        long now = System.currentTimeMillis();
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    StreamReadOptions.empty().count(STREAM_BATCH_SIZE),
+                    StreamOffset.create(STREAM_KEY, ReadOffset.from(cursor)));
+            if (records == null || records.isEmpty()) {
+                return cursor;
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                Object exp = record.getValue().get("exp");
+                if (exp == null || Long.parseLong(exp.toString()) > now) {
+                    target.put(String.valueOf(record.getValue().get("id")));
+                }
+                cursor = record.getId().getValue();
+            }
+            if (records.size() < STREAM_BATCH_SIZE) {
+                return cursor;
+            }
+        }
     }
 }
@@ -15,8 +15,8 @@ import java.util.List;
  *
  * <p>
  * Esta classe armazena as informações do usuário autenticado e fornece
- * os dados necessários para o {@link RLSContextInterceptor} configurar
- * as variáveis de sessão do PostgreSQL.
+ * os dados necessários para o {@link RlsTransactionManager} configurar
+ * as variáveis de sessão do PostgreSQL (via {@link RlsContext}).
  * </p>
  *
  * <h3>Tipos de Usuário:</h3>
@@ -51,7 +51,7 @@ import java.util.List;
  *         .build();
  * </pre>
  *
- * @see RLSContextInterceptor
+ * @see RlsContext
  * @see UserDetails
  */
 @Getter
@@ -1,7 +1,12 @@
 package com.frame24.api.common.security;
 
-import lombok.RequiredArgsConstructor;
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -11,17 +16,42 @@ import java.time.Duration;
  * Cache de sessões de usuário no Redis para melhorar performance.
  * <p>
  * Armazena UserPrincipal em cache para evitar queries repetidas no banco.
+ * <p>
+ * Há um near-cache em memória (Caffeine, TTL curto e tamanho limitado) na frente do
+ * Redis: em regime estável o filtro JWT não faz nenhuma chamada de rede. {@link #save}
+ * e {@link #delete} publicam invalidações via {@link CacheInvalidationBus}, para que as
+ * demais instâncias descartem a cópia local. Métricas em {@code cache.*{cache=user.session.local}}.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserSessionCache {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-
     private static final String KEY_PREFIX = "user:session:";
+    private static final String CACHE_NAME = "user.session.local";
     private static final Duration DEFAULT_TTL = Duration.ofHours(1); // 1h (mesmo do access token)
 
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, UserPrincipal> localCache;
+
+    public UserSessionCache(
+            RedisTemplate<String, Object> redisTemplate,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${session-cache.local.max-size:10000}") long localMaxSize,
+            @Value("${session-cache.local.ttl:30s}") Duration localTtl) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+        invalidationBus.register(CACHE_NAME, key -> localCache.invalidate(Long.valueOf(key)));
+    }
+
     /**
      * Salva UserPrincipal no cache.
      *
@@ -30,12 +60,14 @@ public class UserSessionCache {
      */
     public void save(Long userId, UserPrincipal userPrincipal) {
         String key = KEY_PREFIX + userId;
+        localCache.put(userId, userPrincipal);
         try {
             redisTemplate.opsForValue().set(key, userPrincipal, DEFAULT_TTL);
             log.debug("UserPrincipal salvo no cache: userId={}", userId);
         } catch (Exception e) {
             log.error("Erro ao salvar UserPrincipal no cache: {}", e.getMessage());
         }
+        invalidationBus.publish(CACHE_NAME, String.valueOf(userId));
     }
 
     /**
@@ -45,12 +77,18 @@ public class UserSessionCache {
      * @return UserPrincipal ou null se não existir
      */
     public UserPrincipal get(Long userId) {
+        UserPrincipal local = localCache.getIfPresent(userId);
+        if (local != null) {
+            return local;
+        }
+
         String key = KEY_PREFIX + userId;
         try {
             Object value = redisTemplate.opsForValue().get(key);
-            if (value instanceof UserPrincipal) {
+            if (value instanceof UserPrincipal principal) {
                 log.debug("UserPrincipal encontrado no cache: userId={}", userId);
-                return (UserPrincipal) value;
+                localCache.put(userId, principal);
+                return principal;
             }
         } catch (Exception e) {
             log.error("Erro ao buscar UserPrincipal do cache: {}", e.getMessage());
@@ -59,18 +97,20 @@ public class UserSessionCache {
     }
 
     /**
-     * Remove UserPrincipal do cache (usado no logout).
+     * Remove UserPrincipal do cache (usado no logout, desativação e alteração de usuário).
      *
      * @param userId ID do usuário
      */
     public void delete(Long userId) {
         String key = KEY_PREFIX + userId;
+        localCache.invalidate(userId);
         try {
             redisTemplate.delete(key);
             log.debug("UserPrincipal removido do cache: userId={}", userId);
         } catch (Exception e) {
             log.error("Erro ao deletar UserPrincipal do cache: {}", e.getMessage());
         }
+        invalidationBus.publish(CACHE_NAME, String.valueOf(userId));
     }
 
     /**
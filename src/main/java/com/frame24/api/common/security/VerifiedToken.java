@@ -0,0 +1,67 @@
+package com.frame24.api.common.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Token JWT já verificado (assinatura HMAC e expiração), com todos os claims usados pela API.
+ *
+ * <p>
+ * Produzido uma única vez por {@link JwtService#verify(String)}; imutável e seguro para cache.
+ * </p>
+ *
+ * @param email      Subject do token
+ * @param userId     ID da identidade
+ * @param companyId  Empresa do usuário (null para clientes)
+ * @param userType   Tipo de identidade (EMPLOYEE, CUSTOMER, SYSTEM)
+ * @param customerId ID do cliente (null para funcionários)
+ * @param roleId     ID da role
+ * @param roleName   Nome da role
+ * @param tokenId    Identificador para revogação: claim {@code jti} ou, em tokens antigos, SHA-256 do token
+ * @param tokenType  "access" ou "refresh"
+ * @param expiresAt  Instante de expiração
+ */
+public record VerifiedToken(
+        String tokenId,
+        String email,
+        Long userId,
+        Long companyId,
+        String userType,
+        Long customerId,
+        Long roleId,
+        String roleName,
+        String tokenType,
+        Instant expiresAt) {
+
+    /**
+     * Converte os claims de um token com assinatura já verificada.
+     *
+     * @param claims Claims verificados
+     * @param digest SHA-256 do token, usado como ID quando não há {@code jti}
+     */
+    static VerifiedToken from(Claims claims, String digest) {
+        return new VerifiedToken(
+                claims.getId() != null ? claims.getId() : digest,
+                claims.getSubject(),
+                toLong(claims.get("userId")),
+                toLong(claims.get("companyId")),
+                (String) claims.get("userType"),
+                toLong(claims.get("customerId")),
+                toLong(claims.get("roleId")),
+                (String) claims.get("roleName"),
+                (String) claims.get("tokenType"),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX);
+    }
+
+    /**
+     * Indica se o token já expirou no instante informado.
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
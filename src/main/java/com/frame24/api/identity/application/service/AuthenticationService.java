@@ -2,10 +2,14 @@ package com.frame24.api.identity.application.service;
 
 import com.frame24.api.common.email.EmailService;
 import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.AuthorityResolver;
 import com.frame24.api.common.security.JwtService;
+import com.frame24.api.common.security.PasswordHashingService;
+import com.frame24.api.common.security.RoleAuthorities;
 import com.frame24.api.common.security.TokenBlacklist;
 import com.frame24.api.common.security.UserPrincipal;
 import com.frame24.api.common.security.UserSessionCache;
+import com.frame24.api.common.security.VerifiedToken;
 import com.frame24.api.identity.application.dto.ForgotPasswordRequest;
 import com.frame24.api.identity.application.dto.LoginRequest;
 import com.frame24.api.identity.application.dto.LoginResponse;
@@ -19,14 +23,12 @@ import com.frame24.api.identity.infrastructure.repository.PasswordHistoryReposit
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
 import java.util.UUID;
 
 /**
@@ -40,11 +42,13 @@ public class AuthenticationService {
     private final IdentityRepository identityRepository;
     private final CompanyUserRepository companyUserRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final JwtService jwtService;
     private final TokenBlacklist tokenBlacklist;
     private final UserSessionCache sessionCache;
+    private final AuthorityResolver authorityResolver;
     private final EmailService emailService;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${jwt.access-token-expiration}")
     private Long accessTokenExpiration;
@@ -60,12 +64,38 @@ public class AuthenticationService {
 
     /**
      * Realiza login do usuário e retorna tokens JWT.
+     *
+     * <p>
+     * A senha é verificada fora de transação: a espera pelo pool de hashing não prende
+     * uma conexão do banco. A leitura da conta e a gravação do resultado (tentativa
+     * falha, desbloqueio, novo hash) são transações curtas, antes e depois.
+     * </p>
      */
-    @Transactional(readOnly = true)
     public LoginResponse login(LoginRequest request) {
         log.info("Tentativa de login: {}", request.email());
 
-        Identity identity = identityRepository.findByEmail(request.email())
+        LoginCandidate candidate = transaction(true).execute(status -> findCandidate(request.email()));
+
+        if (!passwordHashing.matches(request.password(), candidate.passwordHash())) {
+            log.warn("Senha incorreta para email: {}***",
+                    request.email().substring(0, Math.min(2, request.email().length())));
+            transaction(false).executeWithoutResult(status -> handleFailedLogin(candidate.identityId()));
+            throw new ValidationException("password", "Credenciais inválidas");
+        }
+
+        // Regera o hash com o custo atual (opt-in: password-hashing.rehash-on-login)
+        String newPasswordHash = passwordHashing.needsRehash(candidate.passwordHash())
+                ? passwordHashing.encode(request.password())
+                : null;
+
+        return transaction(false).execute(status -> completeLogin(candidate.identityId(), newPasswordHash));
+    }
+
+    /**
+     * Conta apta a tentar o login: ativa, não bloqueada e com email verificado.
+     */
+    private LoginCandidate findCandidate(String email) {
+        Identity identity = identityRepository.findByEmail(email)
                 .orElseThrow(() -> new ValidationException("email", "Credenciais inválidas"));
 
         if (!identity.getActive()) {
@@ -83,12 +113,17 @@ public class AuthenticationService {
             throw new ValidationException("email", "Email não verificado. Verifique seu email para ativar a conta");
         }
 
-        if (!passwordEncoder.matches(request.password(), identity.getPasswordHash())) {
-            log.warn("Senha incorreta para email: {}***",
-                    request.email().substring(0, Math.min(2, request.email().length())));
-            handleFailedLogin(identity);
-            throw new ValidationException("password", "Credenciais inválidas");
-        }
+        return new LoginCandidate(identity.getId(), identity.getPasswordHash());
+    }
+
+    /**
+     * Registra o login bem-sucedido e emite os tokens.
+     *
+     * @param newPasswordHash hash com o custo atual, ou nulo se o atual já serve
+     */
+    private LoginResponse completeLogin(Long identityId, String newPasswordHash) {
+        Identity identity = identityRepository.findById(identityId)
+                .orElseThrow(() -> new ValidationException("email", "Credenciais inválidas"));
 
         // Reset failed login attempts on successful login
         if (identity.getFailedLoginAttempts() != null && identity.getFailedLoginAttempts() > 0) {
@@ -98,6 +133,12 @@ public class AuthenticationService {
             identityRepository.save(identity);
         }
 
+        if (newPasswordHash != null) {
+            identity.setPasswordHash(newPasswordHash);
+            identityRepository.save(identity);
+            log.info("Hash de senha atualizado para o custo atual: identityId={}", identity.getId());
+        }
+
         CompanyUser companyUser = companyUserRepository.findByIdentityId(identity.getId())
                 .stream()
                 .filter(CompanyUser::getActive)
@@ -112,7 +153,7 @@ public class AuthenticationService {
         // Salva sessão no cache Redis
         sessionCache.save(identity.getId(), userPrincipal);
 
-        log.info("Login bem-sucedido: {} - Company: {}", request.email(), companyUser.getCompany().getId());
+        log.info("Login bem-sucedido: {} - Company: {}", identity.getEmail(), companyUser.getCompany().getId());
 
         return new LoginResponse(
                 accessToken,
@@ -126,7 +167,7 @@ public class AuthenticationService {
                         companyUser.getCompany().getId(),
                         companyUser.getCompany().getCorporateName(),
                         companyUser.getCompany().getTenantSlug(),
-                        companyUser.getRole().getName(),
+                        userPrincipal.getRoleName(),
                         identity.getIdentityType().name()));
     }
 
@@ -134,12 +175,11 @@ public class AuthenticationService {
      * Realiza logout do usuário.
      */
     public void logout(String token) {
-        Long userId = jwtService.extractUserId(token);
-        Date expiration = jwtService.extractClaims(token).getExpiration();
-        long ttlMillis = expiration.getTime() - System.currentTimeMillis();
-        Duration ttl = Duration.ofMillis(Math.max(ttlMillis, 0));
+        VerifiedToken verified = jwtService.verify(token)
+                .orElseThrow(() -> new ValidationException("token", "Token inválido"));
+        Long userId = verified.userId();
 
-        tokenBlacklist.add(token, ttl);
+        tokenBlacklist.add(verified);
         if (userId != null) {
             sessionCache.delete(userId);
         }
@@ -152,15 +192,14 @@ public class AuthenticationService {
      */
     @Transactional(readOnly = true)
     public LoginResponse refresh(String refreshToken) {
-        if (!jwtService.validateToken(refreshToken)) {
-            throw new ValidationException("token", "Refresh token inválido");
-        }
+        VerifiedToken verified = jwtService.verify(refreshToken)
+                .orElseThrow(() -> new ValidationException("token", "Refresh token inválido"));
 
-        if (tokenBlacklist.isBlacklisted(refreshToken)) {
+        if (tokenBlacklist.isBlacklisted(verified)) {
             throw new ValidationException("token", "Refresh token revogado");
         }
 
-        Long userId = jwtService.extractUserId(refreshToken);
+        Long userId = verified.userId();
         if (userId == null) {
             throw new ValidationException("token", "Token inválido");
         }
@@ -195,7 +234,7 @@ public class AuthenticationService {
                         companyUser.getCompany().getId(),
                         companyUser.getCompany().getCorporateName(),
                         companyUser.getCompany().getTenantSlug(),
-                        companyUser.getRole().getName(),
+                        userPrincipal.getRoleName(),
                         identity.getIdentityType().name()));
     }
 
@@ -251,7 +290,7 @@ public class AuthenticationService {
         savePasswordHistory(identity);
 
         // Atualiza senha
-        identity.setPasswordHash(passwordEncoder.encode(request.newPassword()));
+        identity.setPasswordHash(passwordHashing.encode(request.newPassword()));
         identity.setResetToken(null);
         identity.setResetTokenExpiresAt(null);
         identity.setPasswordChangedAt(Instant.now());
@@ -262,31 +301,22 @@ public class AuthenticationService {
 
     /**
      * Helper para criar UserPrincipal com todas as permissões (Role macro +
-     * Permissões granulares).
+     * Permissões granulares), resolvidas pelo {@link AuthorityResolver} sem
+     * carregar a role e suas permissões pelo Hibernate.
      */
     private UserPrincipal createUserPrincipal(Identity identity, CompanyUser companyUser) {
-        java.util.Set<org.springframework.security.core.GrantedAuthority> authorities = new java.util.HashSet<>();
-
-        // 1. Adiciona a Role principal (ex: ROLE_ADMINISTRADOR)
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + companyUser.getRole().getName()));
-
-        // 2. Adiciona permissões granulares (ex: users:read, sales:create)
-        if (companyUser.getRole().getRolePermissions() != null) {
-            companyUser.getRole().getRolePermissions().stream()
-                    .filter(rp -> rp.getPermission() != null
-                            && Boolean.TRUE.equals(rp.getPermission().getActive()))
-                    .forEach(rp -> authorities
-                            .add(new SimpleGrantedAuthority(rp.getPermission().getCode())));
-        }
+        Long companyId = companyUser.getCompany().getId();
+        Long roleId = companyUser.getRole().getId();
+        RoleAuthorities roleAuthorities = authorityResolver.resolve(companyId, roleId);
 
         return UserPrincipal.builder()
                 .userId(identity.getId())
                 .email(identity.getEmail())
-                .companyId(companyUser.getCompany().getId())
+                .companyId(companyId)
                 .userType(identity.getIdentityType().name())
-                .roleId(companyUser.getRole().getId())
-                .roleName(companyUser.getRole().getName())
-                .authorities(new java.util.ArrayList<>(authorities))
+                .roleId(roleId)
+                .roleName(roleAuthorities.roleName())
+                .authorities(roleAuthorities.authorities())
                 .build();
     }
 
@@ -294,7 +324,11 @@ public class AuthenticationService {
      * Trata tentativa de login falhada, incrementando contador e bloqueando se
      * necessário.
      */
-    private void handleFailedLogin(Identity identity) {
+    private void handleFailedLogin(Long identityId) {
+        Identity identity = identityRepository.findById(identityId).orElse(null);
+        if (identity == null) {
+            return;
+        }
         int attempts = identity.getFailedLoginAttempts() != null ? identity.getFailedLoginAttempts() : 0;
         attempts++;
 
@@ -315,14 +349,16 @@ public class AuthenticationService {
      * Valida que a nova senha não está no histórico recente.
      */
     private void validatePasswordHistory(Identity identity, String newPassword) {
-        java.util.List<PasswordHistory> history = passwordHistoryRepository
-                .findTop3ByIdentity_IdOrderByCreatedAtDesc(identity.getId());
-
-        for (PasswordHistory oldPassword : history) {
-            if (passwordEncoder.matches(newPassword, oldPassword.getPasswordHash())) {
-                throw new ValidationException("password",
-                        "Você não pode reutilizar uma das suas últimas " + passwordHistorySize + " senhas");
-            }
+        java.util.List<String> history = passwordHistoryRepository
+                .findTop3ByIdentity_IdOrderByCreatedAtDesc(identity.getId())
+                .stream()
+                .map(PasswordHistory::getPasswordHash)
+                .toList();
+
+        // Comparações em paralelo no pool de hashing
+        if (passwordHashing.matchesAny(newPassword, history)) {
+            throw new ValidationException("password",
+                    "Você não pode reutilizar uma das suas últimas " + passwordHistorySize + " senhas");
         }
     }
 
@@ -338,4 +374,16 @@ public class AuthenticationService {
 
         log.debug("Senha salva no histórico: identityId={}", identity.getId());
     }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    /**
+     * Dados da conta necessários para verificar a senha fora da transação.
+     */
+    private record LoginCandidate(Long identityId, String passwordHash) {
+    }
 }
@@ -3,6 +3,7 @@ package com.frame24.api.identity.application.service;
 import com.frame24.api.common.event.CompanyCreatedEvent;
 import com.frame24.api.common.exception.ConflictException;
 import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.PasswordHashingService;
 import com.frame24.api.identity.application.dto.CompanyRegistrationRequest;
 import com.frame24.api.identity.application.dto.CompanyRegistrationResponse;
 import com.frame24.api.identity.domain.*;
@@ -13,7 +14,6 @@ import com.frame24.api.identity.infrastructure.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +38,7 @@ public class CompanyRegistrationService {
     private final IdentityRepository identityRepository;
     private final CustomRoleRepository customRoleRepository;
     private final CompanyUserRepository companyUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final DefaultRolesService defaultRolesService;
     private final DefaultPermissionsService defaultPermissionsService;
     private final ApplicationEventPublisher eventPublisher;
@@ -50,7 +50,7 @@ public class CompanyRegistrationService {
             IdentityRepository identityRepository,
             CustomRoleRepository customRoleRepository,
             CompanyUserRepository companyUserRepository,
-            PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashing,
             DefaultRolesService defaultRolesService,
             DefaultPermissionsService defaultPermissionsService,
             ApplicationEventPublisher eventPublisher) {
@@ -60,7 +60,7 @@ public class CompanyRegistrationService {
         this.identityRepository = identityRepository;
         this.customRoleRepository = customRoleRepository;
         this.companyUserRepository = companyUserRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
         this.defaultRolesService = defaultRolesService;
         this.defaultPermissionsService = defaultPermissionsService;
         this.eventPublisher = eventPublisher;
@@ -230,7 +230,7 @@ public class CompanyRegistrationService {
         Identity identity = new Identity();
         identity.setPerson(person);
         identity.setEmail(request.email());
-        identity.setPasswordHash(passwordEncoder.encode(request.password()));
+        identity.setPasswordHash(passwordHashing.encode(request.password()));
         identity.setPasswordChangedAt(Instant.now());
         identity.setIdentityType(IdentityType.EMPLOYEE);
         identity.setActive(true);
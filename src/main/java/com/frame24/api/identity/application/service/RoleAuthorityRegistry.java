@@ -0,0 +1,155 @@
+package com.frame24.api.identity.application.service;
+
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.PermissionChangedEvent;
+import com.frame24.api.common.security.AuthorityResolver;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.RoleAuthorities;
+import com.frame24.api.identity.infrastructure.repository.CustomRoleRepository;
+import com.frame24.api.identity.infrastructure.repository.CustomRoleRepository.RoleAuthorityRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Registro de authorities pré-compiladas por (empresa, role).
+ *
+ * <p>
+ * Na primeira consulta de uma empresa, todas as suas roles e permissões ativas são
+ * carregadas em uma única query e convertidas em {@link RoleAuthorities} imutáveis
+ * (instâncias de {@link GrantedAuthority} compartilhadas e bitmask de permissões).
+ * A partir daí login, refresh e o filtro JWT resolvem authorities sem tocar no Hibernate.
+ * </p>
+ *
+ * <p>
+ * Alterações feitas pelo {@link RoleService} publicam {@link PermissionChangedEvent};
+ * após o commit a empresa é descartada localmente e nas demais instâncias (via
+ * {@link CacheInvalidationBus}). O TTL ({@code role-authorities.ttl}) limita o tempo
+ * de uma entrada desatualizada caso a invalidação se perca.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RoleAuthorityRegistry implements AuthorityResolver {
+
+    private static final String CACHE_NAME = "role.authorities.local";
+
+    private final CustomRoleRepository customRoleRepository;
+    private final TransactionTemplate loadTransaction;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, Map<Long, RoleAuthorities>> companies;
+
+    public RoleAuthorityRegistry(
+            CustomRoleRepository customRoleRepository,
+            CacheInvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${role-authorities.max-companies:10000}") long maxCompanies,
+            @Value("${role-authorities.ttl:10m}") Duration ttl) {
+        this.customRoleRepository = customRoleRepository;
+        this.invalidationBus = invalidationBus;
+
+        // O RLS é fixado no início da transação: a carga precisa de uma própria, mesmo
+        // quando chamada dentro da transação de quem resolve (ex.: refresh)
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        this.companies = Caffeine.newBuilder()
+                .maximumSize(maxCompanies)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, companies, CACHE_NAME);
+        invalidationBus.register(CACHE_NAME, key -> companies.invalidate(Long.valueOf(key)));
+    }
+
+    @Override
+    public RoleAuthorities resolve(Long companyId, Long roleId) {
+        if (companyId == null || roleId == null) {
+            return RoleAuthorities.none();
+        }
+        return companies.get(companyId, this::load).getOrDefault(roleId, RoleAuthorities.none());
+    }
+
+    /**
+     * Descarta as authorities da empresa nesta e nas demais instâncias.
+     */
+    public void invalidate(Long companyId) {
+        companies.invalidate(companyId);
+        invalidationBus.publish(CACHE_NAME, String.valueOf(companyId));
+        log.debug("Authorities invalidadas: companyId={}", companyId);
+    }
+
+    @TransactionalEventListener
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        invalidate(event.companyId());
+    }
+
+    private Map<Long, RoleAuthorities> load(Long companyId) {
+        List<RoleAuthorityRow> rows = RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                () -> loadTransaction.execute(status -> customRoleRepository.findAuthorityRowsByCompanyId(companyId)));
+
+        Map<Long, String> roleNames = new LinkedHashMap<>();
+        Map<Long, Set<String>> roleCodes = new HashMap<>();
+        Set<String> allCodes = new TreeSet<>();
+        for (RoleAuthorityRow row : rows) {
+            roleNames.putIfAbsent(row.getRoleId(), row.getRoleName());
+            Set<String> codes = roleCodes.computeIfAbsent(row.getRoleId(), id -> new LinkedHashSet<>());
+            if (row.getPermissionCode() != null) {
+                codes.add(row.getPermissionCode());
+                allCodes.add(row.getPermissionCode());
+            }
+        }
+
+        // Índice de bits e authorities compartilhados por todas as roles da empresa
+        Map<String, Integer> index = new HashMap<>();
+        Map<String, GrantedAuthority> interned = new HashMap<>();
+        for (String code : allCodes) {
+            index.put(code, index.size());
+            interned.put(code, new SimpleGrantedAuthority(code));
+        }
+        Map<String, Integer> sharedIndex = Map.copyOf(index);
+        int words = (allCodes.size() + 63) >>> 6;
+
+        Map<Long, RoleAuthorities> roles = new HashMap<>();
+        roleNames.forEach((roleId, roleName) -> {
+            Set<String> codes = roleCodes.get(roleId);
+            List<GrantedAuthority> authorities = new ArrayList<>(codes.size() + 1);
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + roleName));
+            long[] bits = new long[words];
+            for (String code : codes) {
+                int bit = sharedIndex.get(code);
+                bits[bit >>> 6] |= 1L << bit;
+                authorities.add(interned.get(code));
+            }
+            roles.put(roleId, new RoleAuthorities(roleName, authorities, sharedIndex, bits));
+        });
+
+        log.debug("Authorities carregadas: companyId={}, roles={}, permissões={}",
+                companyId, roles.size(), allCodes.size());
+        return Map.copyOf(roles);
+    }
+}
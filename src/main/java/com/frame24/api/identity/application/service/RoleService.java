@@ -1,5 +1,6 @@
 package com.frame24.api.identity.application.service;
 
+import com.frame24.api.common.event.PermissionChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.security.UserPrincipal;
 import com.frame24.api.identity.application.dto.CreateRoleRequest;
@@ -14,6 +15,7 @@ import com.frame24.api.identity.infrastructure.repository.CustomRoleRepository;
 import com.frame24.api.identity.infrastructure.repository.PermissionRepository;
 import com.frame24.api.identity.infrastructure.repository.RolePermissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +37,7 @@ public class RoleService {
     private final CompanyRepository companyRepository;
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria uma nova role customizada.
@@ -72,6 +75,8 @@ public class RoleService {
             addPermissionsToRole(savedRole, request.permissions(), companyId);
         }
 
+        eventPublisher.publishEvent(new PermissionChangedEvent(companyId, savedRole.getId()));
+
         return toResponse(savedRole);
     }
 
@@ -177,6 +182,8 @@ public class RoleService {
 
         CustomRole updatedRole = customRoleRepository.save(role);
 
+        eventPublisher.publishEvent(new PermissionChangedEvent(companyId, role.getId()));
+
         // Força refresh para carregar permissões atualizadas se necessário,
         // mas como já temos as permissões inseridas, podemos só retornar.
         // No entanto, toResponse usa role.getRolePermissions which is a Set.
@@ -221,6 +228,8 @@ public class RoleService {
         rolePermissionRepository.deleteAll(permissions);
 
         customRoleRepository.delete(role);
+
+        eventPublisher.publishEvent(new PermissionChangedEvent(companyId, id));
     }
 
     private void addPermissionsToRole(CustomRole role, Set<String> permissionCodes, Long companyId) {
@@ -2,7 +2,9 @@ package com.frame24.api.identity.application.service;
 
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.PasswordHashingService;
 import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.common.security.UserSessionCache;
 import com.frame24.api.identity.application.dto.*;
 import com.frame24.api.identity.domain.*;
 import com.frame24.api.identity.domain.enums.IdentityType;
@@ -14,7 +16,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.core.JacksonException;
@@ -41,9 +42,10 @@ public class UserManagementService {
     private final CustomRoleRepository customRoleRepository;
     private final CompanyRepository companyRepository;
     private final UserSessionRepository userSessionRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final JdbcTemplate jdbcTemplate;
     private final JsonMapper jsonMapper;
+    private final UserSessionCache sessionCache;
 
     /**
      * Cria um novo usuário no sistema.
@@ -229,6 +231,7 @@ public class UserManagementService {
         updateCompanyUser(user, request, principal);
 
         companyUserRepository.save(user);
+        sessionCache.delete(user.getIdentity().getId());
         log.info("Usuário atualizado com sucesso: id={}", id);
 
         return toUserResponse(user);
@@ -257,8 +260,9 @@ public class UserManagementService {
 
         companyUserRepository.save(user);
 
-        // Revogar todas as sessões ativas
+        // Revogar todas as sessões ativas (banco e caches de todas as instâncias)
         revokeAllUserSessions(user.getIdentity().getId());
+        sessionCache.delete(user.getIdentity().getId());
 
         log.info("Usuário desativado com sucesso: id={}", id);
     }
@@ -394,7 +398,7 @@ public class UserManagementService {
         Identity identity = new Identity();
         identity.setPerson(person);
         identity.setEmail(request.email());
-        identity.setPasswordHash(passwordEncoder.encode(request.password()));
+        identity.setPasswordHash(passwordHashing.encode(request.password()));
         identity.setIdentityType(IdentityType.EMPLOYEE);
         identity.setActive(request.active());
         identity.setEmailVerified(true); // Employee accounts are pre-verified
@@ -495,7 +499,7 @@ public class UserManagementService {
 
         if (request.password() != null) {
             validatePasswordRequirements(request.password());
-            identity.setPasswordHash(passwordEncoder.encode(request.password()));
+            identity.setPasswordHash(passwordHashing.encode(request.password()));
             identity.setPasswordChangedAt(Instant.now());
         }
 
@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import com.frame24.api.identity.domain.enums.CompanyPlanType;
 import com.frame24.api.identity.domain.enums.TaxRegimeType;
 import jakarta.persistence.*;
@@ -19,9 +19,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "companies", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class Company {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
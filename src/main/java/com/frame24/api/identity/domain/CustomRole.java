@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -16,9 +16,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "custom_roles", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class CustomRole {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import com.frame24.api.identity.domain.enums.IdentityType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -17,9 +17,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "identities", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class Identity {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,10 +15,10 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "password_history", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class PasswordHistory {
 
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
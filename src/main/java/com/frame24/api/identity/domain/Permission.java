@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -16,9 +16,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "permissions", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class Permission {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
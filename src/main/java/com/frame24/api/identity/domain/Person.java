@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import com.frame24.api.identity.domain.enums.Gender;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -18,9 +18,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "persons", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class Person {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
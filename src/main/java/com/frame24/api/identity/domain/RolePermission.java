@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -13,9 +13,9 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "role_permissions", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class RolePermission {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -1,6 +1,6 @@
 package com.frame24.api.identity.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import com.frame24.api.identity.domain.enums.SessionContext;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -15,9 +15,9 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "user_sessions", schema = "identity")
-@EntityListeners(SnowflakeEntityListener.class)
 public class UserSession {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -2,6 +2,8 @@ package com.frame24.api.identity.infrastructure.repository;
 
 import com.frame24.api.identity.domain.CustomRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,25 @@ public interface CustomRoleRepository extends JpaRepository<CustomRole, Long> {
     List<CustomRole> findByCompanyIdAndIsSystemRoleTrue(Long companyId);
 
     List<CustomRole> findByCompanyIdAndIsSystemRoleFalse(Long companyId);
+
+    /**
+     * Todas as roles da empresa com os códigos das permissões ativas, em uma única query
+     * (uma linha por role/permissão; roles sem permissões vêm com código nulo).
+     */
+    @Query("""
+            SELECT r.id AS roleId, r.name AS roleName, p.code AS permissionCode
+            FROM CustomRole r
+            LEFT JOIN r.rolePermissions rp
+            LEFT JOIN rp.permission p ON p.active = true
+            WHERE r.company.id = :companyId
+            """)
+    List<RoleAuthorityRow> findAuthorityRowsByCompanyId(@Param("companyId") Long companyId);
+
+    interface RoleAuthorityRow {
+        Long getRoleId();
+
+        String getRoleName();
+
+        String getPermissionCode();
+    }
 }
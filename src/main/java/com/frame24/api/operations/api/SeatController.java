@@ -4,6 +4,8 @@ import com.frame24.api.common.response.ApiResponse;
 import com.frame24.api.common.security.UserPrincipal;
 import com.frame24.api.operations.application.dto.BatchCreateSeatsRequest;
 import com.frame24.api.operations.application.dto.CreateSeatRequest;
+import com.frame24.api.operations.application.dto.ImportSeatLayoutRequest;
+import com.frame24.api.operations.application.dto.SeatLayoutImportResponse;
 import com.frame24.api.operations.application.dto.SeatResponse;
 import com.frame24.api.operations.application.dto.UpdateSeatRequest;
 import com.frame24.api.operations.application.service.SeatService;
@@ -52,6 +54,17 @@ public class SeatController {
                 .body(ApiResponse.success(response, "Assentos criados com sucesso"));
     }
 
+    @PostMapping(value = "/layout", version = "v1.0+")
+    @Operation(summary = "Importar layout da sala", description = "Gera os assentos da sala a partir de um modelo com corredores, lacunas e fileiras curvas")
+    public ResponseEntity<ApiResponse<SeatLayoutImportResponse>> importLayout(
+            @Valid @RequestBody ImportSeatLayoutRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        SeatLayoutImportResponse response = seatService.importLayout(request, principal);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Layout de assentos importado com sucesso"));
+    }
+
     @GetMapping(value = "/room/{roomId}", version = "v1.0+")
     @Operation(summary = "Listar assentos da sala", description = "Lista todos os assentos de uma sala específica")
     public ResponseEntity<ApiResponse<List<SeatResponse>>> listByRoom(
@@ -1,18 +1,32 @@
 package com.frame24.api.operations.api;
 
 import com.frame24.api.common.response.ApiResponse;
+import com.frame24.api.common.response.CursorPaginatedResponse;
 import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.BestAvailableHoldRequest;
+import com.frame24.api.operations.application.dto.BulkCreateShowtimesRequest;
+import com.frame24.api.operations.application.dto.BulkCreateShowtimesResponse;
+import com.frame24.api.operations.application.dto.ConfirmSeatHoldRequest;
+import com.frame24.api.operations.application.dto.CreateSeatHoldRequest;
 import com.frame24.api.operations.application.dto.CreateShowtimeRequest;
+import com.frame24.api.operations.application.dto.SeatHoldResponse;
+import com.frame24.api.operations.application.dto.SeatLayoutResponse;
+import com.frame24.api.operations.application.dto.SeatMapResponse;
+import com.frame24.api.operations.application.dto.SeatMapStatusResponse;
 import com.frame24.api.operations.application.dto.ShowtimeDashboardResponse;
 import com.frame24.api.operations.application.dto.ShowtimeResponse;
 import com.frame24.api.operations.application.dto.UpdateShowtimeRequest;
+import com.frame24.api.operations.application.service.SeatInventoryService;
+import com.frame24.api.operations.application.service.SeatMapService;
 import com.frame24.api.operations.application.service.ShowtimeService;
+import com.frame24.api.operations.domain.seatmap.SeatStatusCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,6 +42,8 @@ import java.util.List;
 public class ShowtimeController {
 
     private final ShowtimeService showtimeService;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatMapService seatMapService;
 
     @PostMapping(version = "v1.0+")
     @Operation(summary = "Criar sessão")
@@ -39,14 +55,27 @@ public class ShowtimeController {
                 .body(ApiResponse.success(response, "Sessão criada com sucesso"));
     }
 
+    @PostMapping(value = "/bulk", version = "v1.0+")
+    @Operation(summary = "Criar grade de sessões em lote", description = "Valida conflitos de todas as sessões de uma vez e cria as aceitas em uma única transação; as rejeitadas vêm com o motivo no resultado")
+    public ResponseEntity<ApiResponse<BulkCreateShowtimesResponse>> createBulk(
+            @Valid @RequestBody BulkCreateShowtimesRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        BulkCreateShowtimesResponse response = showtimeService.createBulk(request, principal);
+        return ResponseEntity.ok(ApiResponse.success(response,
+                String.format("%d sessões criadas, %d rejeitadas", response.created(), response.rejected())));
+    }
+
     @GetMapping(version = "v1.0+")
-    @Operation(summary = "Listar sessões por complexo e período")
-    public ResponseEntity<ApiResponse<List<ShowtimeResponse>>> list(
+    @Operation(summary = "Listar sessões por complexo e período", description = "Ordenadas por horário de início e paginadas por cursor: repasse nextCursor para obter a próxima página")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<ShowtimeResponse>>> list(
             @RequestParam @Parameter(description = "ID do complexo de cinema") Long complexId,
             @RequestParam @Parameter(description = "Data de início (ISO 8601)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant start,
             @RequestParam @Parameter(description = "Data de término (ISO 8601)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant end,
+            @RequestParam(required = false) @Parameter(description = "Cursor da página (nextCursor da resposta anterior)") String cursor,
+            @RequestParam(defaultValue = "50") @Parameter(description = "Tamanho da página (máximo 200)") int size,
             @AuthenticationPrincipal UserPrincipal principal) {
-        List<ShowtimeResponse> response = showtimeService.listByComplexAndDateRange(complexId, start, end, principal);
+        CursorPaginatedResponse<ShowtimeResponse> response =
+                showtimeService.listByComplexAndDateRange(complexId, start, end, cursor, size, principal);
         return ResponseEntity.ok(ApiResponse.success(response, "Sessões listadas com sucesso"));
     }
 
@@ -105,12 +134,70 @@ public class ShowtimeController {
 
     @GetMapping(value = "/{id}/seat-map", version = "v1.0+")
     @Operation(summary = "Mapa de assentos da sessão (com status merged)")
-    public ResponseEntity<ApiResponse<List<com.frame24.api.operations.application.dto.SeatMapResponse>>> getSeatMap(
+    public ResponseEntity<ApiResponse<List<SeatMapResponse>>> getSeatMap(
             @PathVariable Long id, @AuthenticationPrincipal UserPrincipal principal) {
-        List<com.frame24.api.operations.application.dto.SeatMapResponse> response = showtimeService.getSeatMap(id,
-                principal);
+        List<SeatMapResponse> response = seatMapService.seatMap(id, principal);
         return ResponseEntity.ok(ApiResponse.success(response, "Mapa de assentos carregado com sucesso"));
     }
 
+    @GetMapping(value = "/{id}/seat-map/layout", version = "v1.0+")
+    @Operation(summary = "Layout da sala da sessão (ETag = versão do layout)")
+    public ResponseEntity<ApiResponse<SeatLayoutResponse>> getSeatLayout(
+            @PathVariable Long id, @AuthenticationPrincipal UserPrincipal principal) {
+        SeatLayoutResponse response = seatMapService.layout(id, principal);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(response.layoutVersion())
+                .body(ApiResponse.success(response, "Layout carregado com sucesso"));
+    }
+
+    @GetMapping(value = "/{id}/seat-map/status", version = "v1.0+")
+    @Operation(summary = "Status compacto dos assentos da sessão, na ordem do layout")
+    public ResponseEntity<ApiResponse<SeatMapStatusResponse>> getSeatMapStatus(
+            @PathVariable Long id, @AuthenticationPrincipal UserPrincipal principal) {
+        SeatMapStatusResponse response = seatMapService.status(id, principal);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(response.layoutVersion() + "-" + SeatStatusCodec.digest(response.statuses()))
+                .body(ApiResponse.success(response, "Status dos assentos carregado com sucesso"));
+    }
+
+    @PostMapping(value = "/{id}/holds", version = "v1.0+")
+    @Operation(summary = "Reservar assentos temporariamente (tudo ou nada)")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> holdSeats(
+            @PathVariable Long id, @Valid @RequestBody CreateSeatHoldRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        SeatHoldResponse response = seatInventoryService.hold(id, request.seatIds(), principal);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Assentos reservados com sucesso"));
+    }
+
+    @PostMapping(value = "/{id}/holds/best-available", version = "v1.0+")
+    @Operation(summary = "Reservar os melhores assentos disponíveis para um grupo")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> holdBestAvailable(
+            @PathVariable Long id, @Valid @RequestBody BestAvailableHoldRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        SeatHoldResponse response = seatMapService.holdBestAvailable(id, request, principal);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Assentos reservados com sucesso"));
+    }
+
+    @PostMapping(value = "/{id}/holds/{holdId}/confirm", version = "v1.0+")
+    @Operation(summary = "Confirmar reserva de assentos como venda")
+    public ResponseEntity<ApiResponse<SeatHoldResponse>> confirmHold(
+            @PathVariable Long id, @PathVariable String holdId,
+            @Valid @RequestBody ConfirmSeatHoldRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        SeatHoldResponse response = seatInventoryService.confirm(id, holdId, request.saleId(), principal);
+        return ResponseEntity.ok(ApiResponse.success(response, "Reserva confirmada com sucesso"));
+    }
+
+    @DeleteMapping(value = "/{id}/holds/{holdId}", version = "v1.0+")
+    @Operation(summary = "Liberar reserva de assentos")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable Long id, @PathVariable String holdId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        seatInventoryService.release(id, holdId, principal);
+        return ResponseEntity.ok(ApiResponse.success(null, "Reserva liberada com sucesso"));
+    }
 }
-                
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.frame24.api.operations.api;
+
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.StompSubscriptionAuthorizer;
+import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.service.SeatInventoryService;
+import com.frame24.api.operations.application.service.SeatMapDeltaPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Autoriza inscrições em {@code /topic/showtimes/{id}/seats} apenas para usuários da
+ * empresa dona da sessão.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShowtimeSeatSubscriptionAuthorizer implements StompSubscriptionAuthorizer {
+
+    private final SeatInventoryService seatInventoryService;
+
+    @Override
+    public boolean supports(String destination) {
+        return SeatMapDeltaPublisher.showtimeIdOf(destination) != null;
+    }
+
+    @Override
+    public void authorize(String destination, UserPrincipal principal) {
+        Long showtimeId = SeatMapDeltaPublisher.showtimeIdOf(destination);
+        // Carrega o inventário (se preciso) e valida a empresa, como nas rotas REST
+        RlsContextHolder.callAs(RlsContext.from(principal),
+                () -> seatInventoryService.inventory(showtimeId, principal));
+    }
+}
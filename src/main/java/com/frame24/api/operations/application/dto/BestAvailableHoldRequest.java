@@ -0,0 +1,14 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Dados para reserva dos melhores assentos disponíveis para um grupo")
+public record BestAvailableHoldRequest(
+        @NotNull(message = "Quantidade de assentos é obrigatória") @Min(value = 1, message = "Quantidade de assentos deve ser positiva") @Schema(description = "Quantidade de assentos", example = "4") Integer partySize,
+
+        @Min(value = 0, message = "Quantidade de assentos acessíveis não pode ser negativa") @Schema(description = "Quantos assentos devem ser acessíveis (cadeirantes); os acompanhantes ficam ao lado", example = "1") Integer wheelchairSeats,
+
+        @Schema(description = "Nome do tipo de assento (opcional)", example = "VIP") String seatType) {
+}
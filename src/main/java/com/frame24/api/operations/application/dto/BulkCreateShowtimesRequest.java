@@ -0,0 +1,19 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para criação em lote da grade de sessões de um complexo (ex.: uma semana).
+ */
+@Schema(description = "Grade de sessões de um complexo para criação em lote")
+public record BulkCreateShowtimesRequest(
+        @NotNull(message = "ID do complexo é obrigatório") @Schema(description = "ID do complexo de cinema", example = "1234567890123456789") Long cinemaComplexId,
+
+        @NotEmpty(message = "Informe ao menos uma sessão") @Size(max = 2000, message = "Máximo de 2000 sessões por lote") @Schema(description = "Sessões a criar; todas as salas devem pertencer ao complexo") List<@Valid @NotNull CreateShowtimeRequest> sessions) {
+}
@@ -0,0 +1,34 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Resultado da criação em lote, com o desfecho de cada sessão na ordem do pedido.
+ */
+@Schema(description = "Resultado da criação de sessões em lote")
+public record BulkCreateShowtimesResponse(
+        @Schema(description = "Sessões recebidas", example = "1000") int requested,
+        @Schema(description = "Sessões criadas", example = "996") int created,
+        @Schema(description = "Sessões rejeitadas", example = "4") int rejected,
+        @Schema(description = "Resultado por sessão, na ordem do pedido") List<Item> results) {
+
+    @Schema(description = "Resultado de uma sessão do lote")
+    public record Item(
+            @Schema(description = "Posição da sessão no pedido", example = "0") int index,
+            @Schema(description = "Se a sessão foi criada", example = "true") boolean created,
+            @Schema(description = "ID da sessão criada", example = "1234567890123456789") Long showtimeId,
+            @Schema(description = "Motivo da rejeição", example = "Existe conflito de horário com outra sessão nesta sala") String error,
+            @Schema(description = "IDs das sessões já existentes em conflito") List<Long> conflictingShowtimeIds,
+            @Schema(description = "Posições no pedido das sessões do lote em conflito") List<Integer> conflictingIndexes) {
+
+        public static Item created(int index, Long showtimeId) {
+            return new Item(index, true, showtimeId, null, List.of(), List.of());
+        }
+
+        public static Item rejected(int index, String error) {
+            return new Item(index, false, null, error, List.of(), List.of());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Dados para confirmar uma reserva de assentos como venda")
+public record ConfirmSeatHoldRequest(
+        @NotNull(message = "ID da venda é obrigatório") @Schema(description = "ID da venda", example = "1234567890123456789") Long saleId) {
+}
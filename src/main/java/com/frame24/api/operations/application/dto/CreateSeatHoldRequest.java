@@ -0,0 +1,11 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "Dados para reserva temporária de assentos de uma sessão")
+public record CreateSeatHoldRequest(
+        @NotEmpty(message = "Lista de IDs de assentos não pode ser vazia") @Schema(description = "IDs dos assentos a reservar", example = "[1, 2, 3]") List<Long> seatIds) {
+}
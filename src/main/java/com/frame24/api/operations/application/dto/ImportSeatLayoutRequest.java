@@ -0,0 +1,39 @@
+package com.frame24.api.operations.application.dto;
+
+import com.frame24.api.operations.application.dto.BatchCreateSeatsRequest.RowNamingPattern;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+/**
+ * DTO para importação de um layout de sala a partir de um modelo em texto.
+ */
+@Schema(description = "Modelo de layout de sala: uma linha por fileira, da tela para o fundo")
+public record ImportSeatLayoutRequest(
+        @NotNull(message = "ID da sala é obrigatório") @Schema(description = "ID da sala", example = "1234567890123456789") Long roomId,
+
+        @NotEmpty(message = "Informe ao menos uma fileira") @Size(max = 200, message = "Máximo 200 fileiras") @Schema(description = "Fileiras do modelo") List<@Valid @NotNull Row> rows,
+
+        @Schema(description = "Padrão de nomenclatura das fileiras (ALPHABETIC, NUMERIC, REVERSE_ALPHABETIC)", example = "ALPHABETIC", defaultValue = "ALPHABETIC") RowNamingPattern rowNamingPattern,
+
+        @Min(value = 0, message = "Numeração deve ser positiva") @Schema(description = "Iniciar numeração das colunas em", example = "1", defaultValue = "1") Integer startColumnNumber,
+
+        @Schema(description = "ID do tipo de assento das fileiras sem tipo próprio", example = "1234567890123456789") Long defaultSeatTypeId,
+
+        @Min(value = 10, message = "Espaçamento mínimo de 10px") @Max(value = 500, message = "Espaçamento máximo de 500px") @Schema(description = "Distância horizontal entre células, em pixels", example = "50", defaultValue = "50") Integer seatSpacing,
+
+        @Min(value = 10, message = "Espaçamento mínimo de 10px") @Max(value = 500, message = "Espaçamento máximo de 500px") @Schema(description = "Distância entre fileiras, em pixels", example = "50", defaultValue = "50") Integer rowSpacing,
+
+        @Min(value = 0, message = "Curvatura não pode ser negativa") @Max(value = 2000, message = "Curvatura máxima de 2000px") @Schema(description = "Recuo do centro das fileiras em relação às pontas, em pixels (0 = fileiras retas)", example = "40", defaultValue = "0") Integer curvature) {
+
+    @Schema(description = "Fileira do modelo")
+    public record Row(
+            @NotBlank(message = "Fileira vazia") @Size(max = 200, message = "Máximo 200 células por fileira") @Pattern(regexp = "[SAX._]+", message = "Use S (assento), A (acessível), X (inativo), . (lacuna) ou _ (corredor)") @Schema(description = "Células: S assento, A acessível, X inativo, . lacuna numerada, _ corredor", example = "__SSSS_SSSSSSSS_SSSS__") String cells,
+
+            @Min(value = 0, message = "Deslocamento não pode ser negativo") @Max(value = 200, message = "Deslocamento máximo de 200 células") @Schema(description = "Deslocamento da fileira em células", example = "0", defaultValue = "0") Integer offset,
+
+            @Schema(description = "ID do tipo de assento da fileira", example = "1234567890123456789") Long seatTypeId) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Reserva temporária de assentos")
+public record SeatHoldResponse(
+        @Schema(description = "ID da reserva", example = "3f2b8c1e-6d1a-4f7e-9c1b-2a5d7e9f0a12") String holdId,
+
+        @Schema(description = "ID da sessão", example = "1234567890123456789") Long showtimeId,
+
+        @Schema(description = "IDs dos assentos reservados") List<Long> seatIds,
+
+        @Schema(description = "Expiração da reserva", example = "2023-12-25T14:10:00Z") Instant expiresAt) {
+}
@@ -0,0 +1,17 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resultado da importação de um layout de sala.
+ */
+@Schema(description = "Resultado da importação de layout de sala")
+public record SeatLayoutImportResponse(
+        @Schema(description = "ID da sala", example = "1234567890123456789") Long roomId,
+        @Schema(description = "Assentos descritos no modelo", example = "1000") int seatsInTemplate,
+        @Schema(description = "Assentos criados", example = "980") int created,
+        @Schema(description = "Assentos ignorados por já existirem na sala", example = "20") int skipped,
+        @Schema(description = "Capacidade da sala (assentos ativos)", example = "1000") int capacity,
+        @Schema(description = "Total de fileiras da sala", example = "32") int totalRows,
+        @Schema(description = "Total de colunas da sala", example = "36") int totalColumns) {
+}
@@ -0,0 +1,32 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Layout físico da sala da sessão, na mesma ordem do status compacto")
+public record SeatLayoutResponse(
+        @Schema(description = "ID da sala", example = "1234567890123456789") Long roomId,
+
+        @Schema(description = "Versão do layout (também enviada como ETag)", example = "9f3c2a71d04be812") String layoutVersion,
+
+        @Schema(description = "Assentos ordenados por fileira e coluna") List<Seat> seats) {
+
+    public record Seat(
+            @Schema(description = "ID do assento") Long seatId,
+
+            @Schema(description = "Código do assento (ex: A1)") String seatCode,
+
+            @Schema(description = "Código da fileira") String rowCode,
+
+            @Schema(description = "Número da coluna") Integer columnNumber,
+
+            @Schema(description = "Tipo de assento") String seatType,
+
+            @Schema(description = "Coordenada X") Integer x,
+
+            @Schema(description = "Coordenada Y") Integer y,
+
+            @Schema(description = "Indica se é acessível") Boolean accessible) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Mudanças de status de assentos publicadas em /topic/showtimes/{id}/seats")
+public record SeatMapDelta(
+        @Schema(description = "ID da sessão", example = "1234567890123456789") Long showtimeId,
+
+        @Schema(description = "Versão do inventário após as mudanças (comparável a SeatMapStatusResponse.version)",
+                example = "42") Long version,
+
+        @Schema(description = "IDs dos assentos agrupados pelo novo status") Map<String, List<Long>> seats) {
+}
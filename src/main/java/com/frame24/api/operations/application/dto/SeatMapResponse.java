@@ -18,7 +18,7 @@ public record SeatMapResponse(
 
         @Schema(description = "Coordenada Y") Integer y,
 
-        @Schema(description = "Status do assento na sessão (AVAILABLE, SOLD, BLOCKED, MAINTENANCE)") String status,
+        @Schema(description = "Status do assento na sessão (AVAILABLE, RESERVED, SOLD, BLOCKED, MAINTENANCE)") String status,
 
         @Schema(description = "Indica se é acessível") Boolean accessible) {
 }
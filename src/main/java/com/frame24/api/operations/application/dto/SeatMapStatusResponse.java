@@ -0,0 +1,17 @@
+package com.frame24.api.operations.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Status compacto dos assentos da sessão (um código por assento, na ordem do layout)")
+public record SeatMapStatusResponse(
+        @Schema(description = "Versão do layout a que os status se referem", example = "9f3c2a71d04be812") String layoutVersion,
+
+        @Schema(description = "Versão do inventário; deltas com versão maior devem ser aplicados", example = "42") Long version,
+
+        @Schema(description = "Codificação dos status", example = "RLE") String encoding,
+
+        @Schema(description = "Quantidade de assentos", example = "300") Integer seatCount,
+
+        @Schema(description = "Status codificados: A=disponível, R=reservado, S=vendido, B=bloqueado, M=manutenção",
+                example = "120A4S176A") String statuses) {
+}
@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.AudioType;
 import com.frame24.api.operations.infrastructure.repository.AudioTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.List;
 public class AudioTypeService {
 
     private final AudioTypeRepository audioTypeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo tipo de áudio.
@@ -47,6 +50,7 @@ public class AudioTypeService {
         audioType.setCreatedAt(Instant.now());
 
         audioTypeRepository.save(audioType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de áudio criado: id={}", audioType.getId());
 
         return toResponse(audioType);
@@ -102,6 +106,7 @@ public class AudioTypeService {
         }
 
         audioTypeRepository.save(audioType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de áudio atualizado: id={}", id);
 
         return toResponse(audioType);
@@ -123,6 +128,7 @@ public class AudioTypeService {
         }
 
         audioTypeRepository.delete(audioType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de áudio deletado: id={}", id);
     }
 
@@ -1,10 +1,12 @@
 package com.frame24.api.operations.application.service;
 
 import com.frame24.api.common.event.CompanyCreatedEvent;
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.operations.domain.*;
 import com.frame24.api.operations.infrastructure.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,7 @@ public class DefaultOperationTypesService {
     private final SeatStatusRepository seatStatusRepository;
     private final SessionStatusRepository sessionStatusRepository;
     private final SessionLanguageRepository sessionLanguageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Tipos de projeção padrão para novas empresas.
@@ -130,6 +133,7 @@ public class DefaultOperationTypesService {
             createSessionLanguage(companyId, config);
         }
 
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(companyId));
         log.info("Tipos padrão criados com sucesso para empresa: {}", companyId);
     }
 
@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.ProjectionType;
 import com.frame24.api.operations.infrastructure.repository.ProjectionTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.List;
 public class ProjectionTypeService {
 
     private final ProjectionTypeRepository projectionTypeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo tipo de projeção.
@@ -48,6 +51,7 @@ public class ProjectionTypeService {
         projectionType.setCreatedAt(Instant.now());
 
         projectionTypeRepository.save(projectionType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de projeção criado: id={}", projectionType.getId());
 
         return toResponse(projectionType);
@@ -103,6 +107,7 @@ public class ProjectionTypeService {
         }
 
         projectionTypeRepository.save(projectionType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de projeção atualizado: id={}", id);
 
         return toResponse(projectionType);
@@ -124,6 +129,7 @@ public class ProjectionTypeService {
         }
 
         projectionTypeRepository.delete(projectionType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de projeção deletado: id={}", id);
     }
 
@@ -0,0 +1,139 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.operations.domain.*;
+import com.frame24.api.operations.domain.reference.Lookup;
+import com.frame24.api.operations.domain.reference.ReferenceData;
+import com.frame24.api.operations.infrastructure.repository.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Registro em memória dos cadastros auxiliares de operações por empresa.
+ *
+ * <p>
+ * Na primeira consulta de uma empresa, tipos de áudio, projeção e assento, idiomas e
+ * status de sessão e de assento são carregados em uma transação própria e somente
+ * leitura, e guardados em um {@link ReferenceData} imutável indexado por id e por nome.
+ * Como a transação de carga é encerrada logo em seguida, as entidades ficam destacadas:
+ * podem ser atribuídas a associações de sessões e salas sem consultas adicionais.
+ * </p>
+ *
+ * <p>
+ * Alterações feitas pelos services de cadastro publicam {@link ReferenceDataChangedEvent};
+ * após o commit a fotografia da empresa é descartada localmente e nas demais instâncias
+ * (via {@link CacheInvalidationBus}) e a próxima consulta carrega uma nova. O TTL
+ * ({@code reference-data.ttl}) limita o tempo de uma entrada desatualizada caso a
+ * invalidação se perca.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ReferenceDataRegistry {
+
+    private static final String CACHE_NAME = "operations.reference-data.local";
+
+    private final AudioTypeRepository audioTypeRepository;
+    private final ProjectionTypeRepository projectionTypeRepository;
+    private final SessionLanguageRepository sessionLanguageRepository;
+    private final SessionStatusRepository sessionStatusRepository;
+    private final SeatTypeRepository seatTypeRepository;
+    private final SeatStatusRepository seatStatusRepository;
+    private final TransactionTemplate loadTransaction;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, ReferenceData> companies;
+
+    public ReferenceDataRegistry(
+            AudioTypeRepository audioTypeRepository,
+            ProjectionTypeRepository projectionTypeRepository,
+            SessionLanguageRepository sessionLanguageRepository,
+            SessionStatusRepository sessionStatusRepository,
+            SeatTypeRepository seatTypeRepository,
+            SeatStatusRepository seatStatusRepository,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${reference-data.max-companies:10000}") long maxCompanies,
+            @Value("${reference-data.ttl:30m}") Duration ttl) {
+        this.audioTypeRepository = audioTypeRepository;
+        this.projectionTypeRepository = projectionTypeRepository;
+        this.sessionLanguageRepository = sessionLanguageRepository;
+        this.sessionStatusRepository = sessionStatusRepository;
+        this.seatTypeRepository = seatTypeRepository;
+        this.seatStatusRepository = seatStatusRepository;
+        this.invalidationBus = invalidationBus;
+
+        // Transação separada da chamadora: as entidades não entram no contexto de persistência dela
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        this.companies = Caffeine.newBuilder()
+                .maximumSize(maxCompanies)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, companies, CACHE_NAME);
+        invalidationBus.register(CACHE_NAME, key -> companies.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * Cadastros auxiliares da empresa, carregados na primeira chamada.
+     */
+    public ReferenceData forCompany(Long companyId) {
+        return companies.get(companyId, this::load);
+    }
+
+    /**
+     * Descarta os cadastros da empresa nesta e nas demais instâncias.
+     */
+    public void invalidate(Long companyId) {
+        companies.invalidate(companyId);
+        invalidationBus.publish(CACHE_NAME, String.valueOf(companyId));
+        log.debug("Cadastros auxiliares invalidados: companyId={}", companyId);
+    }
+
+    @TransactionalEventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        invalidate(event.companyId());
+    }
+
+    private ReferenceData load(Long companyId) {
+        ReferenceData data = RlsContextHolder.callAs(RlsContext.forCompany(companyId),
+                () -> loadTransaction.execute(status -> new ReferenceData(
+                        Lookup.of(audioTypeRepository.findByCompanyId(companyId),
+                                AudioType::getId, AudioType::getName),
+                        Lookup.of(projectionTypeRepository.findByCompanyId(companyId),
+                                ProjectionType::getId, ProjectionType::getName),
+                        Lookup.of(sessionLanguageRepository.findByCompanyId(companyId),
+                                SessionLanguage::getId, SessionLanguage::getName),
+                        Lookup.of(sessionStatusRepository.findByCompanyId(companyId),
+                                SessionStatus::getId, SessionStatus::getName),
+                        Lookup.of(seatTypeRepository.findByCompanyId(companyId),
+                                SeatType::getId, SeatType::getName),
+                        Lookup.of(seatStatusRepository.findByCompanyId(companyId),
+                                SeatStatus::getId, SeatStatus::getName))));
+
+        log.debug("Cadastros auxiliares carregados: companyId={}, áudio={}, projeção={}, idiomas={}, "
+                        + "status de sessão={}, tipos de assento={}, status de assento={}",
+                companyId, data.audioTypes().size(), data.projectionTypes().size(),
+                data.sessionLanguages().size(), data.sessionStatuses().size(),
+                data.seatTypes().size(), data.seatStatuses().size());
+        return data;
+    }
+}
@@ -0,0 +1,101 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.cache.CacheInvalidationBus;
+import com.frame24.api.common.event.RoomLayoutChangedEvent;
+import com.frame24.api.operations.domain.Seat;
+import com.frame24.api.operations.domain.seatmap.RoomLayout;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import com.frame24.api.operations.infrastructure.repository.SeatRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Cache local de {@link RoomLayout} por sala.
+ *
+ * <p>
+ * O layout é carregado em uma única query (assentos com o tipo já resolvido) e mantido até
+ * que o {@link SeatService} publique {@link RoomLayoutChangedEvent}; após o commit a sala é
+ * descartada localmente e nas demais instâncias via {@link CacheInvalidationBus}.
+ * Um acerto não usa o banco; a carga roda em transação (RLS), a do chamador ou uma própria.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomLayoutCache {
+
+    private static final String CACHE_NAME = "room.layout.local";
+    private static final String DEFAULT_SEAT_TYPE = "Standard";
+
+    private final SeatRepository seatRepository;
+    private final TransactionTemplate loadTransaction;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, RoomLayout> layouts;
+
+    public RoomLayoutCache(
+            SeatRepository seatRepository,
+            CacheInvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${seat-map.layout-cache.max-rooms:5000}") long maxRooms) {
+        this.seatRepository = seatRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        this.layouts = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, layouts, CACHE_NAME);
+        invalidationBus.register(CACHE_NAME, key -> layouts.invalidate(Long.valueOf(key)));
+    }
+
+    public RoomLayout get(long roomId) {
+        return layouts.get(roomId, this::load);
+    }
+
+    /**
+     * Descarta o layout da sala nesta e nas demais instâncias.
+     */
+    public void invalidate(Long roomId) {
+        layouts.invalidate(roomId);
+        invalidationBus.publish(CACHE_NAME, String.valueOf(roomId));
+        log.debug("Layout invalidado: roomId={}", roomId);
+    }
+
+    @TransactionalEventListener
+    public void onRoomLayoutChanged(RoomLayoutChangedEvent event) {
+        invalidate(event.roomId());
+    }
+
+    private RoomLayout load(Long roomId) {
+        List<LayoutSeat> seats = loadTransaction.execute(status -> seatRepository.findLayoutByRoomId(roomId).stream()
+                .map(RoomLayoutCache::toLayoutSeat)
+                .toList());
+        log.debug("Layout carregado: roomId={}, assentos={}", roomId, seats.size());
+        return new RoomLayout(roomId, seats);
+    }
+
+    private static LayoutSeat toLayoutSeat(Seat seat) {
+        return new LayoutSeat(
+                seat.getId(),
+                seat.getSeatCode(),
+                seat.getRowCode(),
+                seat.getColumnNumber(),
+                seat.getSeatType() != null ? seat.getSeatType().getName() : DEFAULT_SEAT_TYPE,
+                seat.getPositionX(),
+                seat.getPositionY(),
+                Boolean.TRUE.equals(seat.getAccessible()),
+                !Boolean.FALSE.equals(seat.getActive()));
+    }
+}
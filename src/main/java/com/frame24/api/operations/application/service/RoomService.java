@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.RoomChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -7,9 +8,11 @@ import com.frame24.api.operations.application.dto.CreateRoomRequest;
 import com.frame24.api.operations.application.dto.RoomResponse;
 import com.frame24.api.operations.application.dto.UpdateRoomRequest;
 import com.frame24.api.operations.domain.*;
+import com.frame24.api.operations.domain.reference.Lookup;
 import com.frame24.api.operations.infrastructure.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.ObjectMapper;
@@ -27,11 +30,10 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final CinemaComplexRepository cinemaComplexRepository;
-    private final ProjectionTypeRepository projectionTypeRepository;
-    private final AudioTypeRepository audioTypeRepository;
     private final SeatRepository seatRepository;
-    private final SeatTypeRepository seatTypeRepository;
+    private final ReferenceDataRegistry referenceData;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria uma nova sala de cinema.
@@ -63,16 +65,16 @@ public class RoomService {
 
         // Associar tipo de projeção (opcional)
         if (request.projectionTypeId() != null) {
-            ProjectionType projType = projectionTypeRepository.findById(request.projectionTypeId())
-                    .filter(pt -> pt.getCompanyId().equals(principal.getCompanyId()))
+            ProjectionType projType = referenceData.forCompany(principal.getCompanyId())
+                    .projectionTypes().byId(request.projectionTypeId())
                     .orElseThrow(() -> new ValidationException("Tipo de projeção não encontrado"));
             room.setProjectionType(projType);
         }
 
         // Associar tipo de áudio (opcional)
         if (request.audioTypeId() != null) {
-            AudioType audioType = audioTypeRepository.findById(request.audioTypeId())
-                    .filter(at -> at.getCompanyId().equals(principal.getCompanyId()))
+            AudioType audioType = referenceData.forCompany(principal.getCompanyId())
+                    .audioTypes().byId(request.audioTypeId())
                     .orElseThrow(() -> new ValidationException("Tipo de áudio não encontrado"));
             room.setAudioType(audioType);
         }
@@ -82,6 +84,7 @@ public class RoomService {
 
         // Processar e criar assentos se fornecidos
         if (request.seats() != null && !request.seats().isEmpty()) {
+            Lookup<SeatType> seatTypes = referenceData.forCompany(principal.getCompanyId()).seatTypes();
             List<Seat> seatsToSave = request.seats().stream().map(seatRequest -> {
                 Seat seat = new Seat();
                 seat.setRoom(room);
@@ -95,8 +98,7 @@ public class RoomService {
                 seat.setCreatedAt(Instant.now());
 
                 if (seatRequest.seatTypeId() != null) {
-                    SeatType seatType = seatTypeRepository.findById(seatRequest.seatTypeId())
-                            .filter(st -> st.getCompanyId().equals(principal.getCompanyId()))
+                    SeatType seatType = seatTypes.byId(seatRequest.seatTypeId())
                             .orElseThrow(() -> new ValidationException(
                                     "Tipo de assento não encontrado: " + seatRequest.seatTypeId()));
                     seat.setSeatType(seatType);
@@ -198,21 +200,24 @@ public class RoomService {
 
         // Atualizar tipo de projeção
         if (request.projectionTypeId() != null) {
-            ProjectionType projType = projectionTypeRepository.findById(request.projectionTypeId())
-                    .filter(pt -> pt.getCompanyId().equals(principal.getCompanyId()))
+            ProjectionType projType = referenceData.forCompany(principal.getCompanyId())
+                    .projectionTypes().byId(request.projectionTypeId())
                     .orElseThrow(() -> new ValidationException("Tipo de projeção não encontrado"));
             room.setProjectionType(projType);
         }
 
         // Atualizar tipo de áudio
         if (request.audioTypeId() != null) {
-            AudioType audioType = audioTypeRepository.findById(request.audioTypeId())
-                    .filter(at -> at.getCompanyId().equals(principal.getCompanyId()))
+            AudioType audioType = referenceData.forCompany(principal.getCompanyId())
+                    .audioTypes().byId(request.audioTypeId())
                     .orElseThrow(() -> new ValidationException("Tipo de áudio não encontrado"));
             room.setAudioType(audioType);
         }
 
         roomRepository.save(room);
+        if (request.name() != null || request.capacity() != null) {
+            eventPublisher.publishEvent(new RoomChangedEvent(principal.getCompanyId(), room.getId()));
+        }
         log.info("Sala atualizada: id={}", id);
 
         return toResponse(room);
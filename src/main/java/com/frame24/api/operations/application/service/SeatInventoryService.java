@@ -0,0 +1,520 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.event.RoomLayoutChangedEvent;
+import com.frame24.api.common.event.SeatReleasedEvent;
+import com.frame24.api.common.exception.ConflictException;
+import com.frame24.api.common.exception.NotFoundException;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.SeatHoldResponse;
+import com.frame24.api.operations.domain.inventory.HoldExpiryWheel;
+import com.frame24.api.operations.domain.inventory.HoldResult;
+import com.frame24.api.operations.domain.inventory.SeatHold;
+import com.frame24.api.operations.domain.inventory.SeatState;
+import com.frame24.api.operations.domain.inventory.SeatStatusChange;
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.domain.seatmap.SeatMapStatus;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository.InventorySnapshot;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository.SeatRow;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository.ShowtimeRef;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository.StatusRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reserva e venda de assentos por sessão usando o {@link ShowtimeInventory} em memória.
+ *
+ * <p>
+ * O inventário de uma sessão é montado na primeira consulta a partir de
+ * {@code operations.seats} e {@code operations.session_seat_status} (recuperação após
+ * reinício) e mantido até o fim da sessão. A memória decide rápido e sem bloqueio entre
+ * requisições da mesma instância, mas o banco arbitra entre instâncias: a reserva aceita
+ * em memória só vale depois de gravada com upsert condicional (assento sem venda e sem
+ * reserva ativa), e a confirmação exige que o assento ainda seja da reserva e que a venda
+ * seja pendente e da sessão. Se o banco recusa uma reserva, a memória estava defasada
+ * (outra instância reservou ou vendeu): a reserva é desfeita e o inventário é recarregado.
+ * Liberações e expirações são persistidas pelo {@link SeatStatusWriteBehind}.
+ * </p>
+ *
+ * <p>
+ * Como toda reserva aceita em memória faz uma ida síncrona ao banco antes de responder,
+ * a vazão de reservas é limitada pelo banco (latência do upsert e tamanho do pool de
+ * conexões), e não pela memória; a memória só poupa o banco dos pedidos que já seriam
+ * recusados.
+ * </p>
+ *
+ * <p>
+ * A expiração das reservas é controlada por um {@link HoldExpiryWheel}: cada reserva é
+ * agendada ao ser criada e cancelada ao ser confirmada ou liberada, e a cada tick
+ * ({@code seat-inventory.expiry.tick-ms}) apenas as reservas vencidas naquele intervalo são
+ * liberadas, sem varrer inventários nem a tabela. Na inicialização, as sessões com reservas
+ * ainda válidas no banco são carregadas para que suas expirações voltem a ser agendadas.
+ * Cada liberação publica um {@link SeatReleasedEvent}, toda mudança de assento é enviada
+ * aos clientes inscritos na sessão pelo {@link SeatMapDeltaPublisher} e os contadores de
+ * ocupação são repassados ao {@link ShowtimeAvailabilityProjector}.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code seat.inventory.holds{outcome=accepted|conflict}},
+ * {@code seat.inventory.confirms}, {@code seat.inventory.expired},
+ * {@code seat.inventory.showtimes} e {@code seat.inventory.pending_expirations}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SeatInventoryService {
+
+    private final SeatInventoryJdbcRepository inventoryRepository;
+    private final SeatStatusWriteBehind writeBehind;
+    private final SeatMapDeltaPublisher deltaPublisher;
+    private final ShowtimeAvailabilityProjector availabilityProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HoldExpiryWheel expiryWheel;
+    private final Duration holdTtl;
+    private final int maxSeatsPerHold;
+
+    private final Map<Long, ShowtimeInventory> inventories = new ConcurrentHashMap<>();
+
+    private final Counter holdsAccepted;
+    private final Counter holdsRejected;
+    private final Counter confirms;
+    private final Counter expired;
+
+    public SeatInventoryService(
+            SeatInventoryJdbcRepository inventoryRepository,
+            SeatStatusWriteBehind writeBehind,
+            SeatMapDeltaPublisher deltaPublisher,
+            ShowtimeAvailabilityProjector availabilityProjector,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${seat-inventory.hold-ttl:10m}") Duration holdTtl,
+            @Value("${seat-inventory.max-seats-per-hold:10}") int maxSeatsPerHold,
+            @Value("${seat-inventory.expiry.tick-ms:100}") long expiryTickMillis) {
+        this.inventoryRepository = inventoryRepository;
+        this.writeBehind = writeBehind;
+        this.deltaPublisher = deltaPublisher;
+        this.availabilityProjector = availabilityProjector;
+        this.eventPublisher = eventPublisher;
+        this.expiryWheel = new HoldExpiryWheel(
+                expiryTickMillis,
+                HoldExpiryWheel.slotsFor(holdTtl.toMillis(), expiryTickMillis),
+                System.currentTimeMillis());
+        this.holdTtl = holdTtl;
+        this.maxSeatsPerHold = maxSeatsPerHold;
+
+        this.holdsAccepted = Counter.builder("seat.inventory.holds").tag("outcome", "accepted")
+                .description("Tentativas de reserva de assentos").register(meterRegistry);
+        this.holdsRejected = Counter.builder("seat.inventory.holds").tag("outcome", "conflict")
+                .description("Tentativas de reserva de assentos").register(meterRegistry);
+        this.confirms = Counter.builder("seat.inventory.confirms")
+                .description("Reservas confirmadas como venda").register(meterRegistry);
+        this.expired = Counter.builder("seat.inventory.expired")
+                .description("Reservas expiradas").register(meterRegistry);
+        Gauge.builder("seat.inventory.showtimes", inventories, Map::size)
+                .description("Sessões com inventário carregado em memória").register(meterRegistry);
+        Gauge.builder("seat.inventory.pending_expirations", expiryWheel, HoldExpiryWheel::size)
+                .description("Reservas aguardando expiração").register(meterRegistry);
+    }
+
+    /**
+     * Reserva temporariamente os assentos (tudo ou nada).
+     *
+     * @throws ConflictException se algum assento não está disponível
+     */
+    public SeatHoldResponse hold(Long showtimeId, List<Long> seatIds, UserPrincipal principal) {
+        checkHoldSize(seatIds.size());
+
+        ShowtimeInventory inventory = openInventory(showtimeId, principal);
+        int[] ordinals = toOrdinals(inventory, seatIds);
+        HoldResult result = tryHold(inventory, ordinals);
+
+        if (!result.isAccepted()) {
+            String unavailable = Arrays.stream(result.unavailable())
+                    .mapToObj(ordinal -> String.valueOf(inventory.seatIdAt(ordinal)))
+                    .collect(Collectors.joining(", "));
+            throw new ConflictException(unavailable.isEmpty()
+                    ? "Assentos indisponíveis para esta sessão"
+                    : "Assentos indisponíveis para esta sessão: " + unavailable);
+        }
+        return toResponse(inventory, result.hold());
+    }
+
+    /**
+     * Valida a quantidade de assentos de uma reserva.
+     */
+    void checkHoldSize(int seats) {
+        if (seats > maxSeatsPerHold) {
+            throw new ValidationException("seatIds",
+                    String.format("Máximo de %d assentos por reserva", maxSeatsPerHold));
+        }
+    }
+
+    /**
+     * Inventário de uma sessão que ainda aceita reservas.
+     */
+    ShowtimeInventory openInventory(Long showtimeId, UserPrincipal principal) {
+        ShowtimeInventory inventory = inventory(showtimeId, principal);
+        if (inventory.endTime() != null && !inventory.endTime().isAfter(Instant.now())) {
+            throw new ValidationException("showtimeId", "Sessão já encerrada");
+        }
+        return inventory;
+    }
+
+    /**
+     * Tenta reservar os ordinais (tudo ou nada) em memória e no banco; se aceita, agenda a
+     * expiração e publica a mudança.
+     */
+    HoldResult tryHold(ShowtimeInventory inventory, int[] ordinals) {
+        HoldResult result = inventory.hold(ordinals, Instant.now().plus(holdTtl));
+        if (!result.isAccepted()) {
+            holdsRejected.increment();
+            return result;
+        }
+
+        SeatHold hold = result.hold();
+        if (!claim(inventory, hold)) {
+            holdsRejected.increment();
+            return HoldResult.rejected(unavailableAfterReload(inventory, ordinals));
+        }
+
+        holdsAccepted.increment();
+        expiryWheel.schedule(inventory.showtimeId(), hold.holdId(), hold.expiresAt());
+        publishDelta(inventory, hold, SeatMapStatus.of(SeatState.HELD), result.version());
+        return result;
+    }
+
+    /**
+     * Grava a reserva no banco. Se o banco recusa, a reserva é desfeita em memória.
+     *
+     * @return false se algum assento já está tomado no banco
+     */
+    private boolean claim(ShowtimeInventory inventory, SeatHold hold) {
+        long[] seatIds = seatIds(inventory, hold);
+        try {
+            try {
+                inventoryRepository.claimHold(inventory.showtimeId(), seatIds, hold.holdId(), hold.expiresAt());
+            } catch (ConflictException e) {
+                // Pode ser uma liberação desta instância ainda na fila: grava a fila e tenta de novo
+                writeBehind.flush();
+                inventoryRepository.claimHold(inventory.showtimeId(), seatIds, hold.holdId(), hold.expiresAt());
+            }
+            return true;
+        } catch (ConflictException e) {
+            inventory.release(hold.holdId());
+            return false;
+        } catch (RuntimeException e) {
+            inventory.release(hold.holdId());
+            throw e;
+        }
+    }
+
+    /**
+     * Troca o inventário defasado pelo estado atual do banco e devolve, entre os ordinais
+     * pedidos, os que não estão mais disponíveis.
+     */
+    private int[] unavailableAfterReload(ShowtimeInventory stale, int[] ordinals) {
+        if (inventories.remove(stale.showtimeId(), stale)) {
+            log.info("Inventário defasado em relação ao banco, recarregando: showtimeId={}", stale.showtimeId());
+        }
+        ShowtimeInventory current = loaded(stale.showtimeId());
+        return Arrays.stream(ordinals)
+                .filter(ordinal -> {
+                    int currentOrdinal = current.ordinalOf(stale.seatIdAt(ordinal));
+                    return currentOrdinal < 0 || current.stateAt(currentOrdinal) != SeatState.AVAILABLE;
+                })
+                .toArray();
+    }
+
+    /**
+     * Libera uma reserva ativa.
+     */
+    public void release(Long showtimeId, String holdId, UserPrincipal principal) {
+        ShowtimeInventory inventory = inventory(showtimeId, principal);
+        SeatHold hold = inventory.takeHold(holdId);
+        if (hold == null) {
+            throw new NotFoundException("Reserva não encontrada ou expirada");
+        }
+        long version = inventory.free(hold);
+        expiryWheel.cancel(holdId);
+        released(inventory, hold, version, SeatReleasedEvent.Reason.RELEASED);
+    }
+
+    /**
+     * Confirma a reserva como venda pendente informada. A gravação é síncrona; se falhar,
+     * a reserva volta a ficar ativa até expirar.
+     *
+     * @throws ValidationException se a venda não existe para o complexo da sessão
+     * @throws ConflictException   se a venda não está pendente ou a reserva perdeu algum assento
+     */
+    public SeatHoldResponse confirm(Long showtimeId, String holdId, Long saleId, UserPrincipal principal) {
+        ShowtimeInventory inventory = inventory(showtimeId, principal);
+        SeatHold hold = inventory.takeHold(holdId);
+        if (hold == null) {
+            throw new NotFoundException("Reserva não encontrada ou expirada");
+        }
+
+        try {
+            inventoryRepository.markSold(inventory.companyId(), showtimeId, seatIds(inventory, hold), saleId,
+                    hold.holdId());
+        } catch (RuntimeException e) {
+            inventory.reinstate(hold);
+            // O tick pode ter ocorrido enquanto a reserva estava retirada
+            expiryWheel.schedule(showtimeId, holdId, hold.expiresAt());
+            throw e;
+        }
+
+        long version = inventory.markSold(hold);
+        expiryWheel.cancel(holdId);
+        publishDelta(inventory, hold, SeatMapStatus.SOLD, version);
+        confirms.increment();
+        return toResponse(inventory, hold);
+    }
+
+    /**
+     * Inventário da sessão, carregado e recuperado do banco na primeira chamada.
+     */
+    public ShowtimeInventory inventory(Long showtimeId, UserPrincipal principal) {
+        ShowtimeInventory inventory = loaded(showtimeId);
+        if (!inventory.companyId().equals(principal.getCompanyId())) {
+            throw new NotFoundException("Sessão não encontrada");
+        }
+        return inventory;
+    }
+
+    /**
+     * Descarta o inventário em memória (ex.: sessão alterada ou removida).
+     */
+    public void evict(Long showtimeId) {
+        inventories.remove(showtimeId);
+    }
+
+    /**
+     * Descarta os inventários da sala após mudança nos assentos; as reservas pendentes são
+     * gravadas antes e recuperadas do banco na próxima consulta.
+     */
+    @TransactionalEventListener
+    public void onRoomLayoutChanged(RoomLayoutChangedEvent event) {
+        if (inventories.values().stream().noneMatch(inventory -> inventory.roomId() == event.roomId())) {
+            return;
+        }
+        writeBehind.flush();
+        inventories.values().removeIf(inventory -> inventory.roomId() == event.roomId());
+    }
+
+    /**
+     * Libera as reservas vencidas desde o último tick.
+     */
+    @Scheduled(fixedRateString = "${seat-inventory.expiry.tick-ms:100}")
+    public void expireHolds() {
+        for (HoldExpiryWheel.Expiration expiration : expiryWheel.advance(System.currentTimeMillis())) {
+            ShowtimeInventory inventory = inventories.get(expiration.showtimeId());
+            if (inventory == null) {
+                continue;
+            }
+            SeatHold hold = inventory.takeHold(expiration.holdId());
+            if (hold != null) {
+                long version = inventory.free(hold);
+                expired.increment();
+                released(inventory, hold, version, SeatReleasedEvent.Reason.EXPIRED);
+            }
+        }
+    }
+
+    /**
+     * Carrega as sessões com reservas ainda válidas no banco, reagendando suas expirações.
+     * Reservas vencidas durante a parada são liberadas no primeiro tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingHolds() {
+        List<ShowtimeRef> showtimes;
+        try {
+            showtimes = inventoryRepository.findShowtimesWithActiveHolds(Instant.now());
+        } catch (Exception e) {
+            log.error("Falha ao buscar reservas pendentes: {}", e.getMessage());
+            return;
+        }
+
+        for (ShowtimeRef showtime : showtimes) {
+            try {
+                RlsContextHolder.callAs(RlsContext.forCompany(showtime.companyId()),
+                        () -> loaded(showtime.showtimeId()));
+            } catch (Exception e) {
+                log.warn("Falha ao recuperar reservas da sessão {}: {}", showtime.showtimeId(), e.getMessage());
+            }
+        }
+        log.info("Reservas pendentes recuperadas: sessões={}, reservas={}", showtimes.size(), expiryWheel.size());
+    }
+
+    /**
+     * Remove da memória os inventários de sessões encerradas.
+     */
+    @Scheduled(fixedDelayString = "${seat-inventory.eviction-interval-ms:300000}")
+    public void evictFinished() {
+        Instant now = Instant.now();
+        inventories.values().removeIf(inventory ->
+                inventory.endTime() != null
+                        && inventory.endTime().isBefore(now)
+                        && inventory.activeHolds().isEmpty());
+    }
+
+    /**
+     * Inventário em memória da sessão, carregado do banco se ainda não estiver no mapa.
+     *
+     * <p>
+     * A carga é feita fora do mapa, pois I/O dentro de {@code computeIfAbsent} travaria
+     * as demais sessões do mesmo bin durante as consultas. Duas requisições podem carregar
+     * a mesma sessão ao mesmo tempo; só a que entra no mapa com {@code putIfAbsent} é
+     * ativada (expirações agendadas, reservas vencidas liberadas) e usada.
+     * </p>
+     */
+    private ShowtimeInventory loaded(Long showtimeId) {
+        ShowtimeInventory inventory = inventories.get(showtimeId);
+        if (inventory != null) {
+            return inventory;
+        }
+        LoadedInventory loaded = load(showtimeId);
+        ShowtimeInventory existing = inventories.putIfAbsent(showtimeId, loaded.inventory());
+        if (existing != null) {
+            return existing;
+        }
+        activate(loaded);
+        return loaded.inventory();
+    }
+
+    private LoadedInventory load(Long showtimeId) {
+        InventorySnapshot snapshot = inventoryRepository.loadSnapshot(showtimeId);
+        if (snapshot == null) {
+            throw new NotFoundException("Sessão não encontrada");
+        }
+
+        long[] seatIds = snapshot.seats().stream().mapToLong(SeatRow::seatId).toArray();
+        ShowtimeInventory inventory = new ShowtimeInventory(
+                showtimeId, snapshot.roomId(), snapshot.companyId(), snapshot.endTime(), seatIds);
+
+        for (int ordinal = 0; ordinal < seatIds.length; ordinal++) {
+            if (!snapshot.seats().get(ordinal).active()) {
+                inventory.restoreBlocked(ordinal);
+            }
+        }
+
+        Instant now = Instant.now();
+        Map<String, List<StatusRow>> reservations = new HashMap<>();
+        List<StatusRow> expiredRows = new ArrayList<>();
+        for (StatusRow row : snapshot.statuses()) {
+            int ordinal = inventory.ordinalOf(row.seatId());
+            if (ordinal < 0) {
+                continue;
+            }
+            if (row.saleId() != null || SeatState.SOLD.databaseValue().equals(row.status())) {
+                inventory.restoreSold(ordinal);
+            } else if (SeatState.BLOCKED.databaseValue().equals(row.status())) {
+                inventory.restoreBlocked(ordinal);
+            } else if (row.reservationUuid() != null && row.expiresAt() != null && row.expiresAt().isAfter(now)) {
+                reservations.computeIfAbsent(row.reservationUuid(), uuid -> new ArrayList<>()).add(row);
+            } else {
+                expiredRows.add(row);
+            }
+        }
+
+        reservations.forEach((holdId, rows) -> inventory.restoreHold(
+                holdId,
+                rows.stream().mapToInt(row -> inventory.ordinalOf(row.seatId())).toArray(),
+                rows.getFirst().expiresAt()));
+        return new LoadedInventory(inventory, expiredRows);
+    }
+
+    /**
+     * Efeitos da carga que só a instância publicada no mapa pode aplicar.
+     */
+    private void activate(LoadedInventory loaded) {
+        ShowtimeInventory inventory = loaded.inventory();
+        for (StatusRow row : loaded.expiredRows()) {
+            writeBehind.enqueue(new SeatStatusChange(
+                    inventory.showtimeId(), row.seatId(), SeatState.AVAILABLE, row.reservationUuid()));
+        }
+        for (SeatHold hold : inventory.activeHolds()) {
+            expiryWheel.schedule(inventory.showtimeId(), hold.holdId(), hold.expiresAt());
+        }
+
+        // Recarga (reinício ou mudança de layout): o modelo de leitura pode estar defasado
+        availabilityProjector.record(inventory);
+        log.info("Inventário carregado: showtimeId={}, assentos={}, vendidos={}, reservas={}",
+                inventory.showtimeId(), inventory.size(), inventory.count(SeatState.SOLD),
+                inventory.activeHolds().size());
+    }
+
+    private int[] toOrdinals(ShowtimeInventory inventory, List<Long> seatIds) {
+        int[] ordinals = new int[seatIds.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            Long seatId = seatIds.get(i);
+            int ordinal = seatId != null ? inventory.ordinalOf(seatId) : -1;
+            if (ordinal < 0) {
+                throw new ValidationException("seatIds", "Assento não pertence à sala da sessão: " + seatId);
+            }
+            ordinals[i] = ordinal;
+        }
+        return ordinals;
+    }
+
+    private void released(ShowtimeInventory inventory, SeatHold hold, long version, SeatReleasedEvent.Reason reason) {
+        publishDelta(inventory, hold, SeatMapStatus.of(SeatState.AVAILABLE), version);
+        for (int ordinal : hold.ordinals()) {
+            writeBehind.enqueue(new SeatStatusChange(
+                    inventory.showtimeId(), inventory.seatIdAt(ordinal), SeatState.AVAILABLE, hold.holdId()));
+        }
+        eventPublisher.publishEvent(new SeatReleasedEvent(
+                inventory.companyId(),
+                inventory.showtimeId(),
+                hold.holdId(),
+                Arrays.stream(seatIds(inventory, hold)).boxed().toList(),
+                reason));
+    }
+
+    /**
+     * @param version Versão produzida pela mudança (não a atual do inventário, que pode já
+     *                incluir mudanças posteriores dos mesmos assentos)
+     */
+    private void publishDelta(ShowtimeInventory inventory, SeatHold hold, SeatMapStatus status, long version) {
+        for (int ordinal : hold.ordinals()) {
+            deltaPublisher.record(inventory.showtimeId(), version, inventory.seatIdAt(ordinal), status);
+        }
+        availabilityProjector.record(inventory);
+    }
+
+    private static long[] seatIds(ShowtimeInventory inventory, SeatHold hold) {
+        return Arrays.stream(hold.ordinals()).mapToLong(inventory::seatIdAt).toArray();
+    }
+
+    static SeatHoldResponse toResponse(ShowtimeInventory inventory, SeatHold hold) {
+        return new SeatHoldResponse(
+                hold.holdId(),
+                inventory.showtimeId(),
+                Arrays.stream(seatIds(inventory, hold)).boxed().toList(),
+                hold.expiresAt());
+    }
+
+    private record LoadedInventory(ShowtimeInventory inventory, List<StatusRow> expiredRows) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.operations.application.dto.SeatMapDelta;
+import com.frame24.api.operations.domain.seatmap.SeatMapStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica mudanças de status de assentos em {@code /topic/showtimes/{id}/seats}.
+ *
+ * <p>
+ * As mudanças são acumuladas por sessão e enviadas a cada
+ * {@code seat-map.push.window-ms}: mudanças do mesmo assento na janela são coalescidas
+ * (vale a de maior versão, não a que chegou por último) e uma rajada de vendas vira poucos
+ * frames. Cada frame é serializado
+ * uma única vez e distribuído pelo broker a todos os inscritos da sessão.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code seat.map.push.frames}, {@code seat.map.push.changes} e
+ * {@code seat.map.push.pending}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SeatMapDeltaPublisher {
+
+    private static final String DESTINATION_PREFIX = "/topic/showtimes/";
+    private static final String DESTINATION_SUFFIX = "/seats";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<Long, PendingDelta> pending = new ConcurrentHashMap<>();
+    private final Counter frames;
+    private final Counter changes;
+
+    public SeatMapDeltaPublisher(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.frames = Counter.builder("seat.map.push.frames")
+                .description("Frames de mudanças de assentos publicados").register(meterRegistry);
+        this.changes = Counter.builder("seat.map.push.changes")
+                .description("Mudanças de assentos publicadas (após coalescência)").register(meterRegistry);
+        Gauge.builder("seat.map.push.pending", pending, Map::size)
+                .description("Sessões com mudanças aguardando publicação").register(meterRegistry);
+    }
+
+    public static String destination(long showtimeId) {
+        return DESTINATION_PREFIX + showtimeId + DESTINATION_SUFFIX;
+    }
+
+    /**
+     * @return ID da sessão do destino, ou null se o destino não é de mapa de assentos
+     */
+    public static Long showtimeIdOf(String destination) {
+        if (!destination.startsWith(DESTINATION_PREFIX) || !destination.endsWith(DESTINATION_SUFFIX)) {
+            return null;
+        }
+        String id = destination.substring(DESTINATION_PREFIX.length(),
+                destination.length() - DESTINATION_SUFFIX.length());
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Registra a mudança para o próximo frame da sessão.
+     *
+     * @param version Versão do inventário produzida pela mudança
+     */
+    public void record(long showtimeId, long version, long seatId, SeatMapStatus status) {
+        while (!pending.computeIfAbsent(showtimeId, id -> new PendingDelta()).add(version, seatId, status)) {
+            // Frame fechado pelo flush entre o lookup e o add: tenta no próximo
+            Thread.onSpinWait();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${seat-map.push.window-ms:75}")
+    public void flush() {
+        for (Long showtimeId : pending.keySet()) {
+            PendingDelta delta = pending.remove(showtimeId);
+            if (delta == null) {
+                continue;
+            }
+            SeatMapDelta message = delta.close(showtimeId);
+            try {
+                messagingTemplate.convertAndSend(destination(showtimeId), message);
+                frames.increment();
+                changes.increment(delta.size());
+            } catch (MessagingException e) {
+                log.warn("Falha ao publicar mudanças da sessão {}: {}", showtimeId, e.getMessage());
+            }
+        }
+    }
+
+    private static final class PendingDelta {
+
+        private final Map<Long, SeatChange> seats = new LinkedHashMap<>();
+        private long version;
+        private boolean closed;
+
+        synchronized boolean add(long version, long seatId, SeatMapStatus status) {
+            if (closed) {
+                return false;
+            }
+            // Threads diferentes podem registrar fora de ordem: mantém a mudança mais recente
+            seats.merge(seatId, new SeatChange(version, status),
+                    (current, change) -> change.version() >= current.version() ? change : current);
+            this.version = Math.max(this.version, version);
+            return true;
+        }
+
+        synchronized SeatMapDelta close(long showtimeId) {
+            closed = true;
+            Map<String, List<Long>> byStatus = new LinkedHashMap<>();
+            seats.forEach((seatId, change) ->
+                    byStatus.computeIfAbsent(change.status().name(), name -> new ArrayList<>()).add(seatId));
+            return new SeatMapDelta(showtimeId, version, byStatus);
+        }
+
+        synchronized int size() {
+            return seats.size();
+        }
+    }
+
+    private record SeatChange(long version, SeatMapStatus status) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.exception.ConflictException;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.BestAvailableHoldRequest;
+import com.frame24.api.operations.application.dto.SeatHoldResponse;
+import com.frame24.api.operations.application.dto.SeatLayoutResponse;
+import com.frame24.api.operations.application.dto.SeatMapResponse;
+import com.frame24.api.operations.application.dto.SeatMapStatusResponse;
+import com.frame24.api.operations.domain.inventory.HoldResult;
+import com.frame24.api.operations.domain.inventory.SeatState;
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.domain.seatmap.PartyRequest;
+import com.frame24.api.operations.domain.seatmap.RoomLayout;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import com.frame24.api.operations.domain.seatmap.SeatMapStatus;
+import com.frame24.api.operations.domain.seatmap.SeatStatusCodec;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository.StatusRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapa de assentos da sessão: layout da sala em cache ({@link RoomLayoutCache}) combinado
+ * com os status de {@code operations.session_seat_status}, em O(n).
+ *
+ * <p>
+ * Os status vêm do banco, e não do inventário em memória desta instância, para que
+ * reservas, vendas e liberações feitas em outras instâncias apareçam no mapa e no ETag.
+ * Liberações e expirações chegam ao banco pelo {@link SeatStatusWriteBehind}, então podem
+ * aparecer com até um intervalo de gravação de atraso.
+ * </p>
+ *
+ * <p>
+ * Além do mapa completo, expõe o layout e o status separadamente: clientes que já têm o
+ * layout (mesma {@code layoutVersion}) baixam apenas o status compacto
+ * ({@link SeatStatusCodec}) e depois acompanham as mudanças pelos deltas do
+ * {@link SeatMapDeltaPublisher}.
+ * </p>
+ *
+ * <p>
+ * Sem transação: em regime estável layout e status vêm só da memória. Apenas as cargas
+ * ({@link RoomLayoutCache} e o inventário) abrem uma transação própria.
+ * </p>
+ *
+ * <p>
+ * Também escolhe e reserva os melhores assentos para um grupo
+ * ({@link com.frame24.api.operations.domain.seatmap.BestAvailableFinder}).
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+    private static final int BEST_AVAILABLE_ATTEMPTS = 3;
+
+    private final SeatInventoryService seatInventoryService;
+    private final SeatInventoryJdbcRepository inventoryRepository;
+    private final RoomLayoutCache roomLayoutCache;
+
+    public List<SeatMapResponse> seatMap(Long showtimeId, UserPrincipal principal) {
+        ShowtimeInventory inventory = seatInventoryService.inventory(showtimeId, principal);
+        RoomLayout layout = roomLayoutCache.get(inventory.roomId());
+        SeatMapStatus[] statuses = layout.statuses(persistedStatuses(showtimeId));
+
+        List<SeatMapResponse> response = new ArrayList<>(statuses.length);
+        for (int i = 0; i < statuses.length; i++) {
+            LayoutSeat seat = layout.seats().get(i);
+            response.add(new SeatMapResponse(
+                    seat.seatId(),
+                    seat.seatCode(),
+                    seat.rowCode(),
+                    seat.columnNumber(),
+                    seat.seatType(),
+                    seat.x(),
+                    seat.y(),
+                    statuses[i].name(),
+                    seat.accessible()));
+        }
+        return response;
+    }
+
+    public SeatLayoutResponse layout(Long showtimeId, UserPrincipal principal) {
+        ShowtimeInventory inventory = seatInventoryService.inventory(showtimeId, principal);
+        RoomLayout layout = roomLayoutCache.get(inventory.roomId());
+        return new SeatLayoutResponse(
+                layout.roomId(),
+                layout.version(),
+                layout.seats().stream()
+                        .map(seat -> new SeatLayoutResponse.Seat(
+                                seat.seatId(),
+                                seat.seatCode(),
+                                seat.rowCode(),
+                                seat.columnNumber(),
+                                seat.seatType(),
+                                seat.x(),
+                                seat.y(),
+                                seat.accessible()))
+                        .toList());
+    }
+
+    public SeatMapStatusResponse status(Long showtimeId, UserPrincipal principal) {
+        ShowtimeInventory inventory = seatInventoryService.inventory(showtimeId, principal);
+        RoomLayout layout = roomLayoutCache.get(inventory.roomId());
+        // Lida antes dos status: um delta concorrente pode ser reaplicado, nunca perdido
+        long version = inventory.version();
+        SeatMapStatus[] statuses = layout.statuses(persistedStatuses(showtimeId));
+        return new SeatMapStatusResponse(
+                layout.version(),
+                version,
+                SeatStatusCodec.ENCODING,
+                statuses.length,
+                SeatStatusCodec.encode(statuses));
+    }
+
+    /**
+     * Escolhe e reserva os melhores assentos para o grupo. A reserva usa o mesmo CAS de
+     * {@link SeatInventoryService#hold}; se outro cliente pegar algum assento entre a
+     * busca e a reserva, a busca é refeita sobre o novo estado.
+     *
+     * @throws ConflictException se não há assentos suficientes
+     */
+    public SeatHoldResponse holdBestAvailable(Long showtimeId, BestAvailableHoldRequest request,
+                                              UserPrincipal principal) {
+        int wheelchairSeats = request.wheelchairSeats() != null ? request.wheelchairSeats() : 0;
+        if (wheelchairSeats > request.partySize()) {
+            throw new ValidationException("wheelchairSeats", "Não pode exceder a quantidade de assentos");
+        }
+        seatInventoryService.checkHoldSize(request.partySize());
+
+        RoomLayout layout = roomLayoutCache.get(seatInventoryService.openInventory(showtimeId, principal).roomId());
+        PartyRequest party = new PartyRequest(request.partySize(), wheelchairSeats, request.seatType());
+
+        for (int attempt = 1; attempt <= BEST_AVAILABLE_ATTEMPTS; attempt++) {
+            // Relido a cada tentativa: uma reserva recusada pelo banco recarrega o inventário
+            ShowtimeInventory inventory = seatInventoryService.openInventory(showtimeId, principal);
+            int[] ordinals = layout.finder().find(inventory, party);
+            if (ordinals == null) {
+                break;
+            }
+            HoldResult result = seatInventoryService.tryHold(inventory, ordinals);
+            if (result.isAccepted()) {
+                return SeatInventoryService.toResponse(inventory, result.hold());
+            }
+            log.debug("Melhores assentos disputados, nova busca: showtimeId={}, tentativa={}", showtimeId, attempt);
+        }
+        throw new ConflictException("Não há assentos disponíveis para o grupo nesta sessão");
+    }
+
+    /**
+     * Status persistidos da sessão por assento. Reservas vencidas ainda não removidas pelo
+     * write-behind contam como disponíveis.
+     */
+    private Map<Long, SeatMapStatus> persistedStatuses(long showtimeId) {
+        Instant now = Instant.now();
+        List<StatusRow> rows = inventoryRepository.loadStatuses(showtimeId);
+        Map<Long, SeatMapStatus> statuses = HashMap.newHashMap(rows.size());
+        for (StatusRow row : rows) {
+            if (row.saleId() != null || SeatState.SOLD.databaseValue().equals(row.status())) {
+                statuses.put(row.seatId(), SeatMapStatus.SOLD);
+            } else if (SeatState.BLOCKED.databaseValue().equals(row.status())) {
+                statuses.put(row.seatId(), SeatMapStatus.BLOCKED);
+            } else if (row.reservationUuid() != null && row.expiresAt() != null && row.expiresAt().isAfter(now)) {
+                statuses.put(row.seatId(), SeatMapStatus.RESERVED);
+            }
+        }
+        return statuses;
+    }
+}
@@ -1,26 +1,40 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.RoomLayoutChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
 import com.frame24.api.common.security.UserPrincipal;
 import com.frame24.api.operations.application.dto.*;
 import com.frame24.api.operations.domain.Room;
 import com.frame24.api.operations.domain.Seat;
 import com.frame24.api.operations.domain.SeatType;
+import com.frame24.api.operations.domain.layout.RowNaming;
+import com.frame24.api.operations.domain.layout.SeatLayoutPlan;
+import com.frame24.api.operations.domain.layout.SeatLayoutPlan.PlannedSeat;
+import com.frame24.api.operations.domain.layout.SeatLayoutTemplate;
+import com.frame24.api.operations.domain.reference.Lookup;
 import com.frame24.api.operations.infrastructure.repository.RoomRepository;
+import com.frame24.api.operations.infrastructure.repository.SeatLayoutJdbcRepository;
+import com.frame24.api.operations.infrastructure.repository.SeatLayoutJdbcRepository.RoomTotals;
 import com.frame24.api.operations.infrastructure.repository.SeatRepository;
-import com.frame24.api.operations.infrastructure.repository.SeatTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service para gerenciamento de assentos.
+ * <p>
+ * Toda alteração publica {@link RoomLayoutChangedEvent} para descartar o layout da sala
+ * em cache ({@link RoomLayoutCache}) e os inventários de sessão carregados.
  */
 @Slf4j
 @Service
@@ -29,7 +43,10 @@ public class SeatService {
 
     private final SeatRepository seatRepository;
     private final RoomRepository roomRepository;
-    private final SeatTypeRepository seatTypeRepository;
+    private final SeatLayoutJdbcRepository seatLayoutRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ReferenceDataRegistry referenceData;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo assento individual.
@@ -64,6 +81,7 @@ public class SeatService {
 
         // Atualizar capacidade da sala
         updateRoomCapacity(room);
+        publishLayoutChanged(room, principal);
 
         return toResponse(seat);
     }
@@ -77,61 +95,56 @@ public class SeatService {
                 request.columns());
 
         Room room = findRoomByIdAndCompany(request.roomId(), principal.getCompanyId());
-
-        // Setup SeatType se fornecido
-        SeatType defaultSeatType = null;
-        if (request.defaultSeatTypeId() != null) {
-            defaultSeatType = findSeatTypeByIdAndCompany(request.defaultSeatTypeId(), principal.getCompanyId());
-        }
-
-        List<Seat> newSeats = new ArrayList<>();
-        int startCol = request.startColumnNumber() != null ? request.startColumnNumber() : 1;
-
-        for (int r = 0; r < request.rows(); r++) {
-            String rowCode = generateRowCode(r, request.rows(), request.rowNamingPattern());
-
-            for (int c = 0; c < request.columns(); c++) {
-                int colNum = startCol + c;
-                String seatCode = rowCode + colNum;
-
-                // Skip se já existe
-                if (seatRepository.existsByRoom_IdAndSeatCode(room.getId(), seatCode)) {
-                    continue;
-                }
-
-                Seat seat = new Seat();
-                seat.setRoom(room);
-                seat.setSeatCode(seatCode);
-                seat.setRowCode(rowCode);
-                seat.setColumnNumber(colNum);
-                seat.setSeatType(defaultSeatType);
-
-                // Coordenadas básicas para visualização (pode ser ajustado depois)
-                // Assumindo grid simples: X aumenta com coluna, Y aumenta com fileira
-                seat.setPositionX(c * 50); // 50px de espaçamento
-                seat.setPositionY(r * 50);
-
-                seat.setAccessible(false);
-                seat.setActive(true);
-                seat.setCreatedAt(Instant.now());
-
-                newSeats.add(seat);
-            }
-        }
-
-        if (newSeats.isEmpty()) {
+        SeatLayoutTemplate template = SeatLayoutTemplate.grid(
+                request.rows(),
+                request.columns(),
+                rowNaming(request.rowNamingPattern()),
+                request.startColumnNumber() != null ? request.startColumnNumber() : 1,
+                request.defaultSeatTypeId());
+
+        LayoutImport result = importSeats(room, template, principal);
+        if (result.created().isEmpty()) {
             throw new ValidationException("Nenhum assento novo foi gerado (verifique se já existem)");
         }
 
-        seatRepository.saveAll(newSeats);
-
-        // Atualizar capacidade da sala e totais
-        updateRoomCapacity(room);
-        updateRoomDimensions(room, request.rows(), request.columns());
+        Lookup<SeatType> seatTypes = referenceData.forCompany(principal.getCompanyId()).seatTypes();
+        return result.created().stream()
+                .map(seat -> toResponse(seat, room.getId(), result.createdAt(), seatTypes))
+                .toList();
+    }
 
-        log.info("Criados {} assentos na sala {}", newSeats.size(), room.getId());
+    /**
+     * Importa o layout da sala a partir de um modelo (corredores, lacunas, fileiras
+     * escalonadas e curvas). Assentos cujo código já existe na sala são mantidos.
+     */
+    @Transactional
+    public SeatLayoutImportResponse importLayout(ImportSeatLayoutRequest request, UserPrincipal principal) {
+        log.info("Importando layout de assentos: room={}, fileiras={}", request.roomId(), request.rows().size());
 
-        return newSeats.stream().map(this::toResponse).toList();
+        Room room = findRoomByIdAndCompany(request.roomId(), principal.getCompanyId());
+        SeatLayoutTemplate template = new SeatLayoutTemplate(
+                request.rows().stream()
+                        .map(row -> new SeatLayoutTemplate.Row(
+                                row.cells(),
+                                row.offset() != null ? row.offset() : 0,
+                                row.seatTypeId()))
+                        .toList(),
+                rowNaming(request.rowNamingPattern()),
+                request.startColumnNumber() != null ? request.startColumnNumber() : 1,
+                request.defaultSeatTypeId(),
+                request.seatSpacing() != null ? request.seatSpacing() : SeatLayoutTemplate.DEFAULT_SPACING,
+                request.rowSpacing() != null ? request.rowSpacing() : SeatLayoutTemplate.DEFAULT_SPACING,
+                request.curvature() != null ? request.curvature() : 0);
+
+        LayoutImport result = importSeats(room, template, principal);
+        return new SeatLayoutImportResponse(
+                room.getId(),
+                result.seatsInTemplate(),
+                result.created().size(),
+                result.seatsInTemplate() - result.created().size(),
+                result.totals().capacity(),
+                result.totals().totalRows(),
+                result.totals().totalColumns());
     }
 
     /**
@@ -190,6 +203,7 @@ public class SeatService {
         }
 
         seatRepository.save(seat);
+        publishLayoutChanged(seat.getRoom(), principal);
         return toResponse(seat);
     }
 
@@ -209,6 +223,7 @@ public class SeatService {
         seatRepository.delete(seat);
         seatRepository.delete(seat);
         updateRoomCapacity(room);
+        publishLayoutChanged(room, principal);
     }
 
     /**
@@ -230,30 +245,71 @@ public class SeatService {
         seatRepository.saveAll(seats);
 
         updateRoomCapacity(room);
+        publishLayoutChanged(room, principal);
         log.info("Atualizados {} assentos para active={} na sala {}", seats.size(), request.active(), room.getId());
     }
 
     // Auxiliares
 
-    private String generateRowCode(int rowIndex, int totalRows, BatchCreateSeatsRequest.RowNamingPattern pattern) {
-        if (pattern == BatchCreateSeatsRequest.RowNamingPattern.NUMERIC) {
-            return String.valueOf(rowIndex + 1);
+    /**
+     * Gera os assentos do modelo e grava os que ainda não existem na sala.
+     *
+     * <p>
+     * Custa uma consulta pelos códigos já cadastrados, um lote de INSERTs e um UPDATE de
+     * capacidade e dimensões, independentemente do tamanho da sala. Sem assentos novos
+     * nada é gravado.
+     * </p>
+     */
+    private LayoutImport importSeats(Room room, SeatLayoutTemplate template, UserPrincipal principal) {
+        SeatLayoutPlan plan;
+        try {
+            plan = template.plan();
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("rows", e.getMessage());
+        }
+
+        Lookup<SeatType> seatTypes = referenceData.forCompany(principal.getCompanyId()).seatTypes();
+        plan.seats().stream()
+                .map(PlannedSeat::seatTypeId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(id -> seatTypes.byId(id)
+                        .orElseThrow(() -> new NotFoundException("Tipo de assento não encontrado")));
+
+        Set<String> existing = seatLayoutRepository.findSeatCodes(room.getId());
+        List<PlannedSeat> candidates = plan.seats().stream()
+                .filter(seat -> !existing.contains(seat.seatCode()))
+                .toList();
+        Instant now = Instant.now();
+        if (candidates.isEmpty()) {
+            return new LayoutImport(plan.seats().size(), List.of(), now,
+                    new RoomTotals(room.getCapacity(), room.getTotalRows() != null ? room.getTotalRows() : 0,
+                            room.getTotalColumns() != null ? room.getTotalColumns() : 0));
         }
 
-        // ALPHABETIC logic (A, B, ..., Z, AA, AB...)
-        // Simples A-Z para MVP, pode expandir para AA depois se necessário
-        // Se REVERSE, inverte index
-        int index = (pattern == BatchCreateSeatsRequest.RowNamingPattern.REVERSE_ALPHABETIC)
-                ? (totalRows - 1 - rowIndex)
-                : rowIndex;
+        long[] ids = idGenerator.nextIds(candidates.size());
+        boolean[] inserted = seatLayoutRepository.insertSeats(room.getId(), candidates, ids, now);
+        List<CreatedSeat> created = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (inserted[i]) {
+                created.add(new CreatedSeat(ids[i], candidates.get(i)));
+            }
+        }
 
-        return getCharForNumber(index);
+        RoomTotals totals = seatLayoutRepository.updateRoomTotals(room.getId(), plan.totalRows(),
+                plan.totalColumns());
+        publishLayoutChanged(room, principal);
+        log.info("Criados {} assentos na sala {} ({} já existiam)", created.size(), room.getId(),
+                plan.seats().size() - created.size());
+        return new LayoutImport(plan.seats().size(), created, now, totals);
     }
 
-    private String getCharForNumber(int i) {
-        // Base 0 -> A, 1 -> B
-        // TODO: Handle i > 25 (AA, AB...) se precisar de muchas fileiras
-        return i >= 0 && i < 26 ? String.valueOf((char) ('A' + i)) : String.valueOf(i);
+    private static RowNaming rowNaming(BatchCreateSeatsRequest.RowNamingPattern pattern) {
+        return pattern != null ? RowNaming.valueOf(pattern.name()) : RowNaming.ALPHABETIC;
+    }
+
+    private void publishLayoutChanged(Room room, UserPrincipal principal) {
+        eventPublisher.publishEvent(new RoomLayoutChangedEvent(principal.getCompanyId(), room.getId()));
     }
 
     private void updateRoomCapacity(Room room) {
@@ -262,17 +318,6 @@ public class SeatService {
         roomRepository.save(room);
     }
 
-    private void updateRoomDimensions(Room room, Integer rows, Integer cols) {
-        // Apenas atualiza se for primeira vez ou se for maior
-        if (room.getTotalRows() == null || room.getTotalRows() < rows) {
-            room.setTotalRows(rows);
-        }
-        if (room.getTotalColumns() == null || room.getTotalColumns() < cols) {
-            room.setTotalColumns(cols);
-        }
-        roomRepository.save(room);
-    }
-
     private Room findRoomByIdAndCompany(Long roomId, Long companyId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new NotFoundException("Sala não encontrada"));
@@ -284,8 +329,7 @@ public class SeatService {
     }
 
     private SeatType findSeatTypeByIdAndCompany(Long id, Long companyId) {
-        return seatTypeRepository.findById(id)
-                .filter(st -> st.getCompanyId().equals(companyId))
+        return referenceData.forCompany(companyId).seatTypes().byId(id)
                 .orElseThrow(() -> new NotFoundException("Tipo de assento não encontrado"));
     }
 
@@ -311,4 +355,30 @@ public class SeatService {
                 seat.getActive(),
                 seat.getCreatedAt());
     }
+
+    private SeatResponse toResponse(CreatedSeat created, Long roomId, Instant createdAt, Lookup<SeatType> seatTypes) {
+        PlannedSeat seat = created.seat();
+        SeatResponse.TypeInfo typeInfo = seatTypes.byId(seat.seatTypeId())
+                .map(type -> new SeatResponse.TypeInfo(type.getId(), type.getName(), type.getDescription()))
+                .orElse(null);
+
+        return new SeatResponse(
+                created.id(),
+                roomId,
+                seat.seatCode(),
+                seat.rowCode(),
+                seat.columnNumber(),
+                typeInfo,
+                seat.positionX(),
+                seat.positionY(),
+                seat.accessible(),
+                seat.active(),
+                createdAt);
+    }
+
+    private record CreatedSeat(long id, PlannedSeat seat) {
+    }
+
+    private record LayoutImport(int seatsInTemplate, List<CreatedSeat> created, Instant createdAt, RoomTotals totals) {
+    }
 }
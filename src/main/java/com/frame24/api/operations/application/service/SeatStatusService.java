@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.SeatStatus;
 import com.frame24.api.operations.infrastructure.repository.SeatStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.Optional;
 public class SeatStatusService {
 
     private final SeatStatusRepository seatStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo status de assento.
@@ -53,6 +56,7 @@ public class SeatStatusService {
         seatStatus.setCreatedAt(Instant.now());
 
         seatStatusRepository.save(seatStatus);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Status de assento criado: id={}", seatStatus.getId());
 
         return toResponse(seatStatus);
@@ -126,6 +130,7 @@ public class SeatStatusService {
         }
 
         seatStatusRepository.save(seatStatus);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Status de assento atualizado: id={}", id);
 
         return toResponse(seatStatus);
@@ -148,6 +153,7 @@ public class SeatStatusService {
         // if (!seatStatus.getSeats().isEmpty()) { exception... }
 
         seatStatusRepository.delete(seatStatus);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Status de assento deletado: id={}", id);
     }
 
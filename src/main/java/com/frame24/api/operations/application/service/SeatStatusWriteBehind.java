@@ -0,0 +1,110 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.operations.domain.inventory.SeatStatusChange;
+import com.frame24.api.operations.infrastructure.repository.SeatInventoryJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistência assíncrona (write-behind) das mudanças do inventário de assentos.
+ *
+ * <p>
+ * Liberações (inclusive expirações) e bloqueios são enfileirados sem bloquear a requisição e gravados
+ * em lote a cada {@code seat-inventory.write-behind.interval-ms}. Mudanças do mesmo
+ * assento na mesma janela são coalescidas (vale a última). Em caso de falha o lote é
+ * mantido e reenviado no próximo ciclo, mesclado com as mudanças mais recentes.
+ * </p>
+ *
+ * <p>
+ * Reservas e vendas não passam por aqui: são gravadas de forma síncrona, com upsert
+ * condicional, porque é o banco que arbitra entre instâncias.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SeatStatusWriteBehind {
+
+    private final SeatInventoryJdbcRepository repository;
+    private final int batchSize;
+    private final ConcurrentLinkedQueue<SeatStatusChange> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer flushTimer;
+
+    private Map<SeatKey, SeatStatusChange> pending = new LinkedHashMap<>();
+
+    public SeatStatusWriteBehind(
+            SeatInventoryJdbcRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${seat-inventory.write-behind.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.flushTimer = Timer.builder("seat.inventory.write_behind.flush")
+                .description("Tempo de gravação de um lote de mudanças de assentos")
+                .register(meterRegistry);
+        Gauge.builder("seat.inventory.write_behind.pending", this, SeatStatusWriteBehind::pendingCount)
+                .description("Mudanças de assentos aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(SeatStatusChange change) {
+        queue.add(change);
+        queued.incrementAndGet();
+    }
+
+    public int pendingCount() {
+        return queued.get() + pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${seat-inventory.write-behind.interval-ms:200}")
+    public synchronized void flush() {
+        SeatStatusChange change;
+        while ((change = queue.poll()) != null) {
+            queued.decrementAndGet();
+            pending.put(new SeatKey(change.showtimeId(), change.seatId()), change);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SeatStatusChange> batch = new ArrayList<>(batchSize);
+        var iterator = pending.values().iterator();
+        try {
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    flushTimer.record(() -> repository.applyChanges(batch));
+                    batch.clear();
+                }
+            }
+            pending = new LinkedHashMap<>();
+        } catch (Exception e) {
+            // Remove apenas o que já foi gravado; o restante volta no próximo ciclo
+            Map<SeatKey, SeatStatusChange> remaining = new LinkedHashMap<>();
+            batch.forEach(c -> remaining.put(new SeatKey(c.showtimeId(), c.seatId()), c));
+            iterator.forEachRemaining(c -> remaining.put(new SeatKey(c.showtimeId(), c.seatId()), c));
+            pending = remaining;
+            log.error("Falha ao gravar {} mudanças de assentos: {}", remaining.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record SeatKey(long showtimeId, long seatId) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.SeatType;
 import com.frame24.api.operations.infrastructure.repository.SeatTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.List;
 public class SeatTypeService {
 
     private final SeatTypeRepository seatTypeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria um novo tipo de assento.
@@ -47,6 +50,7 @@ public class SeatTypeService {
         seatType.setCreatedAt(Instant.now());
 
         seatTypeRepository.save(seatType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de assento criado: id={}", seatType.getId());
 
         return toResponse(seatType);
@@ -102,6 +106,7 @@ public class SeatTypeService {
         }
 
         seatTypeRepository.save(seatType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de assento atualizado: id={}", id);
 
         return toResponse(seatType);
@@ -123,6 +128,7 @@ public class SeatTypeService {
         }
 
         seatTypeRepository.delete(seatType);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         log.info("Tipo de assento deletado: id={}", id);
     }
 
@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.SessionLanguage;
 import com.frame24.api.operations.infrastructure.repository.SessionLanguageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ import java.util.List;
 public class SessionLanguageService {
 
     private final SessionLanguageRepository sessionLanguageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SessionLanguageResponse create(CreateSessionLanguageRequest request, UserPrincipal principal) {
@@ -44,6 +47,7 @@ public class SessionLanguageService {
         language.setCreatedAt(Instant.now());
 
         sessionLanguageRepository.save(language);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         return toResponse(language);
     }
 
@@ -84,6 +88,7 @@ public class SessionLanguageService {
             language.setDescription(request.description());
 
         sessionLanguageRepository.save(language);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         return toResponse(language);
     }
 
@@ -92,6 +97,7 @@ public class SessionLanguageService {
         SessionLanguage language = findByIdAndCompany(id, principal.getCompanyId());
         // TODO: Check usage ...
         sessionLanguageRepository.delete(language);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
     }
 
     private SessionLanguage findByIdAndCompany(Long id, Long companyId) {
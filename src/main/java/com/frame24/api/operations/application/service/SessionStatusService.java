@@ -1,5 +1,6 @@
 package com.frame24.api.operations.application.service;
 
+import com.frame24.api.common.event.ReferenceDataChangedEvent;
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
 import com.frame24.api.common.security.UserPrincipal;
@@ -10,6 +11,7 @@ import com.frame24.api.operations.domain.SessionStatus;
 import com.frame24.api.operations.infrastructure.repository.SessionStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ import java.util.List;
 public class SessionStatusService {
 
     private final SessionStatusRepository sessionStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SessionStatusResponse create(CreateSessionStatusRequest request, UserPrincipal principal) {
@@ -39,6 +42,7 @@ public class SessionStatusService {
         status.setCreatedAt(Instant.now());
 
         sessionStatusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         return toResponse(status);
     }
 
@@ -73,6 +77,7 @@ public class SessionStatusService {
             status.setAllowsModification(request.allowsModification());
 
         sessionStatusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
         return toResponse(status);
     }
 
@@ -84,6 +89,7 @@ public class SessionStatusService {
         // if (!status.getShowtimeSchedules().isEmpty()) ...
 
         sessionStatusRepository.delete(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(principal.getCompanyId()));
     }
 
     private SessionStatus findByIdAndCompany(Long id, Long companyId) {
@@ -0,0 +1,145 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.event.MovieChangedEvent;
+import com.frame24.api.common.event.MoviesImportedEvent;
+import com.frame24.api.common.event.RoomChangedEvent;
+import com.frame24.api.common.event.RoomLayoutChangedEvent;
+import com.frame24.api.common.security.RlsContext;
+import com.frame24.api.common.security.RlsContextHolder;
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.infrastructure.repository.ShowtimeAvailabilityJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém o modelo de leitura {@code operations.showtime_availability}.
+ *
+ * <p>
+ * Alterações de sessão (criação, edição), de sala (nome, capacidade, assentos) e de título
+ * de filme são aplicadas na mesma transação que as originou. Mudanças de assentos
+ * (reserva, liberação, expiração, venda, bloqueio) só marcam a sessão como pendente; a
+ * cada {@code showtime-availability.refresh-ms} a fila do {@link SeatStatusWriteBehind} é
+ * gravada e os contadores das sessões pendentes são recalculados no banco a partir de
+ * {@code session_seat_status}, em um único comando por empresa. Assim uma sessão muito
+ * disputada gera uma escrita por ciclo e não uma por assento, e instâncias diferentes
+ * nunca sobrescrevem os contadores umas das outras com a visão da própria memória.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ShowtimeAvailabilityProjector {
+
+    private final ShowtimeAvailabilityJdbcRepository repository;
+    private final SeatStatusWriteBehind writeBehind;
+    /** Sessões pendentes e a empresa de cada uma. */
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final Timer refreshTimer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ShowtimeAvailabilityProjector(ShowtimeAvailabilityJdbcRepository repository,
+                                         SeatStatusWriteBehind writeBehind,
+                                         MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.writeBehind = writeBehind;
+        this.refreshTimer = Timer.builder("showtime.availability.refresh")
+                .description("Tempo de gravação dos contadores de ocupação das sessões")
+                .register(meterRegistry);
+        Gauge.builder("showtime.availability.pending", pending, Map::size)
+                .description("Sessões com contadores de ocupação aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Marca a sessão para ter seus contadores recalculados no próximo ciclo.
+     */
+    public void record(ShowtimeInventory inventory) {
+        pending.put(inventory.showtimeId(), inventory.companyId());
+    }
+
+    /**
+     * Copia os dados das sessões para o modelo de leitura, na transação corrente.
+     */
+    public void showtimesChanged(Collection<Long> showtimeIds) {
+        if (!showtimeIds.isEmpty()) {
+            repository.upsertShowtimes(showtimeIds);
+        }
+    }
+
+    /**
+     * Nome e capacidade da sala podem ter mudado junto com os assentos.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRoomLayoutChanged(RoomLayoutChangedEvent event) {
+        roomChanged(event.roomId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRoomChanged(RoomChangedEvent event) {
+        roomChanged(event.roomId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMovieChanged(MovieChangedEvent event) {
+        repository.updateMovieTitles(List.of(event.movieId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMoviesImported(MoviesImportedEvent event) {
+        if (!event.movieIds().isEmpty()) {
+            repository.updateMovieTitles(event.movieIds());
+        }
+    }
+
+    private void roomChanged(long roomId) {
+        // A sala pode ter sido alterada via JPA e ainda não gravada; o upsert lê pelo JDBC
+        entityManager.flush();
+        repository.upsertRoom(roomId);
+    }
+
+    @Scheduled(fixedDelayString = "${showtime-availability.refresh-ms:500}")
+    public void refresh() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Long>> byCompany = new HashMap<>();
+        for (Long showtimeId : List.copyOf(pending.keySet())) {
+            Long companyId = pending.remove(showtimeId);
+            if (companyId != null) {
+                byCompany.computeIfAbsent(companyId, id -> new ArrayList<>()).add(showtimeId);
+            }
+        }
+
+        // Liberações e expirações ainda na fila entrariam na contagem como reservas
+        writeBehind.flush();
+
+        byCompany.forEach((companyId, showtimeIds) -> {
+            try {
+                refreshTimer.record(() -> RlsContextHolder.callAs(RlsContext.forCompany(companyId), () -> {
+                    repository.updateCounts(showtimeIds);
+                    return null;
+                }));
+            } catch (Exception e) {
+                showtimeIds.forEach(showtimeId -> pending.putIfAbsent(showtimeId, companyId));
+                log.error("Falha ao atualizar ocupação de {} sessões da empresa {}: {}",
+                        showtimeIds.size(), companyId, e.getMessage());
+            }
+        });
+    }
+}
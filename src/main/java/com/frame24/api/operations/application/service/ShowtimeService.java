@@ -2,36 +2,60 @@ package com.frame24.api.operations.application.service;
 
 import com.frame24.api.common.exception.NotFoundException;
 import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.response.CursorPaginatedResponse;
 import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.BulkCreateShowtimesRequest;
+import com.frame24.api.operations.application.dto.BulkCreateShowtimesResponse;
 import com.frame24.api.operations.application.dto.CreateShowtimeRequest;
 import com.frame24.api.operations.application.dto.ShowtimeResponse;
 import com.frame24.api.operations.application.dto.UpdateShowtimeRequest;
 import com.frame24.api.operations.domain.*;
+import com.frame24.api.operations.domain.reference.ReferenceData;
+import com.frame24.api.operations.domain.schedule.RoomSchedule;
 import com.frame24.api.operations.infrastructure.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShowtimeService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ShowtimeScheduleRepository showtimeRepository;
     private final RoomRepository roomRepository;
-    private final AudioTypeRepository audioTypeRepository;
-    private final ProjectionTypeRepository projectionTypeRepository;
-    private final SessionLanguageRepository sessionLanguageRepository;
-    private final SessionStatusRepository sessionStatusRepository;
+    private final ReferenceDataRegistry referenceData;
+
+    private final CinemaComplexRepository cinemaComplexRepository;
+
+    private final ShowtimeAvailabilityRepository availabilityRepository;
+    private final ShowtimeAvailabilityProjector availabilityProjector;
+    private final SeatInventoryService seatInventoryService;
 
-    private final VShowtimeAvailabilityRepository vShowtimeAvailabilityRepository;
-    private final SessionSeatStatusRepository sessionSeatStatusRepository;
-    private final SeatRepository seatRepository;
+    /**
+     * Intervalo mínimo entre o término de uma sessão e o início da próxima na mesma sala.
+     */
+    @Value("${showtime.schedule.cleaning-buffer:0m}")
+    private Duration cleaningBuffer;
 
     @Transactional
     public ShowtimeResponse create(CreateShowtimeRequest request, UserPrincipal principal) {
@@ -45,33 +69,92 @@ public class ShowtimeService {
                 .orElseThrow(() -> new NotFoundException("Sala não encontrada"));
 
         validateOverlap(room.getId(), request.startTime(), request.endTime(), null);
+        if (showtimeRepository.findExistingMovieIds(principal.getCompanyId(), List.of(request.movieId())).isEmpty()) {
+            throw new NotFoundException("Filme não encontrado");
+        }
 
-        AudioType audio = findAudioType(request.audioTypeId(), principal.getCompanyId());
-        ProjectionType projection = findProjectionType(request.projectionTypeId(), principal.getCompanyId());
-        SessionLanguage language = findSessionLanguage(request.sessionLanguageId(), principal.getCompanyId());
-        SessionStatus status = findSessionStatus(request.statusId(), principal.getCompanyId());
+        ReferenceData types = referenceData.forCompany(principal.getCompanyId());
+        AudioType audio = findAudioType(types, request.audioTypeId());
+        ProjectionType projection = findProjectionType(types, request.projectionTypeId());
+        SessionLanguage language = findSessionLanguage(types, request.sessionLanguageId());
+        SessionStatus status = findSessionStatus(types, request.statusId());
 
-        ShowtimeSchedule showtime = new ShowtimeSchedule();
-        showtime.setCinemaComplex(room.getCinemaComplex());
-        showtime.setRoom(room);
-        showtime.setMovieId(request.movieId()); // TODO: Validate Movie existence separately or assume trusting ID for
-        // now
-        showtime.setStartTime(request.startTime());
-        showtime.setEndTime(request.endTime());
-        showtime.setAudioType(audio);
-        showtime.setProjectionType(projection);
-        showtime.setSessionLanguage(language);
-        showtime.setStatus(status);
-        showtime.setBaseTicketPrice(request.baseTicketPrice());
+        ShowtimeSchedule showtime = newShowtime(room, request, audio, projection, language, status);
+        showtimeRepository.saveAndFlush(showtime);
+        availabilityProjector.showtimesChanged(List.of(showtime.getId()));
+        return toResponse(showtime);
+    }
 
-        // Initializing seat counters
-        showtime.setAvailableSeats(room.getCapacity());
-        showtime.setSoldSeats(0);
-        showtime.setBlockedSeats(0);
-        showtime.setCreatedAt(Instant.now());
+    /**
+     * Cria a grade de sessões de um complexo em lote (ex.: a programação da semana).
+     *
+     * <p>
+     * As sessões existentes no período são carregadas uma única vez em uma árvore de
+     * intervalos por sala; cada sessão do pedido é validada contra elas e contra as já
+     * aceitas no próprio lote. As aceitas são gravadas na mesma transação (INSERT em
+     * lote) e as rejeitadas vêm com o motivo no resultado, sem impedir as demais.
+     * </p>
+     */
+    @Transactional
+    public BulkCreateShowtimesResponse createBulk(BulkCreateShowtimesRequest request, UserPrincipal principal) {
+        Long companyId = principal.getCompanyId();
+        List<CreateShowtimeRequest> sessions = request.sessions();
+        log.info("Criando {} sessões em lote para o complexo {}", sessions.size(), request.cinemaComplexId());
+
+        CinemaComplex complex = cinemaComplexRepository.findById(request.cinemaComplexId())
+                .filter(c -> c.getCompanyId().equals(companyId))
+                .orElseThrow(() -> new NotFoundException("Complexo não encontrado"));
+
+        Map<Long, Room> rooms = roomRepository.findByCinemaComplex_Id(complex.getId()).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        ReferenceData types = referenceData.forCompany(companyId);
+        Set<Long> movies = new HashSet<>(showtimeRepository.findExistingMovieIds(companyId,
+                sessions.stream().map(CreateShowtimeRequest::movieId).distinct().toList()));
+
+        RoomSchedule schedule = loadSchedule(complex.getId(), sessions);
+
+        BulkCreateShowtimesResponse.Item[] results = new BulkCreateShowtimesResponse.Item[sessions.size()];
+        Map<Integer, ShowtimeSchedule> accepted = new LinkedHashMap<>();
+
+        for (int i = 0; i < sessions.size(); i++) {
+            CreateShowtimeRequest item = sessions.get(i);
+            Room room = rooms.get(item.roomId());
+            String error = item.startTime().isAfter(item.endTime())
+                    ? "Horário de início deve ser anterior ao término"
+                    : room == null ? "Sala não encontrada no complexo: " + item.roomId()
+                    : !movies.contains(item.movieId()) ? "Filme não encontrado: " + item.movieId()
+                    : missingReference(item, types);
+            if (error != null) {
+                results[i] = BulkCreateShowtimesResponse.Item.rejected(i, error);
+                continue;
+            }
 
-        showtimeRepository.save(showtime);
-        return toResponse(showtime);
+            List<RoomSchedule.Slot> conflicts = schedule.conflicts(room.getId(), item.startTime(), item.endTime());
+            if (!conflicts.isEmpty()) {
+                results[i] = new BulkCreateShowtimesResponse.Item(i, false, null,
+                        "Existe conflito de horário com outra sessão nesta sala",
+                        conflicts.stream().map(RoomSchedule.Slot::showtimeId).filter(Objects::nonNull).toList(),
+                        conflicts.stream().map(RoomSchedule.Slot::batchIndex).filter(Objects::nonNull).toList());
+                continue;
+            }
+
+            schedule.add(room.getId(), item.startTime(), item.endTime(), RoomSchedule.Slot.batch(i));
+            accepted.put(i, newShowtime(room, item,
+                    findAudioType(types, item.audioTypeId()),
+                    findProjectionType(types, item.projectionTypeId()),
+                    findSessionLanguage(types, item.sessionLanguageId()),
+                    findSessionStatus(types, item.statusId())));
+        }
+
+        showtimeRepository.saveAll(accepted.values());
+        showtimeRepository.flush();
+        availabilityProjector.showtimesChanged(accepted.values().stream().map(ShowtimeSchedule::getId).toList());
+        accepted.forEach((i, showtime) -> results[i] = BulkCreateShowtimesResponse.Item.created(i, showtime.getId()));
+
+        log.info("Lote do complexo {}: {} sessões criadas, {} rejeitadas", complex.getId(), accepted.size(),
+                sessions.size() - accepted.size());
+        return new BulkCreateShowtimesResponse(sessions.size(), accepted.size(),
+                sessions.size() - accepted.size(), List.of(results));
     }
 
     @Transactional(readOnly = true)
@@ -95,41 +178,68 @@ public class ShowtimeService {
             showtime.setEndTime(newEnd);
         }
 
+        ReferenceData types = referenceData.forCompany(principal.getCompanyId());
         if (request.audioTypeId() != null)
-            showtime.setAudioType(findAudioType(request.audioTypeId(), principal.getCompanyId()));
+            showtime.setAudioType(findAudioType(types, request.audioTypeId()));
         if (request.projectionTypeId() != null)
-            showtime.setProjectionType(findProjectionType(request.projectionTypeId(), principal.getCompanyId()));
+            showtime.setProjectionType(findProjectionType(types, request.projectionTypeId()));
         if (request.sessionLanguageId() != null)
-            showtime.setSessionLanguage(findSessionLanguage(request.sessionLanguageId(), principal.getCompanyId()));
+            showtime.setSessionLanguage(findSessionLanguage(types, request.sessionLanguageId()));
         if (request.statusId() != null)
-            showtime.setStatus(findSessionStatus(request.statusId(), principal.getCompanyId()));
+            showtime.setStatus(findSessionStatus(types, request.statusId()));
         if (request.baseTicketPrice() != null)
             showtime.setBaseTicketPrice(request.baseTicketPrice());
 
-        showtimeRepository.save(showtime);
+        showtimeRepository.saveAndFlush(showtime);
+        availabilityProjector.showtimesChanged(List.of(id));
         return toResponse(showtime);
     }
 
+    /**
+     * Ocupação das sessões do complexo no período, lida do modelo de leitura
+     * {@code showtime_availability} (sem JOINs nem filtro por empresa em memória).
+     */
     @Transactional(readOnly = true)
     public List<com.frame24.api.operations.application.dto.ShowtimeDashboardResponse> listDashboard(Long complexId,
                                                                                                     Instant start, Instant end, UserPrincipal principal) {
-        return vShowtimeAvailabilityRepository.findByCinemaComplexIdAndDateRange(complexId, start, end)
+        Instant now = Instant.now();
+        return availabilityRepository.findByComplexAndDateRange(principal.getCompanyId(), complexId, start, end)
                 .stream()
-                .filter(v -> v.getCompanyId().equals(principal.getCompanyId()))
-                .map(this::toDashboardResponse)
+                .map(a -> toDashboardResponse(a, now))
                 .toList();
     }
 
+    /**
+     * Sessões do complexo no período, em ordem de início, paginadas por cursor.
+     *
+     * <p>
+     * Uma única consulta por página: a projeção traz sessão, sala, complexo, tipos, idioma
+     * e status via JOIN, com o filtro por empresa no SQL. O cursor é a chave
+     * {@code (startTime, id)} do último item, então a página N custa o mesmo que a primeira.
+     * </p>
+     */
     @Transactional(readOnly = true)
-    public List<ShowtimeResponse> listByComplexAndDateRange(Long complexId, Instant start, Instant end,
-                                                            UserPrincipal principal) {
-        // TODO: Validate complex belongs to company if necessary, or filter by company
-        // in query
-        return showtimeRepository.findByCinemaComplexAndDateRange(complexId, start, end)
-                .stream()
-                .filter(s -> s.getCinemaComplex().getCompanyId().equals(principal.getCompanyId()))
-                .map(this::toResponse)
-                .toList();
+    public CursorPaginatedResponse<ShowtimeResponse> listByComplexAndDateRange(
+            Long complexId, Instant start, Instant end, String cursor, int size, UserPrincipal principal) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Um item a mais indica se existe próxima página
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ShowtimeListView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = showtimeRepository.findListing(complexId, principal.getCompanyId(), start, end, limit);
+        } else {
+            ListingCursor after = ListingCursor.decode(cursor);
+            rows = showtimeRepository.findListingAfter(complexId, principal.getCompanyId(), start, end,
+                    after.startTime(), after.id(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ShowtimeResponse> content = rows.stream().limit(pageSize).map(this::toResponse).toList();
+        String nextCursor = hasMore
+                ? new ListingCursor(content.getLast().startTime(), content.getLast().id()).encode()
+                : null;
+        return CursorPaginatedResponse.of(content, pageSize, nextCursor);
     }
 
     @Transactional
@@ -141,6 +251,7 @@ public class ShowtimeService {
         }
 
         showtimeRepository.delete(showtime);
+        seatInventoryService.evict(id);
     }
 
     private void validateTimes(Instant start, Instant end) {
@@ -150,7 +261,8 @@ public class ShowtimeService {
     }
 
     private void validateOverlap(Long roomId, Instant start, Instant end, Long excludeShowtimeId) {
-        List<ShowtimeSchedule> conflicts = showtimeRepository.findConflictingShowtimes(roomId, start, end);
+        List<ShowtimeSchedule> conflicts = showtimeRepository.findConflictingShowtimes(
+                roomId, start.minus(cleaningBuffer), end.plus(cleaningBuffer));
         boolean hasConflict = conflicts.stream()
                 .anyMatch(s -> excludeShowtimeId == null || !s.getId().equals(excludeShowtimeId));
 
@@ -159,6 +271,54 @@ public class ShowtimeService {
         }
     }
 
+    /**
+     * Grade das salas do complexo com as sessões existentes que podem conflitar com o lote.
+     */
+    private RoomSchedule loadSchedule(Long complexId, List<CreateShowtimeRequest> sessions) {
+        RoomSchedule schedule = new RoomSchedule(cleaningBuffer);
+        Instant from = sessions.stream().map(CreateShowtimeRequest::startTime).min(Instant::compareTo).orElseThrow();
+        Instant to = sessions.stream().map(CreateShowtimeRequest::endTime).max(Instant::compareTo).orElseThrow();
+        showtimeRepository.findIntervalsByCinemaComplex(complexId, from.minus(cleaningBuffer), to.plus(cleaningBuffer))
+                .forEach(existing -> schedule.add(existing.roomId(), existing.startTime(), existing.endTime(),
+                        RoomSchedule.Slot.existing(existing.showtimeId())));
+        return schedule;
+    }
+
+    private ShowtimeSchedule newShowtime(Room room, CreateShowtimeRequest request, AudioType audio,
+                                         ProjectionType projection, SessionLanguage language, SessionStatus status) {
+        ShowtimeSchedule showtime = new ShowtimeSchedule();
+        showtime.setCinemaComplex(room.getCinemaComplex());
+        showtime.setRoom(room);
+        showtime.setMovieId(request.movieId());
+        showtime.setStartTime(request.startTime());
+        showtime.setEndTime(request.endTime());
+        showtime.setAudioType(audio);
+        showtime.setProjectionType(projection);
+        showtime.setSessionLanguage(language);
+        showtime.setStatus(status);
+        showtime.setBaseTicketPrice(request.baseTicketPrice());
+
+        // Initializing seat counters
+        showtime.setAvailableSeats(room.getCapacity());
+        showtime.setSoldSeats(0);
+        showtime.setBlockedSeats(0);
+        showtime.setCreatedAt(Instant.now());
+
+        return showtime;
+    }
+
+    private static String missingReference(CreateShowtimeRequest item, ReferenceData types) {
+        if (types.audioTypes().byId(item.audioTypeId()).isEmpty())
+            return "Tipo de áudio não encontrado: " + item.audioTypeId();
+        if (types.projectionTypes().byId(item.projectionTypeId()).isEmpty())
+            return "Tipo de projeção não encontrado: " + item.projectionTypeId();
+        if (types.sessionLanguages().byId(item.sessionLanguageId()).isEmpty())
+            return "Idioma não encontrado: " + item.sessionLanguageId();
+        if (types.sessionStatuses().byId(item.statusId()).isEmpty())
+            return "Status de sessão não encontrado: " + item.statusId();
+        return null;
+    }
+
     private ShowtimeSchedule findByIdAndCompany(Long id, Long companyId) {
         return showtimeRepository.findById(id)
                 .filter(s -> s.getCinemaComplex().getCompanyId().equals(companyId))
@@ -166,30 +326,52 @@ public class ShowtimeService {
     }
 
     // Helper finders for types
-    private AudioType findAudioType(Long id, Long companyId) { // ... implementation using repo ...
-        return audioTypeRepository.findById(id)
-                .filter(a -> a.getCompanyId().equals(companyId))
+    private static AudioType findAudioType(ReferenceData types, Long id) {
+        return types.audioTypes().byId(id)
                 .orElseThrow(() -> new NotFoundException("Tipo de áudio não encontrado: " + id));
     }
 
-    private ProjectionType findProjectionType(Long id, Long companyId) {
-        return projectionTypeRepository.findById(id)
-                .filter(p -> p.getCompanyId().equals(companyId))
+    private static ProjectionType findProjectionType(ReferenceData types, Long id) {
+        return types.projectionTypes().byId(id)
                 .orElseThrow(() -> new NotFoundException("Tipo de projeção não encontrado: " + id));
     }
 
-    private SessionLanguage findSessionLanguage(Long id, Long companyId) {
-        return sessionLanguageRepository.findById(id)
-                .filter(l -> l.getCompanyId().equals(companyId))
+    private static SessionLanguage findSessionLanguage(ReferenceData types, Long id) {
+        return types.sessionLanguages().byId(id)
                 .orElseThrow(() -> new NotFoundException("Idioma não encontrado: " + id));
     }
 
-    private SessionStatus findSessionStatus(Long id, Long companyId) {
-        return sessionStatusRepository.findById(id)
-                .filter(s -> s.getCompanyId().equals(companyId))
+    private static SessionStatus findSessionStatus(ReferenceData types, Long id) {
+        return types.sessionStatuses().byId(id)
                 .orElseThrow(() -> new NotFoundException("Status de sessão não encontrado: " + id));
     }
 
+    private ShowtimeResponse toResponse(ShowtimeListView v) {
+        return new ShowtimeResponse(
+                v.id(),
+                v.cinemaComplexId(),
+                v.cinemaComplexName(),
+                v.roomId(),
+                v.roomName(),
+                v.movieId(),
+                v.startTime(),
+                v.endTime(),
+                v.audioTypeId() != null ? new ShowtimeResponse.TypeInfo(v.audioTypeId(), v.audioTypeName()) : null,
+                v.projectionTypeId() != null
+                        ? new ShowtimeResponse.TypeInfo(v.projectionTypeId(), v.projectionTypeName())
+                        : null,
+                v.sessionLanguageId() != null
+                        ? new ShowtimeResponse.LanguageInfo(v.sessionLanguageId(), v.sessionLanguageName(),
+                        v.sessionLanguageAbbreviation())
+                        : null,
+                v.statusId() != null
+                        ? new ShowtimeResponse.StatusInfo(v.statusId(), v.statusName(), v.statusAllowsModification())
+                        : null,
+                v.availableSeats(),
+                v.baseTicketPrice(),
+                v.createdAt());
+    }
+
     private ShowtimeResponse toResponse(ShowtimeSchedule s) {
         return new ShowtimeResponse(
                 s.getId(),
@@ -224,10 +406,8 @@ public class ShowtimeService {
         ShowtimeSchedule showtime = findByIdAndCompany(id, principal.getCompanyId());
 
         // Find 'Cancelled' status
-        SessionStatus cancelledStatus = sessionStatusRepository.findAll().stream()
-                .filter(s -> s.getCompanyId().equals(principal.getCompanyId())
-                        && "Cancelled".equalsIgnoreCase(s.getName()))
-                .findFirst()
+        SessionStatus cancelledStatus = referenceData.forCompany(principal.getCompanyId())
+                .sessionStatuses().byName("Cancelled")
                 .orElseThrow(() -> new NotFoundException("Status 'Cancelled' não encontrado"));
 
         if (showtime.getSoldSeats() > 0) {
@@ -242,88 +422,61 @@ public class ShowtimeService {
     @Transactional(readOnly = true)
     public com.frame24.api.operations.application.dto.FinancialPreviewResponse getFinancialPreview(Long id,
                                                                                                    UserPrincipal principal) {
-        VShowtimeAvailability view = vShowtimeAvailabilityRepository.findById(id)
-                .filter(v -> v.getCompanyId().equals(principal.getCompanyId()))
+        ShowtimeAvailability availability = availabilityRepository
+                .findByShowtimeIdAndCompanyId(id, principal.getCompanyId())
                 .orElseThrow(() -> new NotFoundException("Sessão não encontrada"));
 
-        BigDecimal estimatedRevenue = view.getBaseTicketPrice().multiply(BigDecimal.valueOf(view.getSeatsSold()));
+        BigDecimal estimatedRevenue = availability.getBaseTicketPrice()
+                .multiply(BigDecimal.valueOf(availability.getSeatsSold()));
 
         return new com.frame24.api.operations.application.dto.FinancialPreviewResponse(
-                view.getShowtimeId(),
-                view.getTotalSeats(),
-                view.getSeatsSold(),
-                view.getSeatsAvailable(),
-                view.getOccupancyPercentage(),
-                view.getBaseTicketPrice(),
+                availability.getShowtimeId(),
+                availability.getTotalSeats().longValue(),
+                availability.getSeatsSold().longValue(),
+                availability.seatsAvailable(),
+                availability.occupancyPercentage(),
+                availability.getBaseTicketPrice(),
                 estimatedRevenue);
     }
 
-    @Transactional(readOnly = true)
-    public List<com.frame24.api.operations.application.dto.SeatMapResponse> getSeatMap(Long id,
-                                                                                       UserPrincipal principal) {
-        ShowtimeSchedule showtime = findByIdAndCompany(id, principal.getCompanyId());
+    private com.frame24.api.operations.application.dto.ShowtimeDashboardResponse toDashboardResponse(
+            ShowtimeAvailability a, Instant now) {
+        return new com.frame24.api.operations.application.dto.ShowtimeDashboardResponse(
+                a.getShowtimeId(),
+                a.getCinemaComplexId(),
+                a.getRoomId(),
+                a.getRoomName(),
+                a.getMovieId(),
+                a.getMovieTitle(),
+                a.getStartTime(),
+                a.getEndTime(),
+                a.getTotalSeats().longValue(),
+                a.getSeatsSold().longValue(),
+                a.seatsAvailable(),
+                a.occupancyPercentage(),
+                a.sessionStatus(now),
+                a.getBaseTicketPrice());
+    }
 
-        // 1. Get all physical seats for the room
-        List<Seat> physicalSeats = seatRepository.findByRoomIdOrderByRowAndColumn(showtime.getRoom().getId());
-
-        // 2. Get all session-specific seat statuses (sold, blocked, reserved)
-        List<SessionSeatStatus> sessionStatuses = sessionSeatStatusRepository.findByShowtime_Id(id);
-
-        // 3. Merge logic
-        return physicalSeats.stream().map(seat -> {
-            String status = "AVAILABLE";
-
-            // Check if seat is physically active
-            if (!seat.getActive()) {
-                status = "MAINTENANCE";
-            } else {
-                // Check session status overlap
-                var sessionStatus = sessionStatuses.stream()
-                        .filter(ss -> ss.getSeat().getId().equals(seat.getId()))
-                        .findFirst();
-
-                if (sessionStatus.isPresent()) {
-                    // Decide status based on sessionStatus presence (Sold/Reserved logic to be
-                    // refined later)
-                    // For now, if record exists, assume SOLD or RESERVED based on fields (e.g.
-                    // saleId)
-                    if (sessionStatus.get().getSaleId() != null) {
-                        status = "SOLD";
-                    } else if (sessionStatus.get().getReservationUuid() != null) { // Simple reservation check
-                        status = "BLOCKED"; // Or RESERVED
-                    }
-                }
-            }
+    /**
+     * Posição na listagem: {@code (startTime, id)} do último item entregue, em Base64 URL.
+     */
+    private record ListingCursor(Instant startTime, Long id) {
 
-            return new com.frame24.api.operations.application.dto.SeatMapResponse(
-                    seat.getId(),
-                    seat.getSeatCode(),
-                    seat.getRowCode(),
-                    seat.getColumnNumber(),
-                    seat.getSeatType() != null ? seat.getSeatType().getName() : "Standard",
-                    seat.getPositionX(),
-                    seat.getPositionY(),
-                    status,
-                    seat.getAccessible());
-        }).toList();
-    }
+        String encode() {
+            String raw = startTime + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
-    private com.frame24.api.operations.application.dto.ShowtimeDashboardResponse toDashboardResponse(
-            VShowtimeAvailability v) {
-        return new com.frame24.api.operations.application.dto.ShowtimeDashboardResponse(
-                v.getShowtimeId(),
-                v.getCinemaComplexId(),
-                v.getRoomId(),
-                v.getRoomName(),
-                v.getMovieId(),
-                v.getMovieTitle(),
-                v.getStartTime(),
-                v.getEndTime(),
-                v.getTotalSeats(),
-                v.getSeatsSold(),
-                v.getSeatsAvailable(),
-                v.getOccupancyPercentage(),
-                v.getSessionStatus(),
-                v.getBaseTicketPrice());
+        static ListingCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new ListingCursor(Instant.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new ValidationException("cursor", "Cursor de paginação inválido");
+            }
+        }
     }
 }
@@ -1,6 +1,6 @@
 package com.frame24.api.operations.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -14,9 +14,9 @@ import java.time.LocalDate;
 @Setter
 @Entity
 @Table(name = "courtesy_parameters", schema = "operations")
-@EntityListeners(SnowflakeEntityListener.class)
 public class CourtesyParameter {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
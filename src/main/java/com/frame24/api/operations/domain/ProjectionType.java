@@ -1,6 +1,6 @@
 package com.frame24.api.operations.domain;
 
-import com.frame24.api.common.id.SnowflakeEntityListener;
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,9 +17,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "projection_types", schema = "operations")
-@EntityListeners(SnowflakeEntityListener.class)
 public class ProjectionType {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
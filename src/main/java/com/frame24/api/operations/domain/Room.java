@@ -1,5 +1,6 @@
 package com.frame24.api.operations.domain;
 
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,9 +18,9 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "rooms", schema = "operations")
-@EntityListeners(com.frame24.api.common.id.SnowflakeEntityListener.class)
 public class Room {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
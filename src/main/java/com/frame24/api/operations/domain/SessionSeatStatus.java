@@ -1,5 +1,6 @@
 package com.frame24.api.operations.domain;
 
+import com.frame24.api.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -15,9 +16,9 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "session_seat_status", schema = "operations")
-@EntityListeners(com.frame24.api.common.id.SnowflakeEntityListener.class)
 public class SessionSeatStatus {
     @Id
+    @SnowflakeId
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -0,0 +1,99 @@
+package com.frame24.api.operations.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+
+/**
+ * Modelo de leitura da ocupação de uma sessão ({@code operations.showtime_availability}).
+ *
+ * <p>
+ * Somente leitura via JPA: as linhas são mantidas pelo
+ * {@code ShowtimeAvailabilityProjector}. Status da sessão e ocupação são derivados na
+ * leitura, pois dependem do horário atual.
+ * </p>
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "showtime_availability", schema = "operations")
+public class ShowtimeAvailability {
+
+    @Id
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(name = "cinema_complex_id", nullable = false)
+    private Long cinemaComplexId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "room_name", length = 100)
+    private String roomName;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "movie_title", length = 300)
+    private String movieTitle;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "seats_sold", nullable = false)
+    private Integer seatsSold;
+
+    @Column(name = "seats_held", nullable = false)
+    private Integer seatsHeld;
+
+    @Column(name = "seats_blocked", nullable = false)
+    private Integer seatsBlocked;
+
+    @Column(name = "base_ticket_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal baseTicketPrice;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public long seatsAvailable() {
+        return Math.max(0, totalSeats - seatsSold - seatsHeld - seatsBlocked);
+    }
+
+    public BigDecimal occupancyPercentage() {
+        if (totalSeats <= 0) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        }
+        return BigDecimal.valueOf(seatsSold * 100L)
+                .divide(BigDecimal.valueOf(totalSeats), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * UPCOMING, NOW_SHOWING ou ENDED, como na antiga view {@code v_showtime_availability}.
+     */
+    public String sessionStatus(Instant now) {
+        if (startTime.isAfter(now)) {
+            return "UPCOMING";
+        }
+        return endTime.isBefore(now) ? "ENDED" : "NOW_SHOWING";
+    }
+}
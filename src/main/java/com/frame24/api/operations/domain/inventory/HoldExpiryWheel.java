@@ -0,0 +1,167 @@
+package com.frame24.api.operations.domain.inventory;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Timing wheel (hashed) para expiração de reservas de assentos.
+ *
+ * <p>
+ * O tempo é dividido em ticks de {@code tickMillis}; cada reserva vai para o slot
+ * {@code deadlineTick % slots}. A cada avanço só os slots dos ticks decorridos são
+ * visitados, e cada reserva é visitada uma única vez quando o número de slots cobre o
+ * TTL das reservas (ver {@link #slotsFor}). Agendar e cancelar são O(1).
+ * </p>
+ *
+ * <p>
+ * {@link #schedule} e {@link #cancel} podem ser chamados de qualquer thread; novas
+ * entradas passam por uma fila concorrente e são distribuídas nos slots por
+ * {@link #advance}, que deve ser chamado periodicamente por uma única thread.
+ * </p>
+ */
+public final class HoldExpiryWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Entry>[] slots;
+    private final ConcurrentLinkedQueue<Entry> incoming = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, Entry> index = new ConcurrentHashMap<>();
+
+    private long processedTick;
+
+    /**
+     * @param tickMillis  Resolução do wheel
+     * @param slots       Número de slots (arredondado para potência de 2)
+     * @param startMillis Instante inicial (normalmente {@code System.currentTimeMillis()})
+     */
+    @SuppressWarnings("unchecked")
+    public HoldExpiryWheel(long tickMillis, int slots, long startMillis) {
+        if (tickMillis <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("tickMillis e slots devem ser positivos");
+        }
+        int size = Integer.highestOneBit(slots) == slots ? slots : Integer.highestOneBit(slots) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new ArrayDeque[size];
+        this.processedTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Número de slots para que uma volta do wheel cubra o TTL informado.
+     */
+    public static int slotsFor(long ttlMillis, long tickMillis) {
+        return (int) Math.min(1 << 20, Math.max(64, ttlMillis / tickMillis + 1));
+    }
+
+    /**
+     * Agenda (ou reagenda) a expiração da reserva.
+     */
+    public void schedule(long showtimeId, String holdId, Instant expiresAt) {
+        long deadlineTick = Math.ceilDiv(expiresAt.toEpochMilli(), tickMillis);
+        Entry entry = new Entry(showtimeId, holdId, deadlineTick);
+        Entry previous = index.put(holdId, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        incoming.add(entry);
+    }
+
+    /**
+     * Cancela a expiração (reserva confirmada ou liberada antes do prazo).
+     */
+    public void cancel(String holdId) {
+        Entry entry = index.remove(holdId);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    /**
+     * Reservas agendadas e ainda não expiradas nem canceladas.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Avança o wheel até {@code nowMillis} e devolve as reservas vencidas.
+     */
+    public synchronized List<Expiration> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<Expiration> expired = new ArrayList<>();
+
+        Entry entry;
+        while ((entry = incoming.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            if (entry.deadlineTick <= nowTick) {
+                expire(entry, expired);
+            } else {
+                slot(entry.deadlineTick).add(entry);
+            }
+        }
+
+        if (nowTick <= processedTick) {
+            return expired;
+        }
+
+        // Após uma pausa maior que uma volta, basta visitar cada slot uma vez
+        long from = Math.max(processedTick + 1, nowTick - mask);
+        for (long tick = from; tick <= nowTick; tick++) {
+            ArrayDeque<Entry> slot = slots[(int) (tick & mask)];
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+            Iterator<Entry> iterator = slot.iterator();
+            while (iterator.hasNext()) {
+                Entry candidate = iterator.next();
+                if (candidate.cancelled) {
+                    iterator.remove();
+                } else if (candidate.deadlineTick <= nowTick) {
+                    iterator.remove();
+                    expire(candidate, expired);
+                }
+            }
+        }
+        processedTick = nowTick;
+        return expired;
+    }
+
+    private void expire(Entry entry, List<Expiration> expired) {
+        if (index.remove(entry.holdId, entry)) {
+            expired.add(new Expiration(entry.showtimeId, entry.holdId));
+        }
+    }
+
+    private ArrayDeque<Entry> slot(long tick) {
+        int position = (int) (tick & mask);
+        ArrayDeque<Entry> slot = slots[position];
+        if (slot == null) {
+            slot = new ArrayDeque<>();
+            slots[position] = slot;
+        }
+        return slot;
+    }
+
+    public record Expiration(long showtimeId, String holdId) {
+    }
+
+    private static final class Entry {
+        private final long showtimeId;
+        private final String holdId;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Entry(long showtimeId, String holdId, long deadlineTick) {
+            this.showtimeId = showtimeId;
+            this.holdId = holdId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
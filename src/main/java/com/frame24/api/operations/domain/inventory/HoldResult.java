@@ -0,0 +1,25 @@
+package com.frame24.api.operations.domain.inventory;
+
+/**
+ * Resultado de {@link ShowtimeInventory#hold}.
+ *
+ * @param hold        Reserva criada, ou null se rejeitada
+ * @param unavailable Ordinais que impediram a reserva (vazio quando aceita)
+ * @param version     Versão do inventário produzida pela reserva (0 quando rejeitada)
+ */
+public record HoldResult(SeatHold hold, int[] unavailable, long version) {
+
+    private static final int[] NONE = new int[0];
+
+    static HoldResult accepted(SeatHold hold, long version) {
+        return new HoldResult(hold, NONE, version);
+    }
+
+    public static HoldResult rejected(int[] unavailable) {
+        return new HoldResult(null, unavailable, 0);
+    }
+
+    public boolean isAccepted() {
+        return hold != null;
+    }
+}
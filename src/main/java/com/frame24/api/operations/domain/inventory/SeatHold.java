@@ -0,0 +1,22 @@
+package com.frame24.api.operations.domain.inventory;
+
+import java.time.Instant;
+
+/**
+ * Reserva temporária de um conjunto de assentos.
+ *
+ * @param holdId    Identificador público (gravado em {@code reservation_uuid})
+ * @param token     Token interno gravado nas células do inventário
+ * @param ordinals  Ordinais dos assentos, ordenados e sem repetição
+ * @param expiresAt Expiração da reserva
+ */
+public record SeatHold(
+        String holdId,
+        long token,
+        int[] ordinals,
+        Instant expiresAt) {
+
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,31 @@
+package com.frame24.api.operations.domain.inventory;
+
+/**
+ * Estado de um assento em uma sessão, como mantido pelo {@link ShowtimeInventory}.
+ */
+public enum SeatState {
+
+    AVAILABLE("AVAILABLE"),
+    HELD("RESERVED"),
+    SOLD("SOLD"),
+    BLOCKED("BLOCKED");
+
+    private static final SeatState[] BY_CODE = values();
+
+    private final String databaseValue;
+
+    SeatState(String databaseValue) {
+        this.databaseValue = databaseValue;
+    }
+
+    /**
+     * Valor correspondente em {@code seat_status_enum}.
+     */
+    public String databaseValue() {
+        return databaseValue;
+    }
+
+    static SeatState fromCode(int code) {
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,15 @@
+package com.frame24.api.operations.domain.inventory;
+
+/**
+ * Mudança de estado de um assento a ser persistida em {@code operations.session_seat_status}
+ * pelo write-behind (liberações e bloqueios; reservas e vendas são gravadas de forma síncrona).
+ *
+ * @param reservationUuid Para {@link SeatState#AVAILABLE}, a reserva liberada: a linha só é
+ *                        removida se ainda for dela
+ */
+public record SeatStatusChange(
+        long showtimeId,
+        long seatId,
+        SeatState state,
+        String reservationUuid) {
+}
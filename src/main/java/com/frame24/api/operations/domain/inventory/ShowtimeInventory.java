@@ -0,0 +1,305 @@
+package com.frame24.api.operations.domain.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Inventário de assentos de uma sessão em memória.
+ *
+ * <p>
+ * Cada assento ocupa uma célula de um {@link AtomicLongArray}, indexada por um ordinal
+ * denso (posição do assento na sala ordenada por fileira e coluna). A célula guarda o
+ * {@link SeatState} nos 2 bits inferiores e o token da reserva dona nos demais:
+ * </p>
+ *
+ * <pre>
+ * célula = (token &lt;&lt; 2) | estado        (0 = disponível)
+ * </pre>
+ *
+ * <p>
+ * Uma reserva de vários assentos faz um CAS {@code 0 -> (token|HELD)} por assento em ordem
+ * crescente de ordinal; se algum falhar, as células já obtidas são devolvidas e nada fica
+ * reservado (tudo ou nada). Como o token é único, só a dona de uma reserva consegue
+ * confirmá-la ou liberá-la, e um assento nunca passa a {@link SeatState#SOLD} sem antes
+ * estar reservado pela mesma dona: não há venda dupla.
+ * </p>
+ *
+ * <p>
+ * Confirmação e liberação disputam a reserva pelo mapa de reservas ativas
+ * ({@link #takeHold(String)}): quem a remove é o único a alterar suas células.
+ * </p>
+ */
+public final class ShowtimeInventory {
+
+    private static final int STATE_BITS = 2;
+    private static final long STATE_MASK = (1L << STATE_BITS) - 1;
+    private static final long FREE = 0L;
+
+    private final long showtimeId;
+    private final long roomId;
+    private final Long companyId;
+    private final Instant endTime;
+    private final long[] seatIds;
+    private final Map<Long, Integer> ordinalsBySeatId;
+    private final AtomicLongArray cells;
+    private final AtomicLong tokenSequence = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<String, SeatHold> holds = new ConcurrentHashMap<>();
+
+    /**
+     * @param seatIds IDs dos assentos da sala na ordem dos ordinais
+     */
+    public ShowtimeInventory(long showtimeId, long roomId, Long companyId, Instant endTime, long[] seatIds) {
+        this.showtimeId = showtimeId;
+        this.roomId = roomId;
+        this.companyId = companyId;
+        this.endTime = endTime;
+        this.seatIds = seatIds.clone();
+        this.cells = new AtomicLongArray(seatIds.length);
+
+        Map<Long, Integer> ordinals = new HashMap<>(seatIds.length * 2);
+        for (int i = 0; i < seatIds.length; i++) {
+            ordinals.put(seatIds[i], i);
+        }
+        this.ordinalsBySeatId = Map.copyOf(ordinals);
+    }
+
+    public long showtimeId() {
+        return showtimeId;
+    }
+
+    public long roomId() {
+        return roomId;
+    }
+
+    public Long companyId() {
+        return companyId;
+    }
+
+    public Instant endTime() {
+        return endTime;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * Contador incrementado a cada mudança de estado.
+     *
+     * <p>
+     * Reservas, vendas e liberações devolvem a versão da própria mudança. Ela é obtida
+     * antes de o assento ficar disponível para a operação seguinte (antes de publicar a
+     * reserva e antes de liberar as células), então duas mudanças do mesmo assento têm
+     * versões na ordem em que aconteceram.
+     * </p>
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * @return Ordinal do assento, ou -1 se não pertence à sala
+     */
+    public int ordinalOf(long seatId) {
+        Integer ordinal = ordinalsBySeatId.get(seatId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public long seatIdAt(int ordinal) {
+        return seatIds[ordinal];
+    }
+
+    public SeatState stateAt(int ordinal) {
+        return SeatState.fromCode((int) (cells.get(ordinal) & STATE_MASK));
+    }
+
+    public int count(SeatState state) {
+        int count = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            if ((cells.get(i) & STATE_MASK) == state.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reserva todos os assentos ou nenhum.
+     *
+     * @param ordinals  Ordinais dos assentos (repetições são ignoradas)
+     * @param expiresAt Expiração da reserva
+     */
+    public HoldResult hold(int[] ordinals, Instant expiresAt) {
+        int[] sorted = normalize(ordinals);
+        long token = tokenSequence.incrementAndGet();
+        long heldCell = cell(token, SeatState.HELD);
+
+        for (int i = 0; i < sorted.length; i++) {
+            if (!cells.compareAndSet(sorted[i], FREE, heldCell)) {
+                for (int j = 0; j < i; j++) {
+                    cells.set(sorted[j], FREE);
+                }
+                return HoldResult.rejected(unavailable(sorted));
+            }
+        }
+
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), token, sorted, expiresAt);
+        long changeVersion = version.incrementAndGet();
+        holds.put(hold.holdId(), hold);
+        return HoldResult.accepted(hold, changeVersion);
+    }
+
+    public SeatHold findHold(String holdId) {
+        return holds.get(holdId);
+    }
+
+    /**
+     * Remove a reserva do conjunto de reservas ativas, tornando o chamador o único
+     * autorizado a concluí-la ({@link #markSold}, {@link #free} ou {@link #reinstate}).
+     *
+     * @return A reserva, ou null se não existe mais (expirada, liberada ou confirmada)
+     */
+    public SeatHold takeHold(String holdId) {
+        return holds.remove(holdId);
+    }
+
+    /**
+     * Devolve ao conjunto ativo uma reserva obtida por {@link #takeHold} (ex.: falha ao persistir a venda).
+     */
+    public void reinstate(SeatHold hold) {
+        holds.put(hold.holdId(), hold);
+    }
+
+    /**
+     * Converte as células da reserva em vendidas.
+     *
+     * @return Versão do inventário produzida pela venda
+     */
+    public long markSold(SeatHold hold) {
+        return transition(hold, SeatState.HELD, cell(hold.token(), SeatState.SOLD));
+    }
+
+    /**
+     * Libera as células da reserva.
+     *
+     * @return Versão do inventário produzida pela liberação
+     */
+    public long free(SeatHold hold) {
+        return transition(hold, SeatState.HELD, FREE);
+    }
+
+    /**
+     * Remove e libera a reserva, se ainda ativa.
+     *
+     * @return A reserva liberada, ou null
+     */
+    public SeatHold release(String holdId) {
+        SeatHold hold = takeHold(holdId);
+        if (hold != null) {
+            free(hold);
+        }
+        return hold;
+    }
+
+    /**
+     * Reservas ativas vencidas em {@code now}.
+     */
+    public List<SeatHold> expiredHolds(Instant now) {
+        List<SeatHold> expired = new ArrayList<>();
+        for (SeatHold hold : holds.values()) {
+            if (hold.isExpiredAt(now)) {
+                expired.add(hold);
+            }
+        }
+        return expired;
+    }
+
+    public Collection<SeatHold> activeHolds() {
+        return holds.values();
+    }
+
+    /**
+     * Bloqueia um assento disponível (manutenção, cortesia, etc.).
+     */
+    public boolean block(int ordinal) {
+        boolean changed = cells.compareAndSet(ordinal, FREE, cell(0, SeatState.BLOCKED));
+        if (changed) {
+            version.incrementAndGet();
+        }
+        return changed;
+    }
+
+    public boolean unblock(int ordinal) {
+        boolean changed = cells.compareAndSet(ordinal, cell(0, SeatState.BLOCKED), FREE);
+        if (changed) {
+            version.incrementAndGet();
+        }
+        return changed;
+    }
+
+    // ------------------------------------------------------------------
+    // Recuperação a partir de operations.session_seat_status
+    // ------------------------------------------------------------------
+
+    public void restoreSold(int ordinal) {
+        cells.set(ordinal, cell(0, SeatState.SOLD));
+    }
+
+    public void restoreBlocked(int ordinal) {
+        cells.set(ordinal, cell(0, SeatState.BLOCKED));
+    }
+
+    public SeatHold restoreHold(String holdId, int[] ordinals, Instant expiresAt) {
+        int[] sorted = normalize(ordinals);
+        long token = tokenSequence.incrementAndGet();
+        for (int ordinal : sorted) {
+            cells.set(ordinal, cell(token, SeatState.HELD));
+        }
+        SeatHold hold = new SeatHold(holdId, token, sorted, expiresAt);
+        holds.put(holdId, hold);
+        return hold;
+    }
+
+    private long transition(SeatHold hold, SeatState expected, long target) {
+        long changeVersion = version.incrementAndGet();
+        long expectedCell = cell(hold.token(), expected);
+        for (int ordinal : hold.ordinals()) {
+            if (!cells.compareAndSet(ordinal, expectedCell, target)) {
+                throw new IllegalStateException(String.format(
+                        "Assento %d da sessão %d não pertence à reserva %s",
+                        seatIds[ordinal], showtimeId, hold.holdId()));
+            }
+        }
+        return changeVersion;
+    }
+
+    private int[] unavailable(int[] ordinals) {
+        return Arrays.stream(ordinals)
+                .filter(ordinal -> cells.get(ordinal) != FREE)
+                .toArray();
+    }
+
+    private int[] normalize(int[] ordinals) {
+        int[] sorted = Arrays.stream(ordinals).distinct().sorted().toArray();
+        for (int ordinal : sorted) {
+            if (ordinal < 0 || ordinal >= seatIds.length) {
+                throw new IllegalArgumentException("Ordinal de assento inválido: " + ordinal);
+            }
+        }
+        return sorted;
+    }
+
+    private static long cell(long token, SeatState state) {
+        return (token << STATE_BITS) | state.ordinal();
+    }
+}
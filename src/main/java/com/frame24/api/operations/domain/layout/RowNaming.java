@@ -0,0 +1,55 @@
+package com.frame24.api.operations.domain.layout;
+
+/**
+ * Nomenclatura das fileiras de uma sala.
+ *
+ * <p>
+ * Fileiras alfabéticas seguem a sequência das planilhas: A..Z, AA..AZ, BA..ZZ, AAA...
+ * Como o código cresce em tamanho antes de crescer em valor, ordenar por
+ * {@code (length(row_code), row_code)} devolve as fileiras na ordem de geração, tanto
+ * alfabéticas quanto numéricas.
+ * </p>
+ */
+public enum RowNaming {
+
+    /** A, B, C... a partir da tela. */
+    ALPHABETIC,
+
+    /** 1, 2, 3... a partir da tela. */
+    NUMERIC,
+
+    /** ..., C, B, A: a fileira A é a do fundo. */
+    REVERSE_ALPHABETIC;
+
+    /**
+     * Código da fileira {@code rowIndex} (base 0, a partir da tela) de um total de {@code totalRows}.
+     */
+    public String rowCode(int rowIndex, int totalRows) {
+        if (rowIndex < 0 || rowIndex >= totalRows) {
+            throw new IllegalArgumentException("Fileira fora do intervalo: " + rowIndex + " de " + totalRows);
+        }
+        return switch (this) {
+            case NUMERIC -> String.valueOf(rowIndex + 1);
+            case ALPHABETIC -> letters(rowIndex);
+            case REVERSE_ALPHABETIC -> letters(totalRows - 1 - rowIndex);
+        };
+    }
+
+    /**
+     * Índice base 0 em letras (numeração bijetiva de base 26): 0 → A, 25 → Z, 26 → AA, 701 → ZZ.
+     */
+    public static String letters(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Índice negativo: " + index);
+        }
+        char[] buffer = new char[7];
+        int pos = buffer.length;
+        int n = index + 1;
+        while (n > 0) {
+            n--;
+            buffer[--pos] = (char) ('A' + n % 26);
+            n /= 26;
+        }
+        return new String(buffer, pos, buffer.length - pos);
+    }
+}
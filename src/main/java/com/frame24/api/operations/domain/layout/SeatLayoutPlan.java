@@ -0,0 +1,27 @@
+package com.frame24.api.operations.domain.layout;
+
+import java.util.List;
+
+/**
+ * Assentos gerados a partir de um {@link SeatLayoutTemplate}, na ordem das fileiras e colunas.
+ *
+ * @param totalRows    fileiras com assentos
+ * @param totalColumns maior quantidade de colunas numeradas em uma fileira
+ */
+public record SeatLayoutPlan(List<PlannedSeat> seats, int totalRows, int totalColumns) {
+
+    public SeatLayoutPlan {
+        seats = List.copyOf(seats);
+    }
+
+    public record PlannedSeat(
+            String rowCode,
+            int columnNumber,
+            String seatCode,
+            int positionX,
+            int positionY,
+            boolean accessible,
+            boolean active,
+            Long seatTypeId) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.frame24.api.operations.domain.layout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Modelo de layout de sala: uma linha de texto por fileira, da tela para o fundo.
+ *
+ * <p>
+ * Cada caractere é uma célula da grade:
+ * </p>
+ * <ul>
+ * <li>{@code S} - assento</li>
+ * <li>{@code A} - assento acessível</li>
+ * <li>{@code X} - assento criado inativo (ex.: interditado)</li>
+ * <li>{@code .} - lacuna: sem assento, mas consome um número de coluna</li>
+ * <li>{@code _} - corredor: sem assento e sem número</li>
+ * </ul>
+ *
+ * <p>
+ * Fileiras sem nenhum assento são corredores transversais: ocupam espaço na planta, mas
+ * não recebem código. O {@code offset} desloca a fileira em células (fileiras
+ * escalonadas) e {@code curvature} recua o centro das fileiras em relação às pontas, em
+ * pixels, aproximando fileiras curvas voltadas para a tela.
+ * </p>
+ */
+public record SeatLayoutTemplate(
+        List<Row> rows,
+        RowNaming naming,
+        int startColumn,
+        Long defaultSeatTypeId,
+        int seatSpacing,
+        int rowSpacing,
+        int curvature) {
+
+    public static final int DEFAULT_SPACING = 50;
+
+    private static final int MAX_SEAT_CODE_LENGTH = 10;
+
+    public SeatLayoutTemplate {
+        rows = List.copyOf(rows);
+    }
+
+    /**
+     * Matriz retangular {@code rows x columns}, sem corredores nem curvatura.
+     */
+    public static SeatLayoutTemplate grid(int rows, int columns, RowNaming naming, int startColumn,
+                                          Long defaultSeatTypeId) {
+        Row row = new Row("S".repeat(columns), 0, null);
+        return new SeatLayoutTemplate(Collections.nCopies(rows, row), naming, startColumn, defaultSeatTypeId,
+                DEFAULT_SPACING, DEFAULT_SPACING, 0);
+    }
+
+    /**
+     * Gera os assentos do modelo com códigos, numeração e coordenadas.
+     *
+     * @throws IllegalArgumentException se alguma fileira tiver caractere desconhecido ou
+     *                                  gerar código de assento longo demais
+     */
+    public SeatLayoutPlan plan() {
+        int seatRows = 0;
+        int width = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            for (int i = 0; i < row.cells().length(); i++) {
+                char cell = row.cells().charAt(i);
+                if ("SAX._".indexOf(cell) < 0) {
+                    throw new IllegalArgumentException(
+                            "Caractere inválido na fileira " + (r + 1) + ": '" + cell + "'");
+                }
+            }
+            if (row.hasSeat()) {
+                seatRows++;
+            }
+            width = Math.max(width, row.offset() + row.cells().length());
+        }
+
+        double half = (width - 1) / 2.0;
+        List<SeatLayoutPlan.PlannedSeat> seats = new ArrayList<>();
+        int rowIndex = 0;
+        int columns = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            if (!row.hasSeat()) {
+                continue;
+            }
+            String rowCode = naming.rowCode(rowIndex++, seatRows);
+            Long seatTypeId = row.seatTypeId() != null ? row.seatTypeId() : defaultSeatTypeId;
+            int column = startColumn;
+            for (int i = 0; i < row.cells().length(); i++) {
+                char cell = row.cells().charAt(i);
+                if (cell == '_') {
+                    continue;
+                }
+                if (cell != '.') {
+                    String seatCode = rowCode + column;
+                    if (seatCode.length() > MAX_SEAT_CODE_LENGTH) {
+                        throw new IllegalArgumentException("Código de assento longo demais: " + seatCode);
+                    }
+                    int cellX = row.offset() + i;
+                    double t = half > 0 ? (cellX - half) / half : 0;
+                    seats.add(new SeatLayoutPlan.PlannedSeat(
+                            rowCode,
+                            column,
+                            seatCode,
+                            cellX * seatSpacing,
+                            (int) Math.round(r * rowSpacing + curvature * (1 - t * t)),
+                            cell == 'A',
+                            cell != 'X',
+                            seatTypeId));
+                }
+                column++;
+            }
+            columns = Math.max(columns, column - startColumn);
+        }
+        return new SeatLayoutPlan(seats, seatRows, columns);
+    }
+
+    /**
+     * Fileira do modelo; {@code seatTypeId} nulo usa o tipo padrão do modelo.
+     */
+    public record Row(String cells, int offset, Long seatTypeId) {
+
+        boolean hasSeat() {
+            for (int i = 0; i < cells.length(); i++) {
+                char cell = cells.charAt(i);
+                if (cell == 'S' || cell == 'A' || cell == 'X') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.frame24.api.operations.domain.reference;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Conjunto imutável de itens de cadastro indexado por id e por nome.
+ *
+ * <p>
+ * A busca por nome ignora maiúsculas/minúsculas; havendo nomes repetidos, vale o
+ * primeiro da lista.
+ * </p>
+ */
+public final class Lookup<T> {
+
+    private final List<T> all;
+    private final Map<Long, T> byId;
+    private final Map<String, T> byName;
+
+    private Lookup(List<T> all, Map<Long, T> byId, Map<String, T> byName) {
+        this.all = all;
+        this.byId = byId;
+        this.byName = byName;
+    }
+
+    public static <T> Lookup<T> of(List<T> items, Function<T, Long> id, Function<T, String> name) {
+        Map<Long, T> byId = new HashMap<>(items.size() * 2);
+        Map<String, T> byName = new HashMap<>(items.size() * 2);
+        for (T item : items) {
+            byId.put(id.apply(item), item);
+            byName.putIfAbsent(normalize(name.apply(item)), item);
+        }
+        return new Lookup<>(List.copyOf(items), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    public Optional<T> byId(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<T> byName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    public List<T> all() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+}
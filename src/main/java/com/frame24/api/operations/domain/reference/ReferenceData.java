@@ -0,0 +1,21 @@
+package com.frame24.api.operations.domain.reference;
+
+import com.frame24.api.operations.domain.*;
+
+/**
+ * Fotografia imutável dos cadastros auxiliares de operações de uma empresa.
+ *
+ * <p>
+ * As entidades são instâncias destacadas (detached) e compartilhadas entre requisições:
+ * servem para leitura e para preencher associações {@code @ManyToOne}, nunca devem ser
+ * alteradas nem ter suas coleções lazy acessadas.
+ * </p>
+ */
+public record ReferenceData(
+        Lookup<AudioType> audioTypes,
+        Lookup<ProjectionType> projectionTypes,
+        Lookup<SessionLanguage> sessionLanguages,
+        Lookup<SessionStatus> sessionStatuses,
+        Lookup<SeatType> seatTypes,
+        Lookup<SeatStatus> seatStatuses) {
+}
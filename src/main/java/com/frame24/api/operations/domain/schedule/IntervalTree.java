@@ -0,0 +1,163 @@
+package com.frame24.api.operations.domain.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árvore de intervalos fechados {@code [start, end]} (AVL aumentada com o maior
+ * {@code end} de cada subárvore).
+ *
+ * <p>
+ * Inserção em O(log n) e consulta de sobreposição em O(log n + k), onde {@code k} é o
+ * número de intervalos sobrepostos. Usada para validar a grade de uma sala inteira em
+ * memória, sem uma consulta ao banco por sessão. Não é thread-safe.
+ * </p>
+ *
+ * @param <T> Valor associado a cada intervalo
+ */
+public final class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Insere o intervalo {@code [start, end]}; intervalos repetidos são mantidos.
+     */
+    public void insert(long start, long end, T value) {
+        if (end < start) {
+            throw new IllegalArgumentException("Intervalo inválido: fim anterior ao início");
+        }
+        root = insert(root, new Node<>(start, end, value));
+        size++;
+    }
+
+    /**
+     * Valores de todos os intervalos que se sobrepõem a {@code [start, end]}, em ordem de início.
+     * Intervalos que apenas se tocam nas extremidades também se sobrepõem.
+     */
+    public List<T> overlapping(long start, long end) {
+        List<T> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    public boolean overlaps(long start, long end) {
+        return anyOverlap(root, start, end);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static <T> void collect(Node<T> node, long start, long end, List<T> result) {
+        if (node == null || node.maxEnd < start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start > end) {
+            // Todos à direita começam depois do fim da consulta
+            return;
+        }
+        if (node.end >= start) {
+            result.add(node.value);
+        }
+        collect(node.right, start, end, result);
+    }
+
+    private static <T> boolean anyOverlap(Node<T> node, long start, long end) {
+        while (node != null) {
+            if (node.start <= end && node.end >= start) {
+                return true;
+            }
+            // Se a subárvore esquerda alcança o início da consulta, ou há sobreposição
+            // nela ou todos os intervalos à direita começam depois do fim da consulta
+            node = node.left != null && node.left.maxEnd >= start ? node.left : node.right;
+        }
+        return false;
+    }
+
+    // ------------------------------------------------------------------
+    // AVL
+    // ------------------------------------------------------------------
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.start < node.start) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return balance(node);
+    }
+
+    private static <T> Node<T> balance(Node<T> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static final class Node<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+        private long maxEnd;
+        private int height = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
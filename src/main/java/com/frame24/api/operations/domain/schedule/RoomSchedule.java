@@ -0,0 +1,61 @@
+package com.frame24.api.operations.domain.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grade de sessões de um conjunto de salas, com uma árvore de intervalos por sala.
+ *
+ * <p>
+ * Cada sessão ocupa a sala de {@code start} até {@code end + cleaningBuffer} (limpeza
+ * entre sessões). Duas sessões da mesma sala conflitam quando essas ocupações se
+ * sobrepõem, inclusive nas extremidades, como em
+ * {@code ShowtimeScheduleRepository.findConflictingShowtimes}.
+ * </p>
+ */
+public final class RoomSchedule {
+
+    private final long bufferMillis;
+    private final Map<Long, IntervalTree<Slot>> rooms = new HashMap<>();
+
+    public RoomSchedule(Duration cleaningBuffer) {
+        this.bufferMillis = cleaningBuffer.toMillis();
+    }
+
+    /**
+     * Registra a sessão na grade da sala, sem verificar conflitos.
+     */
+    public void add(long roomId, Instant start, Instant end, Slot slot) {
+        rooms.computeIfAbsent(roomId, id -> new IntervalTree<>())
+                .insert(start.toEpochMilli(), end.toEpochMilli() + bufferMillis, slot);
+    }
+
+    /**
+     * Sessões da sala que conflitam com {@code [start, end]}.
+     */
+    public List<Slot> conflicts(long roomId, Instant start, Instant end) {
+        IntervalTree<Slot> tree = rooms.get(roomId);
+        if (tree == null) {
+            return List.of();
+        }
+        return tree.overlapping(start.toEpochMilli(), end.toEpochMilli() + bufferMillis);
+    }
+
+    /**
+     * Sessão na grade: já persistida ({@code showtimeId}) ou aceita no lote atual
+     * ({@code batchIndex}).
+     */
+    public record Slot(Long showtimeId, Integer batchIndex) {
+
+        public static Slot existing(long showtimeId) {
+            return new Slot(showtimeId, null);
+        }
+
+        public static Slot batch(int batchIndex) {
+            return new Slot(null, batchIndex);
+        }
+    }
+}
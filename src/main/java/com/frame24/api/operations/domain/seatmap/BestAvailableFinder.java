@@ -0,0 +1,312 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.inventory.SeatState;
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escolha dos melhores assentos livres para um grupo.
+ *
+ * <p>
+ * A geometria da sala é pré-calculada por fileira: posição horizontal de cada assento,
+ * bitset de acessíveis e bitset de adjacência (bit {@code i} indica que os assentos
+ * {@code i} e {@code i+1} são vizinhos, ou seja, sem corredor entre eles). Por consulta,
+ * monta-se o bitset de disponíveis de cada fileira e os inícios de blocos contíguos de
+ * tamanho {@code k} saem de {@code k} ANDs deslocados, sem busca combinatória:
+ * </p>
+ *
+ * <pre>
+ * inícios = AND(livres &gt;&gt; j, j &lt; k) &amp; AND(adjacentes &gt;&gt; j, j &lt; k-1)
+ * </pre>
+ *
+ * <p>
+ * Cada bloco candidato recebe uma pontuação (menor é melhor) por distância ao centro da
+ * sala e distância à fileira preferida ({@value #PREFERRED_ROW} da profundidade, medida pela
+ * posição vertical média da fileira entre a primeira e a última da sala); assentos
+ * acessíveis só são usados por quem não precisa deles quando não há outra opção. Se
+ * nenhuma fileira comporta o grupo inteiro, o grupo é dividido: o maior bloco possível é
+ * escolhido e os demais ficam o mais próximo dele. Cadeirantes exigem assentos acessíveis
+ * no primeiro bloco, junto com ao menos um acompanhante.
+ * </p>
+ */
+public final class BestAvailableFinder {
+
+    static final double PREFERRED_ROW = 0.6;
+
+    private static final double CENTER_WEIGHT = 1.0;
+    private static final double ROW_WEIGHT = 0.8;
+    // Maior que a soma das demais parcelas: acessíveis só são usados sem necessidade se não há alternativa
+    private static final double ACCESSIBLE_WEIGHT = 2.0;
+    private static final int DEFAULT_SPACING = 50;
+
+    private final List<LayoutSeat> seats;
+    private final int[][] rows;
+    private final long[][] adjacency;
+    private final long[][] accessible;
+    private final double[] x;
+    private final double[] depth;
+    private final double centerX;
+    private final double halfWidth;
+
+    BestAvailableFinder(List<LayoutSeat> seats) {
+        this.seats = seats;
+        this.x = new double[seats.size()];
+
+        double minX = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        for (int i = 0; i < seats.size(); i++) {
+            LayoutSeat seat = seats.get(i);
+            x[i] = seat.x() != null ? seat.x() : (double) seat.columnNumber() * DEFAULT_SPACING;
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+        }
+        this.centerX = seats.isEmpty() ? 0 : (minX + maxX) / 2;
+        this.halfWidth = seats.isEmpty() ? 1 : Math.max(1, (maxX - minX) / 2);
+
+        // O layout já vem ordenado por fileira e coluna
+        List<int[]> grouped = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= seats.size(); i++) {
+            if (i == seats.size() || !seats.get(i).rowCode().equals(seats.get(start).rowCode())) {
+                int[] row = new int[i - start];
+                for (int p = 0; p < row.length; p++) {
+                    row[p] = start + p;
+                }
+                grouped.add(row);
+                start = i;
+            }
+        }
+        this.rows = grouped.toArray(new int[0][]);
+        this.adjacency = new long[rows.length][];
+        this.accessible = new long[rows.length][];
+        this.depth = depths(seats, rows);
+
+        for (int r = 0; r < rows.length; r++) {
+            int[] row = rows[r];
+            adjacency[r] = new long[words(row.length)];
+            accessible[r] = new long[words(row.length)];
+            for (int p = 0; p < row.length; p++) {
+                LayoutSeat seat = seats.get(row[p]);
+                if (seat.accessible()) {
+                    set(accessible[r], p);
+                }
+                if (p + 1 < row.length && seats.get(row[p + 1]).columnNumber() == seat.columnNumber() + 1) {
+                    set(adjacency[r], p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Escolhe os assentos para o grupo no estado atual do inventário.
+     *
+     * @return Ordinais no inventário, ou null se não há assentos suficientes
+     */
+    public int[] find(ShowtimeInventory inventory, PartyRequest request) {
+        int size = request.size();
+        int wheelchairSeats = request.wheelchairSeats();
+        int[] ordinals = new int[seats.size()];
+        long[][] available = available(inventory, request.seatType(), ordinals);
+
+        Block contiguous = bestBlock(available, size, wheelchairSeats, wheelchairSeats, null);
+        if (contiguous != null) {
+            return ordinalsOf(List.of(contiguous), ordinals);
+        }
+
+        // Grupo dividido: maior bloco primeiro, os demais próximos a ele
+        int minFirst = wheelchairSeats > 0 ? Math.min(size, wheelchairSeats + 1) : 1;
+        List<Block> chosen = new ArrayList<>();
+        int remaining = size;
+        int blockSize = size - 1;
+        while (remaining > 0) {
+            blockSize = Math.min(blockSize, remaining);
+            if (chosen.isEmpty() && blockSize < minFirst) {
+                return null;
+            }
+            int required = chosen.isEmpty() ? wheelchairSeats : 0;
+            Block block = bestBlock(available, blockSize, required, wheelchairSeats,
+                    chosen.isEmpty() ? null : chosen.getFirst());
+            if (block == null) {
+                if (--blockSize == 0) {
+                    return null;
+                }
+                continue;
+            }
+            for (int p = block.start; p < block.start + block.size; p++) {
+                clear(available[block.row], p);
+            }
+            chosen.add(block);
+            remaining -= block.size;
+        }
+        return ordinalsOf(chosen, ordinals);
+    }
+
+    private long[][] available(ShowtimeInventory inventory, String seatType, int[] ordinals) {
+        long[][] available = new long[rows.length][];
+        for (int r = 0; r < rows.length; r++) {
+            int[] row = rows[r];
+            available[r] = new long[words(row.length)];
+            for (int p = 0; p < row.length; p++) {
+                LayoutSeat seat = seats.get(row[p]);
+                if (!seat.active() || (seatType != null && !seatType.equalsIgnoreCase(seat.seatType()))) {
+                    continue;
+                }
+                int ordinal = inventory.ordinalOf(seat.seatId());
+                if (ordinal >= 0 && inventory.stateAt(ordinal) == SeatState.AVAILABLE) {
+                    ordinals[row[p]] = ordinal;
+                    set(available[r], p);
+                }
+            }
+        }
+        return available;
+    }
+
+    private Block bestBlock(long[][] available, int size, int requiredAccessible, int wheelchairSeats,
+                            Block anchor) {
+        Block best = null;
+        for (int r = 0; r < rows.length; r++) {
+            if (rows[r].length < size) {
+                continue;
+            }
+            long[] starts = runStarts(available[r], adjacency[r], size);
+            for (int w = 0; w < starts.length; w++) {
+                long word = starts[w];
+                while (word != 0) {
+                    int start = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+
+                    int accessibleCount = count(accessible[r], start, size);
+                    if (accessibleCount < requiredAccessible) {
+                        continue;
+                    }
+                    double score = score(r, start, size, accessibleCount, wheelchairSeats, anchor);
+                    if (best == null || score < best.score) {
+                        best = new Block(r, start, size, score);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private double score(int row, int start, int size, int accessibleCount, int wheelchairSeats, Block anchor) {
+        double blockX = blockCenter(row, start, size);
+        double centrality = Math.abs(blockX - centerX) / halfWidth;
+        double base = CENTER_WEIGHT * centrality
+                + ROW_WEIGHT * Math.abs(depth[row] - PREFERRED_ROW)
+                + ACCESSIBLE_WEIGHT * Math.max(0, accessibleCount - wheelchairSeats);
+        if (anchor == null) {
+            return base;
+        }
+        // Blocos seguintes: proximidade ao primeiro domina; a pontuação base só desempata
+        double anchorX = blockCenter(anchor.row, anchor.start, anchor.size);
+        return Math.abs(row - anchor.row) + Math.abs(blockX - anchorX) / halfWidth + 0.01 * base;
+    }
+
+    /**
+     * Profundidade de cada fileira (0 = primeira, 1 = última), pela posição vertical média
+     * dos assentos: fileiras com espaçamento irregular (corredores transversais, degraus)
+     * ficam na proporção real da sala. Sem {@code y}, usa a ordem da fileira.
+     */
+    private static double[] depths(List<LayoutSeat> seats, int[][] rows) {
+        double[] rowY = new double[rows.length];
+        double minY = Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (int r = 0; r < rows.length; r++) {
+            double sum = 0;
+            for (int i : rows[r]) {
+                Integer y = seats.get(i).y();
+                sum += y != null ? y : (double) r * DEFAULT_SPACING;
+            }
+            rowY[r] = sum / rows[r].length;
+            minY = Math.min(minY, rowY[r]);
+            maxY = Math.max(maxY, rowY[r]);
+        }
+        double[] depth = new double[rows.length];
+        for (int r = 0; r < rows.length; r++) {
+            depth[r] = maxY > minY ? (rowY[r] - minY) / (maxY - minY) : PREFERRED_ROW;
+        }
+        return depth;
+    }
+
+    private double blockCenter(int row, int start, int size) {
+        return (x[rows[row][start]] + x[rows[row][start + size - 1]]) / 2;
+    }
+
+    private int[] ordinalsOf(List<Block> blocks, int[] ordinals) {
+        int total = blocks.stream().mapToInt(block -> block.size).sum();
+        int[] result = new int[total];
+        int i = 0;
+        for (Block block : blocks) {
+            for (int p = block.start; p < block.start + block.size; p++) {
+                result[i++] = ordinals[rows[block.row][p]];
+            }
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------------
+    // Bitsets por fileira (bit p = posição p na fileira)
+    // ------------------------------------------------------------------
+
+    /**
+     * Bit {@code p} ligado se as posições {@code p..p+size-1} estão livres e são vizinhas.
+     */
+    static long[] runStarts(long[] available, long[] adjacency, int size) {
+        long[] starts = available.clone();
+        for (int j = 1; j < size; j++) {
+            andShifted(starts, available, j);
+            andShifted(starts, adjacency, j - 1);
+        }
+        return starts;
+    }
+
+    /**
+     * {@code target[p] &= source[p + shift]} para todos os bits.
+     */
+    private static void andShifted(long[] target, long[] source, int shift) {
+        if (shift == 0) {
+            for (int w = 0; w < target.length; w++) {
+                target[w] &= source[w];
+            }
+            return;
+        }
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = 0; w < target.length; w++) {
+            int from = w + wordShift;
+            long low = from < source.length ? source[from] : 0L;
+            long high = from + 1 < source.length ? source[from + 1] : 0L;
+            long shifted = bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift));
+            target[w] &= shifted;
+        }
+    }
+
+    private static int count(long[] bits, int start, int size) {
+        int count = 0;
+        for (int p = start; p < start + size; p++) {
+            if ((bits[p >>> 6] & (1L << p)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int words(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+
+    private static void set(long[] bits, int p) {
+        bits[p >>> 6] |= 1L << p;
+    }
+
+    private static void clear(long[] bits, int p) {
+        bits[p >>> 6] &= ~(1L << p);
+    }
+
+    private record Block(int row, int start, int size, double score) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.frame24.api.operations.domain.seatmap;
+
+/**
+ * Pedido de assentos para um grupo.
+ *
+ * @param size            Quantidade de assentos
+ * @param wheelchairSeats Quantos devem ser acessíveis (cadeirantes); os demais ficam ao lado
+ * @param seatType        Nome do tipo de assento exigido, ou null para qualquer tipo
+ */
+public record PartyRequest(int size, int wheelchairSeats, String seatType) {
+
+    public PartyRequest {
+        if (size <= 0 || wheelchairSeats < 0 || wheelchairSeats > size) {
+            throw new IllegalArgumentException("Pedido de assentos inválido");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Layout físico imutável de uma sala: assentos na ordem de exibição (fileira, coluna).
+ *
+ * <p>
+ * O layout é o mesmo para todas as sessões da sala, então é montado uma vez e
+ * reaproveitado; por sessão muda apenas o vetor de status, obtido em O(n) a partir dos
+ * status persistidos da sessão ({@link #statuses}). A {@link #version()} é um hash do conteúdo,
+ * igual em todas as instâncias, e serve de ETag para clientes que já têm o layout.
+ * </p>
+ */
+public final class RoomLayout {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long roomId;
+    private final List<LayoutSeat> seats;
+    private final String version;
+    private final BestAvailableFinder finder;
+
+    public RoomLayout(long roomId, List<LayoutSeat> seats) {
+        this.roomId = roomId;
+        this.seats = List.copyOf(seats);
+        this.version = computeVersion(this.seats);
+        this.finder = new BestAvailableFinder(this.seats);
+    }
+
+    public long roomId() {
+        return roomId;
+    }
+
+    public List<LayoutSeat> seats() {
+        return seats;
+    }
+
+    public int size() {
+        return seats.size();
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Busca de melhores assentos sobre a geometria pré-calculada desta sala.
+     */
+    public BestAvailableFinder finder() {
+        return finder;
+    }
+
+    /**
+     * Status de cada assento do layout (mesma ordem de {@link #seats()}).
+     *
+     * <p>
+     * Assentos inativos aparecem como {@link SeatMapStatus#MAINTENANCE}; assentos sem status
+     * persistido na sessão como {@link SeatMapStatus#AVAILABLE}.
+     * </p>
+     *
+     * @param persisted Status por ID de assento, lidos de {@code session_seat_status}
+     */
+    public SeatMapStatus[] statuses(Map<Long, SeatMapStatus> persisted) {
+        SeatMapStatus[] statuses = new SeatMapStatus[seats.size()];
+        for (int i = 0; i < statuses.length; i++) {
+            LayoutSeat seat = seats.get(i);
+            statuses[i] = !seat.active()
+                    ? SeatMapStatus.MAINTENANCE
+                    : persisted.getOrDefault(seat.seatId(), SeatMapStatus.AVAILABLE);
+        }
+        return statuses;
+    }
+
+    private static String computeVersion(List<LayoutSeat> seats) {
+        long hash = FNV_OFFSET;
+        for (LayoutSeat seat : seats) {
+            hash = mix(hash, seat.seatId());
+            hash = mix(hash, seat.seatCode());
+            hash = mix(hash, seat.rowCode());
+            hash = mix(hash, seat.columnNumber());
+            hash = mix(hash, seat.seatType());
+            hash = mix(hash, Objects.hashCode(seat.x()));
+            hash = mix(hash, Objects.hashCode(seat.y()));
+            hash = mix(hash, (seat.accessible() ? 1 : 0) | (seat.active() ? 2 : 0));
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1L);
+        }
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    /**
+     * Assento do layout; {@code seatType} já resolvido para o nome do tipo.
+     */
+    public record LayoutSeat(
+            long seatId,
+            String seatCode,
+            String rowCode,
+            int columnNumber,
+            String seatType,
+            Integer x,
+            Integer y,
+            boolean accessible,
+            boolean active) {
+    }
+}
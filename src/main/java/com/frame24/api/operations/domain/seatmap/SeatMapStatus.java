@@ -0,0 +1,43 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.inventory.SeatState;
+
+/**
+ * Status de um assento no mapa da sessão, com o código de uma letra usado no formato compacto.
+ */
+public enum SeatMapStatus {
+
+    AVAILABLE('A'),
+    RESERVED('R'),
+    SOLD('S'),
+    BLOCKED('B'),
+    MAINTENANCE('M');
+
+    private final char code;
+
+    SeatMapStatus(char code) {
+        this.code = code;
+    }
+
+    public char code() {
+        return code;
+    }
+
+    public static SeatMapStatus of(SeatState state) {
+        return switch (state) {
+            case AVAILABLE -> AVAILABLE;
+            case HELD -> RESERVED;
+            case SOLD -> SOLD;
+            case BLOCKED -> BLOCKED;
+        };
+    }
+
+    public static SeatMapStatus fromCode(char code) {
+        for (SeatMapStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Código de status inválido: " + code);
+    }
+}
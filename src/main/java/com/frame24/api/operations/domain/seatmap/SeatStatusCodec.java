@@ -0,0 +1,76 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Codificação run-length do vetor de status do mapa de assentos.
+ *
+ * <p>
+ * Cada sequência de status iguais vira {@code <quantidade><código>}, com a quantidade
+ * omitida quando é 1. Ex.: {@code A A A S R A} → {@code "3ASRA"}. Uma sala vazia de 300
+ * lugares ocupa 4 caracteres; mesmo cheia e fragmentada fica bem abaixo do mapa completo.
+ * </p>
+ */
+public final class SeatStatusCodec {
+
+    public static final String ENCODING = "RLE";
+
+    private static final int DIGEST_BYTES = 16;
+
+    private SeatStatusCodec() {
+    }
+
+    public static String encode(SeatMapStatus[] statuses) {
+        StringBuilder encoded = new StringBuilder();
+        int i = 0;
+        while (i < statuses.length) {
+            SeatMapStatus status = statuses[i];
+            int run = 1;
+            while (i + run < statuses.length && statuses[i + run] == status) {
+                run++;
+            }
+            if (run > 1) {
+                encoded.append(run);
+            }
+            encoded.append(status.code());
+            i += run;
+        }
+        return encoded.toString();
+    }
+
+    public static List<SeatMapStatus> decode(String encoded) {
+        List<SeatMapStatus> statuses = new ArrayList<>();
+        int run = 0;
+        for (int i = 0; i < encoded.length(); i++) {
+            char c = encoded.charAt(i);
+            if (c >= '0' && c <= '9') {
+                run = run * 10 + (c - '0');
+                continue;
+            }
+            SeatMapStatus status = SeatMapStatus.fromCode(c);
+            for (int n = Math.max(run, 1); n > 0; n--) {
+                statuses.add(status);
+            }
+            run = 0;
+        }
+        return statuses;
+    }
+
+    /**
+     * Resumo dos status codificados (início do SHA-256), usado como ETag: o mesmo conteúdo
+     * tem o mesmo resumo em qualquer instância, independente da versão do inventário.
+     */
+    public static String digest(String encoded) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(encoded.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash, 0, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
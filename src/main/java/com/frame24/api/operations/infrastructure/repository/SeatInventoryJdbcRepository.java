@@ -0,0 +1,293 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import com.frame24.api.common.exception.ConflictException;
+import com.frame24.api.common.exception.ValidationException;
+import com.frame24.api.common.id.SnowflakeIdGenerator;
+import com.frame24.api.operations.domain.inventory.SeatState;
+import com.frame24.api.operations.domain.inventory.SeatStatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Acesso JDBC a {@code operations.session_seat_status} para o inventário de assentos em memória.
+ *
+ * <p>
+ * Usa a chave única {@code (showtime_id, seat_id)} para upserts; linhas com {@code sale_id}
+ * nunca são sobrescritas nem removidas por reservas. Reservas e vendas são upserts
+ * condicionais ao estado da linha, então o banco arbitra entre instâncias que tenham o
+ * inventário da mesma sessão em memória.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatInventoryJdbcRepository {
+
+    private static final String SELECT_SHOWTIME = """
+            SELECT st.room_id, st.end_time, cc.company_id
+            FROM operations.showtime_schedule st
+            JOIN operations.cinema_complexes cc ON cc.id = st.cinema_complex_id
+            WHERE st.id = ?
+            """;
+
+    private static final String SELECT_SEATS = """
+            SELECT id, active FROM operations.seats
+            WHERE room_id = ?
+            ORDER BY LENGTH(row_code), row_code, column_number
+            """;
+
+    private static final String SELECT_STATUSES = """
+            SELECT seat_id, CAST(status AS VARCHAR) AS status, sale_id, reservation_uuid, expiration_date
+            FROM operations.session_seat_status
+            WHERE showtime_id = ?
+            """;
+
+    private static final String SELECT_SHOWTIMES_WITH_HOLDS = """
+            SELECT DISTINCT sss.showtime_id, cc.company_id
+            FROM operations.session_seat_status sss
+            JOIN operations.showtime_schedule st ON st.id = sss.showtime_id
+            JOIN operations.cinema_complexes cc ON cc.id = st.cinema_complex_id
+            WHERE sss.reservation_uuid IS NOT NULL
+              AND sss.sale_id IS NULL
+              AND sss.expiration_date > ?
+            """;
+
+    private static final String CLAIM_HOLD = """
+            INSERT INTO operations.session_seat_status
+                (id, showtime_id, seat_id, status, reservation_uuid, reservation_date, expiration_date,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, 'RESERVED', ?, ?, ?, ?, ?)
+            ON CONFLICT (showtime_id, seat_id) DO UPDATE SET
+                status = 'RESERVED',
+                reservation_uuid = EXCLUDED.reservation_uuid,
+                reservation_date = EXCLUDED.reservation_date,
+                expiration_date = EXCLUDED.expiration_date,
+                updated_at = EXCLUDED.updated_at
+            WHERE operations.session_seat_status.sale_id IS NULL
+              AND operations.session_seat_status.status <> 'BLOCKED'
+              AND (operations.session_seat_status.reservation_uuid IS NULL
+                   OR operations.session_seat_status.expiration_date < EXCLUDED.reservation_date)
+            """;
+
+    private static final String UPSERT_BLOCKED = """
+            INSERT INTO operations.session_seat_status
+                (id, showtime_id, seat_id, status, created_at, updated_at)
+            VALUES (?, ?, ?, 'BLOCKED', ?, ?)
+            ON CONFLICT (showtime_id, seat_id) DO UPDATE SET
+                status = 'BLOCKED',
+                reservation_uuid = NULL,
+                reservation_date = NULL,
+                expiration_date = NULL,
+                updated_at = EXCLUDED.updated_at
+            WHERE operations.session_seat_status.sale_id IS NULL
+            """;
+
+    private static final String DELETE_STATUS = """
+            DELETE FROM operations.session_seat_status
+            WHERE showtime_id = ? AND seat_id = ? AND sale_id IS NULL
+              AND reservation_uuid IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SELECT_SALE_STATUS = """
+            SELECT CAST(s.status AS VARCHAR) AS status
+            FROM sales.sales s
+            JOIN operations.showtime_schedule st ON st.cinema_complex_id = s.cinema_complex_id
+            WHERE s.id = ? AND s.company_id = ? AND st.id = ?
+            """;
+
+    private static final String UPSERT_SOLD = """
+            INSERT INTO operations.session_seat_status
+                (id, showtime_id, seat_id, status, sale_id, reservation_uuid, reservation_date,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, 'SOLD', ?, ?, ?, ?, ?)
+            ON CONFLICT (showtime_id, seat_id) DO UPDATE SET
+                status = 'SOLD',
+                sale_id = EXCLUDED.sale_id,
+                reservation_uuid = EXCLUDED.reservation_uuid,
+                expiration_date = NULL,
+                updated_at = EXCLUDED.updated_at
+            WHERE operations.session_seat_status.sale_id IS NULL
+              AND operations.session_seat_status.reservation_uuid = EXCLUDED.reservation_uuid
+            """;
+
+    private static final RowMapper<StatusRow> STATUS_ROW = (rs, i) -> new StatusRow(
+            rs.getLong("seat_id"),
+            rs.getString("status"),
+            rs.getObject("sale_id", Long.class),
+            rs.getString("reservation_uuid"),
+            toInstant(rs.getTimestamp("expiration_date")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+
+    /**
+     * Sessão, assentos da sala e status persistidos, lidos na mesma transação.
+     *
+     * @return Snapshot, ou null se a sessão não existe
+     */
+    @Transactional(readOnly = true)
+    public InventorySnapshot loadSnapshot(long showtimeId) {
+        List<InventorySnapshot> showtimes = jdbcTemplate.query(SELECT_SHOWTIME,
+                (rs, i) -> new InventorySnapshot(
+                        rs.getLong("room_id"),
+                        rs.getLong("company_id"),
+                        toInstant(rs.getTimestamp("end_time")),
+                        List.of(),
+                        List.of()),
+                showtimeId);
+        if (showtimes.isEmpty()) {
+            return null;
+        }
+        InventorySnapshot showtime = showtimes.getFirst();
+
+        List<SeatRow> seats = jdbcTemplate.query(SELECT_SEATS,
+                (rs, i) -> new SeatRow(rs.getLong("id"), !Boolean.FALSE.equals(rs.getObject("active", Boolean.class))),
+                showtime.roomId());
+
+        List<StatusRow> statuses = jdbcTemplate.query(SELECT_STATUSES, STATUS_ROW, showtimeId);
+
+        return new InventorySnapshot(showtime.roomId(), showtime.companyId(), showtime.endTime(), seats, statuses);
+    }
+
+    /**
+     * Status persistidos dos assentos da sessão (apenas assentos com linha na tabela).
+     */
+    @Transactional(readOnly = true)
+    public List<StatusRow> loadStatuses(long showtimeId) {
+        return jdbcTemplate.query(SELECT_STATUSES, STATUS_ROW, showtimeId);
+    }
+
+    /**
+     * Sessões com reservas ainda não vencidas, usadas para reconstruir as expirações
+     * pendentes após um reinício.
+     */
+    @Transactional(readOnly = true)
+    public List<ShowtimeRef> findShowtimesWithActiveHolds(Instant now) {
+        return jdbcTemplate.query(SELECT_SHOWTIMES_WITH_HOLDS,
+                (rs, i) -> new ShowtimeRef(rs.getLong("showtime_id"), rs.getLong("company_id")),
+                Timestamp.from(now));
+    }
+
+    /**
+     * Grava a reserva dos assentos de forma síncrona. Cada assento só é tomado se não tem
+     * venda nem bloqueio e não está reservado, ou se a reserva anterior já venceu: é o que
+     * impede duas instâncias de reservarem o mesmo assento.
+     *
+     * @throws ConflictException se algum assento já está tomado no banco (nada é gravado)
+     */
+    @Transactional
+    public void claimHold(long showtimeId, long[] seatIds, String reservationUuid, Instant expiresAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp expiration = Timestamp.from(expiresAt);
+        List<Object[]> claims = new ArrayList<>(seatIds.length);
+        for (long seatId : seatIds) {
+            claims.add(new Object[]{
+                    idGenerator.nextId(), showtimeId, seatId, reservationUuid, now, expiration, now, now});
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(CLAIM_HOLD, claims);
+        List<Long> taken = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                taken.add(seatIds[i]);
+            }
+        }
+        if (!taken.isEmpty()) {
+            throw new ConflictException(String.format(
+                    "Assentos %s já reservados ou vendidos para a sessão %d", taken, showtimeId));
+        }
+    }
+
+    /**
+     * Aplica um lote de mudanças (liberações e bloqueios) em uma transação. A liberação só
+     * remove a linha se ela ainda for da reserva liberada.
+     */
+    @Transactional
+    public void applyChanges(Collection<SeatStatusChange> changes) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> blocks = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        for (SeatStatusChange change : changes) {
+            switch (change.state()) {
+                case AVAILABLE -> deletes.add(new Object[]{
+                        change.showtimeId(), change.seatId(), change.reservationUuid()});
+                case BLOCKED -> blocks.add(new Object[]{
+                        idGenerator.nextId(), change.showtimeId(), change.seatId(), now, now});
+                case HELD, SOLD -> throw new IllegalArgumentException(
+                        "Reservas e vendas são gravadas por claimHold e markSold");
+            }
+        }
+
+        if (!blocks.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_BLOCKED, blocks);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_STATUS, deletes);
+        }
+    }
+
+    /**
+     * Grava a venda dos assentos de forma síncrona. A venda precisa ser da empresa, do
+     * complexo da sessão e estar pendente; cada assento precisa ainda estar reservado
+     * pela reserva confirmada.
+     *
+     * @throws ValidationException se a venda não existe para a sessão
+     * @throws ConflictException   se a venda não está pendente ou algum assento não está mais
+     *                             com a reserva (nada é gravado)
+     */
+    @Transactional
+    public void markSold(long companyId, long showtimeId, long[] seatIds, long saleId, String reservationUuid) {
+        List<String> sale = jdbcTemplate.queryForList(SELECT_SALE_STATUS, String.class, saleId, companyId, showtimeId);
+        if (sale.isEmpty()) {
+            throw new ValidationException("saleId", "Venda não encontrada para o complexo da sessão");
+        }
+        if (!"PENDING".equals(sale.getFirst())) {
+            throw new ConflictException("Venda " + saleId + " não está pendente");
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        for (long seatId : seatIds) {
+            int updated = jdbcTemplate.update(UPSERT_SOLD,
+                    idGenerator.nextId(), showtimeId, seatId, saleId, reservationUuid, now, now, now);
+            if (updated == 0) {
+                throw new ConflictException(String.format(
+                        "Assento %d já vendido para a sessão %d", seatId, showtimeId));
+            }
+        }
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    public record InventorySnapshot(
+            long roomId,
+            long companyId,
+            Instant endTime,
+            List<SeatRow> seats,
+            List<StatusRow> statuses) {
+    }
+
+    public record ShowtimeRef(long showtimeId, long companyId) {
+    }
+
+    public record SeatRow(long seatId, boolean active) {
+    }
+
+    public record StatusRow(
+            long seatId,
+            String status,
+            Long saleId,
+            String reservationUuid,
+            Instant expiresAt) {
+    }
+}
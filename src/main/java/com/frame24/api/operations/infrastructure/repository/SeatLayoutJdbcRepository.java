@@ -0,0 +1,99 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import com.frame24.api.operations.domain.layout.SeatLayoutPlan.PlannedSeat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Escrita em massa de {@code operations.seats} para geração e importação de layouts.
+ *
+ * <p>
+ * Os assentos são inseridos em um único lote JDBC, sem passar pelo contexto de
+ * persistência; a chave única {@code (room_id, seat_code)} descarta códigos criados em
+ * paralelo por outra requisição. Capacidade e dimensões da sala são recalculadas em um
+ * único UPDATE logo após o lote.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatLayoutJdbcRepository {
+
+    private static final String SELECT_SEAT_CODES = """
+            SELECT seat_code FROM operations.seats WHERE room_id = ?
+            """;
+
+    private static final String INSERT_SEAT = """
+            INSERT INTO operations.seats
+                (id, room_id, seat_type, seat_code, row_code, column_number, position_x, position_y,
+                 accessible, active, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (room_id, seat_code) DO NOTHING
+            """;
+
+    private static final String UPDATE_ROOM_TOTALS = """
+            UPDATE operations.rooms SET
+                capacity = (SELECT COUNT(*) FROM operations.seats WHERE room_id = ? AND active = true),
+                total_rows = GREATEST(COALESCE(total_rows, 0), ?),
+                total_columns = GREATEST(COALESCE(total_columns, 0), ?)
+            WHERE id = ?
+            RETURNING capacity, total_rows, total_columns
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Códigos de todos os assentos já cadastrados na sala.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findSeatCodes(long roomId) {
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_SEAT_CODES, String.class, roomId));
+    }
+
+    /**
+     * Insere os assentos em lote, com os ids informados na mesma ordem.
+     *
+     * @return para cada assento, se foi inserido (falso quando o código já existia)
+     */
+    @Transactional
+    public boolean[] insertSeats(long roomId, List<PlannedSeat> seats, long[] ids, Instant createdAt) {
+        Timestamp now = Timestamp.from(createdAt);
+        List<Object[]> args = new ArrayList<>(seats.size());
+        for (int i = 0; i < seats.size(); i++) {
+            PlannedSeat seat = seats.get(i);
+            args.add(new Object[]{
+                    ids[i], roomId, seat.seatTypeId(), seat.seatCode(), seat.rowCode(), seat.columnNumber(),
+                    seat.positionX(), seat.positionY(), seat.accessible(), seat.active(), now});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SEAT, args);
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return inserted;
+    }
+
+    /**
+     * Recalcula a capacidade (assentos ativos) e amplia as dimensões da sala se necessário.
+     */
+    @Transactional
+    public RoomTotals updateRoomTotals(long roomId, int totalRows, int totalColumns) {
+        return jdbcTemplate.queryForObject(UPDATE_ROOM_TOTALS,
+                (rs, rowNum) -> new RoomTotals(rs.getInt("capacity"), rs.getInt("total_rows"),
+                        rs.getInt("total_columns")),
+                roomId, totalRows, totalColumns, roomId);
+    }
+
+    public record RoomTotals(int capacity, int totalRows, int totalColumns) {
+    }
+}
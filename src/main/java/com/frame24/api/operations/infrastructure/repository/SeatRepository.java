@@ -20,9 +20,12 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     boolean existsByRoom_IdAndSeatCode(Long roomId, String seatCode);
 
-    @Query("SELECT s FROM Seat s WHERE s.room.id = :roomId ORDER BY s.rowCode, s.columnNumber")
+    @Query("SELECT s FROM Seat s WHERE s.room.id = :roomId ORDER BY LENGTH(s.rowCode), s.rowCode, s.columnNumber")
     List<Seat> findByRoomIdOrderByRowAndColumn(@Param("roomId") Long roomId);
 
+    @Query("SELECT s FROM Seat s LEFT JOIN FETCH s.seatType WHERE s.room.id = :roomId ORDER BY LENGTH(s.rowCode), s.rowCode, s.columnNumber")
+    List<Seat> findLayoutByRoomId(@Param("roomId") Long roomId);
+
     @Query("SELECT COUNT(s) FROM Seat s WHERE s.room.id = :roomId AND s.active = true")
     Integer countActiveSeatsByRoomId(@Param("roomId") Long roomId);
 }
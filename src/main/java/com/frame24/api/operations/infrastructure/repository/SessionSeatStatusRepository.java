@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,15 +21,7 @@ public interface SessionSeatStatusRepository extends JpaRepository<SessionSeatSt
 
     Optional<SessionSeatStatus> findBySaleId(Long saleId);
 
-    @Query("SELECT sss FROM SessionSeatStatus sss WHERE sss.showtime.id = :showtimeId " +
-            "AND sss.expirationDate < :now AND sss.reservationUuid IS NOT NULL")
-    List<SessionSeatStatus> findExpiredReservations(@Param("showtimeId") Long showtimeId, @Param("now") Instant now);
-
     @Modifying
     @Query("DELETE FROM SessionSeatStatus sss WHERE sss.reservationUuid = :reservationUuid")
     void deleteByReservationUuid(@Param("reservationUuid") String reservationUuid);
-
-    @Modifying
-    @Query("DELETE FROM SessionSeatStatus sss WHERE sss.expirationDate < :now AND sss.reservationUuid IS NOT NULL AND sss.saleId IS NULL")
-    void deleteExpiredReservations(@Param("now") Instant now);
 }
@@ -0,0 +1,135 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Escrita do modelo de leitura {@code operations.showtime_availability}.
+ *
+ * <p>
+ * Dados da sessão (sala, filme, horários, preço) são copiados por upsert a partir das
+ * tabelas de origem; contadores de assentos são recalculados separadamente a partir de
+ * {@code operations.session_seat_status}, então o upsert de dados da sessão nunca os
+ * sobrescreve.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShowtimeAvailabilityJdbcRepository {
+
+    private static final String UPSERT_FROM_SOURCE = """
+            INSERT INTO operations.showtime_availability
+                (showtime_id, company_id, cinema_complex_id, room_id, room_name, movie_id, movie_title,
+                 start_time, end_time, total_seats, seats_sold, seats_held, seats_blocked,
+                 base_ticket_price, created_at, updated_at)
+            SELECT ss.id, cc.company_id, ss.cinema_complex_id, ss.room_id, r.name, ss.movie_id, m.original_title,
+                   ss.start_time, ss.end_time, r.capacity, COALESCE(ss.sold_seats, 0), 0,
+                   COALESCE(ss.blocked_seats, 0), ss.base_ticket_price, ss.created_at, ?
+            FROM operations.showtime_schedule ss
+            JOIN operations.cinema_complexes cc ON cc.id = ss.cinema_complex_id
+            JOIN operations.rooms r ON r.id = ss.room_id
+            LEFT JOIN catalog.movies m ON m.id = ss.movie_id
+            WHERE %s
+            ON CONFLICT (showtime_id) DO UPDATE SET
+                cinema_complex_id = EXCLUDED.cinema_complex_id,
+                room_id = EXCLUDED.room_id,
+                room_name = EXCLUDED.room_name,
+                movie_id = EXCLUDED.movie_id,
+                movie_title = EXCLUDED.movie_title,
+                start_time = EXCLUDED.start_time,
+                end_time = EXCLUDED.end_time,
+                total_seats = EXCLUDED.total_seats,
+                base_ticket_price = EXCLUDED.base_ticket_price,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_SHOWTIME = UPSERT_FROM_SOURCE.formatted("ss.id = ?");
+
+    private static final String UPSERT_ROOM = UPSERT_FROM_SOURCE.formatted("ss.room_id = ? AND ss.end_time > ?");
+
+    private static final String UPDATE_MOVIE_TITLES = """
+            UPDATE operations.showtime_availability sa
+            SET movie_title = m.original_title, updated_at = ?
+            FROM catalog.movies m
+            WHERE m.id = sa.movie_id
+              AND sa.movie_id = ANY(?)
+              AND sa.end_time > ?
+              AND sa.movie_title IS DISTINCT FROM m.original_title
+            """;
+
+    private static final String UPDATE_COUNTS = """
+            UPDATE operations.showtime_availability sa
+            SET (seats_sold, seats_held, seats_blocked) = (
+                    SELECT count(*) FILTER (WHERE sss.sale_id IS NOT NULL OR sss.status = 'SOLD'),
+                           count(*) FILTER (WHERE s.active IS NOT FALSE
+                                              AND sss.sale_id IS NULL
+                                              AND sss.status NOT IN ('SOLD', 'BLOCKED')
+                                              AND sss.reservation_uuid IS NOT NULL
+                                              AND sss.expiration_date > ?),
+                           count(*) FILTER (WHERE sss.sale_id IS NULL
+                                              AND sss.status IS DISTINCT FROM 'SOLD'
+                                              AND (s.active IS FALSE OR sss.status = 'BLOCKED'))
+                    FROM operations.seats s
+                    LEFT JOIN operations.session_seat_status sss
+                           ON sss.seat_id = s.id AND sss.showtime_id = sa.showtime_id
+                    WHERE s.room_id = sa.room_id),
+                updated_at = ?
+            WHERE sa.showtime_id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cria ou atualiza as linhas das sessões a partir dos dados atuais da sessão.
+     */
+    @Transactional
+    public void upsertShowtimes(Collection<Long> showtimeIds) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT_SHOWTIME, showtimeIds.stream()
+                .map(id -> new Object[]{now, id})
+                .toList());
+    }
+
+    /**
+     * Atualiza nome e capacidade da sala nas sessões ainda não encerradas.
+     */
+    @Transactional
+    public void upsertRoom(long roomId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(UPSERT_ROOM, now, roomId, now);
+    }
+
+    /**
+     * Atualiza o título dos filmes nas sessões ainda não encerradas.
+     */
+    @Transactional
+    public void updateMovieTitles(Collection<Long> movieIds) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(UPDATE_MOVIE_TITLES, ps -> {
+            ps.setTimestamp(1, now);
+            ps.setArray(2, ps.getConnection().createArrayOf("BIGINT", movieIds.toArray()));
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    /**
+     * Recalcula os contadores de assentos de um lote de sessões a partir dos status
+     * persistidos, em um único comando. Assentos inativos contam como bloqueados e reservas
+     * vencidas, como livres.
+     */
+    @Transactional
+    public void updateCounts(Collection<Long> showtimeIds) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(UPDATE_COUNTS, ps -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, ps.getConnection().createArrayOf("BIGINT", showtimeIds.toArray()));
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import com.frame24.api.operations.domain.ShowtimeAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ShowtimeAvailabilityRepository extends JpaRepository<ShowtimeAvailability, Long> {
+
+    Optional<ShowtimeAvailability> findByShowtimeIdAndCompanyId(Long showtimeId, Long companyId);
+
+    @Query("SELECT a FROM ShowtimeAvailability a WHERE a.companyId = :companyId " +
+            "AND a.cinemaComplexId = :cinemaComplexId " +
+            "AND a.startTime BETWEEN :startDate AND :endDate " +
+            "ORDER BY a.startTime")
+    List<ShowtimeAvailability> findByComplexAndDateRange(
+            @Param("companyId") Long companyId,
+            @Param("cinemaComplexId") Long cinemaComplexId,
+            @Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate);
+}
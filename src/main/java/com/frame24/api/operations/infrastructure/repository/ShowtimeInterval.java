@@ -0,0 +1,9 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import java.time.Instant;
+
+/**
+ * Projeção mínima de uma sessão para validação de grade (sem carregar a entidade).
+ */
+public record ShowtimeInterval(Long showtimeId, Long roomId, Instant startTime, Instant endTime) {
+}
@@ -0,0 +1,32 @@
+package com.frame24.api.operations.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Projeção da listagem de sessões: colunas da sessão e das associações exibidas,
+ * lidas em uma única consulta com JOINs (sem carregar entidades nem proxies lazy).
+ */
+public record ShowtimeListView(
+        Long id,
+        Long cinemaComplexId,
+        String cinemaComplexName,
+        Long roomId,
+        String roomName,
+        Long movieId,
+        Instant startTime,
+        Instant endTime,
+        Long audioTypeId,
+        String audioTypeName,
+        Long projectionTypeId,
+        String projectionTypeName,
+        Long sessionLanguageId,
+        String sessionLanguageName,
+        String sessionLanguageAbbreviation,
+        Long statusId,
+        String statusName,
+        Boolean statusAllowsModification,
+        Integer availableSeats,
+        BigDecimal baseTicketPrice,
+        Instant createdAt) {
+}
@@ -1,30 +1,62 @@
 package com.frame24.api.operations.infrastructure.repository;
 
 import com.frame24.api.operations.domain.ShowtimeSchedule;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ShowtimeScheduleRepository extends JpaRepository<ShowtimeSchedule, Long> {
 
-    List<ShowtimeSchedule> findByCinemaComplex_Id(Long cinemaComplexId);
+    String LISTING_SELECT = "SELECT new com.frame24.api.operations.infrastructure.repository.ShowtimeListView(" +
+            "ss.id, cc.id, cc.name, r.id, r.name, ss.movieId, ss.startTime, ss.endTime, " +
+            "a.id, a.name, p.id, p.name, l.id, l.name, l.abbreviation, st.id, st.name, st.allowsModification, " +
+            "ss.availableSeats, ss.baseTicketPrice, ss.createdAt) " +
+            "FROM ShowtimeSchedule ss JOIN ss.cinemaComplex cc JOIN ss.room r " +
+            "LEFT JOIN ss.audioType a LEFT JOIN ss.projectionType p " +
+            "LEFT JOIN ss.sessionLanguage l LEFT JOIN ss.status st " +
+            "WHERE cc.id = :cinemaComplexId AND cc.companyId = :companyId " +
+            "AND ss.startTime BETWEEN :startDate AND :endDate ";
 
-    List<ShowtimeSchedule> findByRoom_Id(Long roomId);
+    String LISTING_ORDER = "ORDER BY ss.startTime, ss.id";
 
-    List<ShowtimeSchedule> findByMovieId(Long movieId);
+    /**
+     * Primeira página da listagem de sessões do complexo, em ordem de início.
+     */
+    @Query(LISTING_SELECT + LISTING_ORDER)
+    List<ShowtimeListView> findListing(
+            @Param("cinemaComplexId") Long cinemaComplexId,
+            @Param("companyId") Long companyId,
+            @Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate,
+            Limit limit);
 
-    @Query("SELECT ss FROM ShowtimeSchedule ss WHERE ss.cinemaComplex.id = :cinemaComplexId " +
-            "AND ss.startTime BETWEEN :startDate AND :endDate " +
-            "ORDER BY ss.startTime")
-    List<ShowtimeSchedule> findByCinemaComplexAndDateRange(
+    /**
+     * Páginas seguintes (keyset): sessões posteriores a {@code (afterStart, afterId)}.
+     */
+    @Query(LISTING_SELECT +
+            "AND (ss.startTime > :afterStart OR (ss.startTime = :afterStart AND ss.id > :afterId)) " +
+            LISTING_ORDER)
+    List<ShowtimeListView> findListingAfter(
             @Param("cinemaComplexId") Long cinemaComplexId,
+            @Param("companyId") Long companyId,
             @Param("startDate") Instant startDate,
-            @Param("endDate") Instant endDate);
+            @Param("endDate") Instant endDate,
+            @Param("afterStart") Instant afterStart,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    List<ShowtimeSchedule> findByCinemaComplex_Id(Long cinemaComplexId);
+
+    List<ShowtimeSchedule> findByRoom_Id(Long roomId);
+
+    List<ShowtimeSchedule> findByMovieId(Long movieId);
 
     @Query("SELECT ss FROM ShowtimeSchedule ss WHERE ss.movieId = :movieId " +
             "AND ss.startTime BETWEEN :startDate AND :endDate " +
@@ -43,6 +75,28 @@ public interface ShowtimeScheduleRepository extends JpaRepository<ShowtimeSchedu
             @Param("startTime") Instant startTime,
             @Param("endTime") Instant endTime);
 
+    /**
+     * Sessões do complexo cuja duração intersecta {@code [from, to]}, para montar a grade
+     * das salas em memória.
+     */
+    @Query("SELECT new com.frame24.api.operations.infrastructure.repository.ShowtimeInterval(" +
+            "ss.id, ss.room.id, ss.startTime, ss.endTime) " +
+            "FROM ShowtimeSchedule ss WHERE ss.cinemaComplex.id = :cinemaComplexId " +
+            "AND ss.startTime <= :to AND ss.endTime >= :from")
+    List<ShowtimeInterval> findIntervalsByCinemaComplex(
+            @Param("cinemaComplexId") Long cinemaComplexId,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    /**
+     * IDs, entre os informados, de filmes cadastrados pela empresa (uma consulta para o lote).
+     */
+    @Query(value = "SELECT m.id FROM catalog.movies m WHERE m.company_id = :companyId AND m.id IN (:movieIds)",
+            nativeQuery = true)
+    List<Long> findExistingMovieIds(
+            @Param("companyId") Long companyId,
+            @Param("movieIds") Collection<Long> movieIds);
+
     @Query("SELECT ss FROM ShowtimeSchedule ss WHERE ss.cinemaComplex.companyId = :companyId " +
             "AND ss.startTime >= :startDate " +
             "ORDER BY ss.startTime")
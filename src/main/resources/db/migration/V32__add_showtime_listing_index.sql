@@ -0,0 +1,6 @@
+-- V32: Índice para a listagem paginada de sessões por complexo
+-- Description: A listagem percorre as sessões do complexo em ordem de (start_time, id)
+-- com paginação por keyset; o índice composto atende filtro, ordenação e cursor
+-- sem ordenação em memória.
+CREATE INDEX IF NOT EXISTS idx_showtime_schedule_complex_start_id
+    ON operations.showtime_schedule (cinema_complex_id, start_time, id);
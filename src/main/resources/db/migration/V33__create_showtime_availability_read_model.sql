@@ -0,0 +1,81 @@
+-- ============================================================================
+-- Showtime Availability Read Model
+-- ============================================================================
+-- Migration: V33__create_showtime_availability_read_model.sql
+-- Description: Tabela de leitura com a ocupação de cada sessão, mantida de forma
+--              incremental pela aplicação (alterações de sessão e mudanças de
+--              assentos do inventário em memória). Substitui a view
+--              v_showtime_availability no dashboard e no preview financeiro: os
+--              JOINs são feitos na escrita e o status da sessão (que depende do
+--              horário atual) é calculado na leitura.
+-- ============================================================================
+CREATE TABLE "operations"."showtime_availability" (
+    "showtime_id" BIGINT NOT NULL,
+    "company_id" BIGINT NOT NULL,
+    "cinema_complex_id" BIGINT NOT NULL,
+    "room_id" BIGINT NOT NULL,
+    "room_name" VARCHAR(100),
+    "movie_id" BIGINT NOT NULL,
+    "movie_title" VARCHAR(300),
+    "start_time" TIMESTAMP(3) NOT NULL,
+    "end_time" TIMESTAMP(3) NOT NULL,
+    "total_seats" INTEGER NOT NULL DEFAULT 0,
+    "seats_sold" INTEGER NOT NULL DEFAULT 0,
+    "seats_held" INTEGER NOT NULL DEFAULT 0,
+    "seats_blocked" INTEGER NOT NULL DEFAULT 0,
+    "base_ticket_price" DECIMAL(10,2) NOT NULL,
+    "created_at" TIMESTAMP(0),
+    "updated_at" TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT "showtime_availability_pkey" PRIMARY KEY ("showtime_id"),
+    CONSTRAINT "fk_showtime_availability_showtime" FOREIGN KEY ("showtime_id")
+        REFERENCES "operations"."showtime_schedule" ("id") ON DELETE CASCADE
+);
+
+CREATE INDEX "idx_showtime_availability_company_complex_start"
+    ON "operations"."showtime_availability" ("company_id", "cinema_complex_id", "start_time");
+
+CREATE INDEX "idx_showtime_availability_room"
+    ON "operations"."showtime_availability" ("room_id");
+
+-- Carga inicial a partir das sessões e dos status de assentos persistidos
+INSERT INTO "operations"."showtime_availability"
+    ("showtime_id", "company_id", "cinema_complex_id", "room_id", "room_name", "movie_id", "movie_title",
+     "start_time", "end_time", "total_seats", "seats_sold", "seats_held", "seats_blocked",
+     "base_ticket_price", "created_at", "updated_at")
+SELECT ss.id
+     , cc.company_id
+     , ss.cinema_complex_id
+     , ss.room_id
+     , r.name
+     , ss.movie_id
+     , m.original_title
+     , ss.start_time
+     , ss.end_time
+     , r.capacity
+     , COALESCE(st.sold, 0)
+     , COALESCE(st.held, 0)
+     , COALESCE(st.blocked, 0)
+     , ss.base_ticket_price
+     , ss.created_at
+     , CURRENT_TIMESTAMP
+  FROM operations.showtime_schedule ss
+       JOIN operations.cinema_complexes cc ON cc.id = ss.cinema_complex_id
+       JOIN operations.rooms r ON r.id = ss.room_id
+       LEFT JOIN catalog.movies m ON m.id = ss.movie_id
+       LEFT JOIN (SELECT showtime_id
+                       , COUNT(*) FILTER (WHERE sale_id IS NOT NULL OR status = 'SOLD') AS sold
+                       , COUNT(*) FILTER (WHERE sale_id IS NULL AND status = 'RESERVED'
+                                                AND expiration_date > CURRENT_TIMESTAMP) AS held
+                       , COUNT(*) FILTER (WHERE sale_id IS NULL AND status = 'BLOCKED') AS blocked
+                    FROM operations.session_seat_status
+                   GROUP BY showtime_id) st ON st.showtime_id = ss.id;
+
+-- Isolamento por empresa, como nas demais tabelas de operations
+ALTER TABLE "operations"."showtime_availability" ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY showtime_availability_access_policy ON "operations"."showtime_availability"
+FOR ALL
+USING (
+    public.is_employee() AND company_id = public.current_company_id()
+);
@@ -0,0 +1,61 @@
+-- ============================================================================
+-- Catalog Import Jobs
+-- ============================================================================
+-- Migration: V34__create_catalog_import_jobs.sql
+-- Description: Importações em massa de feeds de distribuidoras (CSV/JSON). O job
+--              guarda o ponto de retomada (registros já gravados), gravado na mesma
+--              transação de cada lote, e um heartbeat usado para retomar jobs de
+--              instâncias que caíram; lease_token identifica o worker dono do job.
+--              Erros são registrados por linha do feed.
+--              Sem RLS: os workers buscam jobs de todas as empresas e as consultas
+--              da aplicação sempre filtram por company_id.
+-- ============================================================================
+CREATE TABLE "catalog"."import_jobs" (
+    "id" BIGINT NOT NULL,
+    "company_id" BIGINT NOT NULL,
+    "distributor_id" BIGINT NOT NULL,
+    "format" VARCHAR(10) NOT NULL,
+    "source_key" VARCHAR(500) NOT NULL,
+    "source_size" BIGINT NOT NULL DEFAULT 0,
+    "status" VARCHAR(20) NOT NULL,
+    "processed_rows" INTEGER NOT NULL DEFAULT 0,
+    "inserted_rows" INTEGER NOT NULL DEFAULT 0,
+    "updated_rows" INTEGER NOT NULL DEFAULT 0,
+    "failed_rows" INTEGER NOT NULL DEFAULT 0,
+    "bytes_read" BIGINT NOT NULL DEFAULT 0,
+    "error_message" TEXT,
+    "created_by" BIGINT,
+    "created_at" TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "started_at" TIMESTAMP(3),
+    "finished_at" TIMESTAMP(3),
+    "heartbeat_at" TIMESTAMP(3),
+    "lease_token" BIGINT,
+
+    CONSTRAINT "import_jobs_pkey" PRIMARY KEY ("id"),
+    CONSTRAINT "chk_import_jobs_format" CHECK ("format" IN ('CSV', 'JSON')),
+    CONSTRAINT "chk_import_jobs_status" CHECK ("status" IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX "idx_import_jobs_company_created"
+    ON "catalog"."import_jobs" ("company_id", "created_at" DESC);
+
+CREATE INDEX "idx_import_jobs_active"
+    ON "catalog"."import_jobs" ("created_at")
+    WHERE "status" IN ('PENDING', 'RUNNING');
+
+CREATE TABLE "catalog"."import_job_errors" (
+    "job_id" BIGINT NOT NULL,
+    "row_number" INTEGER NOT NULL,
+    "external_id" VARCHAR(100),
+    "message" TEXT NOT NULL,
+
+    CONSTRAINT "import_job_errors_pkey" PRIMARY KEY ("job_id", "row_number"),
+    CONSTRAINT "fk_import_job_errors_job" FOREIGN KEY ("job_id")
+        REFERENCES "catalog"."import_jobs" ("id") ON DELETE CASCADE
+);
+
+-- Upsert por número ANCINE (tmdb_id e imdb_id já têm índice)
+CREATE INDEX "idx_movies_company_ancine_number"
+    ON "catalog"."movies" ("company_id", "ancine_number")
+    WHERE "ancine_number" IS NOT NULL;
+
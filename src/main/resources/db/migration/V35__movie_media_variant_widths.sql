@@ -0,0 +1,34 @@
+-- ============================================================================
+-- Movie Media Variant Widths
+-- ============================================================================
+-- Migration: V35__movie_media_variant_widths.sql
+-- Description: Uma linha de movie_media por envio. As variantes redimensionadas
+--              de uma imagem ficam ao lado da original no storage
+--              (<prefixo>/w<largura>.jpg) e são registradas pelas larguras geradas,
+--              em vez de uma linha cada. Linhas de variantes já cadastradas são
+--              incorporadas à original do mesmo prefixo e removidas.
+-- ============================================================================
+ALTER TABLE "catalog"."movie_media" ADD COLUMN "variant_widths" INTEGER[];
+
+WITH "variants" AS (
+    SELECT "movie_id",
+           regexp_replace("media_url", '/w[0-9]+\.jpg$', '/') AS "prefix",
+           array_agg(substring("media_url" FROM '/w([0-9]+)\.jpg$')::INTEGER ORDER BY
+               substring("media_url" FROM '/w([0-9]+)\.jpg$')::INTEGER) AS "widths"
+    FROM "catalog"."movie_media"
+    WHERE "media_url" ~ '/w[0-9]+\.jpg$'
+    GROUP BY "movie_id", regexp_replace("media_url", '/w[0-9]+\.jpg$', '/')
+)
+UPDATE "catalog"."movie_media" o
+SET "variant_widths" = v."widths"
+FROM "variants" v
+WHERE o."movie_id" = v."movie_id"
+  AND starts_with(o."media_url", v."prefix" || 'original.');
+
+DELETE FROM "catalog"."movie_media" v
+WHERE v."media_url" ~ '/w[0-9]+\.jpg$'
+  AND EXISTS (
+      SELECT 1 FROM "catalog"."movie_media" o
+      WHERE o."movie_id" = v."movie_id"
+        AND o."variant_widths" IS NOT NULL
+        AND starts_with(o."media_url", regexp_replace(v."media_url", '/w[0-9]+\.jpg$', '/') || 'original.'));
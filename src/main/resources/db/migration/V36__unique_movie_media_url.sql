@@ -0,0 +1,17 @@
+-- ============================================================================
+-- Unique Movie Media URL
+-- ============================================================================
+-- Migration: V36__unique_movie_media_url.sql
+-- Description: Um arquivo só pode ser cadastrado uma vez por filme. A conclusão de
+--              um envio direto reserva o arquivo inserindo a mídia (inativa até o
+--              fim do processamento) com ON CONFLICT, então dois pedidos
+--              simultâneos para a mesma chave não geram duas mídias. Duplicatas já
+--              existentes são removidas, mantendo a mais antiga.
+-- ============================================================================
+DELETE FROM "catalog"."movie_media" a
+USING "catalog"."movie_media" b
+WHERE a."movie_id" = b."movie_id"
+  AND a."media_url" = b."media_url"
+  AND a."id" > b."id";
+
+CREATE UNIQUE INDEX "uq_movie_media_movie_id_media_url" ON "catalog"."movie_media"("movie_id", "media_url");
@@ -0,0 +1,23 @@
+-- ============================================================================
+-- One Running Import Per Company
+-- ============================================================================
+-- Migration: V37__one_running_import_per_company.sql
+-- Description: No máximo uma importação em andamento por empresa. O claim escolhe o
+--              job com FOR UPDATE SKIP LOCKED, que não impede duas instâncias de
+--              assumirem jobs diferentes da mesma empresa ao mesmo tempo; o índice
+--              faz a segunda falhar. Importações em andamento a mais são devolvidas
+--              à fila, mantendo a de heartbeat mais recente.
+-- ============================================================================
+UPDATE "catalog"."import_jobs"
+SET "status" = 'PENDING', "lease_token" = NULL
+WHERE "id" IN (
+    SELECT "id" FROM (
+        SELECT "id", ROW_NUMBER() OVER (
+                   PARTITION BY "company_id" ORDER BY "heartbeat_at" DESC NULLS LAST, "id") AS "position"
+        FROM "catalog"."import_jobs"
+        WHERE "status" = 'RUNNING') "running"
+    WHERE "position" > 1);
+
+CREATE UNIQUE INDEX "uq_import_jobs_company_running"
+    ON "catalog"."import_jobs" ("company_id")
+    WHERE "status" = 'RUNNING';
@@ -39,7 +39,7 @@ public class ProductTest {
         productRepository.flush();
 
         // Verify ID generation
-        assertNotNull(product.getId(), "Product ID should be generated by SnowflakeEntityListener");
+        assertNotNull(product.getId(), "Product ID should be generated by @SnowflakeId");
         System.out.println("Generated Product ID: " + product.getId());
     }
 }
@@ -0,0 +1,73 @@
+package com.frame24.api.catalog.domain.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvFeedReaderTest {
+
+    private static CsvFeedReader reader(String csv) {
+        return new CsvFeedReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldReadQuotedFieldsCastAndMedia() {
+        CsvFeedReader reader = reader("""
+                \uFEFFtmdbId,originalTitle,durationMinutes,synopsis,national,worldwideReleaseDate,cast,media\r
+                603,The Matrix,136,"Um hacker descobre ""a verdade"",
+                em duas linhas",não,31/03/1999,Diretor:Lana Wachowski|Ator:Keanu Reeves:Neo,Poster:https://cdn/p.jpg\r
+                \r
+                604,Reloaded,138,,1,2003-05-15,,
+                """);
+
+        FeedRow first = reader.next();
+        assertNull(first.error());
+        assertEquals(1, first.rowNumber());
+        assertEquals("603", first.movie().tmdbId());
+        assertEquals(136, first.movie().durationMinutes());
+        assertEquals("Um hacker descobre \"a verdade\",\nem duas linhas", first.movie().synopsis());
+        assertEquals(Boolean.FALSE, first.movie().national());
+        assertEquals(LocalDate.of(1999, 3, 31), first.movie().worldwideReleaseDate());
+        assertEquals(2, first.movie().cast().size());
+        assertEquals("Neo", first.movie().cast().get(1).character());
+        assertEquals(2, first.movie().cast().get(1).order());
+        assertEquals("https://cdn/p.jpg", first.movie().media().getFirst().url());
+
+        FeedRow second = reader.next();
+        assertEquals(2, second.rowNumber());
+        assertNull(second.movie().synopsis());
+        assertEquals(Boolean.TRUE, second.movie().national());
+        assertTrue(second.movie().cast().isEmpty());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldDetectSemicolonDelimiterAndReportInvalidValues() {
+        CsvFeedReader reader = reader("""
+                imdbId;originalTitle;durationMinutes;productionYear
+                tt0133093;Matrix;cento e trinta;1999
+                """);
+
+        FeedRow row = reader.next();
+        assertNull(row.movie());
+        assertTrue(row.error().contains("durationMinutes"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class, () -> reader("originalTitle,durationMinutes\nMatrix,136\n"));
+        assertThrows(IllegalArgumentException.class, () -> reader(""));
+    }
+
+    @Test
+    void shouldRejectUnclosedQuote() {
+        CsvFeedReader reader = reader("tmdbId,originalTitle,durationMinutes\n603,\"Matrix,136\n");
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
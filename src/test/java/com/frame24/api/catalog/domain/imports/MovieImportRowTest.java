@@ -0,0 +1,67 @@
+package com.frame24.api.catalog.domain.imports;
+
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedCast;
+import com.frame24.api.catalog.domain.imports.FeedMovie.FeedMedia;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieImportRowTest {
+
+    private static final ReferenceData REFERENCES = new ReferenceData(
+            Map.of(ReferenceData.key("14"), 1L),
+            Map.of(ReferenceData.key("Diretor"), 2L, ReferenceData.key("Ator"), 3L),
+            Map.of(ReferenceData.key("Pôster"), 4L));
+
+    private static FeedMovie movie(String tmdbId, String imdbId, String title, Integer duration,
+                                   List<FeedCast> cast, List<FeedMedia> media) {
+        return new FeedMovie(tmdbId, imdbId, null, title, "Matrix", duration, "US", 1999, false, null, null,
+                null, null, "en", "14", cast, media);
+    }
+
+    @Test
+    void shouldResolveReferencesIgnoringCaseAndAccents() {
+        MovieImportRow row = MovieImportRow.of(7, movie("603", "TT0133093", "The Matrix", 136,
+                List.of(new FeedCast("diretor", "Lana Wachowski", null, null, null),
+                        new FeedCast("ATOR", "Keanu Reeves", "Neo", 5, null)),
+                List.of(new FeedMedia("Poster", "https://cdn/p.jpg", null, null, null, null))), REFERENCES);
+
+        assertEquals(1L, row.ageRatingId());
+        assertEquals("tt0133093", row.imdbId());
+        assertEquals(2L, row.cast().get(0).castTypeId());
+        assertEquals(1, row.cast().get(0).creditOrder());
+        assertEquals(5, row.cast().get(1).creditOrder());
+        assertEquals(4L, row.media().getFirst().mediaTypeId());
+        assertEquals("matrix-1999", row.slug());
+        assertEquals("matrix-1999-" + Long.toString(123456789L, 36), row.slug(123456789L));
+    }
+
+    @Test
+    void shouldReportAllProblemsOfTheRow() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> MovieImportRow.of(1,
+                movie(null, null, " ", 0, List.of(new FeedCast("Roteirista", "Alguém", null, null, null)),
+                        List.of()), REFERENCES));
+
+        assertTrue(error.getMessage().contains("tmdbId, imdbId ou ancineNumber"));
+        assertTrue(error.getMessage().contains("originalTitle"));
+        assertTrue(error.getMessage().contains("durationMinutes"));
+        assertTrue(error.getMessage().contains("Roteirista"));
+    }
+
+    @Test
+    void shouldMatchExistingMoviesByTmdbThenImdbThenAncine() {
+        MovieKeyIndex index = new MovieKeyIndex();
+        index.add(10L, "603", null, null);
+        index.add(20L, null, "TT0234215", "B0300001");
+
+        assertEquals(10L, index.find(MovieImportRow.of(1, movie("603", "tt0234215", "The Matrix", 136,
+                List.of(), List.of()), REFERENCES)));
+        assertEquals(20L, index.find(MovieImportRow.of(2, movie("604", "tt0234215", "Reloaded", 138,
+                List.of(), List.of()), REFERENCES)));
+        assertNull(index.find(MovieImportRow.of(3, movie("605", null, "Revolutions", 129,
+                List.of(), List.of()), REFERENCES)));
+    }
+}
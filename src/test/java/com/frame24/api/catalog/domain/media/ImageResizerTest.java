@@ -0,0 +1,57 @@
+package com.frame24.api.catalog.domain.media;
+
+import com.frame24.api.catalog.domain.media.ImageResizer.Decoded;
+import com.frame24.api.catalog.domain.media.ImageResizer.Size;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void shouldKeepAspectRatioAndNeverUpscale() {
+        Size poster = new Size(2000, 3000);
+
+        assertEquals(new Size(342, 513), ImageResizer.fit(poster, 342));
+        assertEquals(new Size(780, 1170), ImageResizer.fit(poster, 780));
+        assertNull(ImageResizer.fit(poster, 2000));
+        assertNull(ImageResizer.fit(poster, 4000));
+        assertEquals(new Size(100, 1), ImageResizer.fit(new Size(5000, 10), 100));
+    }
+
+    @Test
+    void shouldReadDimensionsAndWriteJpegVariant() throws IOException {
+        Decoded decoded = ImageResizer.read(new ByteArrayInputStream(png(400, 600)), 1_000_000);
+        assertEquals(new Size(400, 600), decoded.size());
+
+        Size target = ImageResizer.fit(decoded.size(), 185);
+        byte[] jpeg = ImageResizer.resizeToJpeg(decoded.image(), target, 0.85f);
+
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(185, variant.getWidth());
+        assertEquals(278, variant.getHeight());
+    }
+
+    @Test
+    void shouldRejectImagesAboveThePixelLimitAndUnknownFormats() throws IOException {
+        byte[] image = png(400, 600);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ImageResizer.read(new ByteArrayInputStream(image), 200_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> ImageResizer.read(new ByteArrayInputStream("not an image".getBytes()), 1_000_000));
+    }
+}
@@ -0,0 +1,102 @@
+package com.frame24.api.catalog.domain.pricing;
+
+import com.frame24.api.catalog.domain.pricing.PriceSource.ComboRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductPriceRow;
+import com.frame24.api.catalog.domain.pricing.PriceSource.ProductRow;
+import com.frame24.api.catalog.domain.pricing.PriceTable.PricedItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTableTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final long COMPLEX = 10L;
+    private static final Instant NOW = Instant.parse("2026-03-10T15:00:00Z");
+
+    private static ProductPriceRow price(long productId, Long complexId, String value, String from, String to) {
+        return new ProductPriceRow(productId, complexId, new BigDecimal(value), Instant.parse(from),
+                to == null ? null : Instant.parse(to));
+    }
+
+    private static PriceTable compile(List<ProductPriceRow> prices, List<ComboRow> combos, Instant now) {
+        PriceSource source = new PriceSource(1L, COMPLEX,
+                List.of(new ProductRow(100L, "Pipoca Grande", "789001"), new ProductRow(200L, "Refrigerante", null),
+                        new ProductRow(300L, "Chocolate", "789003")),
+                prices, combos);
+        return PriceTable.compile(source, ZONE, now);
+    }
+
+    @Test
+    void shouldPreferComplexPriceAndLatestStart() {
+        PriceTable table = compile(List.of(
+                price(100, null, "20.00", "2026-01-01T00:00:00Z", null),
+                price(100, COMPLEX, "22.50", "2026-01-01T00:00:00Z", null),
+                price(100, COMPLEX, "24.90", "2026-03-01T00:00:00Z", null),
+                price(200, null, "9.90", "2026-01-01T00:00:00Z", null)), List.of(), NOW);
+
+        assertEquals(2_490L, table.find(100L).priceCents());
+        assertEquals(new BigDecimal("24.90"), table.find(100L).price());
+        assertEquals(990L, table.find(200L).priceCents());
+        // Sem preço vigente: fora da tabela
+        assertNull(table.find(300L));
+        assertNull(table.findByCode("789003"));
+        assertEquals(100L, table.findByCode("789001").id());
+        assertArrayEquals(new long[]{990L, PriceTable.NOT_FOUND, 2_490L},
+                table.resolvePrices(new long[]{200L, 300L, 100L}));
+        assertNull(table.nextTransition());
+    }
+
+    @Test
+    void shouldSwitchPriceAtNextTransition() {
+        PriceTable table = compile(List.of(
+                price(100, COMPLEX, "20.00", "2026-01-01T00:00:00Z", "2026-03-11T03:00:00Z"),
+                price(100, COMPLEX, "25.00", "2026-03-11T03:00:00Z", null),
+                price(300, null, "7.00", "2026-03-12T00:00:00Z", null)), List.of(), NOW);
+
+        assertEquals(2_000L, table.find(100L).priceCents());
+        assertEquals(Instant.parse("2026-03-11T03:00:00Z"), table.find(100L).validUntil());
+        assertEquals(Instant.parse("2026-03-11T03:00:00Z"), table.nextTransition());
+        assertFalse(table.isDue(Instant.parse("2026-03-11T02:59:59Z")));
+
+        Instant later = Instant.parse("2026-03-11T03:00:00Z");
+        assertTrue(table.isDue(later));
+        PriceTable next = table.recompile(later);
+        assertEquals(2_500L, next.find(100L).priceCents());
+        assertNull(next.find(300L));
+        assertEquals(Instant.parse("2026-03-12T00:00:00Z"), next.nextTransition());
+
+        PriceTable afterLaunch = next.recompile(next.nextTransition());
+        assertEquals(700L, afterLaunch.find(300L).priceCents());
+        assertNull(afterLaunch.nextTransition());
+    }
+
+    @Test
+    void shouldApplyComboPromotionByLocalDate() {
+        ComboRow combo = new ComboRow(500L, "CMB-01", "Combo Casal", new BigDecimal("59.90"), new BigDecimal("49.90"),
+                LocalDate.of(2026, 3, 11), LocalDate.of(2026, 3, 12));
+
+        PriceTable before = compile(List.of(), List.of(combo), NOW);
+        PricedItem regular = before.findByCode("CMB-01");
+        assertEquals(5_990L, regular.priceCents());
+        assertFalse(regular.promotional());
+        // Meia-noite de 11/03 em São Paulo
+        assertEquals(Instant.parse("2026-03-11T03:00:00Z"), before.nextTransition());
+
+        PriceTable during = before.recompile(before.nextTransition());
+        assertEquals(4_990L, during.find(500L).priceCents());
+        assertTrue(during.find(500L).promotional());
+        // Fim do último dia da promoção (13/03 00:00 local)
+        assertEquals(Instant.parse("2026-03-13T03:00:00Z"), during.nextTransition());
+
+        PriceTable after = during.recompile(during.nextTransition());
+        assertEquals(5_990L, after.find(500L).priceCents());
+        assertNull(after.nextTransition());
+    }
+}
@@ -0,0 +1,49 @@
+package com.frame24.api.catalog.domain.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieDetailDocumentTest {
+
+    private static final byte[] JSON = "{\"success\":true,\"data\":{\"id\":\"42\",\"originalTitle\":\"Ação\"}}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void shouldCompressJsonAndDeriveEtagFromContent() throws IOException {
+        MovieDetailDocument document = MovieDetailDocument.of(7L, 42L, "acao", JSON);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(document.gzip()))) {
+            assertArrayEquals(JSON, in.readAllBytes());
+        }
+        assertEquals(32, document.etag().length());
+        assertEquals(document.etag(), MovieDetailDocument.of(1L, 2L, null, JSON.clone()).etag());
+        assertNotEquals(document.etag(), document.gzipEtag());
+    }
+
+    @Test
+    void shouldRoundTripThroughEncoding() {
+        MovieDetailDocument document = MovieDetailDocument.of(7L, 42L, "acao", JSON);
+
+        MovieDetailDocument decoded = MovieDetailDocument.decode(document.encode());
+
+        assertEquals(7L, decoded.companyId());
+        assertEquals(42L, decoded.movieId());
+        assertEquals("acao", decoded.slug());
+        assertEquals(document.etag(), decoded.etag());
+        assertArrayEquals(document.json(), decoded.json());
+        assertArrayEquals(document.gzip(), decoded.gzip());
+        assertNull(MovieDetailDocument.decode(MovieDetailDocument.of(7L, 43L, null, JSON).encode()).slug());
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> MovieDetailDocument.decode(new byte[]{9, 0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> MovieDetailDocument.decode(new byte[]{1, 0}));
+    }
+}
@@ -0,0 +1,94 @@
+package com.frame24.api.catalog.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieSearchIndexTest {
+
+    private static MovieDocument movie(long id, String original, String brazil, List<String> cast,
+                                       List<String> categories) {
+        return new MovieDocument(id, original, brazil, null, cast, categories, null, true);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::movieId).toList();
+    }
+
+    private final MovieSearchIndex index = MovieSearchIndex.of(List.of(
+            movie(1, "Avengers: Endgame", "Vingadores: Ultimato", List.of("Robert Downey Jr."), List.of("Ação")),
+            movie(2, "The Avengers", "Os Vingadores", List.of("Scarlett Johansson"), List.of("Ação")),
+            movie(3, "Central do Brasil", "Central do Brasil", List.of("Fernanda Montenegro"), List.of("Drama")),
+            movie(4, "Cidade de Deus", "Cidade de Deus", List.of("Alice Braga"), List.of("Drama", "Crime"))));
+
+    @Test
+    void shouldNormalizeAccentsCaseAndPunctuation() {
+        assertEquals("acao e coracao 3d", TextNormalizer.normalize("  AÇÃO e Coração!! 3D "));
+        assertEquals(List.of("cidade", "deus"), TextNormalizer.indexTerms("Cidade de Deus"));
+        assertEquals(List.of("o", "a"), TextNormalizer.indexTerms("O A"));
+    }
+
+    @Test
+    void shouldBoundEditDistance() {
+        assertEquals(1, TextNormalizer.editDistance("vingadores", "vingadore", 2));
+        assertEquals(1, TextNormalizer.editDistance("ultimato", "ultiamto", 2));
+        assertEquals(2, TextNormalizer.editDistance("casa", "bicho", 1));
+    }
+
+    @Test
+    void shouldMatchIgnoringAccents() {
+        assertEquals(List.of(2L, 1L), ids(index.search("acao vingadores", 10)));
+        assertEquals(List.of(3L), ids(index.search("fernanda montenegro", 10)));
+    }
+
+    @Test
+    void shouldRequireEveryWord() {
+        assertEquals(List.of(1L), ids(index.search("vingadores ultimato", 10)));
+        assertTrue(index.search("vingadores montenegro", 10).isEmpty());
+    }
+
+    @Test
+    void shouldTolerateTypos() {
+        assertEquals(List.of(1L), ids(index.search("vingadroes ultimaot", 10)));
+        assertEquals(List.of(4L), ids(index.search("cidadi", 10)));
+    }
+
+    @Test
+    void shouldTolerateTranspositionInShortWords() {
+        MovieSearchIndex small = MovieSearchIndex.of(List.of(
+                movie(5, "O Tempo", "O Tempo", List.of(), List.of())));
+        assertEquals(List.of(5L), ids(small.search("tmepo", 10)));
+    }
+
+    @Test
+    void shouldAutocompleteTitlesByPrefix() {
+        assertEquals(List.of(2L, 1L), ids(index.autocomplete("vinga", 10)));
+        assertEquals(List.of(1L), ids(index.autocomplete("vingadores ult", 10)));
+        assertEquals(List.of(3L), ids(index.autocomplete("Central do", 10)));
+        // Elenco não entra no autocompletar
+        assertTrue(index.autocomplete("fernanda", 10).isEmpty());
+    }
+
+    @Test
+    void shouldReplaceAndRemoveMovies() {
+        index.upsert(movie(3, "Central do Brasil", "Estação Central", List.of(), List.of()));
+        assertEquals(List.of(3L), ids(index.autocomplete("estacao", 10)));
+        assertTrue(index.search("montenegro", 10).isEmpty());
+
+        index.remove(3);
+        assertTrue(index.autocomplete("estacao", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldCompactAfterManyUpdates() {
+        for (int i = 0; i < 5_000; i++) {
+            index.upsert(movie(1, "Avengers: Endgame", "Vingadores " + i, List.of(), List.of()));
+        }
+        assertEquals(4, index.size());
+        assertEquals(List.of(1L), ids(index.autocomplete("vingadores 4999", 10)));
+        assertTrue(index.autocomplete("vingadores 10", 10).isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package com.frame24.api.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void shouldKeepBitLayoutCompatibleWithParse() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 3);
+        long before = System.currentTimeMillis();
+
+        long id = generator.nextId();
+        SnowflakeIdGenerator.SnowflakeComponents components = generator.parse(id);
+
+        assertEquals(7, components.workerId());
+        assertEquals(3, components.datacenterId());
+        assertTrue(components.timestamp() >= before);
+        assertTrue(components.timestamp() <= System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldReserveStrictlyIncreasingBulkIds() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1);
+
+        long[] ids = generator.nextIds(10_000);
+
+        assertEquals(10_000, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1], "IDs devem ser estritamente crescentes");
+        }
+        assertEquals(10_000, generator.ids(10_000).distinct().count());
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsUnderContention() throws InterruptedException {
+        assertUniqueUnderContention(new SnowflakeIdGenerator(1, 1));
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsWithThreadBlocks() throws InterruptedException {
+        assertUniqueUnderContention(new SnowflakeIdGenerator(1, 1, 64));
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(32, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1, 1, 0));
+    }
+
+    @Test
+    void shouldStopGeneratingWhenLeaseExpires() {
+        AtomicLong validUntil = new AtomicLong(Long.MAX_VALUE);
+        WorkerIdLease lease = new WorkerIdLease() {
+            @Override
+            public long workerId() {
+                return 5;
+            }
+
+            @Override
+            public long datacenterId() {
+                return 2;
+            }
+
+            @Override
+            public boolean isValidAt(long epochMillis) {
+                return epochMillis < validUntil.get();
+            }
+        };
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(lease, 1);
+
+        assertEquals(5, generator.parse(generator.nextId()).workerId());
+
+        validUntil.set(0L);
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertThrows(IllegalStateException.class, () -> generator.nextIds(10));
+    }
+
+    private void assertUniqueUnderContention(SnowflakeIdGenerator generator) throws InterruptedException {
+        int threads = 16;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int batch = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < idsPerThread; i++) {
+                    if (batch % 4 == 0 && i % 100 == 0) {
+                        for (long id : generator.nextIds(100)) {
+                            ids.add(id);
+                        }
+                    }
+                    ids.add(generator.nextId());
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        int bulkThreads = (threads + 3) / 4;
+        int expected = threads * idsPerThread + bulkThreads * (idsPerThread / 100) * 100;
+        assertEquals(expected, ids.size(), "Nenhum ID pode se repetir");
+    }
+}
@@ -0,0 +1,37 @@
+package com.frame24.api.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationBloomFilterTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000);
+        String[] ids = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+
+        for (String id : ids) {
+            filter.put(id);
+        }
+
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id), "Token revogado não pode passar pelo filtro");
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearOnePercentAtCapacity() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        assertTrue(falsePositives < 2_000, "Taxa de falsos positivos acima de 2%: " + falsePositives);
+    }
+}
@@ -1,5 +1,6 @@
 package com.frame24.api.identity.application.service;
 
+import com.frame24.api.common.security.PasswordHashingService;
 import com.frame24.api.identity.application.dto.CompanyRegistrationRequest;
 import com.frame24.api.identity.domain.Company;
 import com.frame24.api.identity.domain.CustomRole;
@@ -17,7 +18,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -43,7 +43,7 @@ class CompanyRegistrationServiceTest {
         @Mock
         private CompanyUserRepository companyUserRepository;
         @Mock
-        private PasswordEncoder passwordEncoder;
+        private PasswordHashingService passwordHashing;
         @Mock
         private DefaultRolesService defaultRolesService;
 
@@ -63,7 +63,7 @@ class CompanyRegistrationServiceTest {
                                 identityRepository,
                                 customRoleRepository,
                                 companyUserRepository,
-                                passwordEncoder,
+                                passwordHashing,
                                 defaultRolesService,
                         defaultPermissionsService,
                         eventPublisher);
@@ -0,0 +1,172 @@
+package com.frame24.api.operations.application.service;
+
+import com.frame24.api.common.response.CursorPaginatedResponse;
+import com.frame24.api.common.security.UserPrincipal;
+import com.frame24.api.operations.application.dto.ShowtimeResponse;
+import com.frame24.api.operations.domain.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A listagem de sessões deve custar uma consulta por página, independentemente de
+ * quantas sessões, salas e tipos distintos aparecem no resultado.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ShowtimeListingQueryCountTest {
+
+    private static final long COMPANY_ID = 1L;
+    private static final Instant DAY = Instant.parse("2025-01-06T00:00:00Z");
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private CinemaComplex complex;
+    private UserPrincipal principal;
+    private int roomCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        principal = UserPrincipal.builder().userId(1L).companyId(COMPANY_ID).userType("EMPLOYEE").build();
+
+        complex = new CinemaComplex();
+        complex.setCompanyId(COMPANY_ID);
+        complex.setName("Complexo Centro");
+        complex.setCode("CTR");
+        complex.setIbgeMunicipalityCode("3550308");
+        entityManager.persist(complex);
+    }
+
+    @Test
+    void shouldListWithOneQueryRegardlessOfResultSize() {
+        seed(2, 3);
+        assertEquals(6, countQueries(200).getContent().size());
+        long small = statistics.getPrepareStatementCount();
+
+        seed(20, 9);
+        assertEquals(186, countQueries(200).getContent().size());
+        long large = statistics.getPrepareStatementCount();
+
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void shouldWalkAllPagesInStartTimeOrder() {
+        seed(5, 8);
+
+        List<ShowtimeResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPaginatedResponse<ShowtimeResponse> page = showtimeService.listByComplexAndDateRange(
+                    complex.getId(), DAY, DAY.plus(Duration.ofDays(1)), cursor, 7, principal);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            all.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(40, all.size());
+        assertEquals(40, all.stream().map(ShowtimeResponse::id).distinct().count());
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).startTime().isBefore(all.get(i - 1).startTime()));
+        }
+        assertNotNull(all.getFirst().audioType());
+        assertNotNull(all.getFirst().status());
+    }
+
+    @Test
+    void shouldNotListShowtimesOfAnotherCompany() {
+        seed(2, 2);
+        UserPrincipal other = UserPrincipal.builder().userId(2L).companyId(COMPANY_ID + 1).userType("EMPLOYEE").build();
+
+        CursorPaginatedResponse<ShowtimeResponse> page = showtimeService.listByComplexAndDateRange(
+                complex.getId(), DAY, DAY.plus(Duration.ofDays(1)), null, 50, other);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasMore());
+    }
+
+    private CursorPaginatedResponse<ShowtimeResponse> countQueries(int size) {
+        statistics.clear();
+        return showtimeService.listByComplexAndDateRange(
+                complex.getId(), DAY, DAY.plus(Duration.ofDays(1)), null, size, principal);
+    }
+
+    /**
+     * Cria {@code rooms} salas com {@code perRoom} sessões cada; cada sala tem tipos próprios
+     * para que o resultado tenha muitas associações distintas.
+     */
+    private void seed(int rooms, int perRoom) {
+        for (int r = 0; r < rooms; r++) {
+            int number = ++roomCount;
+            Room room = new Room();
+            room.setCinemaComplex(complex);
+            room.setRoomNumber(String.valueOf(number));
+            room.setName("Sala " + number);
+            room.setCapacity(100);
+            entityManager.persist(room);
+
+            AudioType audio = new AudioType();
+            audio.setCompanyId(COMPANY_ID);
+            audio.setName("Áudio " + number);
+            entityManager.persist(audio);
+
+            ProjectionType projection = new ProjectionType();
+            projection.setCompanyId(COMPANY_ID);
+            projection.setName("Projeção " + number);
+            entityManager.persist(projection);
+
+            SessionLanguage language = new SessionLanguage();
+            language.setCompanyId(COMPANY_ID);
+            language.setName("Idioma " + number);
+            entityManager.persist(language);
+
+            SessionStatus status = new SessionStatus();
+            status.setCompanyId(COMPANY_ID);
+            status.setName("Status " + number);
+            entityManager.persist(status);
+
+            for (int s = 0; s < perRoom; s++) {
+                ShowtimeSchedule showtime = new ShowtimeSchedule();
+                showtime.setCinemaComplex(complex);
+                showtime.setRoom(room);
+                showtime.setMovieId(100L + s);
+                showtime.setStartTime(DAY.plus(Duration.ofMinutes(60L + s * 150L)));
+                showtime.setEndTime(showtime.getStartTime().plus(Duration.ofMinutes(120)));
+                showtime.setAudioType(audio);
+                showtime.setProjectionType(projection);
+                showtime.setSessionLanguage(language);
+                showtime.setStatus(status);
+                showtime.setBaseTicketPrice(new BigDecimal("25.00"));
+                showtime.setAvailableSeats(100);
+                showtime.setSoldSeats(0);
+                showtime.setBlockedSeats(0);
+                entityManager.persist(showtime);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
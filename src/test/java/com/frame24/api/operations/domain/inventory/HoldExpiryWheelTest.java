@@ -0,0 +1,66 @@
+package com.frame24.api.operations.domain.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoldExpiryWheelTest {
+
+    private static final long TICK = 100;
+    private static final long START = 1_000_000L;
+
+    @Test
+    void shouldExpireEachHoldWithinOneTickOfItsDeadline() {
+        HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, HoldExpiryWheel.slotsFor(600_000, TICK), START);
+        for (int i = 0; i < 10_000; i++) {
+            wheel.schedule(1L, "h" + i, Instant.ofEpochMilli(deadline(i)));
+        }
+
+        int expired = 0;
+        for (long now = START; now <= START + 700_000; now += TICK) {
+            for (HoldExpiryWheel.Expiration expiration : wheel.advance(now)) {
+                long deadline = deadline(Integer.parseInt(expiration.holdId().substring(1)));
+                assertTrue(now >= deadline, "expirou antes do prazo: " + expiration);
+                assertTrue(now < deadline + TICK, "expirou com atraso: " + expiration);
+                expired++;
+            }
+        }
+
+        assertEquals(10_000, expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldSkipCancelledAndRescheduledHolds() {
+        HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, 64, START);
+        wheel.schedule(1L, "cancelled", Instant.ofEpochMilli(START + 500));
+        wheel.schedule(1L, "rescheduled", Instant.ofEpochMilli(START + 500));
+        wheel.cancel("cancelled");
+        wheel.schedule(1L, "rescheduled", Instant.ofEpochMilli(START + 2_000));
+
+        assertTrue(wheel.advance(START + 1_000).isEmpty());
+        assertEquals(List.of(new HoldExpiryWheel.Expiration(1L, "rescheduled")), wheel.advance(START + 2_000));
+    }
+
+    @Test
+    void shouldExpireEverythingDueAfterLongPause() {
+        HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, 64, START);
+        wheel.schedule(1L, "a", Instant.ofEpochMilli(START + 1_000));
+        wheel.advance(START);
+        wheel.schedule(2L, "b", Instant.ofEpochMilli(START + 60_000));
+        wheel.schedule(3L, "c", Instant.ofEpochMilli(START + 120_000));
+
+        List<HoldExpiryWheel.Expiration> expired = wheel.advance(START + 90_000);
+
+        assertEquals(2, expired.size());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(new HoldExpiryWheel.Expiration(3L, "c")), wheel.advance(START + 120_000));
+    }
+
+    private static long deadline(int i) {
+        return START + (i % 6_000) * TICK + 50;
+    }
+}
@@ -0,0 +1,152 @@
+package com.frame24.api.operations.domain.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de concorrência do inventário: muitas threads disputando os mesmos assentos
+ * com reservas, confirmações, liberações e expirações simultâneas.
+ */
+class ShowtimeInventoryStressTest {
+
+    private static final int SEATS = 300;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 20_000;
+
+    @Test
+    void shouldNeverSellTheSameSeatTwice() throws Exception {
+        ShowtimeInventory inventory = newInventory();
+        AtomicIntegerArray sales = new AtomicIntegerArray(SEATS);
+        AtomicLong accepted = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int first = random.nextInt(SEATS - 4);
+                    int[] ordinals = {first, first + 1, first + random.nextInt(1, 4)};
+                    // Algumas reservas já nascem vencidas para exercitar a expiração concorrente
+                    Instant expiresAt = random.nextInt(10) == 0 ? Instant.EPOCH : Instant.now().plusSeconds(60);
+
+                    HoldResult result = inventory.hold(ordinals, expiresAt);
+                    if (!result.isAccepted()) {
+                        continue;
+                    }
+                    accepted.incrementAndGet();
+
+                    if (random.nextInt(100) < 3) {
+                        SeatHold hold = inventory.takeHold(result.hold().holdId());
+                        if (hold != null) {
+                            inventory.markSold(hold);
+                            for (int ordinal : hold.ordinals()) {
+                                sales.incrementAndGet(ordinal);
+                            }
+                        }
+                    } else if (random.nextBoolean()) {
+                        inventory.release(result.hold().holdId());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        Future<?> expirer = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                for (SeatHold hold : inventory.expiredHolds(Instant.now())) {
+                    inventory.release(hold.holdId());
+                }
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        running.set(false);
+        expirer.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        int sold = 0;
+        for (int ordinal = 0; ordinal < SEATS; ordinal++) {
+            assertTrue(sales.get(ordinal) <= 1, "Assento vendido mais de uma vez: " + ordinal);
+            assertEquals(sales.get(ordinal) == 1, inventory.stateAt(ordinal) == SeatState.SOLD,
+                    "Estado divergente das vendas registradas: " + ordinal);
+            sold += sales.get(ordinal);
+        }
+
+        int held = inventory.activeHolds().stream().mapToInt(hold -> hold.ordinals().length).sum();
+        assertEquals(sold, inventory.count(SeatState.SOLD));
+        assertEquals(held, inventory.count(SeatState.HELD));
+        assertEquals(SEATS - sold - held, inventory.count(SeatState.AVAILABLE));
+        assertTrue(accepted.get() > 0);
+    }
+
+    @Test
+    void shouldGrantContendedSeatsToExactlyOneHolder() throws Exception {
+        ShowtimeInventory inventory = newInventory();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<HoldResult>> attempts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t % 2;
+            attempts.add(executor.submit(() -> {
+                start.await();
+                // Conjuntos sobrepostos: {10, 11} e {11, 12}
+                return inventory.hold(new int[]{10 + offset, 11 + offset}, Instant.now().plusSeconds(60));
+            }));
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (Future<HoldResult> attempt : attempts) {
+            HoldResult result = attempt.get(10, TimeUnit.SECONDS);
+            if (result.isAccepted()) {
+                winners++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, winners);
+        assertEquals(2, inventory.count(SeatState.HELD));
+    }
+
+    @Test
+    void shouldRejectWholeHoldWhenAnySeatIsTaken() {
+        ShowtimeInventory inventory = newInventory();
+        inventory.restoreSold(5);
+
+        HoldResult result = inventory.hold(new int[]{4, 5, 6}, Instant.now().plusSeconds(60));
+
+        assertFalse(result.isAccepted());
+        assertArrayEquals(new int[]{5}, result.unavailable());
+        assertEquals(SEATS - 1, inventory.count(SeatState.AVAILABLE));
+    }
+
+    private static ShowtimeInventory newInventory() {
+        long[] seatIds = LongStream.range(1_000, 1_000 + SEATS).toArray();
+        return new ShowtimeInventory(1L, 1L, 1L, Instant.now().plusSeconds(3_600), seatIds);
+    }
+}
@@ -0,0 +1,53 @@
+package com.frame24.api.operations.domain.layout;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Teste unitário simples para validar lógica de nomenclatura de fileiras.
+ */
+class RowNamingTest {
+
+    @Test
+    void testAlphabeticNaming() {
+        Assertions.assertEquals("A", RowNaming.ALPHABETIC.rowCode(0, 10));
+        Assertions.assertEquals("B", RowNaming.ALPHABETIC.rowCode(1, 10));
+        Assertions.assertEquals("J", RowNaming.ALPHABETIC.rowCode(9, 10));
+    }
+
+    @Test
+    void testReverseAlphabeticNaming() {
+        // 10 linhas (0-9). 0 -> J, 9 -> A
+        Assertions.assertEquals("J", RowNaming.REVERSE_ALPHABETIC.rowCode(0, 10)); // Top row (screen)
+        Assertions.assertEquals("A", RowNaming.REVERSE_ALPHABETIC.rowCode(9, 10)); // Back row
+    }
+
+    @Test
+    void testNumericNaming() {
+        Assertions.assertEquals("1", RowNaming.NUMERIC.rowCode(0, 40));
+        Assertions.assertEquals("40", RowNaming.NUMERIC.rowCode(39, 40));
+    }
+
+    @Test
+    void testMultiLetterRowsPastZ() {
+        Assertions.assertEquals("Z", RowNaming.letters(25));
+        Assertions.assertEquals("AA", RowNaming.letters(26));
+        Assertions.assertEquals("AZ", RowNaming.letters(51));
+        Assertions.assertEquals("BA", RowNaming.letters(52));
+        Assertions.assertEquals("ZZ", RowNaming.letters(701));
+        Assertions.assertEquals("AAA", RowNaming.letters(702));
+        Assertions.assertEquals("AD", RowNaming.REVERSE_ALPHABETIC.rowCode(0, 30));
+    }
+
+    @Test
+    void testCodesSortByLengthThenValueInGenerationOrder() {
+        String previous = RowNaming.letters(0);
+        for (int i = 1; i < 1_000; i++) {
+            String current = RowNaming.letters(i);
+            int byLength = Integer.compare(previous.length(), current.length());
+            Assertions.assertTrue(byLength < 0 || (byLength == 0 && previous.compareTo(current) < 0),
+                    previous + " deveria vir antes de " + current);
+            previous = current;
+        }
+    }
+}
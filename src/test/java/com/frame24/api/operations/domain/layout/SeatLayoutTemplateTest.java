@@ -0,0 +1,72 @@
+package com.frame24.api.operations.domain.layout;
+
+import com.frame24.api.operations.domain.layout.SeatLayoutPlan.PlannedSeat;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatLayoutTemplateTest {
+
+    @Test
+    void shouldGenerateLargeGridWithMultiLetterRows() {
+        SeatLayoutPlan plan = SeatLayoutTemplate.grid(40, 25, RowNaming.ALPHABETIC, 1, 7L).plan();
+
+        assertEquals(1_000, plan.seats().size());
+        assertEquals(40, plan.totalRows());
+        assertEquals(25, plan.totalColumns());
+        assertEquals(1_000, plan.seats().stream().map(PlannedSeat::seatCode).distinct().count());
+
+        PlannedSeat last = plan.seats().getLast();
+        assertEquals("AN", last.rowCode());
+        assertEquals("AN25", last.seatCode());
+        assertEquals(24 * 50, last.positionX());
+        assertEquals(39 * 50, last.positionY());
+        assertEquals(7L, last.seatTypeId());
+    }
+
+    @Test
+    void shouldNumberGapsButNotAislesAndSkipCrossAisleRows() {
+        SeatLayoutTemplate template = new SeatLayoutTemplate(List.of(
+                new SeatLayoutTemplate.Row("SS_S.S", 0, null),
+                new SeatLayoutTemplate.Row("______", 0, null),
+                new SeatLayoutTemplate.Row("AXS", 1, 3L)),
+                RowNaming.ALPHABETIC, 1, null, 50, 60, 0);
+
+        SeatLayoutPlan plan = template.plan();
+
+        assertEquals(List.of("A1", "A2", "A3", "A5", "B1", "B2", "B3"),
+                plan.seats().stream().map(PlannedSeat::seatCode).toList());
+        assertEquals(2, plan.totalRows());
+        assertEquals(5, plan.totalColumns());
+
+        PlannedSeat accessible = plan.seats().get(4);
+        assertTrue(accessible.accessible());
+        assertEquals(50, accessible.positionX());
+        assertEquals(120, accessible.positionY());
+        assertEquals(3L, accessible.seatTypeId());
+        assertFalse(plan.seats().get(5).active());
+        assertEquals(100, plan.seats().get(3).positionX() - plan.seats().get(2).positionX());
+    }
+
+    @Test
+    void shouldPushRowCenterBackWhenCurved() {
+        SeatLayoutTemplate template = new SeatLayoutTemplate(
+                List.of(new SeatLayoutTemplate.Row("SSSSS", 0, null)),
+                RowNaming.ALPHABETIC, 1, null, 50, 50, 40);
+
+        List<Integer> y = template.plan().seats().stream().map(PlannedSeat::positionY).toList();
+
+        assertEquals(List.of(0, 30, 40, 30, 0), y);
+    }
+
+    @Test
+    void shouldRejectUnknownCells() {
+        SeatLayoutTemplate template = new SeatLayoutTemplate(
+                List.of(new SeatLayoutTemplate.Row("SS#S", 0, null)),
+                RowNaming.ALPHABETIC, 1, null, 50, 50, 0);
+
+        assertThrows(IllegalArgumentException.class, template::plan);
+    }
+}
@@ -0,0 +1,74 @@
+package com.frame24.api.operations.domain.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    void shouldMatchBruteForceOverlapOnRandomIntervals() {
+        Random random = new Random(42);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long start = random.nextInt(1_000_000);
+            long end = start + random.nextInt(10_000);
+            tree.insert(start, end, i);
+            intervals.add(new long[]{start, end});
+        }
+        assertEquals(5_000, tree.size());
+
+        for (int q = 0; q < 500; q++) {
+            long start = random.nextInt(1_000_000);
+            long end = start + random.nextInt(5_000);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i)[0] <= end && intervals.get(i)[1] >= start) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = new ArrayList<>(tree.overlapping(start, end));
+            actual.sort(Integer::compare);
+            assertEquals(expected, actual);
+            assertEquals(!expected.isEmpty(), tree.overlaps(start, end));
+        }
+    }
+
+    @Test
+    void shouldTreatTouchingEndpointsAsOverlap() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(100, 200, "a");
+
+        assertEquals(List.of("a"), tree.overlapping(200, 300));
+        assertEquals(List.of("a"), tree.overlapping(0, 100));
+        assertTrue(tree.overlapping(201, 300).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(10, 5, "b"));
+    }
+
+    @Test
+    void shouldApplyCleaningBufferBetweenSessionsOfTheSameRoom() {
+        Instant base = Instant.parse("2025-01-06T14:00:00Z");
+        RoomSchedule schedule = new RoomSchedule(Duration.ofMinutes(20));
+        schedule.add(1L, base, base.plus(Duration.ofHours(2)), RoomSchedule.Slot.existing(10L));
+
+        // Começa 10 min após o término: dentro da limpeza
+        Instant tooSoon = base.plus(Duration.ofMinutes(130));
+        assertEquals(List.of(RoomSchedule.Slot.existing(10L)),
+                schedule.conflicts(1L, tooSoon, tooSoon.plus(Duration.ofHours(2))));
+
+        // Termina 10 min antes do início: a limpeza dela invade a sessão existente
+        Instant before = base.minus(Duration.ofMinutes(130));
+        assertFalse(schedule.conflicts(1L, before, before.plus(Duration.ofHours(2))).isEmpty());
+
+        Instant afterCleaning = base.plus(Duration.ofMinutes(141));
+        assertTrue(schedule.conflicts(1L, afterCleaning, afterCleaning.plus(Duration.ofHours(2))).isEmpty());
+        assertTrue(schedule.conflicts(2L, tooSoon, tooSoon.plus(Duration.ofHours(2))).isEmpty());
+    }
+}
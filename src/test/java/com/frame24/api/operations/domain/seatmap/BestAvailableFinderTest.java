@@ -0,0 +1,175 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.inventory.ShowtimeInventory;
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestAvailableFinderTest {
+
+    private static final Instant EXPIRES = Instant.now().plusSeconds(600);
+
+    @Test
+    void shouldPickCentralBlockInPreferredRow() {
+        Room room = new Room(10, 12, Accessible.none());
+
+        int[] seats = room.layout.finder().find(room.inventory, new PartyRequest(4, 0, null));
+
+        // Fileira preferida: 60% da profundidade (índice 5 de 0..9); colunas centrais 5..8
+        assertArrayEquals(new String[]{"F5", "F6", "F7", "F8"}, room.codes(seats));
+    }
+
+    @Test
+    void shouldMeasureDepthByRowPosition() {
+        // Corredor transversal depois da fileira C: D e E ficam bem mais ao fundo
+        int[] rowY = {0, 50, 100, 400, 450};
+        List<LayoutSeat> seats = new ArrayList<>();
+        long id = 1;
+        for (int r = 0; r < rowY.length; r++) {
+            String row = String.valueOf((char) ('A' + r));
+            for (int c = 1; c <= 4; c++) {
+                seats.add(new LayoutSeat(id++, row + c, row, c, "Standard", c * 50, rowY[r], false, true));
+            }
+        }
+        RoomLayout layout = new RoomLayout(1L, seats);
+
+        int[] ordinals = layout.finder().find(inventory(seats), new PartyRequest(4, 0, null));
+
+        // 60% de 450 = 270: D (400) está mais perto que C (100), embora C seja a fileira do meio
+        assertNotNull(ordinals);
+        assertEquals(List.of("D1", "D2", "D3", "D4"),
+                Arrays.stream(ordinals).mapToObj(o -> seats.get(o).seatCode()).toList());
+    }
+
+    @Test
+    void shouldNotCrossAisles() {
+        // Corredor entre as colunas 6 e 7 (numeração salta de 6 para 8)
+        List<LayoutSeat> seats = new ArrayList<>();
+        int[] columns = {1, 2, 3, 4, 5, 6, 8, 9, 10, 11, 12, 13};
+        for (int column : columns) {
+            seats.add(new LayoutSeat(column, "A" + column, "A", column, "Standard", column * 50, 0, false, true));
+        }
+        RoomLayout layout = new RoomLayout(1L, seats);
+        ShowtimeInventory inventory = inventory(seats);
+        // Deixa livres apenas 5, 6, 8 e 9
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != 5 && columns[i] != 6 && columns[i] != 8 && columns[i] != 9) {
+                inventory.restoreSold(i);
+            }
+        }
+
+        int[] ordinals = layout.finder().find(inventory, new PartyRequest(4, 0, null));
+
+        // Sem bloco de 4 contíguo: divide em dois pares
+        assertNotNull(ordinals);
+        assertEquals(4, ordinals.length);
+        assertNull(layout.finder().find(inventory, new PartyRequest(5, 0, null)));
+    }
+
+    @Test
+    void shouldSplitAcrossNearbyRowsWhenNoRowFits() {
+        Room room = new Room(3, 6, Accessible.none());
+        // Fileira do meio (B) com apenas 3 livres no centro; A e C lotadas exceto B-adjacentes
+        room.sellAllExcept("B2", "B3", "B4", "C3", "C4");
+
+        int[] seats = room.layout.finder().find(room.inventory, new PartyRequest(5, 0, null));
+
+        assertEquals(List.of("B2", "B3", "B4", "C3", "C4"), sorted(room.codes(seats)));
+    }
+
+    @Test
+    void shouldSeatWheelchairUsersWithCompanions() {
+        Room room = new Room(6, 10, Accessible.of("A1", "A2", "E9", "E10"));
+
+        int[] seats = room.layout.finder().find(room.inventory, new PartyRequest(3, 2, null));
+
+        List<String> codes = sorted(room.codes(seats));
+        assertEquals(List.of("E10", "E8", "E9"), codes);
+    }
+
+    @Test
+    void shouldAvoidAccessibleSeatsWhenNotNeeded() {
+        Room room = new Room(1, 6, Accessible.of("A3", "A4"));
+
+        int[] seats = room.layout.finder().find(room.inventory, new PartyRequest(2, 0, null));
+
+        List<String> codes = sorted(room.codes(seats));
+        assertFalse(codes.contains("A3") || codes.contains("A4"), codes.toString());
+    }
+
+    @Test
+    void shouldHandleRowsLongerThanOneWord() {
+        Room room = new Room(1, 150, Accessible.none());
+        List<String> free = new ArrayList<>();
+        for (int column = 120; column <= 129; column++) {
+            free.add("A" + column);
+        }
+        room.sellAllExcept(free.toArray(new String[0]));
+
+        int[] seats = room.layout.finder().find(room.inventory, new PartyRequest(10, 0, null));
+
+        assertEquals(free, Arrays.asList(room.codes(seats)));
+    }
+
+    private static List<String> sorted(String[] codes) {
+        List<String> list = new ArrayList<>(Arrays.asList(codes));
+        list.sort(null);
+        return list;
+    }
+
+    private static ShowtimeInventory inventory(List<LayoutSeat> seats) {
+        return new ShowtimeInventory(1L, 1L, 1L, EXPIRES,
+                seats.stream().mapToLong(LayoutSeat::seatId).toArray());
+    }
+
+    private record Accessible(Set<String> codes) {
+        static Accessible none() {
+            return new Accessible(Set.of());
+        }
+
+        static Accessible of(String... codes) {
+            return new Accessible(Set.of(codes));
+        }
+    }
+
+    private static final class Room {
+        private final List<LayoutSeat> seats = new ArrayList<>();
+        private final RoomLayout layout;
+        private final ShowtimeInventory inventory;
+
+        Room(int rows, int columns, Accessible accessible) {
+            long id = 1;
+            for (int r = 0; r < rows; r++) {
+                String row = String.valueOf((char) ('A' + r));
+                for (int c = 1; c <= columns; c++) {
+                    String code = row + c;
+                    seats.add(new LayoutSeat(id++, code, row, c, "Standard", c * 50, r * 50,
+                            accessible.codes().contains(code), true));
+                }
+            }
+            layout = new RoomLayout(1L, seats);
+            inventory = BestAvailableFinderTest.inventory(seats);
+        }
+
+        void sellAllExcept(String... codes) {
+            Set<String> keep = Set.of(codes);
+            for (int i = 0; i < seats.size(); i++) {
+                if (!keep.contains(seats.get(i).seatCode())) {
+                    inventory.restoreSold(i);
+                }
+            }
+        }
+
+        String[] codes(int[] ordinals) {
+            assertNotNull(ordinals);
+            return Arrays.stream(ordinals).mapToObj(o -> seats.get(o).seatCode()).toArray(String[]::new);
+        }
+    }
+}
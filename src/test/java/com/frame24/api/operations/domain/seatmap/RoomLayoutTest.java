@@ -0,0 +1,63 @@
+package com.frame24.api.operations.domain.seatmap;
+
+import com.frame24.api.operations.domain.seatmap.RoomLayout.LayoutSeat;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomLayoutTest {
+
+    @Test
+    void shouldMergePersistedStatusesInLayoutOrder() {
+        RoomLayout layout = new RoomLayout(1L, List.of(
+                seat(10L, true), seat(11L, true), seat(12L, false), seat(13L, true), seat(14L, true)));
+        // Assento inativo prevalece sobre o status da sessão; sem status = disponível
+        Map<Long, SeatMapStatus> persisted = Map.of(
+                14L, SeatMapStatus.BLOCKED,
+                11L, SeatMapStatus.SOLD,
+                12L, SeatMapStatus.RESERVED,
+                13L, SeatMapStatus.RESERVED);
+
+        SeatMapStatus[] statuses = layout.statuses(persisted);
+
+        assertArrayEquals(new SeatMapStatus[]{
+                SeatMapStatus.AVAILABLE,
+                SeatMapStatus.SOLD,
+                SeatMapStatus.MAINTENANCE,
+                SeatMapStatus.RESERVED,
+                SeatMapStatus.BLOCKED}, statuses);
+    }
+
+    @Test
+    void shouldRoundTripRunLengthEncoding() {
+        SeatMapStatus[] statuses = new SeatMapStatus[300];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = i < 120 ? SeatMapStatus.AVAILABLE : i < 124 ? SeatMapStatus.SOLD
+                    : i == 124 ? SeatMapStatus.RESERVED : SeatMapStatus.AVAILABLE;
+        }
+
+        String encoded = SeatStatusCodec.encode(statuses);
+
+        assertEquals("120A4SR175A", encoded);
+        assertEquals(List.of(statuses), SeatStatusCodec.decode(encoded));
+        assertEquals("", SeatStatusCodec.encode(new SeatMapStatus[0]));
+    }
+
+    @Test
+    void shouldChangeVersionOnlyWhenLayoutChanges() {
+        List<LayoutSeat> seats = new ArrayList<>(List.of(seat(10L, true), seat(11L, true)));
+        String version = new RoomLayout(1L, seats).version();
+
+        assertEquals(version, new RoomLayout(1L, List.copyOf(seats)).version());
+        seats.set(1, seat(11L, false));
+        assertNotEquals(version, new RoomLayout(1L, seats).version());
+    }
+
+    private static LayoutSeat seat(long seatId, boolean active) {
+        return new LayoutSeat(seatId, "A" + seatId, "A", (int) seatId, "Standard", 0, 0, false, active);
+    }
+}